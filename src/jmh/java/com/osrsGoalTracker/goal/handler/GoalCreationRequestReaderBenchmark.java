@@ -0,0 +1,159 @@
+package com.osrsGoalTracker.goal.handler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalCreation;
+import com.osrsGoalTracker.orchestration.events.GoalCreationRequestEvent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a goal creation request with {@link GoalCreationRequestReader}
+ * against validating it and then binding it to a
+ * {@link GoalCreationRequestEvent}, for both an EventBridge detail map and an
+ * SQS message body. Run with {@code -prof gc} to compare allocation per read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GoalCreationRequestReaderBenchmark {
+    private static final String[] REQUIRED_FIELDS = {
+        "userId",
+        "characterName",
+        "targetAttribute",
+        "targetType",
+        "targetValue",
+        "currentValue",
+        "targetDate",
+        "notificationChannelType",
+        "frequency",
+    };
+    private static final String DETAIL = "{\"userId\":\"benchmarkUser\",\"characterName\":\"Benchmark\","
+            + "\"targetAttribute\":\"ATTACK\",\"targetType\":\"LEVEL\",\"targetValue\":99,\"currentValue\":1,"
+            + "\"targetDate\":\"2030-01-01T00:00:00Z\",\"notificationChannelType\":\"DISCORD\","
+            + "\"frequency\":\"DAILY\"}";
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> detail;
+    private String body;
+
+    /**
+     * Builds the mapper the handlers used before, one detail map and one SQS
+     * body wrapping the same request in an EventBridge envelope.
+     */
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        detail = new HashMap<>();
+        detail.put("userId", "benchmarkUser");
+        detail.put("characterName", "Benchmark");
+        detail.put("targetAttribute", "ATTACK");
+        detail.put("targetType", "LEVEL");
+        detail.put("targetValue", 99);
+        detail.put("currentValue", 1);
+        detail.put("targetDate", "2030-01-01T00:00:00Z");
+        detail.put("notificationChannelType", "DISCORD");
+        detail.put("frequency", "DAILY");
+        body = "{\"version\":\"0\",\"id\":\"6a7e8feb-b491-4cf7-a9f1-bf3703467718\","
+                + "\"detail-type\":\"GoalCreationRequest\",\"source\":\"osrs-goal-tracker\","
+                + "\"time\":\"2024-01-01T00:00:00Z\",\"region\":\"us-east-1\",\"resources\":[],"
+                + "\"detail\":" + DETAIL + "}";
+    }
+
+    /**
+     * Reads the detail map in one pass.
+     *
+     * @return The request
+     */
+    @Benchmark
+    public GoalCreation readerMap() {
+        return GoalCreationRequestReader.read(detail);
+    }
+
+    /**
+     * Checks the detail map for every required field, then converts it to the
+     * request event and copies the event into a goal.
+     *
+     * @return The request
+     */
+    @Benchmark
+    public GoalCreation convertValueMap() {
+        List<String> missingFields = new ArrayList<>();
+        for (String field : REQUIRED_FIELDS) {
+            if (!detail.containsKey(field)) {
+                missingFields.add(field);
+            }
+        }
+        if (!missingFields.isEmpty()) {
+            throw new IllegalArgumentException(String.join(", ", missingFields));
+        }
+        return toCreation(objectMapper.convertValue(detail, GoalCreationRequestEvent.class));
+    }
+
+    /**
+     * Streams the SQS body in one pass.
+     *
+     * @return The request
+     */
+    @Benchmark
+    public GoalCreation readerJson() {
+        return GoalCreationRequestReader.read(body);
+    }
+
+    /**
+     * Reads the SQS body into a tree, checks the detail node for every
+     * required field, then binds the node to the request event and copies the
+     * event into a goal.
+     *
+     * @return The request
+     * @throws Exception if the body is not valid JSON
+     */
+    @Benchmark
+    public GoalCreation readTreeJson() throws Exception {
+        JsonNode node = objectMapper.readTree(body);
+        JsonNode detailNode = node.path("detail").isObject() ? node.get("detail") : node;
+        for (String field : REQUIRED_FIELDS) {
+            if (!detailNode.has(field)) {
+                throw new IllegalArgumentException(field);
+            }
+        }
+        return toCreation(objectMapper.treeToValue(detailNode, GoalCreationRequestEvent.class));
+    }
+
+    private static GoalCreation toCreation(GoalCreationRequestEvent goalEvent) {
+        Goal goal = Goal.builder()
+                .userId(goalEvent.getUserId())
+                .characterName(goalEvent.getCharacterName())
+                .targetAttribute(goalEvent.getTargetAttribute())
+                .targetType(goalEvent.getTargetType())
+                .targetValue(goalEvent.getTargetValue())
+                .targetDate(goalEvent.getTargetDate())
+                .notificationChannelType(goalEvent.getNotificationChannelType())
+                .frequency(goalEvent.getFrequency())
+                .build();
+        return GoalCreation.builder()
+                .goal(goal)
+                .currentProgress(goalEvent.getCurrentValue())
+                .build();
+    }
+}
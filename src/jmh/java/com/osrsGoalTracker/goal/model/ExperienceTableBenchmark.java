@@ -0,0 +1,113 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link ExperienceTable} with evaluating the experience formula on
+ * every call, over 1,000 random levels and experience totals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExperienceTableBenchmark {
+    private static final int SAMPLE_COUNT = 1_000;
+
+    private int[] levels;
+    private long[] xps;
+
+    /**
+     * Draws the levels and experience totals from a fixed seed.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        levels = new int[SAMPLE_COUNT];
+        xps = new long[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            levels[i] = 1 + random.nextInt(ExperienceTable.MAX_VIRTUAL_LEVEL);
+            xps[i] = (long) (random.nextDouble() * ExperienceTable.MAX_XP);
+        }
+    }
+
+    /**
+     * Looks up the experience of every level in the table.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void tableXpForLevel(Blackhole blackhole) {
+        for (int level : levels) {
+            blackhole.consume(ExperienceTable.xpForLevel(level));
+        }
+    }
+
+    /**
+     * Computes the experience of every level with the formula.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void formulaXpForLevel(Blackhole blackhole) {
+        for (int level : levels) {
+            blackhole.consume(formulaXp(level));
+        }
+    }
+
+    /**
+     * Finds the level of every experience total with the table search.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void tableLevelForXp(Blackhole blackhole) {
+        for (long xp : xps) {
+            blackhole.consume(ExperienceTable.levelForXp(xp));
+        }
+    }
+
+    /**
+     * Finds the level of every experience total by running the formula up
+     * from level 1 until it passes the total.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void formulaLevelForXp(Blackhole blackhole) {
+        for (long xp : xps) {
+            long points = 0;
+            int level = 1;
+            while (level < ExperienceTable.MAX_VIRTUAL_LEVEL) {
+                points += (long) Math.floor(level + 300.0 * Math.pow(2.0, level / 7.0));
+                if (points / 4 > xp) {
+                    break;
+                }
+                level++;
+            }
+            blackhole.consume(level);
+        }
+    }
+
+    private static long formulaXp(int level) {
+        long points = 0;
+        for (int i = 1; i < level; i++) {
+            points += (long) Math.floor(i + 300.0 * Math.pow(2.0, i / 7.0));
+        }
+        return points / 4;
+    }
+}
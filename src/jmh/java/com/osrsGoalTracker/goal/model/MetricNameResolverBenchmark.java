@@ -0,0 +1,80 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link MetricNameResolver} with normalizing each hiscores name and
+ * calling {@code MetricName.valueOf}, over one full set of hiscores names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricNameResolverBenchmark {
+    private String[] names;
+
+    /**
+     * Collects the display names of every metric.
+     */
+    @Setup
+    public void setUp() {
+        MetricName[] metrics = MetricName.values();
+        names = new String[metrics.length];
+        for (int i = 0; i < metrics.length; i++) {
+            names[i] = metrics[i].getDisplayName();
+        }
+    }
+
+    /**
+     * Resolves every name through the precomputed table.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void resolver(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(MetricNameResolver.resolve(name));
+        }
+    }
+
+    /**
+     * Resolves every name by normalizing it and calling valueOf.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void naiveValueOf(Blackhole blackhole) {
+        for (String name : names) {
+            MetricName metric;
+            try {
+                metric = MetricName.valueOf(normalize(name));
+            } catch (IllegalArgumentException e) {
+                metric = null;
+            }
+            blackhole.consume(metric);
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.trim()
+                .replace("'", "")
+                .replaceAll("[^A-Za-z0-9]+", "_")
+                .replaceAll("^_|_$", "")
+                .toUpperCase(Locale.ROOT);
+    }
+}
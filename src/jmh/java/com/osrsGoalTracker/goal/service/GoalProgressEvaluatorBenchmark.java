@@ -0,0 +1,115 @@
+package com.osrsGoalTracker.goal.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares evaluating 1,000 goals of one character with a compiled
+ * {@link GoalProgressEvaluator} against looping over the goals and matching
+ * each goal's attribute and type by string.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GoalProgressEvaluatorBenchmark {
+    private static final int GOAL_COUNT = 1_000;
+    private static final String[] TARGET_TYPES = {"xp", "level", "kc"};
+
+    private List<Goal> goals;
+    private CharacterHiscoresSnapshot snapshot;
+    private GoalProgressEvaluator evaluator;
+    private GoalProgressEvaluator.Progress progress;
+
+    /**
+     * Builds a fully ranked snapshot, 1,000 goals spread over every metric and
+     * a compiled evaluator for them.
+     */
+    @Setup
+    public void setUp() {
+        MetricName[] metrics = MetricName.values();
+        CharacterHiscoresSnapshot.Builder builder = CharacterHiscoresSnapshot.builder("Benchmark");
+        for (int i = 0; i < metrics.length; i++) {
+            if (metrics[i].isSkill()) {
+                builder.skill(metrics[i], i + 1, 80, 2_000_000L + i);
+            } else {
+                builder.activity(metrics[i], i + 1, 100 + i);
+            }
+        }
+        snapshot = builder.build();
+
+        goals = new ArrayList<>(GOAL_COUNT);
+        for (int i = 0; i < GOAL_COUNT; i++) {
+            MetricName metric = metrics[i % metrics.length];
+            String targetType = metric.isSkill() ? TARGET_TYPES[i % 2] : TARGET_TYPES[2];
+            goals.add(Goal.builder()
+                    .goalId("goal" + i)
+                    .characterName("Benchmark")
+                    .targetAttribute(i % 2 == 0 ? metric.name() : metric.getDisplayName())
+                    .targetType(targetType)
+                    .targetValue("level".equals(targetType) ? 99 : 1_000L + i * 7L)
+                    .build());
+        }
+        evaluator = GoalProgressEvaluator.compile(goals);
+        progress = evaluator.newProgress();
+    }
+
+    /**
+     * Evaluates every goal with the compiled evaluator into a reused holder.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void compiledEvaluator(Blackhole blackhole) {
+        blackhole.consume(evaluator.evaluate(snapshot, progress).completedCount());
+    }
+
+    /**
+     * Evaluates every goal by matching its attribute against each metric by
+     * name and allocating a result per goal.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void stringMatching(Blackhole blackhole) {
+        List<double[]> results = new ArrayList<>(goals.size());
+        for (Goal goal : goals) {
+            MetricName match = null;
+            for (MetricName metric : MetricName.values()) {
+                if (metric.name().equalsIgnoreCase(goal.getTargetAttribute())
+                        || metric.getDisplayName().equalsIgnoreCase(goal.getTargetAttribute())) {
+                    match = metric;
+                    break;
+                }
+            }
+            long current = 0;
+            if (match != null) {
+                current = "level".equalsIgnoreCase(goal.getTargetType())
+                        ? snapshot.levelOf(match)
+                        : Math.max(0, snapshot.valueOf(match));
+            }
+            double percent = Math.min(100.0, current * 100.0 / goal.getTargetValue());
+            results.add(new double[] {current, percent, current >= goal.getTargetValue() ? 1 : 0});
+        }
+        blackhole.consume(results);
+    }
+}
@@ -0,0 +1,116 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.osrsGoalTracker.hiscore.model.Activity;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.model.Skill;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares turning an index_lite response into a snapshot with
+ * {@link IndexLiteParser} against the object-graph path used with the OSRS API
+ * client: decode to a string, split into rows, build named skill and activity
+ * objects, copy them into {@link CharacterHiscores} and convert that to a
+ * snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HiscoresParsingBenchmark {
+    private static final String CHARACTER_NAME = "Lynx Titan";
+
+    private byte[] body;
+    private Instant capturedAt;
+
+    /**
+     * Builds a full index_lite response with every row ranked.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder response = new StringBuilder();
+        for (int i = 0; i < IndexLiteParser.SKILL_ROWS.length; i++) {
+            response.append(i + 1).append(',').append(99).append(',').append(200_000_000L - i).append('\n');
+        }
+        for (int i = 0; i < IndexLiteParser.ACTIVITY_ROWS.length; i++) {
+            response.append(1000 + i).append(',').append(50 + i).append('\n');
+        }
+        body = response.toString().getBytes(StandardCharsets.US_ASCII);
+        capturedAt = Instant.now();
+    }
+
+    /**
+     * Parses the response bytes directly into the snapshot arrays.
+     *
+     * @return The parsed snapshot
+     */
+    @Benchmark
+    public CharacterHiscoresSnapshot liteParser() {
+        return IndexLiteParser.parse(body, body.length, CharacterHiscoresSnapshot.builder(CHARACTER_NAME)
+                .capturedAt(capturedAt)).build();
+    }
+
+    /**
+     * Parses the response through intermediate strings and objects.
+     *
+     * @return The converted snapshot
+     */
+    @Benchmark
+    public CharacterHiscoresSnapshot objectGraph() {
+        String[] rows = new String(body, StandardCharsets.US_ASCII).split("\n");
+        List<Skill> parsedSkills = new ArrayList<>();
+        List<Activity> parsedActivities = new ArrayList<>();
+        for (int i = 0; i < rows.length; i++) {
+            String[] fields = rows[i].split(",");
+            if (i < IndexLiteParser.SKILL_ROWS.length) {
+                parsedSkills.add(Skill.builder()
+                        .name(IndexLiteParser.SKILL_ROWS[i])
+                        .rank(Integer.parseInt(fields[0]))
+                        .level(Integer.parseInt(fields[1]))
+                        .xp(Long.parseLong(fields[2]))
+                        .build());
+            } else {
+                parsedActivities.add(Activity.builder()
+                        .name(IndexLiteParser.ACTIVITY_ROWS[i - IndexLiteParser.SKILL_ROWS.length])
+                        .rank(Integer.parseInt(fields[0]))
+                        .score(Integer.parseInt(fields[1]))
+                        .build());
+            }
+        }
+
+        List<Skill> skills = new ArrayList<>(parsedSkills.size());
+        for (Skill skill : parsedSkills) {
+            skills.add(Skill.builder().name(skill.getName()).rank(skill.getRank()).level(skill.getLevel())
+                    .xp(skill.getXp()).build());
+        }
+        List<Activity> activities = new ArrayList<>(parsedActivities.size());
+        for (Activity activity : parsedActivities) {
+            activities.add(Activity.builder().name(activity.getName()).rank(activity.getRank())
+                    .score(activity.getScore()).build());
+        }
+        CharacterHiscores hiscores = CharacterHiscores.builder()
+                .characterName(CHARACTER_NAME)
+                .skills(skills)
+                .activities(activities)
+                .build();
+        return CharacterHiscoresSnapshot.fromCharacterHiscores(hiscores, capturedAt);
+    }
+}
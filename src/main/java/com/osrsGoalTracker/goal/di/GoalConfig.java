@@ -0,0 +1,166 @@
+package com.osrsGoalTracker.goal.di;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Deployment configuration for the goal domain.
+ * Values are read from environment variables so each deployment can tune
+ * progress polling, forecasting, event publishing and notification scheduling
+ * without code changes.
+ */
+@Value
+@Builder
+public class GoalConfig {
+    static final String PROGRESS_TABLE_NAME_ENV = "GOAL_PROGRESS_TABLE_NAME";
+    static final String IN_MEMORY_STORAGE_ENV = "GOAL_IN_MEMORY_STORAGE";
+    static final String EVENT_BUS_NAME_ENV = "GOAL_EVENT_BUS_NAME";
+    static final String POLLING_PARALLELISM_ENV = "GOAL_POLLING_PARALLELISM";
+    static final String POLLING_TIME_RESERVE_MILLIS_ENV = "GOAL_POLLING_TIME_RESERVE_MILLIS";
+    static final String POLLING_FETCH_TIMEOUT_MILLIS_ENV = "GOAL_POLLING_FETCH_TIMEOUT_MILLIS";
+    static final String SCHEDULE_BUCKET_SECONDS_ENV = "GOAL_SCHEDULE_BUCKET_SECONDS";
+    static final String FORECAST_HALF_LIFE_HOURS_ENV = "GOAL_FORECAST_HALF_LIFE_HOURS";
+    static final String IDEMPOTENCY_TTL_HOURS_ENV = "GOAL_IDEMPOTENCY_TTL_HOURS";
+    static final String IDEMPOTENCY_CACHE_SECONDS_ENV = "GOAL_IDEMPOTENCY_CACHE_SECONDS";
+
+    private static final int DEFAULT_POLLING_PARALLELISM = 8;
+    private static final long DEFAULT_POLLING_TIME_RESERVE_MILLIS = 15_000;
+    private static final long DEFAULT_POLLING_FETCH_TIMEOUT_MILLIS = 10_000;
+    private static final long DEFAULT_SCHEDULE_BUCKET_SECONDS = 300;
+    private static final long DEFAULT_FORECAST_HALF_LIFE_HOURS = 72;
+    private static final long DEFAULT_IDEMPOTENCY_TTL_HOURS = 24;
+    private static final long DEFAULT_IDEMPOTENCY_CACHE_SECONDS = 300;
+
+    /**
+     * Name of the DynamoDB table holding goal progress, schedules, unpublished
+     * events and creation requests. It must be set unless
+     * {@link #inMemoryStorage} is.
+     */
+    private final String progressTableName;
+
+    /**
+     * Whether goal progress, schedules, unpublished events and creation
+     * requests may be kept in memory for the lifetime of the process when no
+     * progress table is set. Only meant for tests and local runs, since
+     * nothing kept in memory is shared between instances or survives them.
+     */
+    private final boolean inMemoryStorage;
+
+    /**
+     * Name of the EventBridge event bus goal milestone and completion events
+     * are published to. When null, events are only logged.
+     */
+    private final String eventBusName;
+
+    /**
+     * Maximum number of characters whose hiscores are fetched at once during a
+     * polling run.
+     */
+    @Builder.Default
+    private final int pollingParallelism = DEFAULT_POLLING_PARALLELISM;
+
+    /**
+     * Time a polling run leaves unused before its deadline. A run stops
+     * starting new characters once less than this remains, so it must cover
+     * one round of fetches plus the progress writes that follow.
+     */
+    @Builder.Default
+    private final Duration pollingTimeReserve = Duration.ofMillis(DEFAULT_POLLING_TIME_RESERVE_MILLIS);
+
+    /**
+     * Time a polling round waits for its characters' hiscores, counted from
+     * the start of the round. Characters still being fetched then count as
+     * failed, so it must be shorter than the time reserve to leave time for
+     * the round's progress writes.
+     */
+    @Builder.Default
+    private final Duration pollingFetchTimeout = Duration.ofMillis(DEFAULT_POLLING_FETCH_TIMEOUT_MILLIS);
+
+    /**
+     * Width of the due-time buckets notifications are filed under. A
+     * notification fires once its whole bucket has passed, so this bounds how
+     * late it can be.
+     */
+    @Builder.Default
+    private final Duration scheduleBucketWidth = Duration.ofSeconds(DEFAULT_SCHEDULE_BUCKET_SECONDS);
+
+    /**
+     * Half-life of the moving average of a goal's gain rate. Shorter values
+     * make completion forecasts follow recent play more closely.
+     */
+    @Builder.Default
+    private final Duration forecastHalfLife = Duration.ofHours(DEFAULT_FORECAST_HALF_LIFE_HOURS);
+
+    /**
+     * How long a goal creation request is remembered. A retry of the same
+     * request within this window returns the goal created by the first
+     * attempt instead of creating another.
+     */
+    @Builder.Default
+    private final Duration idempotencyTtl = Duration.ofHours(DEFAULT_IDEMPOTENCY_TTL_HOURS);
+
+    /**
+     * How long a completed goal creation request is also remembered in
+     * process, so retries reaching a warm instance skip the idempotency table.
+     */
+    @Builder.Default
+    private final Duration idempotencyCacheTtl = Duration.ofSeconds(DEFAULT_IDEMPOTENCY_CACHE_SECONDS);
+
+    /**
+     * Creates a configuration from environment variables, falling back to
+     * defaults for any that are unset.
+     *
+     * @return The goal configuration
+     * @throws IllegalArgumentException if a numeric variable is not a number
+     */
+    public static GoalConfig fromEnvironment() {
+        return GoalConfig.builder()
+                .progressTableName(readString(PROGRESS_TABLE_NAME_ENV))
+                .inMemoryStorage(readBoolean(IN_MEMORY_STORAGE_ENV, false))
+                .eventBusName(readString(EVENT_BUS_NAME_ENV))
+                .pollingParallelism((int) readLong(POLLING_PARALLELISM_ENV, DEFAULT_POLLING_PARALLELISM))
+                .pollingTimeReserve(Duration.ofMillis(
+                        readLong(POLLING_TIME_RESERVE_MILLIS_ENV, DEFAULT_POLLING_TIME_RESERVE_MILLIS)))
+                .pollingFetchTimeout(Duration.ofMillis(
+                        readLong(POLLING_FETCH_TIMEOUT_MILLIS_ENV, DEFAULT_POLLING_FETCH_TIMEOUT_MILLIS)))
+                .scheduleBucketWidth(Duration.ofSeconds(
+                        readLong(SCHEDULE_BUCKET_SECONDS_ENV, DEFAULT_SCHEDULE_BUCKET_SECONDS)))
+                .forecastHalfLife(Duration.ofHours(
+                        readLong(FORECAST_HALF_LIFE_HOURS_ENV, DEFAULT_FORECAST_HALF_LIFE_HOURS)))
+                .idempotencyTtl(Duration.ofHours(
+                        readLong(IDEMPOTENCY_TTL_HOURS_ENV, DEFAULT_IDEMPOTENCY_TTL_HOURS)))
+                .idempotencyCacheTtl(Duration.ofSeconds(
+                        readLong(IDEMPOTENCY_CACHE_SECONDS_ENV, DEFAULT_IDEMPOTENCY_CACHE_SECONDS)))
+                .build();
+    }
+
+    private static String readString(String name) {
+        String value = System.getenv(name);
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    private static boolean readBoolean(String name, boolean defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return "true".equalsIgnoreCase(value.trim());
+    }
+
+    private static long readLong(String name, long defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a whole number but was: " + value, e);
+        }
+    }
+}
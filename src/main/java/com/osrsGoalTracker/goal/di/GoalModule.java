@@ -1,31 +1,86 @@
 package com.osrsGoalTracker.goal.di;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Provider;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.osrsGoalTracker.goal.dao.GoalDao;
 import com.osrsGoalTracker.goal.dao.impl.DynamoGoalDao;
 import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalMetadataItem;
 import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.external.GoalEventPublisher;
+import com.osrsGoalTracker.goal.external.impl.EventBridgeGoalEventPublisher;
+import com.osrsGoalTracker.goal.external.impl.LoggingGoalEventPublisher;
+import com.osrsGoalTracker.goal.repository.GoalEventOutboxRepository;
+import com.osrsGoalTracker.goal.repository.GoalIdempotencyRepository;
+import com.osrsGoalTracker.goal.repository.GoalProgressRepository;
 import com.osrsGoalTracker.goal.repository.GoalRepository;
+import com.osrsGoalTracker.goal.repository.GoalScheduleRepository;
+import com.osrsGoalTracker.goal.repository.impl.CachingGoalIdempotencyRepository;
+import com.osrsGoalTracker.goal.repository.impl.DynamoGoalEventOutboxRepository;
+import com.osrsGoalTracker.goal.repository.impl.DynamoGoalIdempotencyRepository;
+import com.osrsGoalTracker.goal.repository.impl.DynamoGoalProgressRepository;
+import com.osrsGoalTracker.goal.repository.impl.DynamoGoalScheduleRepository;
 import com.osrsGoalTracker.goal.repository.impl.GoalRepositoryImpl;
+import com.osrsGoalTracker.goal.repository.impl.InMemoryGoalEventOutboxRepository;
+import com.osrsGoalTracker.goal.repository.impl.InMemoryGoalIdempotencyRepository;
+import com.osrsGoalTracker.goal.repository.impl.InMemoryGoalProgressRepository;
+import com.osrsGoalTracker.goal.repository.impl.InMemoryGoalScheduleRepository;
+import com.osrsGoalTracker.goal.service.GoalMetricIndex;
+import com.osrsGoalTracker.goal.service.GoalPollingService;
+import com.osrsGoalTracker.goal.service.GoalSchedulingService;
 import com.osrsGoalTracker.goal.service.GoalService;
+import com.osrsGoalTracker.goal.service.impl.GoalPollingServiceImpl;
+import com.osrsGoalTracker.goal.service.impl.GoalSchedulingServiceImpl;
 import com.osrsGoalTracker.goal.service.impl.GoalServiceImpl;
 import com.osrsGoalTracker.shared.di.SharedDynamoDbModule;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
 
 /**
  * Guice module for goal-related bindings.
  */
 public class GoalModule extends AbstractModule {
+    private final GoalConfig config;
+
+    /**
+     * Constructs a new GoalModule configured from environment variables.
+     */
+    public GoalModule() {
+        this(GoalConfig.fromEnvironment());
+    }
+
+    /**
+     * Constructs a new GoalModule with an explicit configuration.
+     *
+     * @param config The goal configuration to use
+     */
+    public GoalModule(GoalConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Binds the goal services and repositories.
+     *
+     * @throws IllegalStateException if no progress table is set and in-memory
+     *                               storage was not explicitly allowed
+     */
     @Override
     protected void configure() {
+        if (config.getProgressTableName() == null && !config.isInMemoryStorage()) {
+            throw new IllegalStateException(GoalConfig.PROGRESS_TABLE_NAME_ENV + " must be set unless "
+                    + GoalConfig.IN_MEMORY_STORAGE_ENV + " is true");
+        }
         install(new SharedDynamoDbModule());
+        bind(GoalConfig.class).toInstance(config);
         bind(GoalService.class).to(GoalServiceImpl.class);
+        bind(GoalPollingService.class).to(GoalPollingServiceImpl.class);
+        bind(GoalSchedulingService.class).to(GoalSchedulingServiceImpl.class);
         bind(GoalRepository.class).to(GoalRepositoryImpl.class);
         bind(GoalDao.class).to(DynamoGoalDao.class);
     }
@@ -47,4 +102,58 @@ public class GoalModule extends AbstractModule {
 
         return new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable);
     }
-}
\ No newline at end of file
+
+    @Provides
+    @Singleton
+    GoalProgressRepository provideGoalProgressRepository(Provider<DynamoDbClient> dynamoDbClient) {
+        if (config.getProgressTableName() == null) {
+            return new InMemoryGoalProgressRepository();
+        }
+        return new DynamoGoalProgressRepository(dynamoDbClient.get(), config);
+    }
+
+    @Provides
+    @Singleton
+    GoalMetricIndex provideGoalMetricIndex() {
+        return new GoalMetricIndex();
+    }
+
+    @Provides
+    @Singleton
+    GoalEventPublisher provideGoalEventPublisher() {
+        if (config.getEventBusName() == null) {
+            return new LoggingGoalEventPublisher();
+        }
+        EventBridgeClient eventBridgeClient = EventBridgeClient.builder()
+                .region(Region.of(System.getenv("AWS_REGION")))
+                .build();
+        return new EventBridgeGoalEventPublisher(eventBridgeClient, config.getEventBusName());
+    }
+
+    @Provides
+    @Singleton
+    GoalScheduleRepository provideGoalScheduleRepository(Provider<DynamoDbClient> dynamoDbClient) {
+        if (config.getProgressTableName() == null) {
+            return new InMemoryGoalScheduleRepository();
+        }
+        return new DynamoGoalScheduleRepository(dynamoDbClient.get(), config);
+    }
+
+    @Provides
+    @Singleton
+    GoalEventOutboxRepository provideGoalEventOutboxRepository(Provider<DynamoDbClient> dynamoDbClient) {
+        if (config.getProgressTableName() == null) {
+            return new InMemoryGoalEventOutboxRepository();
+        }
+        return new DynamoGoalEventOutboxRepository(dynamoDbClient.get(), config);
+    }
+
+    @Provides
+    @Singleton
+    GoalIdempotencyRepository provideGoalIdempotencyRepository(Provider<DynamoDbClient> dynamoDbClient) {
+        GoalIdempotencyRepository records = config.getProgressTableName() == null
+                ? new InMemoryGoalIdempotencyRepository(config)
+                : new DynamoGoalIdempotencyRepository(dynamoDbClient.get(), config);
+        return new CachingGoalIdempotencyRepository(records, config);
+    }
+}
@@ -0,0 +1,27 @@
+package com.osrsGoalTracker.goal.external;
+
+import java.util.List;
+
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+
+/**
+ * Interface for telling the rest of the system about goal progress events.
+ */
+public interface GoalEventPublisher {
+    /**
+     * The most events one publish request carries. Callers that collect
+     * events should publish them in multiples of this size.
+     */
+    int MAX_BATCH_SIZE = 10;
+
+    /**
+     * Publishes events in as few requests as possible. Events that cannot be
+     * published after retrying are logged and returned rather than failing the
+     * caller, so the caller can keep them to publish again.
+     *
+     * @param events The events to publish
+     * @return The events that could not be published, in their original
+     *         order, or an empty list if all were published
+     */
+    List<GoalProgressEvent> publish(List<? extends GoalProgressEvent> events);
+}
@@ -0,0 +1,142 @@
+package com.osrsGoalTracker.goal.external.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osrsGoalTracker.goal.external.GoalEventPublisher;
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+
+/**
+ * GoalEventPublisher that puts events on an EventBridge event bus.
+ *
+ * <p>
+ * Events are sent with PutEvents in requests of up to
+ * {@link #MAX_BATCH_SIZE} entries, the most one PutEvents request accepts.
+ * PutEvents can accept some entries of a request and reject others, so only
+ * the rejected entries are sent again, with exponential backoff. Entries
+ * still rejected after {@link #MAX_ATTEMPTS} attempts, and requests that fail
+ * outright, are logged and returned as not published.
+ */
+@Slf4j
+public class EventBridgeGoalEventPublisher implements GoalEventPublisher {
+    static final int MAX_ATTEMPTS = 4;
+    static final String SOURCE = "com.osrsGoalTracker.goal";
+
+    private static final long BASE_BACKOFF_MILLIS = 50;
+
+    private final EventBridgeClient eventBridgeClient;
+    private final String eventBusName;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor for EventBridgeGoalEventPublisher.
+     *
+     * @param eventBridgeClient The EventBridge client
+     * @param eventBusName      The name of the event bus to publish to
+     */
+    public EventBridgeGoalEventPublisher(EventBridgeClient eventBridgeClient, String eventBusName) {
+        this.eventBridgeClient = eventBridgeClient;
+        this.eventBusName = eventBusName;
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+    }
+
+    @Override
+    public List<GoalProgressEvent> publish(List<? extends GoalProgressEvent> events) {
+        List<GoalProgressEvent> failed = new ArrayList<>();
+        for (int start = 0; start < events.size(); start += MAX_BATCH_SIZE) {
+            failed.addAll(putBatch(new ArrayList<>(events.subList(start,
+                    Math.min(start + MAX_BATCH_SIZE, events.size())))));
+        }
+        if (!failed.isEmpty()) {
+            log.error("Failed to publish {} of {} goal progress events", failed.size(), events.size());
+        } else {
+            log.info("Published {} goal progress events", events.size());
+        }
+        return failed;
+    }
+
+    /**
+     * Puts one request's events, resending rejected events until all are
+     * accepted or the attempts run out.
+     *
+     * @param events Up to {@link #MAX_BATCH_SIZE} events
+     * @return The events that were not accepted
+     */
+    private List<GoalProgressEvent> putBatch(List<GoalProgressEvent> events) {
+        List<GoalProgressEvent> pending = events;
+        List<PutEventsRequestEntry> entries = new ArrayList<>(events.size());
+        for (GoalProgressEvent event : events) {
+            entries.add(toEntry(event));
+        }
+        for (int attempt = 1; ; attempt++) {
+            PutEventsResponse response;
+            try {
+                response = eventBridgeClient.putEvents(PutEventsRequest.builder().entries(entries).build());
+            } catch (SdkException e) {
+                log.error("Failed to put {} goal progress events: {}", pending.size(), e.getMessage());
+                return pending;
+            }
+            if (response.failedEntryCount() == null || response.failedEntryCount() == 0) {
+                return List.of();
+            }
+
+            List<GoalProgressEvent> rejected = new ArrayList<>(response.failedEntryCount());
+            List<PutEventsRequestEntry> rejectedEntries = new ArrayList<>(response.failedEntryCount());
+            List<PutEventsResultEntry> results = response.entries();
+            String lastError = null;
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i).errorCode() != null) {
+                    rejected.add(pending.get(i));
+                    rejectedEntries.add(entries.get(i));
+                    lastError = results.get(i).errorCode() + ": " + results.get(i).errorMessage();
+                }
+            }
+            if (attempt == MAX_ATTEMPTS) {
+                log.error("{} goal progress events still rejected after {} attempts, last error {}",
+                        rejected.size(), MAX_ATTEMPTS, lastError);
+                return rejected;
+            }
+            log.warn("Retrying {} rejected goal progress events, last error {}", rejected.size(), lastError);
+            pending = rejected;
+            entries = rejectedEntries;
+            backoff(attempt);
+        }
+    }
+
+    private PutEventsRequestEntry toEntry(GoalProgressEvent event) {
+        try {
+            return PutEventsRequestEntry.builder()
+                    .eventBusName(eventBusName)
+                    .source(SOURCE)
+                    .detailType(event.detailType())
+                    .detail(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize " + event.detailType() + " event", e);
+        }
+    }
+
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(BASE_BACKOFF_MILLIS << (attempt - 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted publishing goal progress events", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.osrsGoalTracker.goal.external.impl;
+
+import java.util.List;
+
+import com.osrsGoalTracker.goal.external.GoalEventPublisher;
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GoalEventPublisher that only logs events. Used when no event bus is
+ * configured.
+ */
+@Slf4j
+public class LoggingGoalEventPublisher implements GoalEventPublisher {
+    @Override
+    public List<GoalProgressEvent> publish(List<? extends GoalProgressEvent> events) {
+        for (GoalProgressEvent event : events) {
+            log.info("{} for goal {}: {}", event.detailType(), event.getGoalId(), event);
+        }
+        return List.of();
+    }
+}
@@ -0,0 +1,107 @@
+package com.osrsGoalTracker.goal.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.goal.di.GoalModule;
+import com.osrsGoalTracker.goal.model.GoalCreation;
+import com.osrsGoalTracker.goal.model.GoalCreationResult;
+import com.osrsGoalTracker.goal.service.GoalService;
+import com.osrsGoalTracker.utils.JsonUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AWS Lambda handler for backfilling the progress of goals that exist in the
+ * goal store but are not tracked yet, such as goals created before goal
+ * progress was tracked.
+ *
+ * <p>
+ * Goals are only listed, polled and notified once they have progress, so
+ * every existing goal must be sent through this handler once. Each message
+ * body is a {@link GoalCreation} as JSON: the existing goal, including its
+ * {@code goalId}, and the progress it was last known to have. Goals that are
+ * already tracked keep their progress, so the backfill can be re-run safely.
+ * The IDs of messages that could not be parsed or tracked are returned as
+ * batch item failures.
+ */
+@Slf4j
+public class BackfillGoalProgressHandler implements RequestHandler<SQSEvent, SQSBatchResponse> {
+    private final GoalService goalService;
+
+    /**
+     * Default constructor that initializes dependencies using Guice.
+     */
+    public BackfillGoalProgressHandler() {
+        Injector injector = Guice.createInjector(new GoalModule());
+        this.goalService = injector.getInstance(GoalService.class);
+    }
+
+    /**
+     * Test constructor that accepts a GoalService instance.
+     *
+     * @param goalService The service to track goals with.
+     */
+    public BackfillGoalProgressHandler(GoalService goalService) {
+        this.goalService = goalService;
+    }
+
+    /**
+     * Handles an SQS batch by tracking the existing goal in every valid
+     * message.
+     *
+     * @param event   The SQS event containing the batch of messages.
+     * @param context The AWS Lambda context.
+     * @return The IDs of the messages to retry
+     */
+    @Override
+    public SQSBatchResponse handleRequest(SQSEvent event, Context context) {
+        List<SQSBatchResponse.BatchItemFailure> failures = new ArrayList<>();
+        if (event == null || event.getRecords() == null || event.getRecords().isEmpty()) {
+            return new SQSBatchResponse(failures);
+        }
+
+        List<String> messageIds = new ArrayList<>(event.getRecords().size());
+        List<GoalCreation> existing = new ArrayList<>(event.getRecords().size());
+        for (SQSEvent.SQSMessage message : event.getRecords()) {
+            try {
+                existing.add(parseMessage(message));
+                messageIds.add(message.getMessageId());
+            } catch (RuntimeException e) {
+                log.error("Invalid existing goal in message {}: {}", message.getMessageId(), e.getMessage());
+                failures.add(new SQSBatchResponse.BatchItemFailure(message.getMessageId()));
+            }
+        }
+
+        if (!existing.isEmpty()) {
+            List<GoalCreationResult> results = goalService.trackGoals(existing);
+            for (int i = 0; i < results.size(); i++) {
+                GoalCreationResult result = results.get(i);
+                if (!result.isSucceeded()) {
+                    log.error("Failed to track goal from message {}: {}", messageIds.get(i), result.getError());
+                    failures.add(new SQSBatchResponse.BatchItemFailure(messageIds.get(i)));
+                }
+            }
+        }
+
+        log.info("Backfilled {} existing goals with {} failures", event.getRecords().size(), failures.size());
+        return new SQSBatchResponse(failures);
+    }
+
+    private GoalCreation parseMessage(SQSEvent.SQSMessage message) {
+        if (message.getBody() == null || message.getBody().trim().isEmpty()) {
+            throw new IllegalArgumentException("Message body cannot be null or empty");
+        }
+        GoalCreation creation = JsonUtils.fromJson(message.getBody(), GoalCreation.class);
+        if (creation.getGoal() == null) {
+            throw new IllegalArgumentException("Message body has no goal");
+        }
+        return creation;
+    }
+}
@@ -1,12 +1,13 @@
 package com.osrsGoalTracker.goal.handler;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -14,15 +15,17 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.osrsGoalTracker.goal.di.GoalModule;
 import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalCreation;
 import com.osrsGoalTracker.goal.service.GoalService;
-import com.osrsGoalTracker.orchestration.events.GoalCreationRequestEvent;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * AWS Lambda handler for processing goal creation request events from
  * EventBridge.
- * Validates the event and creates a new goal with initial progress.
+ * Reads and validates the event detail in a single pass and creates a new goal
+ * with initial progress. Retried
+ * deliveries of the same event return the goal created by the first delivery.
  */
 @Slf4j
 public class CreateGoalFromGoalCreationRequestEventHandler implements RequestHandler<ScheduledEvent, Goal> {
@@ -53,14 +56,15 @@ public class CreateGoalFromGoalCreationRequestEventHandler implements RequestHan
     }
 
     /**
-     * Handles the scheduled event by validating the event detail and creating a
+     * Handles the scheduled event by reading the event detail and creating a
      * new goal.
      * 
      * @param event   The scheduled event containing the details.
      * @param context The AWS Lambda context.
      * @return The created Goal
      * @throws IllegalArgumentException if the event or event detail is null or if
-     *                                  any required fields are missing.
+     *                                  any required fields are missing or
+     *                                  malformed.
      */
     @Override
     public Goal handleRequest(ScheduledEvent event, Context context) {
@@ -68,55 +72,32 @@ public class CreateGoalFromGoalCreationRequestEventHandler implements RequestHan
             throw new IllegalArgumentException("Event or event detail cannot be null");
         }
 
-        validateEventDetail(event);
-
-        GoalCreationRequestEvent goalEvent = objectMapper.convertValue(event.getDetail(),
-                GoalCreationRequestEvent.class);
-        log.info("GoalCreationEvent: {}", goalEvent);
-        Goal goal = Goal.builder()
-                .userId(goalEvent.getUserId())
-                .characterName(goalEvent.getCharacterName())
-                .targetAttribute(goalEvent.getTargetAttribute())
-                .targetType(goalEvent.getTargetType())
-                .targetValue(goalEvent.getTargetValue())
-                .targetDate(goalEvent.getTargetDate())
-                .notificationChannelType(goalEvent.getNotificationChannelType())
-                .frequency(goalEvent.getFrequency())
-                .build();
-
-        return goalService.createGoal(goal, goalEvent.getCurrentValue());
+        GoalCreation creation = GoalCreationRequestReader.read(event.getDetail());
+        log.info("GoalCreationEvent: {}", creation);
+        return goalService.createGoal(creation.getGoal(), creation.getCurrentProgress(),
+                idempotencyKey(event, creation));
     }
 
     /**
-     * Validates the required fields in the event detail.
+     * Identifies the creation request an event carries. EventBridge keeps an
+     * event's ID across retries, so the ID is used when present; otherwise the
+     * key is a hash of the request's content, serialized in field declaration
+     * order.
      *
-     * @param event The scheduled event containing the details.
-     * @throws IllegalArgumentException if any required field is missing.
+     * @param event    The scheduled event
+     * @param creation The creation request it carries
+     * @return The idempotency key of the request
      */
-    @SuppressWarnings({ "checkstyle:cyclomaticcomplexity", "checkstyle:booleanexpressioncomplexity" })
-    private void validateEventDetail(ScheduledEvent event) {
-        if (event == null || event.getDetail() == null) {
-            throw new IllegalArgumentException("Event or event detail cannot be null");
+    private String idempotencyKey(ScheduledEvent event, GoalCreation creation) {
+        if (event.getId() != null && !event.getId().trim().isEmpty()) {
+            return "event:" + event.getId();
         }
-
-        List<String> requiredFields = Arrays.asList(
-                "userId",
-                "characterName",
-                "targetAttribute",
-                "targetType",
-                "targetValue",
-                "currentValue",
-                "targetDate",
-                "notificationChannelType",
-                "frequency");
-
-        List<String> missingFields = requiredFields.stream()
-                .filter(field -> !event.getDetail().containsKey(field))
-                .collect(Collectors.toList());
-
-        if (!missingFields.isEmpty()) {
-            throw new IllegalArgumentException(
-                    "Event detail is missing required fields: " + String.join(", ", missingFields));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(objectMapper.writeValueAsBytes(creation));
+            return "sha256:" + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Unable to hash goal creation request", e);
         }
     }
 }
@@ -0,0 +1,110 @@
+package com.osrsGoalTracker.goal.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.goal.di.GoalModule;
+import com.osrsGoalTracker.goal.model.GoalCreation;
+import com.osrsGoalTracker.goal.model.GoalCreationResult;
+import com.osrsGoalTracker.goal.service.GoalService;
+import com.osrsGoalTracker.orchestration.events.GoalCreationRequestEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AWS Lambda handler for creating goals from an SQS batch of goal creation
+ * request events.
+ *
+ * <p>
+ * Each message body is either an EventBridge event whose {@code detail} is a
+ * {@link GoalCreationRequestEvent} or the request event itself. Each body is
+ * parsed and validated in a single streaming pass, the valid goals are created
+ * together, and the IDs of messages that could not be parsed or written are
+ * returned as batch item failures. Only those messages are retried; messages that keep failing move
+ * to the queue's dead-letter queue. Each goal is created under its message ID
+ * as idempotency key, so a redelivered message returns the goal it already
+ * created instead of creating another.
+ */
+@Slf4j
+public class CreateGoalsFromGoalCreationRequestEventsHandler implements RequestHandler<SQSEvent, SQSBatchResponse> {
+    private final GoalService goalService;
+
+    /**
+     * Default constructor that initializes dependencies using Guice.
+     */
+    public CreateGoalsFromGoalCreationRequestEventsHandler() {
+        this(Guice.createInjector(new GoalModule()));
+    }
+
+    /**
+     * Test constructor that accepts a GoalService instance.
+     *
+     * @param goalService The service to use for goal creation.
+     */
+    public CreateGoalsFromGoalCreationRequestEventsHandler(GoalService goalService) {
+        this.goalService = goalService;
+    }
+
+    private CreateGoalsFromGoalCreationRequestEventsHandler(Injector injector) {
+        this(injector.getInstance(GoalService.class));
+    }
+
+    /**
+     * Handles an SQS batch by creating a goal for every valid message.
+     *
+     * @param event   The SQS event containing the batch of messages.
+     * @param context The AWS Lambda context.
+     * @return The IDs of the messages to retry
+     */
+    @Override
+    public SQSBatchResponse handleRequest(SQSEvent event, Context context) {
+        List<SQSBatchResponse.BatchItemFailure> failures = new ArrayList<>();
+        if (event == null || event.getRecords() == null || event.getRecords().isEmpty()) {
+            return new SQSBatchResponse(failures);
+        }
+
+        List<String> messageIds = new ArrayList<>(event.getRecords().size());
+        List<GoalCreation> creations = new ArrayList<>(event.getRecords().size());
+        for (SQSEvent.SQSMessage message : event.getRecords()) {
+            try {
+                creations.add(parseMessage(message));
+                messageIds.add(message.getMessageId());
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid goal creation request in message {}: {}", message.getMessageId(), e.getMessage());
+                failures.add(new SQSBatchResponse.BatchItemFailure(message.getMessageId()));
+            }
+        }
+
+        if (!creations.isEmpty()) {
+            List<GoalCreationResult> results = goalService.createGoals(creations);
+            for (int i = 0; i < results.size(); i++) {
+                GoalCreationResult result = results.get(i);
+                if (!result.isSucceeded()) {
+                    log.error("Failed to create goal from message {}: {}", messageIds.get(i), result.getError());
+                    failures.add(new SQSBatchResponse.BatchItemFailure(messageIds.get(i)));
+                }
+            }
+        }
+
+        log.info("Processed {} goal creation requests with {} failures", event.getRecords().size(), failures.size());
+        return new SQSBatchResponse(failures);
+    }
+
+    private GoalCreation parseMessage(SQSEvent.SQSMessage message) {
+        if (message.getBody() == null || message.getBody().trim().isEmpty()) {
+            throw new IllegalArgumentException("Message body cannot be null or empty");
+        }
+        GoalCreation creation = GoalCreationRequestReader.read(message.getBody());
+        return GoalCreation.builder()
+                .goal(creation.getGoal())
+                .currentProgress(creation.getCurrentProgress())
+                .idempotencyKey(message.getMessageId())
+                .build();
+    }
+}
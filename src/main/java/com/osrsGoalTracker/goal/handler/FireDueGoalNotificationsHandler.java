@@ -0,0 +1,58 @@
+package com.osrsGoalTracker.goal.handler;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.goal.di.GoalModule;
+import com.osrsGoalTracker.goal.model.ScheduledGoal;
+import com.osrsGoalTracker.goal.service.GoalSchedulingService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AWS Lambda handler for the scheduled notification tick.
+ * Fires the goal notifications whose due-time buckets have passed since the
+ * previous tick, publishing a due notification event for each, and re-arms
+ * each goal for its next period.
+ */
+@Slf4j
+public class FireDueGoalNotificationsHandler implements RequestHandler<ScheduledEvent, List<ScheduledGoal>> {
+    private final GoalSchedulingService goalSchedulingService;
+
+    /**
+     * Default constructor that initializes dependencies using Guice.
+     */
+    public FireDueGoalNotificationsHandler() {
+        Injector injector = Guice.createInjector(new GoalModule());
+        this.goalSchedulingService = injector.getInstance(GoalSchedulingService.class);
+    }
+
+    /**
+     * Test constructor that accepts a GoalSchedulingService instance.
+     *
+     * @param goalSchedulingService The service to fire notifications with.
+     */
+    public FireDueGoalNotificationsHandler(GoalSchedulingService goalSchedulingService) {
+        this.goalSchedulingService = goalSchedulingService;
+    }
+
+    /**
+     * Handles the scheduled event by firing every notification that has come
+     * due.
+     *
+     * @param event   The scheduled event that triggered the tick.
+     * @param context The AWS Lambda context.
+     * @return The notifications that fired
+     */
+    @Override
+    public List<ScheduledGoal> handleRequest(ScheduledEvent event, Context context) {
+        List<ScheduledGoal> fired = goalSchedulingService.fireDueGoals(Instant.now());
+        log.info("Fired {} due goal notifications", fired.size());
+        return fired;
+    }
+}
@@ -0,0 +1,289 @@
+package com.osrsGoalTracker.goal.handler;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalCreation;
+import com.osrsGoalTracker.orchestration.events.GoalCreationRequestEvent;
+
+/**
+ * Reads the fields of a {@link GoalCreationRequestEvent} straight into a
+ * {@link GoalCreation} in a single pass.
+ *
+ * <p>
+ * Each field is matched by name as it is read and written into a
+ * {@link Goal.GoalBuilder}; a bitmask records which required fields were seen,
+ * so validation needs no second pass and every missing field is reported in
+ * one error. JSON is read from a token stream opened on a shared, pre-built
+ * {@link ObjectReader}, so no tree, token buffer or intermediate event object
+ * is built. Fields that are not part of the request are skipped.
+ *
+ * <p>
+ * The reader is stateless and can be shared between threads.
+ */
+final class GoalCreationRequestReader {
+    private static final String[] REQUIRED_FIELDS = {
+        "userId",
+        "characterName",
+        "targetAttribute",
+        "targetType",
+        "targetValue",
+        "currentValue",
+        "targetDate",
+        "notificationChannelType",
+        "frequency",
+    };
+    private static final int USER_ID = 0;
+    private static final int CHARACTER_NAME = 1;
+    private static final int TARGET_ATTRIBUTE = 2;
+    private static final int TARGET_TYPE = 3;
+    private static final int TARGET_VALUE = 4;
+    private static final int CURRENT_VALUE = 5;
+    private static final int TARGET_DATE = 6;
+    private static final int NOTIFICATION_CHANNEL_TYPE = 7;
+    private static final int FREQUENCY = 8;
+    private static final int ALL_FIELDS = (1 << REQUIRED_FIELDS.length) - 1;
+
+    private static final String DETAIL = "detail";
+
+    private static final ObjectReader READER = new ObjectMapper().reader();
+
+    private GoalCreationRequestReader() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Reads a request from an EventBridge event's detail.
+     *
+     * @param detail The event detail
+     * @return The goal to create and its current progress
+     * @throws IllegalArgumentException if the detail is null, is missing
+     *                                  required fields or holds a value of the
+     *                                  wrong type
+     */
+    static GoalCreation read(Map<String, Object> detail) {
+        if (detail == null) {
+            throw new IllegalArgumentException("Event or event detail cannot be null");
+        }
+        Fields fields = new Fields();
+        for (Map.Entry<String, Object> entry : detail.entrySet()) {
+            Object value = entry.getValue();
+            int field = fieldIndex(entry.getKey());
+            switch (field) {
+                case TARGET_VALUE -> fields.builder.targetValue(toLong(entry.getKey(), value));
+                case CURRENT_VALUE -> fields.currentValue = toLong(entry.getKey(), value);
+                case TARGET_DATE -> fields.builder.targetDate(toInstant(value));
+                case -1 -> {
+                    continue;
+                }
+                default -> fields.setString(field, value == null ? null : value.toString());
+            }
+            fields.seen |= 1 << field;
+        }
+        return fields.build();
+    }
+
+    /**
+     * Reads a request from JSON that is either an EventBridge event whose
+     * {@code detail} holds the request or the request itself.
+     *
+     * @param json The JSON to read
+     * @return The goal to create and its current progress
+     * @throws IllegalArgumentException if the JSON is malformed, is not an
+     *                                  object, is missing required fields or
+     *                                  holds a value of the wrong type
+     */
+    static GoalCreation read(String json) {
+        try (JsonParser parser = READER.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Event detail must be an object");
+            }
+            Fields fields = new Fields();
+            Fields detail = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (DETAIL.equals(name) && token == JsonToken.START_OBJECT) {
+                    detail = new Fields();
+                    readObject(parser, detail);
+                } else {
+                    readField(parser, name, token, fields);
+                }
+            }
+            return (detail == null ? fields : detail).build();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed goal creation request: " + e.getMessage(), e);
+        }
+    }
+
+    private static void readObject(JsonParser parser, Fields fields) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            readField(parser, name, parser.nextToken(), fields);
+        }
+    }
+
+    private static void readField(JsonParser parser, String name, JsonToken token, Fields fields)
+            throws IOException {
+        int field = fieldIndex(name);
+        if (field == -1 || token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            if (field == -1) {
+                return;
+            }
+            throw new IllegalArgumentException(name + " must not be an object or array");
+        }
+        switch (field) {
+            case TARGET_VALUE -> fields.builder.targetValue(readLong(parser, name, token));
+            case CURRENT_VALUE -> fields.currentValue = readLong(parser, name, token);
+            case TARGET_DATE -> fields.builder.targetDate(readInstant(parser, token));
+            default -> fields.setString(field, token == JsonToken.VALUE_NULL ? null : parser.getText());
+        }
+        fields.seen |= 1 << field;
+    }
+
+    private static long readLong(JsonParser parser, String name, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return exactLong(name, parser.getDecimalValue());
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return parseLong(name, parser.getText());
+        }
+        throw new IllegalArgumentException(name + " must be a whole number");
+    }
+
+    private static Instant readInstant(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_NULL -> null;
+            case VALUE_STRING -> parseInstant(parser.getText());
+            case VALUE_NUMBER_INT -> Instant.ofEpochSecond(parser.getLongValue());
+            case VALUE_NUMBER_FLOAT -> fromDecimalSeconds(parser.getDecimalValue());
+            default -> throw new IllegalArgumentException("targetDate must be a timestamp");
+        };
+    }
+
+    private static long toLong(String name, Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Number) {
+            return exactLong(name, new BigDecimal(value.toString()));
+        }
+        if (value instanceof String) {
+            return parseLong(name, (String) value);
+        }
+        throw new IllegalArgumentException(name + " must be a whole number");
+    }
+
+    private static Instant toInstant(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof String) {
+            return parseInstant((String) value);
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            return Instant.ofEpochSecond(((Number) value).longValue());
+        }
+        if (value instanceof Number) {
+            return fromDecimalSeconds(new BigDecimal(value.toString()));
+        }
+        throw new IllegalArgumentException("targetDate must be a timestamp");
+    }
+
+    private static long parseLong(String name, String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a whole number", e);
+        }
+    }
+
+    private static long exactLong(String name, BigDecimal value) {
+        try {
+            return value.longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(name + " must be a whole number", e);
+        }
+    }
+
+    private static Instant parseInstant(String value) {
+        try {
+            return Instant.parse(value.trim());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("targetDate must be an ISO-8601 timestamp", e);
+        }
+    }
+
+    private static Instant fromDecimalSeconds(BigDecimal seconds) {
+        long wholeSeconds = seconds.longValue();
+        int nanos = seconds.subtract(BigDecimal.valueOf(wholeSeconds)).movePointRight(9).intValue();
+        return Instant.ofEpochSecond(wholeSeconds, nanos);
+    }
+
+    private static int fieldIndex(String name) {
+        return switch (name) {
+            case "userId" -> USER_ID;
+            case "characterName" -> CHARACTER_NAME;
+            case "targetAttribute" -> TARGET_ATTRIBUTE;
+            case "targetType" -> TARGET_TYPE;
+            case "targetValue" -> TARGET_VALUE;
+            case "currentValue" -> CURRENT_VALUE;
+            case "targetDate" -> TARGET_DATE;
+            case "notificationChannelType" -> NOTIFICATION_CHANNEL_TYPE;
+            case "frequency" -> FREQUENCY;
+            default -> -1;
+        };
+    }
+
+    /**
+     * The fields of one request as they are read.
+     */
+    private static final class Fields {
+        private final Goal.GoalBuilder builder = Goal.builder();
+        private long currentValue;
+        private int seen;
+
+        private void setString(int field, String value) {
+            switch (field) {
+                case USER_ID -> builder.userId(value);
+                case CHARACTER_NAME -> builder.characterName(value);
+                case TARGET_ATTRIBUTE -> builder.targetAttribute(value);
+                case TARGET_TYPE -> builder.targetType(value);
+                case NOTIFICATION_CHANNEL_TYPE -> builder.notificationChannelType(value);
+                case FREQUENCY -> builder.frequency(value);
+                default -> throw new IllegalStateException("Not a string field: " + REQUIRED_FIELDS[field]);
+            }
+        }
+
+        private GoalCreation build() {
+            if (seen != ALL_FIELDS) {
+                List<String> missingFields = new ArrayList<>();
+                for (int field = 0; field < REQUIRED_FIELDS.length; field++) {
+                    if ((seen & (1 << field)) == 0) {
+                        missingFields.add(REQUIRED_FIELDS[field]);
+                    }
+                }
+                throw new IllegalArgumentException(
+                        "Event detail is missing required fields: " + String.join(", ", missingFields));
+            }
+            return GoalCreation.builder()
+                    .goal(builder.build())
+                    .currentProgress(currentValue)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.osrsGoalTracker.goal.handler;
+
+import static com.osrsGoalTracker.utils.Constants.HTTP_BAD_REQUEST;
+import static com.osrsGoalTracker.utils.Constants.HTTP_INTERNAL_SERVER_ERROR;
+import static com.osrsGoalTracker.utils.Constants.HTTP_OK;
+
+import java.util.Locale;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.goal.di.GoalModule;
+import com.osrsGoalTracker.goal.model.GoalListFilter;
+import com.osrsGoalTracker.goal.model.GoalPage;
+import com.osrsGoalTracker.goal.model.GoalStatus;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.goal.model.MetricNameResolver;
+import com.osrsGoalTracker.goal.service.GoalService;
+import com.osrsGoalTracker.utils.JsonUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AWS Lambda handler for listing a user's goals one page at a time, optionally
+ * filtered by character, metric and status.
+ */
+@Slf4j
+public class ListGoalsHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+    private static final int DEFAULT_LIMIT = 25;
+
+    private final GoalService goalService;
+
+    /**
+     * Constructs a new ListGoalsHandler.
+     * Initializes the dependency injection container and retrieves required
+     * services.
+     */
+    public ListGoalsHandler() {
+        Injector injector = Guice.createInjector(new GoalModule());
+        this.goalService = injector.getInstance(GoalService.class);
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services in tests.
+     *
+     * @param goalService The service for listing goals
+     */
+    ListGoalsHandler(GoalService goalService) {
+        this.goalService = goalService;
+    }
+
+    /**
+     * Handles the Lambda request to list a page of goals.
+     *
+     * @param input   The API Gateway request event
+     * @param context The Lambda execution context
+     * @return API Gateway response containing the page of goals
+     */
+    @Override
+    public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input, Context context) {
+        log.info("Received request to list goals");
+        try {
+            ListGoalsRequest request = parseAndValidateInput(input);
+            GoalPage page = executeRequest(request);
+            return createSuccessResponse(page);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(HTTP_BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error listing goals", e);
+            return createErrorResponse(HTTP_INTERNAL_SERVER_ERROR, "Error listing goals");
+        }
+    }
+
+    private ListGoalsRequest parseAndValidateInput(APIGatewayProxyRequestEvent input) {
+        if (input == null) {
+            throw new IllegalArgumentException("Request cannot be null");
+        }
+
+        Map<String, String> pathParameters = input.getPathParameters();
+        if (pathParameters == null) {
+            throw new IllegalArgumentException("Path parameters cannot be null");
+        }
+        String userId = pathParameters.get("userId");
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+
+        Map<String, String> queryParameters = input.getQueryStringParameters();
+        if (queryParameters == null) {
+            return new ListGoalsRequest(userId, GoalListFilter.builder().build(), null, DEFAULT_LIMIT);
+        }
+        int limit = DEFAULT_LIMIT;
+        String limitParameter = queryParameters.get("limit");
+        if (limitParameter != null) {
+            try {
+                limit = Integer.parseInt(limitParameter.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Limit must be a whole number");
+            }
+        }
+        GoalListFilter filter = GoalListFilter.builder()
+                .characterName(queryParameters.get("characterName"))
+                .metric(parseMetric(queryParameters.get("metric")))
+                .status(parseStatus(queryParameters.get("status")))
+                .build();
+        return new ListGoalsRequest(userId, filter, queryParameters.get("cursor"), limit);
+    }
+
+    private static MetricName parseMetric(String metricName) {
+        if (metricName == null) {
+            return null;
+        }
+        MetricName metric = MetricNameResolver.lookup(metricName);
+        if (metric == null) {
+            throw new IllegalArgumentException("Unknown metric: " + metricName);
+        }
+        return metric;
+    }
+
+    private static GoalStatus parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return GoalStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Status must be ACTIVE or COMPLETED");
+        }
+    }
+
+    private GoalPage executeRequest(ListGoalsRequest request) {
+        log.info("Listing goals for user: {}", request.userId);
+        return goalService.listGoals(request.userId, request.filter, request.cursor, request.limit);
+    }
+
+    private APIGatewayProxyResponseEvent createSuccessResponse(GoalPage page) {
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(HTTP_OK)
+                .withBody(JsonUtils.toJson(page));
+    }
+
+    private APIGatewayProxyResponseEvent createErrorResponse(int statusCode, String message) {
+        log.error(message);
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(statusCode)
+                .withBody(String.format("{\"message\":\"%s\"}", message));
+    }
+
+    /**
+     * Validated goal listing request parameters.
+     */
+    private static final class ListGoalsRequest {
+        private final String userId;
+        private final GoalListFilter filter;
+        private final String cursor;
+        private final int limit;
+
+        private ListGoalsRequest(String userId, GoalListFilter filter, String cursor, int limit) {
+            this.userId = userId;
+            this.filter = filter;
+            this.cursor = cursor;
+            this.limit = limit;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.osrsGoalTracker.goal.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.goal.di.GoalModule;
+import com.osrsGoalTracker.goal.model.GoalPollingResult;
+import com.osrsGoalTracker.goal.service.GoalPollingService;
+import com.osrsGoalTracker.hiscore.di.HiscoresModule;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AWS Lambda handler for the scheduled progress polling job.
+ * Refreshes the progress of active goals until the invocation runs low on
+ * time; the next scheduled invocation resumes where this one stopped.
+ */
+@Slf4j
+public class PollGoalProgressHandler implements RequestHandler<ScheduledEvent, GoalPollingResult> {
+    private final GoalPollingService goalPollingService;
+
+    /**
+     * Default constructor that initializes dependencies using Guice.
+     */
+    public PollGoalProgressHandler() {
+        Injector injector = Guice.createInjector(new GoalModule(), new HiscoresModule());
+        this.goalPollingService = injector.getInstance(GoalPollingService.class);
+    }
+
+    /**
+     * Test constructor that accepts a GoalPollingService instance.
+     *
+     * @param goalPollingService The service to poll progress with.
+     */
+    public PollGoalProgressHandler(GoalPollingService goalPollingService) {
+        this.goalPollingService = goalPollingService;
+    }
+
+    /**
+     * Handles the scheduled event by polling goal progress within the
+     * invocation's remaining time.
+     *
+     * @param event   The scheduled event that triggered the run.
+     * @param context The AWS Lambda context.
+     * @return A summary of the polling run
+     * @throws IllegalArgumentException if the context is null
+     */
+    @Override
+    public GoalPollingResult handleRequest(ScheduledEvent event, Context context) {
+        if (context == null) {
+            throw new IllegalArgumentException("Context cannot be null");
+        }
+
+        GoalPollingResult result = goalPollingService.pollProgress(context::getRemainingTimeInMillis);
+        log.info("Goal progress polling result: {}", result);
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package com.osrsGoalTracker.goal.model;
+
+/**
+ * Converts between skill levels and experience.
+ *
+ * <p>
+ * The experience needed for every level up to the last virtual level is
+ * computed once at class initialization with the game's formula, so
+ * {@link #xpForLevel(int)} is a single array read. {@link #levelForXp(long)}
+ * is a binary search with a fixed number of steps over a table padded to a
+ * power of two; each step picks the upper or lower half with a conditional
+ * move rather than a branch, so its cost does not depend on the input.
+ */
+public final class ExperienceTable {
+    /**
+     * The highest level the hiscores report for a skill.
+     */
+    public static final int MAX_LEVEL = 99;
+
+    /**
+     * The highest virtual level, reached at the experience cap.
+     */
+    public static final int MAX_VIRTUAL_LEVEL = 126;
+
+    /**
+     * The most experience a skill can hold.
+     */
+    public static final long MAX_XP = 200_000_000L;
+
+    private static final int TABLE_SIZE = Integer.highestOneBit(MAX_VIRTUAL_LEVEL) << 1;
+    private static final int FIRST_STEP = TABLE_SIZE >> 1;
+
+    /**
+     * Experience needed for each level, indexed by level. Index 0 and the
+     * padding after the last virtual level are never reached by a search.
+     */
+    private static final long[] XP = new long[TABLE_SIZE];
+
+    static {
+        XP[0] = Long.MIN_VALUE;
+        long points = 0;
+        for (int level = 1; level < MAX_VIRTUAL_LEVEL; level++) {
+            points += (long) Math.floor(level + 300.0 * Math.pow(2.0, level / 7.0));
+            XP[level + 1] = points / 4;
+        }
+        for (int level = MAX_VIRTUAL_LEVEL + 1; level < TABLE_SIZE; level++) {
+            XP[level] = Long.MAX_VALUE;
+        }
+    }
+
+    private ExperienceTable() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Returns the experience needed to reach a level.
+     *
+     * @param level The level, from 1 to {@link #MAX_VIRTUAL_LEVEL}
+     * @return The experience needed
+     * @throws IllegalArgumentException if the level is out of range
+     */
+    public static long xpForLevel(int level) {
+        if (level < 1 || level > MAX_VIRTUAL_LEVEL) {
+            throw new IllegalArgumentException(
+                    "Level must be between 1 and " + MAX_VIRTUAL_LEVEL + " but was: " + level);
+        }
+        return XP[level];
+    }
+
+    /**
+     * Returns the level reached with an amount of experience, counting
+     * virtual levels past {@link #MAX_LEVEL}. Negative experience, as reported
+     * for unranked skills, is level 1.
+     *
+     * @param xp The experience
+     * @return The level, from 1 to {@link #MAX_VIRTUAL_LEVEL}
+     */
+    public static int levelForXp(long xp) {
+        int level = 0;
+        for (int step = FIRST_STEP; step > 0; step >>= 1) {
+            int probe = level + step;
+            level = XP[probe] <= xp ? probe : level;
+        }
+        return Math.min(MAX_VIRTUAL_LEVEL, Math.max(1, level));
+    }
+}
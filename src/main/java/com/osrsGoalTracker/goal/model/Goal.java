@@ -2,6 +2,9 @@ package com.osrsGoalTracker.goal.model;
 
 import java.time.Instant;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
 import lombok.Builder;
 import lombok.Value;
 
@@ -10,6 +13,7 @@ import lombok.Value;
  */
 @Value
 @Builder
+@JsonDeserialize(builder = Goal.GoalBuilder.class)
 public class Goal {
     /**
      * The ID of the user who owns this goal.
@@ -55,4 +59,12 @@ public class Goal {
      * How often to check/notify about progress.
      */
     private final String frequency;
-}
\ No newline at end of file
+
+    /**
+     * Builder for Goal.
+     */
+    @JsonPOJOBuilder(withPrefix = "")
+    public static class GoalBuilder {
+        // Builder will be generated by Lombok
+    }
+}
@@ -0,0 +1,41 @@
+package com.osrsGoalTracker.goal.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Domain model representing a goal to create together with the character's
+ * progress towards it at creation time.
+ */
+@Value
+@Builder
+@JsonDeserialize(builder = GoalCreation.GoalCreationBuilder.class)
+public class GoalCreation {
+    /**
+     * The goal to create.
+     */
+    private final Goal goal;
+
+    /**
+     * The current progress towards the goal.
+     */
+    private final long currentProgress;
+
+    /**
+     * The key identifying the request the goal is created for, so a retried
+     * request does not create a second goal, or null if retries are not
+     * deduplicated.
+     */
+    private final String idempotencyKey;
+
+    /**
+     * Builder for GoalCreation.
+     */
+    @JsonPOJOBuilder(withPrefix = "")
+    public static class GoalCreationBuilder {
+        // Builder will be generated by Lombok
+    }
+}
@@ -0,0 +1,46 @@
+package com.osrsGoalTracker.goal.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Domain model representing the outcome of creating one goal in a batch.
+ */
+@Value
+@Builder
+public class GoalCreationResult {
+    /**
+     * Whether the goal was created.
+     */
+    private final boolean succeeded;
+
+    /**
+     * The created goal, or null if creation failed.
+     */
+    private final Goal goal;
+
+    /**
+     * Why creation failed, or null if it succeeded or no reason is known.
+     */
+    private final String error;
+
+    /**
+     * Creates a result for a goal that was created.
+     *
+     * @param goal The created goal
+     * @return The successful result
+     */
+    public static GoalCreationResult success(Goal goal) {
+        return GoalCreationResult.builder().succeeded(true).goal(goal).build();
+    }
+
+    /**
+     * Creates a result for a goal that could not be created.
+     *
+     * @param error Why creation failed
+     * @return The failed result
+     */
+    public static GoalCreationResult failure(String error) {
+        return GoalCreationResult.builder().succeeded(false).error(error).build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Domain model representing when a goal is projected to be reached, based on
+ * the character's recent rate of progress.
+ */
+@Value
+@Builder
+public class GoalForecast {
+    /**
+     * Exponentially weighted moving average of the goal's progress per day, in
+     * the units the goal is measured in: experience for level goals, otherwise
+     * the units of its current value.
+     */
+    private final double gainRatePerDay;
+
+    /**
+     * The measured value the gain rate was last sampled at, in the same units
+     * as the rate, or null for a forecast recorded before it was kept.
+     */
+    private final Long sampledValue;
+
+    /**
+     * When the goal is projected to be reached at the current gain rate, or
+     * null if the character is not progressing towards it.
+     */
+    private final Instant projectedCompletion;
+
+    /**
+     * Whether the goal is projected to miss its target date.
+     */
+    private final boolean atRisk;
+}
@@ -0,0 +1,27 @@
+package com.osrsGoalTracker.goal.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Domain model representing the conditions a listed goal must meet. Conditions
+ * left null match every goal.
+ */
+@Value
+@Builder
+public class GoalListFilter {
+    /**
+     * Only list goals for this character. Compared by normalized name.
+     */
+    private final String characterName;
+
+    /**
+     * Only list goals that target this metric.
+     */
+    private final MetricName metric;
+
+    /**
+     * Only list goals with this status.
+     */
+    private final GoalStatus status;
+}
@@ -0,0 +1,25 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Domain model representing one page of a user's goals.
+ */
+@Value
+@Builder
+public class GoalPage {
+    /**
+     * The goals on this page, ordered by goal ID.
+     */
+    private final List<GoalSummary> goals;
+
+    /**
+     * Opaque token to pass back to list the next page, or null if there are no
+     * more goals. A page can hold fewer goals than requested, or none, and
+     * still have a next page.
+     */
+    private final String nextCursor;
+}
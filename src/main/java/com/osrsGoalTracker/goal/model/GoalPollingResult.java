@@ -0,0 +1,39 @@
+package com.osrsGoalTracker.goal.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Domain model summarizing one progress polling run.
+ */
+@Value
+@Builder
+public class GoalPollingResult {
+    /**
+     * Number of characters whose hiscores were fetched and goals evaluated.
+     */
+    private final int charactersPolled;
+
+    /**
+     * Number of characters whose hiscores could not be fetched. Their goals
+     * keep their previous progress.
+     */
+    private final int charactersFailed;
+
+    /**
+     * Number of goals whose progress was written.
+     */
+    private final int goalsUpdated;
+
+    /**
+     * Whether every active goal was polled. False when the run stopped early to
+     * stay within its time limit.
+     */
+    private final boolean complete;
+
+    /**
+     * The normalized name of the last character polled, from which the next run
+     * resumes, or null when the run was complete.
+     */
+    private final String cursor;
+}
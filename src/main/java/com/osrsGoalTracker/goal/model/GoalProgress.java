@@ -0,0 +1,46 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Domain model representing the latest measured progress of a goal.
+ */
+@Value
+@Builder
+public class GoalProgress {
+    /**
+     * The goal the progress belongs to.
+     */
+    private final Goal goal;
+
+    /**
+     * The character's current value for the goal's target: a level for level
+     * goals, otherwise experience or score.
+     */
+    private final long currentValue;
+
+    /**
+     * How much of the target has been reached, from 0 to 100.
+     */
+    private final double percentComplete;
+
+    /**
+     * Whether the target has been reached. Completed goals are no longer
+     * polled.
+     */
+    private final boolean completed;
+
+    /**
+     * When the progress was measured.
+     */
+    private final Instant updatedAt;
+
+    /**
+     * The goal's completion forecast, or null until the goal has been measured
+     * twice.
+     */
+    private final GoalForecast forecast;
+}
@@ -0,0 +1,9 @@
+package com.osrsGoalTracker.goal.model;
+
+/**
+ * Enum representing whether a goal has been reached.
+ */
+public enum GoalStatus {
+    ACTIVE,
+    COMPLETED
+}
@@ -0,0 +1,73 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Domain model representing the fields of a goal shown in a list of goals.
+ */
+@Value
+@Builder
+public class GoalSummary {
+    /**
+     * The ID of the goal.
+     */
+    private final String goalId;
+
+    /**
+     * The character the goal tracks.
+     */
+    private final String characterName;
+
+    /**
+     * The skill or activity the goal targets.
+     */
+    private final String targetAttribute;
+
+    /**
+     * What is measured for the target, for example "level" or "xp".
+     */
+    private final String targetType;
+
+    /**
+     * The value the goal is reached at.
+     */
+    private final long targetValue;
+
+    /**
+     * When the goal should be reached by.
+     */
+    private final Instant targetDate;
+
+    /**
+     * The character's latest value for the goal's target.
+     */
+    private final long currentValue;
+
+    /**
+     * How much of the target has been reached, from 0 to 100.
+     */
+    private final double percentComplete;
+
+    /**
+     * Whether the target has been reached.
+     */
+    private final boolean completed;
+
+    /**
+     * When the goal is projected to be reached, or null if it is not forecast.
+     */
+    private final Instant projectedCompletion;
+
+    /**
+     * Whether the goal is projected to miss its target date.
+     */
+    private final boolean atRisk;
+
+    /**
+     * When the progress was last measured.
+     */
+    private final Instant updatedAt;
+}
@@ -2,96 +2,151 @@ package com.osrsGoalTracker.goal.model;
 
 /**
  * Enum representing the skills and activities that can be tracked.
+ * Skills are declared first, in the same order the hiscores report them.
  */
 public enum MetricName {
     // Skills
-    ATTACK,
-    DEFENCE,
-    STRENGTH,
-    HITPOINTS,
-    RANGED,
-    PRAYER,
-    MAGIC,
-    COOKING,
-    WOODCUTTING,
-    FLETCHING,
-    FISHING,
-    FIREMAKING,
-    CRAFTING,
-    SMITHING,
-    MINING,
-    HERBLORE,
-    AGILITY,
-    THIEVING,
-    SLAYER,
-    FARMING,
-    RUNECRAFTING,
-    HUNTER,
-    CONSTRUCTION,
+    ATTACK(GoalType.SKILL, "Attack"),
+    DEFENCE(GoalType.SKILL, "Defence"),
+    STRENGTH(GoalType.SKILL, "Strength"),
+    HITPOINTS(GoalType.SKILL, "Hitpoints"),
+    RANGED(GoalType.SKILL, "Ranged"),
+    PRAYER(GoalType.SKILL, "Prayer"),
+    MAGIC(GoalType.SKILL, "Magic"),
+    COOKING(GoalType.SKILL, "Cooking"),
+    WOODCUTTING(GoalType.SKILL, "Woodcutting"),
+    FLETCHING(GoalType.SKILL, "Fletching"),
+    FISHING(GoalType.SKILL, "Fishing"),
+    FIREMAKING(GoalType.SKILL, "Firemaking"),
+    CRAFTING(GoalType.SKILL, "Crafting"),
+    SMITHING(GoalType.SKILL, "Smithing"),
+    MINING(GoalType.SKILL, "Mining"),
+    HERBLORE(GoalType.SKILL, "Herblore"),
+    AGILITY(GoalType.SKILL, "Agility"),
+    THIEVING(GoalType.SKILL, "Thieving"),
+    SLAYER(GoalType.SKILL, "Slayer"),
+    FARMING(GoalType.SKILL, "Farming"),
+    RUNECRAFTING(GoalType.SKILL, "Runecraft"),
+    HUNTER(GoalType.SKILL, "Hunter"),
+    CONSTRUCTION(GoalType.SKILL, "Construction"),
 
     // Activities
-    LEAGUE_POINTS,
-    BOUNTY_HUNTER_HUNTER,
-    BOUNTY_HUNTER_ROGUE,
-    CLUE_SCROLLS_ALL,
-    CLUE_SCROLLS_BEGINNER,
-    CLUE_SCROLLS_EASY,
-    CLUE_SCROLLS_MEDIUM,
-    CLUE_SCROLLS_HARD,
-    CLUE_SCROLLS_ELITE,
-    CLUE_SCROLLS_MASTER,
-    LMS_RANK,
-    SOUL_WARS_ZEAL,
-    RIFTS_CLOSED,
-    ABYSSAL_SIRE,
-    ALCHEMICAL_HYDRA,
-    BARROWS_CHESTS,
-    BRYOPHYTA,
-    CALLISTO,
-    CERBERUS,
-    CHAMBERS_OF_XERIC,
-    CHAMBERS_OF_XERIC_CHALLENGE_MODE,
-    CHAOS_ELEMENTAL,
-    CHAOS_FANATIC,
-    COMMANDER_ZILYANA,
-    CORPOREAL_BEAST,
-    CRAZY_ARCHAEOLOGIST,
-    DAGANNOTH_PRIME,
-    DAGANNOTH_REX,
-    DAGANNOTH_SUPREME,
-    DERANGED_ARCHAEOLOGIST,
-    GENERAL_GRAARDOR,
-    GIANT_MOLE,
-    GROTESQUE_GUARDIANS,
-    HESPORI,
-    KALPHITE_QUEEN,
-    KING_BLACK_DRAGON,
-    KRAKEN,
-    KREEARRA,
-    KRIL_TSUTSAROTH,
-    MIMIC,
-    NEX,
-    NIGHTMARE,
-    PHOSANIS_NIGHTMARE,
-    OBOR,
-    PHANTOM_MUSPAH,
-    SARACHNIS,
-    SCORPIA,
-    SKOTIZO,
-    TEMPOROSS,
-    THE_GAUNTLET,
-    THE_CORRUPTED_GAUNTLET,
-    THEATRE_OF_BLOOD,
-    THEATRE_OF_BLOOD_HARD_MODE,
-    THERMONUCLEAR_SMOKE_DEVIL,
-    TOMBS_OF_AMASCUT,
-    TOMBS_OF_AMASCUT_EXPERT,
-    TZKAL_ZUK,
-    TZTOK_JAD,
-    VENENATIS,
-    VETION,
-    VORKATH,
-    WINTERTODT,
-    ZALCANO,
-    ZULRAH
-}
\ No newline at end of file
+    LEAGUE_POINTS(GoalType.ACTIVITY, "League Points"),
+    BOUNTY_HUNTER_HUNTER(GoalType.ACTIVITY, "Bounty Hunter - Hunter"),
+    BOUNTY_HUNTER_ROGUE(GoalType.ACTIVITY, "Bounty Hunter - Rogue"),
+    CLUE_SCROLLS_ALL(GoalType.ACTIVITY, "Clue Scrolls (all)"),
+    CLUE_SCROLLS_BEGINNER(GoalType.ACTIVITY, "Clue Scrolls (beginner)"),
+    CLUE_SCROLLS_EASY(GoalType.ACTIVITY, "Clue Scrolls (easy)"),
+    CLUE_SCROLLS_MEDIUM(GoalType.ACTIVITY, "Clue Scrolls (medium)"),
+    CLUE_SCROLLS_HARD(GoalType.ACTIVITY, "Clue Scrolls (hard)"),
+    CLUE_SCROLLS_ELITE(GoalType.ACTIVITY, "Clue Scrolls (elite)"),
+    CLUE_SCROLLS_MASTER(GoalType.ACTIVITY, "Clue Scrolls (master)"),
+    LMS_RANK(GoalType.ACTIVITY, "LMS - Rank"),
+    SOUL_WARS_ZEAL(GoalType.ACTIVITY, "Soul Wars Zeal"),
+    RIFTS_CLOSED(GoalType.ACTIVITY, "Rifts closed"),
+    ABYSSAL_SIRE(GoalType.ACTIVITY, "Abyssal Sire"),
+    ALCHEMICAL_HYDRA(GoalType.ACTIVITY, "Alchemical Hydra"),
+    BARROWS_CHESTS(GoalType.ACTIVITY, "Barrows Chests"),
+    BRYOPHYTA(GoalType.ACTIVITY, "Bryophyta"),
+    CALLISTO(GoalType.ACTIVITY, "Callisto"),
+    CERBERUS(GoalType.ACTIVITY, "Cerberus"),
+    CHAMBERS_OF_XERIC(GoalType.ACTIVITY, "Chambers of Xeric"),
+    CHAMBERS_OF_XERIC_CHALLENGE_MODE(GoalType.ACTIVITY, "Chambers of Xeric: Challenge Mode"),
+    CHAOS_ELEMENTAL(GoalType.ACTIVITY, "Chaos Elemental"),
+    CHAOS_FANATIC(GoalType.ACTIVITY, "Chaos Fanatic"),
+    COMMANDER_ZILYANA(GoalType.ACTIVITY, "Commander Zilyana"),
+    CORPOREAL_BEAST(GoalType.ACTIVITY, "Corporeal Beast"),
+    CRAZY_ARCHAEOLOGIST(GoalType.ACTIVITY, "Crazy Archaeologist"),
+    DAGANNOTH_PRIME(GoalType.ACTIVITY, "Dagannoth Prime"),
+    DAGANNOTH_REX(GoalType.ACTIVITY, "Dagannoth Rex"),
+    DAGANNOTH_SUPREME(GoalType.ACTIVITY, "Dagannoth Supreme"),
+    DERANGED_ARCHAEOLOGIST(GoalType.ACTIVITY, "Deranged Archaeologist"),
+    GENERAL_GRAARDOR(GoalType.ACTIVITY, "General Graardor"),
+    GIANT_MOLE(GoalType.ACTIVITY, "Giant Mole"),
+    GROTESQUE_GUARDIANS(GoalType.ACTIVITY, "Grotesque Guardians"),
+    HESPORI(GoalType.ACTIVITY, "Hespori"),
+    KALPHITE_QUEEN(GoalType.ACTIVITY, "Kalphite Queen"),
+    KING_BLACK_DRAGON(GoalType.ACTIVITY, "King Black Dragon"),
+    KRAKEN(GoalType.ACTIVITY, "Kraken"),
+    KREEARRA(GoalType.ACTIVITY, "Kree'Arra"),
+    KRIL_TSUTSAROTH(GoalType.ACTIVITY, "K'ril Tsutsaroth"),
+    MIMIC(GoalType.ACTIVITY, "Mimic"),
+    NEX(GoalType.ACTIVITY, "Nex"),
+    NIGHTMARE(GoalType.ACTIVITY, "Nightmare"),
+    PHOSANIS_NIGHTMARE(GoalType.ACTIVITY, "Phosani's Nightmare"),
+    OBOR(GoalType.ACTIVITY, "Obor"),
+    PHANTOM_MUSPAH(GoalType.ACTIVITY, "Phantom Muspah"),
+    SARACHNIS(GoalType.ACTIVITY, "Sarachnis"),
+    SCORPIA(GoalType.ACTIVITY, "Scorpia"),
+    SKOTIZO(GoalType.ACTIVITY, "Skotizo"),
+    TEMPOROSS(GoalType.ACTIVITY, "Tempoross"),
+    THE_GAUNTLET(GoalType.ACTIVITY, "The Gauntlet"),
+    THE_CORRUPTED_GAUNTLET(GoalType.ACTIVITY, "The Corrupted Gauntlet"),
+    THEATRE_OF_BLOOD(GoalType.ACTIVITY, "Theatre of Blood"),
+    THEATRE_OF_BLOOD_HARD_MODE(GoalType.ACTIVITY, "Theatre of Blood: Hard Mode"),
+    THERMONUCLEAR_SMOKE_DEVIL(GoalType.ACTIVITY, "Thermonuclear Smoke Devil"),
+    TOMBS_OF_AMASCUT(GoalType.ACTIVITY, "Tombs of Amascut"),
+    TOMBS_OF_AMASCUT_EXPERT(GoalType.ACTIVITY, "Tombs of Amascut: Expert Mode"),
+    TZKAL_ZUK(GoalType.ACTIVITY, "TzKal-Zuk"),
+    TZTOK_JAD(GoalType.ACTIVITY, "TzTok-Jad"),
+    VENENATIS(GoalType.ACTIVITY, "Venenatis"),
+    VETION(GoalType.ACTIVITY, "Vet'ion"),
+    VORKATH(GoalType.ACTIVITY, "Vorkath"),
+    WINTERTODT(GoalType.ACTIVITY, "Wintertodt"),
+    ZALCANO(GoalType.ACTIVITY, "Zalcano"),
+    ZULRAH(GoalType.ACTIVITY, "Zulrah");
+
+    /**
+     * Whether this metric is a skill or an activity.
+     */
+    private final GoalType type;
+
+    /**
+     * The name the hiscores use for this metric (e.g., "Clue Scrolls (all)").
+     */
+    private final String displayName;
+
+    MetricName(GoalType type, String displayName) {
+        this.type = type;
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns whether this metric is a skill or an activity.
+     *
+     * @return The metric type
+     */
+    public GoalType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the name the hiscores use for this metric.
+     *
+     * @return The hiscores display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns whether this metric is a skill.
+     *
+     * @return True for skills, false for activities
+     */
+    public boolean isSkill() {
+        return type == GoalType.SKILL;
+    }
+
+    /**
+     * Resolves a hiscores display name (e.g., "Clue Scrolls (all)") or enum
+     * name (e.g., "CLUE_SCROLLS_ALL") to a metric, ignoring case and
+     * punctuation. See {@link MetricNameResolver}.
+     *
+     * @param name The name to resolve
+     * @return The matching metric, or null if the name is not tracked
+     */
+    public static MetricName fromDisplayName(String name) {
+        return MetricNameResolver.resolve(name);
+    }
+}
@@ -0,0 +1,204 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves hiscores display names and enum names to {@link MetricName}s.
+ *
+ * <p>
+ * Names are compared on their letters and digits only, ignoring case, so
+ * "Clue Scrolls (all)", "clue scrolls all" and "CLUE_SCROLLS_ALL" all resolve
+ * to the same metric. The lookup table is an open-addressing hash table built
+ * once at class initialization; resolving a name hashes and compares it in
+ * place and does not allocate.
+ *
+ * <p>
+ * Names the hiscores report that are not tracked metrics (for example a newly
+ * released boss) resolve to null and are counted, so they show up in
+ * {@link #unknownNameCounts()} and the logs instead of failing the lookup.
+ */
+@Slf4j
+public final class MetricNameResolver {
+    /**
+     * Hiscores names that are known not to be metrics and are not counted as
+     * unknown.
+     */
+    private static final String[] IGNORED_NAMES = {"Overall"};
+
+    private static final int MAX_TRACKED_UNKNOWN_NAMES = 256;
+    private static final int FNV_OFFSET = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
+    private static final int LOAD_FACTOR_INVERSE = 4;
+
+    private static final char[][] KEYS;
+    private static final MetricName[] METRICS;
+    private static final int MASK;
+
+    private static final Map<String, LongAdder> UNKNOWN_NAMES = new ConcurrentHashMap<>();
+
+    static {
+        MetricName[] values = MetricName.values();
+        int entries = values.length * 2 + IGNORED_NAMES.length;
+        int capacity = Integer.highestOneBit(entries * LOAD_FACTOR_INVERSE - 1) << 1;
+        KEYS = new char[capacity][];
+        METRICS = new MetricName[capacity];
+        MASK = capacity - 1;
+
+        for (MetricName metric : values) {
+            insert(metric.getDisplayName(), metric);
+            insert(metric.name(), metric);
+        }
+        for (String ignored : IGNORED_NAMES) {
+            insert(ignored, null);
+        }
+    }
+
+    private MetricNameResolver() {
+    }
+
+    /**
+     * Resolves a hiscores display name or enum name to a metric.
+     *
+     * @param name The name to resolve
+     * @return The matching metric, or null if the name is null, ignored or not
+     *         a tracked metric
+     */
+    public static MetricName resolve(CharSequence name) {
+        if (name == null) {
+            return null;
+        }
+        int slot = find(name);
+        if (KEYS[slot] == null) {
+            recordUnknown(name);
+        }
+        return METRICS[slot];
+    }
+
+    /**
+     * Resolves a name like {@link #resolve(CharSequence)} without counting it
+     * when it is unknown. Intended for names that are expected not to be
+     * metrics, such as hiscores layouts listing every upstream row.
+     *
+     * @param name The name to resolve
+     * @return The matching metric, or null if the name is null or not a
+     *         tracked metric
+     */
+    public static MetricName lookup(CharSequence name) {
+        return name == null ? null : METRICS[find(name)];
+    }
+
+    /**
+     * Returns how many times each unrecognized name has been resolved since
+     * the process started, keyed by its normalized form. At most
+     * {@value #MAX_TRACKED_UNKNOWN_NAMES} distinct names are tracked.
+     *
+     * @return An immutable, sorted copy of the unknown name counts
+     */
+    public static Map<String, Long> unknownNameCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        UNKNOWN_NAMES.forEach((name, count) -> counts.put(name, count.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Clears the unknown name counts.
+     */
+    static void resetUnknownNameCounts() {
+        UNKNOWN_NAMES.clear();
+    }
+
+    private static void insert(String name, MetricName metric) {
+        int slot = find(name);
+        if (KEYS[slot] != null) {
+            if (METRICS[slot] != metric) {
+                throw new IllegalStateException("Metric name " + name + " is ambiguous between "
+                        + METRICS[slot] + " and " + metric);
+            }
+            return;
+        }
+        KEYS[slot] = normalize(name).toCharArray();
+        METRICS[slot] = metric;
+    }
+
+    /**
+     * Returns the slot holding a name, or the empty slot where it would be
+     * inserted.
+     */
+    private static int find(CharSequence name) {
+        int slot = hash(name) & MASK;
+        while (KEYS[slot] != null && !matches(KEYS[slot], name)) {
+            slot = (slot + 1) & MASK;
+        }
+        return slot;
+    }
+
+    private static void recordUnknown(CharSequence name) {
+        String key = normalize(name);
+        if (key.isEmpty()) {
+            return;
+        }
+        LongAdder count = UNKNOWN_NAMES.get(key);
+        if (count == null) {
+            if (UNKNOWN_NAMES.size() >= MAX_TRACKED_UNKNOWN_NAMES) {
+                return;
+            }
+            LongAdder added = new LongAdder();
+            count = UNKNOWN_NAMES.putIfAbsent(key, added);
+            if (count == null) {
+                log.warn("Hiscores reported untracked metric name: {}", name);
+                count = added;
+            }
+        }
+        count.increment();
+    }
+
+    /**
+     * FNV-1a over the lower-cased letters and digits of a name.
+     */
+    private static int hash(CharSequence name) {
+        int hash = FNV_OFFSET;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (isSignificant(c)) {
+                hash = (hash ^ Character.toLowerCase(c)) * FNV_PRIME;
+            }
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(char[] key, CharSequence name) {
+        int k = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!isSignificant(c)) {
+                continue;
+            }
+            if (k == key.length || key[k] != Character.toLowerCase(c)) {
+                return false;
+            }
+            k++;
+        }
+        return k == key.length;
+    }
+
+    private static String normalize(CharSequence name) {
+        StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (isSignificant(c)) {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        return key.toString();
+    }
+
+    private static boolean isSignificant(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+}
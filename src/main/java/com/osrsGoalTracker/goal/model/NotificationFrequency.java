@@ -0,0 +1,50 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Enum representing how often a goal's progress notification is sent.
+ */
+public enum NotificationFrequency {
+    DAILY(ChronoUnit.DAYS),
+    WEEKLY(ChronoUnit.WEEKS),
+    MONTHLY(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unit;
+
+    NotificationFrequency(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Returns the time one period after the given time. Months are calendar
+     * months in UTC, so a notification due on the 31st is next due on the last
+     * day of a shorter month.
+     *
+     * @param time The time to advance from
+     * @return The time one period later
+     */
+    public Instant next(Instant time) {
+        return time.atOffset(ZoneOffset.UTC).plus(1, unit).toInstant();
+    }
+
+    /**
+     * Resolves a goal's frequency, ignoring case and surrounding whitespace.
+     *
+     * @param name The frequency name (e.g., "DAILY")
+     * @return The matching frequency, or null if the name is null or unknown
+     */
+    public static NotificationFrequency fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (NotificationFrequency frequency : values()) {
+            if (frequency.name().equalsIgnoreCase(name.trim())) {
+                return frequency;
+            }
+        }
+        return null;
+    }
+}
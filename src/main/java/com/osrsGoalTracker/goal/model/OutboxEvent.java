@@ -0,0 +1,26 @@
+package com.osrsGoalTracker.goal.model;
+
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Domain model representing a goal progress event kept in the outbox until it
+ * is published.
+ */
+@Value
+@Builder
+public class OutboxEvent {
+    /**
+     * The key the event is stored under, as read from the outbox. A published
+     * event is deleted by this key, so deleting it does not depend on how the
+     * event serializes now.
+     */
+    private final String key;
+
+    /**
+     * The event to publish.
+     */
+    private final GoalProgressEvent event;
+}
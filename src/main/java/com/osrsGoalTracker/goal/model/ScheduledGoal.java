@@ -0,0 +1,43 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Domain model representing the next progress notification due for a goal.
+ */
+@Value
+@Builder
+public class ScheduledGoal {
+    /**
+     * The ID of the user who owns the goal.
+     */
+    private final String userId;
+
+    /**
+     * The ID of the goal.
+     */
+    private final String goalId;
+
+    /**
+     * The name of the character the goal is for.
+     */
+    private final String characterName;
+
+    /**
+     * How often the notification repeats.
+     */
+    private final NotificationFrequency frequency;
+
+    /**
+     * When the notification is due.
+     */
+    private final Instant dueAt;
+
+    /**
+     * Start of the due-time bucket the notification is filed under.
+     */
+    private final Instant dueBucket;
+}
@@ -0,0 +1,36 @@
+package com.osrsGoalTracker.goal.repository;
+
+import java.util.List;
+
+import com.osrsGoalTracker.goal.model.OutboxEvent;
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+
+/**
+ * Repository interface for goal progress events that could not be published,
+ * kept so a later polling run can publish them again.
+ */
+public interface GoalEventOutboxRepository {
+    /**
+     * Keeps events to publish later. Saving an event that is already kept has
+     * no effect.
+     *
+     * @param events The events that could not be published
+     */
+    void saveUnpublishedEvents(List<? extends GoalProgressEvent> events);
+
+    /**
+     * Returns every kept event with the key it is stored under.
+     *
+     * @return The events waiting to be published, in no particular order
+     */
+    List<OutboxEvent> getUnpublishedEvents();
+
+    /**
+     * Removes events once they have been published, by the keys they were
+     * read with.
+     *
+     * @param events The published events, as read from
+     *               {@link #getUnpublishedEvents()}
+     */
+    void deleteUnpublishedEvents(List<OutboxEvent> events);
+}
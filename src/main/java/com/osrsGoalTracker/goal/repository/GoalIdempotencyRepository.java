@@ -0,0 +1,59 @@
+package com.osrsGoalTracker.goal.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import com.osrsGoalTracker.goal.model.Goal;
+
+/**
+ * Repository interface for the idempotency records that stop a retried goal
+ * creation request from creating a second goal.
+ */
+public interface GoalIdempotencyRepository {
+    /**
+     * Age after which a claim whose creation never completed can be taken
+     * over. Matches the longest a Lambda invocation can run, so a live claim
+     * is never taken over.
+     */
+    Duration STALE_CLAIM_AGE = Duration.ofMinutes(15);
+
+    /**
+     * Claims a request for creation. Only one caller can hold the claim of a
+     * request; a claim whose creation never completed can be taken over once
+     * it is stale.
+     *
+     * @param idempotencyKey The key identifying the request
+     * @param now            The current time
+     * @return True if the caller now holds the claim and should create the
+     *         goal, false if the request was already claimed or completed
+     */
+    boolean claim(String idempotencyKey, Instant now);
+
+    /**
+     * Returns the goal a completed request created.
+     *
+     * @param idempotencyKey The key identifying the request
+     * @return The created goal, or empty if the request is unknown or still
+     *         in progress
+     */
+    Optional<Goal> getCreatedGoal(String idempotencyKey);
+
+    /**
+     * Records the goal a claimed request created, so retries of the request
+     * return it.
+     *
+     * @param idempotencyKey The key identifying the request
+     * @param goal           The created goal
+     * @param now            The current time
+     */
+    void complete(String idempotencyKey, Goal goal, Instant now);
+
+    /**
+     * Gives up the claim of a request whose creation failed, so a retry can
+     * create the goal.
+     *
+     * @param idempotencyKey The key identifying the request
+     */
+    void release(String idempotencyKey);
+}
@@ -0,0 +1,102 @@
+package com.osrsGoalTracker.goal.repository;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.osrsGoalTracker.goal.model.GoalListFilter;
+import com.osrsGoalTracker.goal.model.GoalPage;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+
+/**
+ * Repository interface for goal progress and the state of progress polling.
+ */
+public interface GoalProgressRepository {
+    /**
+     * Saves the progress of several goals, replacing any previous progress for
+     * the same goals. Writes are batched.
+     *
+     * @param progress The progress to save
+     */
+    void saveProgress(List<GoalProgress> progress);
+
+    /**
+     * Saves the initial progress of newly created goals. A goal that is
+     * already tracked keeps its progress, so creating the same goal again
+     * never rewinds progress recorded since it was created.
+     *
+     * @param progress The initial progress to save
+     * @return The IDs of the goals that were already tracked and were skipped
+     */
+    Set<String> createProgress(List<GoalProgress> progress);
+
+    /**
+     * Updates the progress and forecast of goals that are still tracked.
+     * Unlike {@link #saveProgress(List)}, a goal deleted since its progress
+     * was read is not tracked again.
+     *
+     * @param progress The progress to write
+     * @return The IDs of the goals that are no longer tracked and were skipped
+     */
+    Set<String> updateProgress(List<GoalProgress> progress);
+
+    /**
+     * Reads the latest progress of one goal.
+     *
+     * @param userId The ID of the user who owns the goal
+     * @param goalId The ID of the goal
+     * @return The goal's progress, or empty if the goal is not tracked
+     */
+    Optional<GoalProgress> getProgress(String userId, String goalId);
+
+    /**
+     * Stops tracking a goal's progress.
+     *
+     * @param userId The ID of the user who owns the goal
+     * @param goalId The ID of the goal
+     */
+    void deleteProgress(String userId, String goalId);
+
+    /**
+     * Reads the latest progress of the goals that are tracked and not yet
+     * complete, ordered by normalized character name. Progress is read as the
+     * iterator advances, so a caller that stops early reads only what it used.
+     *
+     * @param afterCharacter The normalized name of the character to start
+     *                       after, or null to start with the first character
+     * @return The progress of the active goals of the characters after
+     *         {@code afterCharacter}, with each character's goals together
+     */
+    Iterator<GoalProgress> getActiveProgress(String afterCharacter);
+
+    /**
+     * Lists one page of a user's goals in goal ID order, reading only the
+     * user's own goals and only the fields of a goal summary.
+     *
+     * @param userId The ID of the user
+     * @param filter The conditions listed goals must meet
+     * @param cursor The token returned with the previous page, or null for the
+     *               first page
+     * @param limit  The maximum number of goals to return
+     * @return The page of goals
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    GoalPage listGoals(String userId, GoalListFilter filter, String cursor, int limit);
+
+    /**
+     * Returns where the last unfinished polling run stopped.
+     *
+     * @return The normalized name of the last character polled, or empty if
+     *         the last run finished
+     */
+    Optional<String> getPollingCursor();
+
+    /**
+     * Records where a polling run stopped, or that it finished.
+     *
+     * @param cursor The normalized name of the last character polled, or null
+     *               to clear the cursor
+     */
+    void savePollingCursor(String cursor);
+}
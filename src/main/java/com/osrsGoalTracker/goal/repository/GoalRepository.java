@@ -1,6 +1,10 @@
 package com.osrsGoalTracker.goal.repository;
 
+import java.util.List;
+
 import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalCreation;
+import com.osrsGoalTracker.goal.model.GoalCreationResult;
 
 /**
  * Repository interface for managing goals.
@@ -14,4 +18,14 @@ public interface GoalRepository {
      * @return The created goal
      */
     Goal createGoal(Goal goal, long currentProgress);
-}
\ No newline at end of file
+
+    /**
+     * Creates several goals with their current progress. Goals are written in
+     * chunks, and a failed write is reported in its result without failing the
+     * other goals.
+     *
+     * @param creations The goals to create
+     * @return One result per goal, in the same order as the creations
+     */
+    List<GoalCreationResult> createGoals(List<GoalCreation> creations);
+}
@@ -0,0 +1,64 @@
+package com.osrsGoalTracker.goal.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import com.osrsGoalTracker.goal.model.ScheduledGoal;
+
+/**
+ * Repository interface for goal notification schedules, filed in due-time
+ * buckets.
+ */
+public interface GoalScheduleRepository {
+    /**
+     * Returns a goal's current schedule.
+     *
+     * @param goalId The ID of the goal
+     * @return The goal's schedule, or empty if the goal is not scheduled
+     */
+    Optional<ScheduledGoal> getSchedule(String goalId);
+
+    /**
+     * Files a goal's schedule under its due bucket, replacing the previous
+     * schedule of the same goal. The save only happens if the goal's current
+     * schedule is still {@code previous}, so a schedule that was deleted or
+     * moved since it was read is not overwritten.
+     *
+     * @param previous The schedule being replaced, or null if the goal must
+     *                 not be scheduled yet
+     * @param next     The new schedule
+     * @return True if the schedule was saved, false if the goal's current
+     *         schedule no longer matches {@code previous}
+     */
+    boolean saveSchedule(ScheduledGoal previous, ScheduledGoal next);
+
+    /**
+     * Removes a goal's schedule.
+     *
+     * @param scheduled The schedule to remove
+     */
+    void deleteSchedule(ScheduledGoal scheduled);
+
+    /**
+     * Returns every schedule filed under a due bucket.
+     *
+     * @param dueBucket The start of the bucket
+     * @return The schedules in the bucket, in no particular order
+     */
+    List<ScheduledGoal> getDueGoals(Instant dueBucket);
+
+    /**
+     * Returns the last bucket whose notifications were fired.
+     *
+     * @return The start of the bucket, or empty if none has been fired
+     */
+    Optional<Instant> getTickCursor();
+
+    /**
+     * Records the last bucket whose notifications were fired.
+     *
+     * @param dueBucket The start of the bucket
+     */
+    void saveTickCursor(Instant dueBucket);
+}
@@ -0,0 +1,87 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.repository.GoalIdempotencyRepository;
+
+/**
+ * GoalIdempotencyRepository that remembers completed requests in process in
+ * front of another repository.
+ *
+ * <p>
+ * Retries usually arrive within seconds and often reach the same warm
+ * instance, so a request completed here is answered from a short-lived
+ * Caffeine cache without touching the delegate: its claim fails and its goal
+ * is returned from memory. Only completed requests are cached; claims always
+ * go to the delegate, which arbitrates between instances.
+ */
+public class CachingGoalIdempotencyRepository implements GoalIdempotencyRepository {
+    private static final long MAX_CACHED_REQUESTS = 10_000;
+
+    private final GoalIdempotencyRepository delegate;
+    private final Cache<String, Goal> createdGoals;
+
+    /**
+     * Constructs a new CachingGoalIdempotencyRepository.
+     *
+     * @param delegate The repository holding the durable idempotency records
+     * @param config   The goal configuration holding the cache TTL
+     */
+    public CachingGoalIdempotencyRepository(GoalIdempotencyRepository delegate, GoalConfig config) {
+        this(delegate, config, Ticker.systemTicker());
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows the clock to be controlled in tests.
+     *
+     * @param delegate The repository holding the durable idempotency records
+     * @param config   The goal configuration holding the cache TTL
+     * @param ticker   The time source used for expiry
+     */
+    CachingGoalIdempotencyRepository(GoalIdempotencyRepository delegate, GoalConfig config, Ticker ticker) {
+        this.delegate = delegate;
+        this.createdGoals = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_REQUESTS)
+                .expireAfterWrite(config.getIdempotencyCacheTtl())
+                .ticker(ticker)
+                .build();
+    }
+
+    @Override
+    public boolean claim(String idempotencyKey, Instant now) {
+        if (createdGoals.getIfPresent(idempotencyKey) != null) {
+            return false;
+        }
+        return delegate.claim(idempotencyKey, now);
+    }
+
+    @Override
+    public Optional<Goal> getCreatedGoal(String idempotencyKey) {
+        Goal cached = createdGoals.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Goal> created = delegate.getCreatedGoal(idempotencyKey);
+        created.ifPresent(goal -> createdGoals.put(idempotencyKey, goal));
+        return created;
+    }
+
+    @Override
+    public void complete(String idempotencyKey, Goal goal, Instant now) {
+        delegate.complete(idempotencyKey, goal, now);
+        createdGoals.put(idempotencyKey, goal);
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        createdGoals.invalidate(idempotencyKey);
+        delegate.release(idempotencyKey);
+    }
+}
@@ -0,0 +1,126 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.model.OutboxEvent;
+import com.osrsGoalTracker.goal.repository.GoalEventOutboxRepository;
+import com.osrsGoalTracker.orchestration.events.GoalCompletedEvent;
+import com.osrsGoalTracker.orchestration.events.GoalMilestoneReachedEvent;
+import com.osrsGoalTracker.orchestration.events.GoalNotificationDueEvent;
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+import com.osrsGoalTracker.utils.JsonUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+/**
+ * GoalEventOutboxRepository backed by the goal progress DynamoDB table.
+ *
+ * <p>
+ * Every kept event is one item under the {@code EVENT_OUTBOX} partition,
+ * holding the event's detail type and JSON. The sort key is derived from the
+ * event itself, {@code <detailType>#<goalId>#<name-based UUID of the JSON>},
+ * so saving the same event twice writes the same item. Each event is read with
+ * its stored sort key and deleted by that key, so an event saved before its
+ * JSON changed shape is still deleted once published. Reading the outbox is a
+ * single-partition Query, which is empty unless publishing has failed.
+ */
+@Slf4j
+public class DynamoGoalEventOutboxRepository implements GoalEventOutboxRepository {
+    static final String PARTITION_KEY = "pk";
+    static final String SORT_KEY = "sk";
+    static final String DETAIL_TYPE = "detailType";
+    static final String EVENT = "event";
+    static final String OUTBOX_PARTITION_KEY = "EVENT_OUTBOX";
+
+    private static final Map<String, Class<? extends GoalProgressEvent>> EVENT_TYPES = Map.of(
+            GoalMilestoneReachedEvent.DETAIL_TYPE, GoalMilestoneReachedEvent.class,
+            GoalCompletedEvent.DETAIL_TYPE, GoalCompletedEvent.class,
+            GoalNotificationDueEvent.DETAIL_TYPE, GoalNotificationDueEvent.class);
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+
+    /**
+     * Constructs a new DynamoGoalEventOutboxRepository.
+     *
+     * @param dynamoDbClient The DynamoDB client
+     * @param config         The goal configuration holding the table name
+     */
+    public DynamoGoalEventOutboxRepository(DynamoDbClient dynamoDbClient, GoalConfig config) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = config.getProgressTableName();
+    }
+
+    @Override
+    public void saveUnpublishedEvents(List<? extends GoalProgressEvent> events) {
+        for (GoalProgressEvent event : events) {
+            String json = JsonUtils.toJson(event);
+            dynamoDbClient.putItem(PutItemRequest.builder()
+                    .tableName(tableName)
+                    .item(Map.of(
+                            PARTITION_KEY, AttributeValue.fromS(OUTBOX_PARTITION_KEY),
+                            SORT_KEY, AttributeValue.fromS(sortKey(event, json)),
+                            DETAIL_TYPE, AttributeValue.fromS(event.detailType()),
+                            EVENT, AttributeValue.fromS(json)))
+                    .build());
+        }
+    }
+
+    @Override
+    public List<OutboxEvent> getUnpublishedEvents() {
+        List<OutboxEvent> events = new ArrayList<>();
+        Map<String, AttributeValue> startKey = null;
+        do {
+            QueryResponse response = dynamoDbClient.query(QueryRequest.builder()
+                    .tableName(tableName)
+                    .keyConditionExpression("#pk = :pk")
+                    .expressionAttributeNames(Map.of("#pk", PARTITION_KEY))
+                    .expressionAttributeValues(Map.of(":pk", AttributeValue.fromS(OUTBOX_PARTITION_KEY)))
+                    .consistentRead(true)
+                    .exclusiveStartKey(startKey)
+                    .build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                Class<? extends GoalProgressEvent> type = EVENT_TYPES.get(item.get(DETAIL_TYPE).s());
+                if (type == null) {
+                    log.warn("Skipping unpublished event {} of unknown detail type", item.get(SORT_KEY).s());
+                    continue;
+                }
+                events.add(OutboxEvent.builder()
+                        .key(item.get(SORT_KEY).s())
+                        .event(JsonUtils.fromJson(item.get(EVENT).s(), type))
+                        .build());
+            }
+            startKey = response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : null;
+        } while (startKey != null);
+        return events;
+    }
+
+    @Override
+    public void deleteUnpublishedEvents(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            dynamoDbClient.deleteItem(DeleteItemRequest.builder()
+                    .tableName(tableName)
+                    .key(Map.of(
+                            PARTITION_KEY, AttributeValue.fromS(OUTBOX_PARTITION_KEY),
+                            SORT_KEY, AttributeValue.fromS(event.getKey())))
+                    .build());
+        }
+    }
+
+    private static String sortKey(GoalProgressEvent event, String json) {
+        return event.detailType() + "#" + event.getGoalId() + "#"
+                + UUID.nameUUIDFromBytes(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,146 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.repository.GoalIdempotencyRepository;
+import com.osrsGoalTracker.utils.JsonUtils;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+
+/**
+ * GoalIdempotencyRepository backed by the goal progress DynamoDB table.
+ *
+ * <p>
+ * Each request is one item keyed by {@code IDEMPOTENCY#<key>}. A claim is a
+ * conditional put that only succeeds when no live record exists, so concurrent
+ * deliveries of the same request race on a single write and exactly one wins.
+ * Completing a request stores the created goal on the record. Every record
+ * carries an {@code expiresAt} epoch-seconds attribute for the table's TTL;
+ * because TTL deletion lags, expired records are also treated as absent.
+ */
+public class DynamoGoalIdempotencyRepository implements GoalIdempotencyRepository {
+    static final String PARTITION_KEY = "pk";
+    static final String SORT_KEY = "sk";
+    static final String STATUS = "status";
+    static final String GOAL = "goal";
+    static final String CLAIMED_AT = "claimedAt";
+    static final String EXPIRES_AT = "expiresAt";
+
+    static final String PARTITION_PREFIX = "IDEMPOTENCY#";
+    static final String RECORD_SORT_KEY = "IDEMPOTENCY";
+    static final String STATUS_PENDING = "PENDING";
+    static final String STATUS_COMPLETED = "COMPLETED";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    private final long ttlSeconds;
+
+    /**
+     * Constructs a new DynamoGoalIdempotencyRepository.
+     *
+     * @param dynamoDbClient The DynamoDB client
+     * @param config         The goal configuration holding the table name and
+     *                       idempotency TTL
+     */
+    public DynamoGoalIdempotencyRepository(DynamoDbClient dynamoDbClient, GoalConfig config) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = config.getProgressTableName();
+        this.ttlSeconds = config.getIdempotencyTtl().getSeconds();
+    }
+
+    @Override
+    public boolean claim(String idempotencyKey, Instant now) {
+        try {
+            dynamoDbClient.putItem(PutItemRequest.builder()
+                    .tableName(tableName)
+                    .item(Map.of(
+                            PARTITION_KEY, AttributeValue.fromS(PARTITION_PREFIX + idempotencyKey),
+                            SORT_KEY, AttributeValue.fromS(RECORD_SORT_KEY),
+                            STATUS, AttributeValue.fromS(STATUS_PENDING),
+                            CLAIMED_AT, epochSeconds(now),
+                            EXPIRES_AT, epochSeconds(now.plusSeconds(ttlSeconds))))
+                    .conditionExpression("attribute_not_exists(#pk) OR #expiresAt <= :now"
+                            + " OR (#status = :pending AND #claimedAt <= :staleBefore)")
+                    .expressionAttributeNames(Map.of(
+                            "#pk", PARTITION_KEY,
+                            "#expiresAt", EXPIRES_AT,
+                            "#status", STATUS,
+                            "#claimedAt", CLAIMED_AT))
+                    .expressionAttributeValues(Map.of(
+                            ":now", epochSeconds(now),
+                            ":pending", AttributeValue.fromS(STATUS_PENDING),
+                            ":staleBefore", epochSeconds(now.minus(STALE_CLAIM_AGE))))
+                    .build());
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<Goal> getCreatedGoal(String idempotencyKey) {
+        GetItemResponse response = dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(tableName)
+                .key(key(idempotencyKey))
+                .consistentRead(true)
+                .build());
+        if (!response.hasItem() || response.item().isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, AttributeValue> item = response.item();
+        if (!STATUS_COMPLETED.equals(item.get(STATUS).s())
+                || Long.parseLong(item.get(EXPIRES_AT).n()) <= Instant.now().getEpochSecond()) {
+            return Optional.empty();
+        }
+        return Optional.of(JsonUtils.fromJson(item.get(GOAL).s(), Goal.class));
+    }
+
+    @Override
+    public void complete(String idempotencyKey, Goal goal, Instant now) {
+        dynamoDbClient.putItem(PutItemRequest.builder()
+                .tableName(tableName)
+                .item(Map.of(
+                        PARTITION_KEY, AttributeValue.fromS(PARTITION_PREFIX + idempotencyKey),
+                        SORT_KEY, AttributeValue.fromS(RECORD_SORT_KEY),
+                        STATUS, AttributeValue.fromS(STATUS_COMPLETED),
+                        GOAL, AttributeValue.fromS(JsonUtils.toJson(goal)),
+                        CLAIMED_AT, epochSeconds(now),
+                        EXPIRES_AT, epochSeconds(now.plusSeconds(ttlSeconds))))
+                .build());
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        try {
+            dynamoDbClient.deleteItem(DeleteItemRequest.builder()
+                    .tableName(tableName)
+                    .key(key(idempotencyKey))
+                    .conditionExpression("#status = :pending")
+                    .expressionAttributeNames(Map.of("#status", STATUS))
+                    .expressionAttributeValues(Map.of(":pending", AttributeValue.fromS(STATUS_PENDING)))
+                    .build());
+        } catch (ConditionalCheckFailedException e) {
+            // The request was completed after all; keep its record
+        }
+    }
+
+    private static Map<String, AttributeValue> key(String idempotencyKey) {
+        return Map.of(
+                PARTITION_KEY, AttributeValue.fromS(PARTITION_PREFIX + idempotencyKey),
+                SORT_KEY, AttributeValue.fromS(RECORD_SORT_KEY));
+    }
+
+    private static AttributeValue epochSeconds(Instant time) {
+        return AttributeValue.fromN(Long.toString(time.getEpochSecond()));
+    }
+}
@@ -0,0 +1,622 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalForecast;
+import com.osrsGoalTracker.goal.model.GoalListFilter;
+import com.osrsGoalTracker.goal.model.GoalPage;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+import com.osrsGoalTracker.goal.model.GoalStatus;
+import com.osrsGoalTracker.goal.model.GoalSummary;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.goal.model.MetricNameResolver;
+import com.osrsGoalTracker.goal.repository.GoalProgressRepository;
+import com.osrsGoalTracker.utils.CharacterNameUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * GoalProgressRepository backed by a DynamoDB table.
+ *
+ * <p>
+ * Each goal is one item keyed by {@code USER#<userId>} and
+ * {@code GOAL#<goalId>}, holding the goal's fields next to its latest
+ * progress and completion forecast, so a user's goals are a single partition
+ * and a goal's forecast is read with its progress. Saved progress is written
+ * with BatchWriteItem in batches of {@link #WRITE_BATCH_SIZE}, retrying
+ * unprocessed items with exponential backoff. The initial progress of new
+ * goals is written with one PutItem per goal on the condition that the goal's
+ * item does not exist yet, so a retried creation never rewinds progress that
+ * was polled since. Polled progress is written with one
+ * UpdateItem per goal that sets only the progress and forecast attributes on
+ * the condition that the goal's item still exists, so a goal deleted while it
+ * was being polled is not recreated; up to {@link #WRITE_BATCH_SIZE} updates
+ * run at once. The polling cursor is a single item of its own.
+ *
+ * <p>
+ * Goals that are not complete carry {@code activePartition = ACTIVE}, which
+ * with the normalized character name forms the key of the sparse
+ * {@value #POLLING_INDEX} global secondary index. Polling queries that index
+ * in character order, starting after its cursor, one page at a time, so a run
+ * reads only the goals it gets to instead of scanning the whole table.
+ * Completed goals drop out of the index when their attribute is removed.
+ *
+ * <p>
+ * Listing a user's goals is a Query on the user's partition that projects
+ * only the summary attributes and applies filters server side, against a
+ * normalized character name and a resolved metric stored on each item. Each
+ * page reads at most {@code limit} items per request, so a user's partition is
+ * never loaded in full.
+ */
+@Slf4j
+public class DynamoGoalProgressRepository implements GoalProgressRepository {
+    static final String PARTITION_KEY = "pk";
+    static final String SORT_KEY = "sk";
+    static final String USER_ID = "userId";
+    static final String GOAL_ID = "goalId";
+    static final String CHARACTER_NAME = "characterName";
+    static final String TARGET_ATTRIBUTE = "targetAttribute";
+    static final String TARGET_TYPE = "targetType";
+    static final String TARGET_VALUE = "targetValue";
+    static final String TARGET_DATE = "targetDate";
+    static final String NOTIFICATION_CHANNEL_TYPE = "notificationChannelType";
+    static final String FREQUENCY = "frequency";
+    static final String CURRENT_VALUE = "currentValue";
+    static final String PERCENT_COMPLETE = "percentComplete";
+    static final String COMPLETED = "completed";
+    static final String UPDATED_AT = "updatedAt";
+    static final String GAIN_RATE_PER_DAY = "gainRatePerDay";
+    static final String SAMPLED_VALUE = "sampledValue";
+    static final String PROJECTED_COMPLETION = "projectedCompletion";
+    static final String AT_RISK = "atRisk";
+    static final String CHARACTER_KEY = "characterKey";
+    static final String METRIC = "metric";
+    static final String CURSOR = "cursor";
+    static final String ACTIVE_PARTITION = "activePartition";
+    static final String POLLING_INDEX = "polling-index";
+    static final String ACTIVE = "ACTIVE";
+
+    /**
+     * Maximum number of items in one BatchWriteItem request.
+     */
+    static final int WRITE_BATCH_SIZE = 25;
+
+    /**
+     * Maximum number of Query requests made to fill one page of a filtered
+     * listing. A page that is still short after this many requests is returned
+     * with a cursor, so a sparse filter never reads a whole partition at once.
+     */
+    static final int MAX_QUERIES_PER_PAGE = 5;
+
+    /**
+     * The attributes read for a goal summary.
+     */
+    private static final List<String> SUMMARY_ATTRIBUTES = List.of(GOAL_ID, CHARACTER_NAME, TARGET_ATTRIBUTE,
+            TARGET_TYPE, TARGET_VALUE, TARGET_DATE, CURRENT_VALUE, PERCENT_COMPLETE, COMPLETED, UPDATED_AT,
+            PROJECTED_COMPLETION, AT_RISK);
+
+    static final String PARTITION_PREFIX = "USER#";
+    static final String SORT_PREFIX = "GOAL#";
+    static final String POLLING_PARTITION_KEY = "POLLING";
+    static final String POLLING_SORT_KEY = "CURSOR";
+
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MILLIS = 50;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    private final ExecutorService writeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Constructs a new DynamoGoalProgressRepository.
+     *
+     * @param dynamoDbClient The DynamoDB client
+     * @param config         The goal configuration holding the table name
+     */
+    public DynamoGoalProgressRepository(DynamoDbClient dynamoDbClient, GoalConfig config) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = config.getProgressTableName();
+    }
+
+    @Override
+    public void saveProgress(List<GoalProgress> progress) {
+        log.info("Saving progress for {} goals in batches of {}", progress.size(), WRITE_BATCH_SIZE);
+        for (int start = 0; start < progress.size(); start += WRITE_BATCH_SIZE) {
+            List<WriteRequest> writes = new ArrayList<>(WRITE_BATCH_SIZE);
+            for (GoalProgress goalProgress : progress.subList(start,
+                    Math.min(start + WRITE_BATCH_SIZE, progress.size()))) {
+                writes.add(WriteRequest.builder()
+                        .putRequest(PutRequest.builder().item(toItem(goalProgress)).build())
+                        .build());
+            }
+            writeBatch(writes);
+        }
+    }
+
+    @Override
+    public Set<String> createProgress(List<GoalProgress> progress) {
+        log.info("Creating progress for {} goals, {} at a time", progress.size(), WRITE_BATCH_SIZE);
+        Set<String> tracked = writeConditionally(progress, goalProgress -> dynamoDbClient.putItem(
+                PutItemRequest.builder()
+                        .tableName(tableName)
+                        .item(toItem(goalProgress))
+                        .conditionExpression("attribute_not_exists(#pk)")
+                        .expressionAttributeNames(Map.of("#pk", PARTITION_KEY))
+                        .build()));
+        if (!tracked.isEmpty()) {
+            log.info("Kept the existing progress of {} goals that were already tracked", tracked.size());
+        }
+        return tracked;
+    }
+
+    @Override
+    public Set<String> updateProgress(List<GoalProgress> progress) {
+        log.info("Updating progress for {} goals, {} at a time", progress.size(), WRITE_BATCH_SIZE);
+        Set<String> untracked = writeConditionally(progress,
+                goalProgress -> dynamoDbClient.updateItem(toUpdate(goalProgress)));
+        if (!untracked.isEmpty()) {
+            log.info("Skipped progress updates for {} deleted goals", untracked.size());
+        }
+        return untracked;
+    }
+
+    /**
+     * Sends one conditional write per goal, {@link #WRITE_BATCH_SIZE} at a
+     * time concurrently.
+     *
+     * @param progress The progress to write
+     * @param write    Sends the conditional write of one goal's progress
+     * @return The IDs of the goals whose condition failed
+     */
+    private Set<String> writeConditionally(List<GoalProgress> progress, Consumer<GoalProgress> write) {
+        Set<String> failedConditions = new HashSet<>();
+        for (int start = 0; start < progress.size(); start += WRITE_BATCH_SIZE) {
+            List<GoalProgress> chunk = progress.subList(start, Math.min(start + WRITE_BATCH_SIZE, progress.size()));
+            List<Future<?>> writes = new ArrayList<>(chunk.size());
+            for (GoalProgress goalProgress : chunk) {
+                writes.add(writeExecutor.submit(() -> write.accept(goalProgress)));
+            }
+            RuntimeException failure = null;
+            for (int i = 0; i < chunk.size(); i++) {
+                try {
+                    awaitUpdate(writes.get(i));
+                } catch (ConditionalCheckFailedException e) {
+                    failedConditions.add(chunk.get(i).getGoal().getGoalId());
+                } catch (RuntimeException e) {
+                    failure = failure == null ? e : failure;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return failedConditions;
+    }
+
+    @Override
+    public Optional<GoalProgress> getProgress(String userId, String goalId) {
+        GetItemResponse response = dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(tableName)
+                .key(goalKey(userId, goalId))
+                .consistentRead(true)
+                .build());
+        return response.hasItem() && !response.item().isEmpty()
+                ? Optional.of(toProgress(response.item()))
+                : Optional.empty();
+    }
+
+    @Override
+    public void deleteProgress(String userId, String goalId) {
+        dynamoDbClient.deleteItem(DeleteItemRequest.builder()
+                .tableName(tableName)
+                .key(goalKey(userId, goalId))
+                .build());
+    }
+
+    @Override
+    public Iterator<GoalProgress> getActiveProgress(String afterCharacter) {
+        return new ActiveProgressIterator(afterCharacter);
+    }
+
+    @Override
+    public GoalPage listGoals(String userId, GoalListFilter filter, String cursor, int limit) {
+        Map<String, String> names = new HashMap<>();
+        Map<String, AttributeValue> values = new HashMap<>();
+        names.put("#pk", PARTITION_KEY);
+        names.put("#sk", SORT_KEY);
+        values.put(":pk", AttributeValue.fromS(PARTITION_PREFIX + userId));
+        values.put(":goal", AttributeValue.fromS(SORT_PREFIX));
+        StringBuilder projection = new StringBuilder();
+        for (String attribute : SUMMARY_ATTRIBUTES) {
+            names.put("#" + attribute, attribute);
+            projection.append(projection.length() == 0 ? "" : ", ").append('#').append(attribute);
+        }
+        String filterExpression = filterExpression(filter, names, values);
+
+        String after = GoalListCursor.decode(cursor);
+        Map<String, AttributeValue> startKey = after == null ? null : Map.of(
+                PARTITION_KEY, AttributeValue.fromS(PARTITION_PREFIX + userId),
+                SORT_KEY, AttributeValue.fromS(SORT_PREFIX + after));
+        List<GoalSummary> goals = new ArrayList<>(limit);
+        for (int query = 0; query < MAX_QUERIES_PER_PAGE && goals.size() < limit; query++) {
+            QueryResponse response = dynamoDbClient.query(QueryRequest.builder()
+                    .tableName(tableName)
+                    .keyConditionExpression("#pk = :pk AND begins_with(#sk, :goal)")
+                    .filterExpression(filterExpression)
+                    .projectionExpression(projection.toString())
+                    .expressionAttributeNames(names)
+                    .expressionAttributeValues(values)
+                    .exclusiveStartKey(startKey)
+                    .limit(limit - goals.size())
+                    .build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                goals.add(toSummary(item));
+            }
+            startKey = response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : null;
+            if (startKey == null) {
+                break;
+            }
+        }
+        return GoalPage.builder()
+                .goals(goals)
+                .nextCursor(startKey == null
+                        ? null
+                        : GoalListCursor.encode(startKey.get(SORT_KEY).s().substring(SORT_PREFIX.length())))
+                .build();
+    }
+
+    @Override
+    public Optional<String> getPollingCursor() {
+        GetItemResponse response = dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(tableName)
+                .key(pollingKey())
+                .consistentRead(true)
+                .build());
+        if (!response.hasItem() || !response.item().containsKey(CURSOR)) {
+            return Optional.empty();
+        }
+        return Optional.of(response.item().get(CURSOR).s());
+    }
+
+    @Override
+    public void savePollingCursor(String cursor) {
+        if (cursor == null) {
+            dynamoDbClient.deleteItem(DeleteItemRequest.builder()
+                    .tableName(tableName)
+                    .key(pollingKey())
+                    .build());
+            return;
+        }
+        Map<String, AttributeValue> item = new HashMap<>(pollingKey());
+        item.put(CURSOR, AttributeValue.fromS(cursor));
+        dynamoDbClient.putItem(PutItemRequest.builder()
+                .tableName(tableName)
+                .item(item)
+                .build());
+    }
+
+    private static String filterExpression(GoalListFilter filter, Map<String, String> names,
+            Map<String, AttributeValue> values) {
+        List<String> conditions = new ArrayList<>(3);
+        if (filter.getCharacterName() != null) {
+            names.put("#" + CHARACTER_KEY, CHARACTER_KEY);
+            values.put(":character", AttributeValue.fromS(CharacterNameUtils.normalize(filter.getCharacterName())));
+            conditions.add("#" + CHARACTER_KEY + " = :character");
+        }
+        if (filter.getMetric() != null) {
+            names.put("#" + METRIC, METRIC);
+            values.put(":metric", AttributeValue.fromS(filter.getMetric().name()));
+            conditions.add("#" + METRIC + " = :metric");
+        }
+        if (filter.getStatus() != null) {
+            values.put(":completed", AttributeValue.fromBool(filter.getStatus() == GoalStatus.COMPLETED));
+            conditions.add("#" + COMPLETED + " = :completed");
+        }
+        return conditions.isEmpty() ? null : String.join(" AND ", conditions);
+    }
+
+    private void writeBatch(List<WriteRequest> writes) {
+        Map<String, List<WriteRequest>> pending = Map.of(tableName, writes);
+        for (int attempt = 1; ; attempt++) {
+            BatchWriteItemResponse response = dynamoDbClient.batchWriteItem(BatchWriteItemRequest.builder()
+                    .requestItems(pending)
+                    .build());
+            if (!response.hasUnprocessedItems() || response.unprocessedItems().isEmpty()) {
+                return;
+            }
+            pending = response.unprocessedItems();
+            if (attempt == MAX_WRITE_ATTEMPTS) {
+                throw new IllegalStateException("Goal progress writes still unprocessed after "
+                        + MAX_WRITE_ATTEMPTS + " attempts");
+            }
+            log.warn("Retrying {} unprocessed goal progress writes", pending.get(tableName).size());
+            backoff(attempt);
+        }
+    }
+
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(BASE_BACKOFF_MILLIS << (attempt - 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted writing goal progress", e);
+        }
+    }
+
+    private static void awaitUpdate(Future<?> update) {
+        try {
+            update.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to update goal progress", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted updating goal progress", e);
+        }
+    }
+
+    /**
+     * Builds the conditional update that writes a goal's progress and
+     * forecast, leaving the goal's own fields as they are.
+     *
+     * @param progress The goal's new progress
+     * @return The update, which fails if the goal's item no longer exists
+     */
+    private UpdateItemRequest toUpdate(GoalProgress progress) {
+        Map<String, String> names = new HashMap<>();
+        Map<String, AttributeValue> values = new HashMap<>();
+        List<String> sets = new ArrayList<>();
+        List<String> removes = new ArrayList<>();
+        setAttribute(CURRENT_VALUE, AttributeValue.fromN(Long.toString(progress.getCurrentValue())), names, values,
+                sets, removes);
+        setAttribute(PERCENT_COMPLETE, AttributeValue.fromN(Double.toString(progress.getPercentComplete())), names,
+                values, sets, removes);
+        setAttribute(COMPLETED, AttributeValue.fromBool(progress.isCompleted()), names, values, sets, removes);
+        setAttribute(ACTIVE_PARTITION, progress.isCompleted() ? null : AttributeValue.fromS(ACTIVE), names, values,
+                sets, removes);
+        setAttribute(UPDATED_AT, progress.getUpdatedAt() == null
+                ? null
+                : AttributeValue.fromS(progress.getUpdatedAt().toString()), names, values, sets, removes);
+        GoalForecast forecast = progress.getForecast();
+        setAttribute(GAIN_RATE_PER_DAY, forecast == null
+                ? null
+                : AttributeValue.fromN(Double.toString(forecast.getGainRatePerDay())), names, values, sets, removes);
+        setAttribute(SAMPLED_VALUE, forecast == null || forecast.getSampledValue() == null
+                ? null
+                : AttributeValue.fromN(Long.toString(forecast.getSampledValue())), names, values, sets, removes);
+        setAttribute(PROJECTED_COMPLETION, forecast == null || forecast.getProjectedCompletion() == null
+                ? null
+                : AttributeValue.fromS(forecast.getProjectedCompletion().toString()), names, values, sets, removes);
+        setAttribute(AT_RISK, forecast == null ? null : AttributeValue.fromBool(forecast.isAtRisk()), names, values,
+                sets, removes);
+        names.put("#" + PARTITION_KEY, PARTITION_KEY);
+
+        Goal goal = progress.getGoal();
+        return UpdateItemRequest.builder()
+                .tableName(tableName)
+                .key(Map.of(
+                        PARTITION_KEY, AttributeValue.fromS(PARTITION_PREFIX + goal.getUserId()),
+                        SORT_KEY, AttributeValue.fromS(SORT_PREFIX + goal.getGoalId())))
+                .updateExpression("SET " + String.join(", ", sets)
+                        + (removes.isEmpty() ? "" : " REMOVE " + String.join(", ", removes)))
+                .conditionExpression("attribute_exists(#" + PARTITION_KEY + ")")
+                .expressionAttributeNames(names)
+                .expressionAttributeValues(values)
+                .build();
+    }
+
+    private static void setAttribute(String name, AttributeValue value, Map<String, String> names,
+            Map<String, AttributeValue> values, List<String> sets, List<String> removes) {
+        names.put("#" + name, name);
+        if (value == null) {
+            removes.add("#" + name);
+            return;
+        }
+        values.put(":" + name, value);
+        sets.add("#" + name + " = :" + name);
+    }
+
+    /**
+     * Reads the polling index one page at a time as it is iterated.
+     */
+    private final class ActiveProgressIterator implements Iterator<GoalProgress> {
+        private final QueryRequest.Builder query;
+        private Iterator<Map<String, AttributeValue>> page = Collections.emptyIterator();
+        private Map<String, AttributeValue> startKey;
+        private boolean lastPage;
+
+        private ActiveProgressIterator(String afterCharacter) {
+            Map<String, AttributeValue> values = new HashMap<>();
+            values.put(":active", AttributeValue.fromS(ACTIVE));
+            String keyCondition = "#active = :active";
+            if (afterCharacter != null) {
+                values.put(":after", AttributeValue.fromS(afterCharacter));
+                keyCondition += " AND #character > :after";
+            }
+            this.query = QueryRequest.builder()
+                    .tableName(tableName)
+                    .indexName(POLLING_INDEX)
+                    .keyConditionExpression(keyCondition)
+                    .expressionAttributeNames(afterCharacter == null
+                            ? Map.of("#active", ACTIVE_PARTITION)
+                            : Map.of("#active", ACTIVE_PARTITION, "#character", CHARACTER_KEY))
+                    .expressionAttributeValues(values);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext() && !lastPage) {
+                QueryResponse response = dynamoDbClient.query(query.exclusiveStartKey(startKey).build());
+                page = response.items().iterator();
+                startKey = response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : null;
+                lastPage = startKey == null;
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public GoalProgress next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return toProgress(page.next());
+        }
+    }
+
+    private static Map<String, AttributeValue> goalKey(String userId, String goalId) {
+        return Map.of(
+                PARTITION_KEY, AttributeValue.fromS(PARTITION_PREFIX + userId),
+                SORT_KEY, AttributeValue.fromS(SORT_PREFIX + goalId));
+    }
+
+    private static Map<String, AttributeValue> pollingKey() {
+        return Map.of(
+                PARTITION_KEY, AttributeValue.fromS(POLLING_PARTITION_KEY),
+                SORT_KEY, AttributeValue.fromS(POLLING_SORT_KEY));
+    }
+
+    private static Map<String, AttributeValue> toItem(GoalProgress progress) {
+        Goal goal = progress.getGoal();
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put(PARTITION_KEY, AttributeValue.fromS(PARTITION_PREFIX + goal.getUserId()));
+        item.put(SORT_KEY, AttributeValue.fromS(SORT_PREFIX + goal.getGoalId()));
+        item.put(USER_ID, AttributeValue.fromS(goal.getUserId()));
+        item.put(GOAL_ID, AttributeValue.fromS(goal.getGoalId()));
+        putString(item, CHARACTER_NAME, goal.getCharacterName());
+        putString(item, CHARACTER_KEY, goal.getCharacterName() == null
+                ? null
+                : CharacterNameUtils.normalize(goal.getCharacterName()));
+        putString(item, TARGET_ATTRIBUTE, goal.getTargetAttribute());
+        MetricName metric = MetricNameResolver.lookup(goal.getTargetAttribute());
+        putString(item, METRIC, metric == null ? null : metric.name());
+        putString(item, TARGET_TYPE, goal.getTargetType());
+        item.put(TARGET_VALUE, AttributeValue.fromN(Long.toString(goal.getTargetValue())));
+        putString(item, TARGET_DATE, goal.getTargetDate() == null ? null : goal.getTargetDate().toString());
+        putString(item, NOTIFICATION_CHANNEL_TYPE, goal.getNotificationChannelType());
+        putString(item, FREQUENCY, goal.getFrequency());
+        item.put(CURRENT_VALUE, AttributeValue.fromN(Long.toString(progress.getCurrentValue())));
+        item.put(PERCENT_COMPLETE, AttributeValue.fromN(Double.toString(progress.getPercentComplete())));
+        item.put(COMPLETED, AttributeValue.fromBool(progress.isCompleted()));
+        putString(item, ACTIVE_PARTITION, progress.isCompleted() ? null : ACTIVE);
+        putString(item, UPDATED_AT, progress.getUpdatedAt() == null ? null : progress.getUpdatedAt().toString());
+        GoalForecast forecast = progress.getForecast();
+        if (forecast != null) {
+            item.put(GAIN_RATE_PER_DAY, AttributeValue.fromN(Double.toString(forecast.getGainRatePerDay())));
+            if (forecast.getSampledValue() != null) {
+                item.put(SAMPLED_VALUE, AttributeValue.fromN(Long.toString(forecast.getSampledValue())));
+            }
+            putString(item, PROJECTED_COMPLETION, forecast.getProjectedCompletion() == null
+                    ? null
+                    : forecast.getProjectedCompletion().toString());
+            item.put(AT_RISK, AttributeValue.fromBool(forecast.isAtRisk()));
+        }
+        return item;
+    }
+
+    private static void putString(Map<String, AttributeValue> item, String name, String value) {
+        if (value != null) {
+            item.put(name, AttributeValue.fromS(value));
+        }
+    }
+
+    private static GoalProgress toProgress(Map<String, AttributeValue> item) {
+        return GoalProgress.builder()
+                .goal(toGoal(item))
+                .currentValue(item.containsKey(CURRENT_VALUE) ? Long.parseLong(item.get(CURRENT_VALUE).n()) : 0)
+                .percentComplete(item.containsKey(PERCENT_COMPLETE)
+                        ? Double.parseDouble(item.get(PERCENT_COMPLETE).n())
+                        : 0)
+                .completed(item.containsKey(COMPLETED) && item.get(COMPLETED).bool())
+                .updatedAt(item.containsKey(UPDATED_AT) ? Instant.parse(item.get(UPDATED_AT).s()) : null)
+                .forecast(item.containsKey(GAIN_RATE_PER_DAY) ? toForecast(item) : null)
+                .build();
+    }
+
+    private static GoalSummary toSummary(Map<String, AttributeValue> item) {
+        return GoalSummary.builder()
+                .goalId(getString(item, GOAL_ID))
+                .characterName(getString(item, CHARACTER_NAME))
+                .targetAttribute(getString(item, TARGET_ATTRIBUTE))
+                .targetType(getString(item, TARGET_TYPE))
+                .targetValue(Long.parseLong(item.get(TARGET_VALUE).n()))
+                .targetDate(getInstant(item, TARGET_DATE))
+                .currentValue(item.containsKey(CURRENT_VALUE) ? Long.parseLong(item.get(CURRENT_VALUE).n()) : 0)
+                .percentComplete(item.containsKey(PERCENT_COMPLETE)
+                        ? Double.parseDouble(item.get(PERCENT_COMPLETE).n())
+                        : 0)
+                .completed(item.containsKey(COMPLETED) && item.get(COMPLETED).bool())
+                .projectedCompletion(getInstant(item, PROJECTED_COMPLETION))
+                .atRisk(item.containsKey(AT_RISK) && item.get(AT_RISK).bool())
+                .updatedAt(getInstant(item, UPDATED_AT))
+                .build();
+    }
+
+    private static GoalForecast toForecast(Map<String, AttributeValue> item) {
+        return GoalForecast.builder()
+                .gainRatePerDay(Double.parseDouble(item.get(GAIN_RATE_PER_DAY).n()))
+                .sampledValue(item.containsKey(SAMPLED_VALUE) ? Long.parseLong(item.get(SAMPLED_VALUE).n()) : null)
+                .projectedCompletion(item.containsKey(PROJECTED_COMPLETION)
+                        ? Instant.parse(item.get(PROJECTED_COMPLETION).s())
+                        : null)
+                .atRisk(item.containsKey(AT_RISK) && item.get(AT_RISK).bool())
+                .build();
+    }
+
+    private static Goal toGoal(Map<String, AttributeValue> item) {
+        return Goal.builder()
+                .userId(getString(item, USER_ID))
+                .goalId(getString(item, GOAL_ID))
+                .characterName(getString(item, CHARACTER_NAME))
+                .targetAttribute(getString(item, TARGET_ATTRIBUTE))
+                .targetType(getString(item, TARGET_TYPE))
+                .targetValue(Long.parseLong(item.get(TARGET_VALUE).n()))
+                .targetDate(item.containsKey(TARGET_DATE) ? Instant.parse(item.get(TARGET_DATE).s()) : null)
+                .notificationChannelType(getString(item, NOTIFICATION_CHANNEL_TYPE))
+                .frequency(getString(item, FREQUENCY))
+                .build();
+    }
+
+    private static String getString(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value == null ? null : value.s();
+    }
+
+    private static Instant getInstant(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value == null ? null : Instant.parse(value.s());
+    }
+}
@@ -0,0 +1,260 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.model.NotificationFrequency;
+import com.osrsGoalTracker.goal.model.ScheduledGoal;
+import com.osrsGoalTracker.goal.repository.GoalScheduleRepository;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.Delete;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+/**
+ * GoalScheduleRepository backed by the goal progress DynamoDB table.
+ *
+ * <p>
+ * Each schedule is stored twice: a bucket item keyed by
+ * {@code DUE#<bucket start in epoch seconds>} and {@code GOAL#<goalId>}, so a
+ * tick reads one bucket with a single-partition Query, and a pointer item keyed
+ * by {@code SCHEDULE#<goalId>}, so re-arming, frequency changes and deletes
+ * find the goal's current bucket without scanning. Both items are written in
+ * one transaction, together with removing the previous bucket item. The
+ * pointer write is conditional on the pointer still naming the replaced
+ * schedule's bucket, or on there being no pointer for a new schedule, so a
+ * tick re-arming a goal cannot resurrect a schedule deleted or moved since the
+ * tick read it.
+ */
+public class DynamoGoalScheduleRepository implements GoalScheduleRepository {
+    static final String PARTITION_KEY = "pk";
+    static final String SORT_KEY = "sk";
+    static final String USER_ID = "userId";
+    static final String GOAL_ID = "goalId";
+    static final String CHARACTER_NAME = "characterName";
+    static final String FREQUENCY = "frequency";
+    static final String DUE_AT = "dueAt";
+    static final String DUE_BUCKET = "dueBucket";
+    static final String CURSOR = "cursor";
+
+    static final String BUCKET_PREFIX = "DUE#";
+    static final String GOAL_PREFIX = "GOAL#";
+    static final String POINTER_PREFIX = "SCHEDULE#";
+    static final String POINTER_SORT_KEY = "SCHEDULE";
+    static final String TICK_PARTITION_KEY = "SCHEDULE_TICK";
+    static final String TICK_SORT_KEY = "CURSOR";
+
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+
+    /**
+     * Constructs a new DynamoGoalScheduleRepository.
+     *
+     * @param dynamoDbClient The DynamoDB client
+     * @param config         The goal configuration holding the table name
+     */
+    public DynamoGoalScheduleRepository(DynamoDbClient dynamoDbClient, GoalConfig config) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = config.getProgressTableName();
+    }
+
+    @Override
+    public Optional<ScheduledGoal> getSchedule(String goalId) {
+        GetItemResponse response = dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(tableName)
+                .key(key(POINTER_PREFIX + goalId, POINTER_SORT_KEY))
+                .consistentRead(true)
+                .build());
+        return response.hasItem() && !response.item().isEmpty()
+                ? Optional.of(toScheduledGoal(response.item()))
+                : Optional.empty();
+    }
+
+    @Override
+    public boolean saveSchedule(ScheduledGoal previous, ScheduledGoal next) {
+        List<TransactWriteItem> writes = new ArrayList<>(3);
+        writes.add(put(toItem(bucketKey(next), next)));
+        writes.add(pointerPut(previous, next));
+        if (previous != null && !previous.getDueBucket().equals(next.getDueBucket())) {
+            writes.add(delete(bucketKey(previous)));
+        }
+        try {
+            dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(writes)
+                    .build());
+            return true;
+        } catch (TransactionCanceledException e) {
+            if (!isConditionFailure(e)) {
+                throw e;
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public void deleteSchedule(ScheduledGoal scheduled) {
+        dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                .transactItems(delete(bucketKey(scheduled)), delete(pointerKey(scheduled.getGoalId())))
+                .build());
+    }
+
+    @Override
+    public List<ScheduledGoal> getDueGoals(Instant dueBucket) {
+        List<ScheduledGoal> scheduled = new ArrayList<>();
+        Map<String, AttributeValue> startKey = null;
+        do {
+            QueryResponse response = dynamoDbClient.query(QueryRequest.builder()
+                    .tableName(tableName)
+                    .keyConditionExpression("#pk = :pk")
+                    .expressionAttributeNames(Map.of("#pk", PARTITION_KEY))
+                    .expressionAttributeValues(Map.of(":pk", AttributeValue.fromS(bucketPartition(dueBucket))))
+                    .exclusiveStartKey(startKey)
+                    .build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                scheduled.add(toScheduledGoal(item));
+            }
+            startKey = response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : null;
+        } while (startKey != null);
+        return scheduled;
+    }
+
+    @Override
+    public Optional<Instant> getTickCursor() {
+        GetItemResponse response = dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(tableName)
+                .key(key(TICK_PARTITION_KEY, TICK_SORT_KEY))
+                .consistentRead(true)
+                .build());
+        if (!response.hasItem() || !response.item().containsKey(CURSOR)) {
+            return Optional.empty();
+        }
+        return Optional.of(Instant.ofEpochSecond(Long.parseLong(response.item().get(CURSOR).n())));
+    }
+
+    @Override
+    public void saveTickCursor(Instant dueBucket) {
+        Map<String, AttributeValue> item = new HashMap<>(key(TICK_PARTITION_KEY, TICK_SORT_KEY));
+        item.put(CURSOR, AttributeValue.fromN(Long.toString(dueBucket.getEpochSecond())));
+        dynamoDbClient.putItem(PutItemRequest.builder()
+                .tableName(tableName)
+                .item(item)
+                .build());
+    }
+
+    private TransactWriteItem put(Map<String, AttributeValue> item) {
+        return TransactWriteItem.builder()
+                .put(Put.builder().tableName(tableName).item(item).build())
+                .build();
+    }
+
+    /**
+     * Builds the pointer write, conditional on the pointer still naming the
+     * replaced schedule's bucket, or on there being no pointer when nothing is
+     * replaced.
+     *
+     * @param previous The schedule being replaced, or null if there is none
+     * @param next     The new schedule
+     * @return The conditional pointer write
+     */
+    private TransactWriteItem pointerPut(ScheduledGoal previous, ScheduledGoal next) {
+        Put.Builder put = Put.builder()
+                .tableName(tableName)
+                .item(toItem(pointerKey(next.getGoalId()), next));
+        if (previous == null) {
+            put.conditionExpression("attribute_not_exists(#pk)")
+                    .expressionAttributeNames(Map.of("#pk", PARTITION_KEY));
+        } else {
+            put.conditionExpression("attribute_exists(#pk) AND #dueBucket = :expected")
+                    .expressionAttributeNames(Map.of("#pk", PARTITION_KEY, "#dueBucket", DUE_BUCKET))
+                    .expressionAttributeValues(Map.of(":expected",
+                            AttributeValue.fromN(Long.toString(previous.getDueBucket().getEpochSecond()))));
+        }
+        return TransactWriteItem.builder().put(put.build()).build();
+    }
+
+    /**
+     * Returns whether a transaction was cancelled only because a condition
+     * failed, rather than by a conflicting transaction or throttling, which
+     * the caller should see as errors.
+     *
+     * @param e The cancellation
+     * @return True if a condition check failed
+     */
+    private static boolean isConditionFailure(TransactionCanceledException e) {
+        if (!e.hasCancellationReasons()) {
+            return false;
+        }
+        for (CancellationReason reason : e.cancellationReasons()) {
+            if (CONDITIONAL_CHECK_FAILED.equals(reason.code())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TransactWriteItem delete(Map<String, AttributeValue> key) {
+        return TransactWriteItem.builder()
+                .delete(Delete.builder().tableName(tableName).key(key).build())
+                .build();
+    }
+
+    private static String bucketPartition(Instant dueBucket) {
+        return BUCKET_PREFIX + dueBucket.getEpochSecond();
+    }
+
+    private static Map<String, AttributeValue> bucketKey(ScheduledGoal scheduled) {
+        return key(bucketPartition(scheduled.getDueBucket()), GOAL_PREFIX + scheduled.getGoalId());
+    }
+
+    private static Map<String, AttributeValue> pointerKey(String goalId) {
+        return key(POINTER_PREFIX + goalId, POINTER_SORT_KEY);
+    }
+
+    private static Map<String, AttributeValue> key(String partitionKey, String sortKey) {
+        return Map.of(
+                PARTITION_KEY, AttributeValue.fromS(partitionKey),
+                SORT_KEY, AttributeValue.fromS(sortKey));
+    }
+
+    private static Map<String, AttributeValue> toItem(Map<String, AttributeValue> key, ScheduledGoal scheduled) {
+        Map<String, AttributeValue> item = new HashMap<>(key);
+        item.put(USER_ID, AttributeValue.fromS(scheduled.getUserId()));
+        item.put(GOAL_ID, AttributeValue.fromS(scheduled.getGoalId()));
+        if (scheduled.getCharacterName() != null) {
+            item.put(CHARACTER_NAME, AttributeValue.fromS(scheduled.getCharacterName()));
+        }
+        item.put(FREQUENCY, AttributeValue.fromS(scheduled.getFrequency().name()));
+        item.put(DUE_AT, AttributeValue.fromS(scheduled.getDueAt().toString()));
+        item.put(DUE_BUCKET, AttributeValue.fromN(Long.toString(scheduled.getDueBucket().getEpochSecond())));
+        return item;
+    }
+
+    private static ScheduledGoal toScheduledGoal(Map<String, AttributeValue> item) {
+        AttributeValue characterName = item.get(CHARACTER_NAME);
+        return ScheduledGoal.builder()
+                .userId(item.get(USER_ID).s())
+                .goalId(item.get(GOAL_ID).s())
+                .characterName(characterName == null ? null : characterName.s())
+                .frequency(NotificationFrequency.valueOf(item.get(FREQUENCY).s()))
+                .dueAt(Instant.parse(item.get(DUE_AT).s()))
+                .dueBucket(Instant.ofEpochSecond(Long.parseLong(item.get(DUE_BUCKET).n())))
+                .build();
+    }
+}
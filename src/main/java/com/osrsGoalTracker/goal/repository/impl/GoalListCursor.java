@@ -0,0 +1,57 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the continuation tokens of goal listings.
+ *
+ * <p>
+ * A token is the URL-safe Base64 of a version prefix and the ID of the last
+ * goal evaluated, so it holds everything needed to resume and no state is kept
+ * between requests. The user's ID is never part of the token; a listing always
+ * resumes within the partition of the user making the request.
+ */
+final class GoalListCursor {
+    private static final String PREFIX = "v1:";
+
+    private GoalListCursor() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Encodes the position after a goal.
+     *
+     * @param goalId The ID of the last goal evaluated
+     * @return The continuation token
+     */
+    static String encode(String goalId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + goalId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token.
+     *
+     * @param cursor The continuation token, or null to start from the first goal
+     * @return The ID of the goal to resume after, or null to start from the
+     *         first goal
+     * @throws IllegalArgumentException if the token was not produced by
+     *                                  {@link #encode(String)}
+     */
+    static String decode(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        if (!decoded.startsWith(PREFIX) || decoded.length() == PREFIX.length()) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return decoded.substring(PREFIX.length());
+    }
+}
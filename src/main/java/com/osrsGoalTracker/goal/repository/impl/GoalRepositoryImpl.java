@@ -1,9 +1,18 @@
 package com.osrsGoalTracker.goal.repository.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import com.google.inject.Inject;
 import com.osrsGoalTracker.goal.dao.GoalDao;
 import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
 import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalCreation;
+import com.osrsGoalTracker.goal.model.GoalCreationResult;
 import com.osrsGoalTracker.goal.repository.GoalRepository;
 
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +22,14 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 public class GoalRepositoryImpl implements GoalRepository {
+    /**
+     * Number of goal writes in flight at once, matching the DynamoDB batch
+     * write limit.
+     */
+    static final int WRITE_CHUNK_SIZE = 25;
+
     private final GoalDao goalDao;
+    private final ExecutorService writeExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     /**
      * Constructor for GoalRepositoryImpl.
@@ -29,7 +45,53 @@ public class GoalRepositoryImpl implements GoalRepository {
     public Goal createGoal(Goal goal, long currentProgress) {
         log.info("Creating goal for user {} targeting {}", goal.getUserId(), goal.getTargetAttribute());
 
-        GoalEntity goalEntity = GoalEntity.builder()
+        GoalEntity createdEntity = goalDao.createGoal(toEntity(goal), currentProgress);
+        return mapToGoal(createdEntity);
+    }
+
+    /**
+     * Creates several goals, writing up to {@link #WRITE_CHUNK_SIZE} goals
+     * concurrently and waiting for each chunk before starting the next. The
+     * goal DAO writes one goal at a time, so chunks bound the fan-out instead of
+     * being sent as a single batch request.
+     *
+     * @param creations The goals to create
+     * @return One result per goal, in the same order as the creations
+     */
+    @Override
+    public List<GoalCreationResult> createGoals(List<GoalCreation> creations) {
+        log.info("Creating {} goals in chunks of {}", creations.size(), WRITE_CHUNK_SIZE);
+        List<GoalCreationResult> results = new ArrayList<>(creations.size());
+        for (int start = 0; start < creations.size(); start += WRITE_CHUNK_SIZE) {
+            List<GoalCreation> chunk = creations.subList(start, Math.min(start + WRITE_CHUNK_SIZE, creations.size()));
+            List<Future<GoalEntity>> writes = new ArrayList<>(chunk.size());
+            for (GoalCreation creation : chunk) {
+                GoalEntity entity = toEntity(creation.getGoal());
+                writes.add(writeExecutor.submit(() -> goalDao.createGoal(entity, creation.getCurrentProgress())));
+            }
+            for (Future<GoalEntity> write : writes) {
+                results.add(awaitWrite(write));
+            }
+        }
+        return results;
+    }
+
+    private GoalCreationResult awaitWrite(Future<GoalEntity> write) {
+        try {
+            return GoalCreationResult.success(mapToGoal(write.get()));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            String error = cause.getMessage() != null ? cause.getMessage() : cause.toString();
+            log.error("Failed to create goal: {}", error);
+            return GoalCreationResult.failure(error);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return GoalCreationResult.failure("Interrupted creating goal");
+        }
+    }
+
+    private GoalEntity toEntity(Goal goal) {
+        return GoalEntity.builder()
                 .userId(goal.getUserId())
                 .characterName(goal.getCharacterName())
                 .targetAttribute(goal.getTargetAttribute())
@@ -39,14 +101,12 @@ public class GoalRepositoryImpl implements GoalRepository {
                 .notificationChannelType(goal.getNotificationChannelType())
                 .frequency(goal.getFrequency())
                 .build();
-
-        GoalEntity createdEntity = goalDao.createGoal(goalEntity, currentProgress);
-        return mapToGoal(createdEntity);
     }
 
     private Goal mapToGoal(GoalEntity entity) {
         return Goal.builder()
                 .userId(entity.getUserId())
+                .goalId(entity.getGoalId())
                 .characterName(entity.getCharacterName())
                 .targetAttribute(entity.getTargetAttribute())
                 .targetType(entity.getTargetType())
@@ -0,0 +1,40 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.osrsGoalTracker.goal.model.OutboxEvent;
+import com.osrsGoalTracker.goal.repository.GoalEventOutboxRepository;
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+
+/**
+ * GoalEventOutboxRepository that keeps unpublished events in memory for the
+ * lifetime of the process. Used when no progress table is configured.
+ */
+public class InMemoryGoalEventOutboxRepository implements GoalEventOutboxRepository {
+    private final Map<GoalProgressEvent, String> keysByEvent = new LinkedHashMap<>();
+
+    @Override
+    public synchronized void saveUnpublishedEvents(List<? extends GoalProgressEvent> unpublished) {
+        for (GoalProgressEvent event : unpublished) {
+            keysByEvent.putIfAbsent(event, UUID.randomUUID().toString());
+        }
+    }
+
+    @Override
+    public synchronized List<OutboxEvent> getUnpublishedEvents() {
+        List<OutboxEvent> events = new ArrayList<>(keysByEvent.size());
+        keysByEvent.forEach((event, key) -> events.add(OutboxEvent.builder().key(key).event(event).build()));
+        return events;
+    }
+
+    @Override
+    public synchronized void deleteUnpublishedEvents(List<OutboxEvent> published) {
+        for (OutboxEvent event : published) {
+            keysByEvent.remove(event.getEvent(), event.getKey());
+        }
+    }
+}
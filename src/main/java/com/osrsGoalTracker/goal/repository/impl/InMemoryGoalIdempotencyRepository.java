@@ -0,0 +1,73 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.repository.GoalIdempotencyRepository;
+
+/**
+ * GoalIdempotencyRepository that keeps idempotency records in memory for the
+ * lifetime of the process. Used when no progress table is configured.
+ */
+public class InMemoryGoalIdempotencyRepository implements GoalIdempotencyRepository {
+    private final Map<String, IdempotencyRecord> records = new HashMap<>();
+    private final long ttlSeconds;
+
+    /**
+     * Constructs a new InMemoryGoalIdempotencyRepository.
+     *
+     * @param config The goal configuration holding the idempotency TTL
+     */
+    public InMemoryGoalIdempotencyRepository(GoalConfig config) {
+        this.ttlSeconds = config.getIdempotencyTtl().getSeconds();
+    }
+
+    @Override
+    public synchronized boolean claim(String idempotencyKey, Instant now) {
+        IdempotencyRecord existing = records.get(idempotencyKey);
+        if (existing != null && existing.expiresAt.isAfter(now)
+                && (existing.goal != null || existing.claimedAt.plus(STALE_CLAIM_AGE).isAfter(now))) {
+            return false;
+        }
+        records.put(idempotencyKey, new IdempotencyRecord(null, now, now.plusSeconds(ttlSeconds)));
+        return true;
+    }
+
+    @Override
+    public synchronized Optional<Goal> getCreatedGoal(String idempotencyKey) {
+        IdempotencyRecord existing = records.get(idempotencyKey);
+        if (existing == null || !existing.expiresAt.isAfter(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(existing.goal);
+    }
+
+    @Override
+    public synchronized void complete(String idempotencyKey, Goal goal, Instant now) {
+        records.put(idempotencyKey, new IdempotencyRecord(goal, now, now.plusSeconds(ttlSeconds)));
+    }
+
+    @Override
+    public synchronized void release(String idempotencyKey) {
+        records.remove(idempotencyKey);
+    }
+
+    /**
+     * A claimed or completed request.
+     */
+    private static final class IdempotencyRecord {
+        private final Goal goal;
+        private final Instant claimedAt;
+        private final Instant expiresAt;
+
+        private IdempotencyRecord(Goal goal, Instant claimedAt, Instant expiresAt) {
+            this.goal = goal;
+            this.claimedAt = claimedAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalForecast;
+import com.osrsGoalTracker.goal.model.GoalListFilter;
+import com.osrsGoalTracker.goal.model.GoalPage;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+import com.osrsGoalTracker.goal.model.GoalStatus;
+import com.osrsGoalTracker.goal.model.GoalSummary;
+import com.osrsGoalTracker.goal.model.MetricNameResolver;
+import com.osrsGoalTracker.goal.repository.GoalProgressRepository;
+import com.osrsGoalTracker.utils.CharacterNameUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GoalProgressRepository that keeps progress in memory for the lifetime of the
+ * process. Used when no progress table is configured.
+ */
+@Slf4j
+public class InMemoryGoalProgressRepository implements GoalProgressRepository {
+    private final Map<String, GoalProgress> progressByGoalId = new ConcurrentHashMap<>();
+    private final AtomicReference<String> pollingCursor = new AtomicReference<>();
+
+    @Override
+    public void saveProgress(List<GoalProgress> progress) {
+        log.debug("Saving progress for {} goals", progress.size());
+        for (GoalProgress goalProgress : progress) {
+            progressByGoalId.put(goalProgress.getGoal().getGoalId(), goalProgress);
+        }
+    }
+
+    @Override
+    public Set<String> createProgress(List<GoalProgress> progress) {
+        Set<String> tracked = new HashSet<>();
+        for (GoalProgress goalProgress : progress) {
+            String goalId = goalProgress.getGoal().getGoalId();
+            if (progressByGoalId.putIfAbsent(goalId, goalProgress) != null) {
+                tracked.add(goalId);
+            }
+        }
+        return tracked;
+    }
+
+    @Override
+    public Set<String> updateProgress(List<GoalProgress> progress) {
+        Set<String> untracked = new HashSet<>();
+        for (GoalProgress goalProgress : progress) {
+            String goalId = goalProgress.getGoal().getGoalId();
+            if (progressByGoalId.computeIfPresent(goalId, (ignored, previous) -> goalProgress) == null) {
+                untracked.add(goalId);
+            }
+        }
+        return untracked;
+    }
+
+    @Override
+    public Optional<GoalProgress> getProgress(String userId, String goalId) {
+        return Optional.ofNullable(progressByGoalId.get(goalId));
+    }
+
+    @Override
+    public void deleteProgress(String userId, String goalId) {
+        progressByGoalId.remove(goalId);
+    }
+
+    @Override
+    public Iterator<GoalProgress> getActiveProgress(String afterCharacter) {
+        List<GoalProgress> active = new ArrayList<>();
+        for (GoalProgress goalProgress : progressByGoalId.values()) {
+            if (!goalProgress.isCompleted() && (afterCharacter == null
+                    || characterKey(goalProgress).compareTo(afterCharacter) > 0)) {
+                active.add(goalProgress);
+            }
+        }
+        active.sort(Comparator.comparing(InMemoryGoalProgressRepository::characterKey));
+        return active.iterator();
+    }
+
+    private static String characterKey(GoalProgress goalProgress) {
+        return CharacterNameUtils.normalize(goalProgress.getGoal().getCharacterName());
+    }
+
+    @Override
+    public GoalPage listGoals(String userId, GoalListFilter filter, String cursor, int limit) {
+        String after = GoalListCursor.decode(cursor);
+        List<GoalProgress> userGoals = new ArrayList<>();
+        for (GoalProgress goalProgress : progressByGoalId.values()) {
+            if (userId.equals(goalProgress.getGoal().getUserId())
+                    && (after == null || goalProgress.getGoal().getGoalId().compareTo(after) > 0)) {
+                userGoals.add(goalProgress);
+            }
+        }
+        userGoals.sort(Comparator.comparing(goalProgress -> goalProgress.getGoal().getGoalId()));
+
+        List<GoalSummary> goals = new ArrayList<>();
+        for (GoalProgress goalProgress : userGoals) {
+            if (!matches(goalProgress, filter)) {
+                continue;
+            }
+            if (goals.size() == limit) {
+                return GoalPage.builder()
+                        .goals(goals)
+                        .nextCursor(GoalListCursor.encode(goals.get(limit - 1).getGoalId()))
+                        .build();
+            }
+            goals.add(toSummary(goalProgress));
+        }
+        return GoalPage.builder().goals(goals).build();
+    }
+
+    @Override
+    public Optional<String> getPollingCursor() {
+        return Optional.ofNullable(pollingCursor.get());
+    }
+
+    @Override
+    public void savePollingCursor(String cursor) {
+        pollingCursor.set(cursor);
+    }
+
+    private static boolean matches(GoalProgress goalProgress, GoalListFilter filter) {
+        Goal goal = goalProgress.getGoal();
+        if (filter.getCharacterName() != null && !CharacterNameUtils.normalize(filter.getCharacterName())
+                .equals(CharacterNameUtils.normalize(goal.getCharacterName()))) {
+            return false;
+        }
+        if (filter.getMetric() != null
+                && filter.getMetric() != MetricNameResolver.lookup(goal.getTargetAttribute())) {
+            return false;
+        }
+        return filter.getStatus() == null
+                || goalProgress.isCompleted() == (filter.getStatus() == GoalStatus.COMPLETED);
+    }
+
+    private static GoalSummary toSummary(GoalProgress goalProgress) {
+        Goal goal = goalProgress.getGoal();
+        GoalForecast forecast = goalProgress.getForecast();
+        return GoalSummary.builder()
+                .goalId(goal.getGoalId())
+                .characterName(goal.getCharacterName())
+                .targetAttribute(goal.getTargetAttribute())
+                .targetType(goal.getTargetType())
+                .targetValue(goal.getTargetValue())
+                .targetDate(goal.getTargetDate())
+                .currentValue(goalProgress.getCurrentValue())
+                .percentComplete(goalProgress.getPercentComplete())
+                .completed(goalProgress.isCompleted())
+                .projectedCompletion(forecast == null ? null : forecast.getProjectedCompletion())
+                .atRisk(forecast != null && forecast.isAtRisk())
+                .updatedAt(goalProgress.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.goal.model.ScheduledGoal;
+import com.osrsGoalTracker.goal.repository.GoalScheduleRepository;
+
+/**
+ * GoalScheduleRepository that keeps schedules in memory for the lifetime of
+ * the process. Used when no progress table is configured.
+ */
+public class InMemoryGoalScheduleRepository implements GoalScheduleRepository {
+    private final Map<String, ScheduledGoal> schedulesByGoalId = new HashMap<>();
+    private final Map<Instant, Map<String, ScheduledGoal>> buckets = new HashMap<>();
+    private Instant tickCursor;
+
+    @Override
+    public synchronized Optional<ScheduledGoal> getSchedule(String goalId) {
+        return Optional.ofNullable(schedulesByGoalId.get(goalId));
+    }
+
+    @Override
+    public synchronized boolean saveSchedule(ScheduledGoal previous, ScheduledGoal next) {
+        ScheduledGoal current = schedulesByGoalId.get(next.getGoalId());
+        if (previous == null ? current != null
+                : current == null || !current.getDueBucket().equals(previous.getDueBucket())) {
+            return false;
+        }
+        if (previous != null) {
+            removeFromBucket(previous);
+        }
+        buckets.computeIfAbsent(next.getDueBucket(), ignored -> new HashMap<>()).put(next.getGoalId(), next);
+        schedulesByGoalId.put(next.getGoalId(), next);
+        return true;
+    }
+
+    @Override
+    public synchronized void deleteSchedule(ScheduledGoal scheduled) {
+        removeFromBucket(scheduled);
+        schedulesByGoalId.remove(scheduled.getGoalId());
+    }
+
+    @Override
+    public synchronized List<ScheduledGoal> getDueGoals(Instant dueBucket) {
+        Map<String, ScheduledGoal> bucket = buckets.get(dueBucket);
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket.values());
+    }
+
+    @Override
+    public synchronized Optional<Instant> getTickCursor() {
+        return Optional.ofNullable(tickCursor);
+    }
+
+    @Override
+    public synchronized void saveTickCursor(Instant dueBucket) {
+        tickCursor = dueBucket;
+    }
+
+    private void removeFromBucket(ScheduledGoal scheduled) {
+        Map<String, ScheduledGoal> bucket = buckets.get(scheduled.getDueBucket());
+        if (bucket != null) {
+            bucket.remove(scheduled.getGoalId());
+            if (bucket.isEmpty()) {
+                buckets.remove(scheduled.getDueBucket());
+            }
+        }
+    }
+}
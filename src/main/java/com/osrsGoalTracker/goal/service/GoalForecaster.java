@@ -0,0 +1,115 @@
+package com.osrsGoalTracker.goal.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalForecast;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+
+/**
+ * Projects when goals will be reached from their history of progress samples.
+ *
+ * <p>
+ * The only state kept per goal is an exponentially weighted moving average of
+ * its gain rate, stored in the goal's {@link GoalForecast}. Each new sample
+ * folds the rate since the previous sample into the average, weighted by how
+ * much time passed, so samples taken at irregular intervals count in
+ * proportion to the time they cover and a sample one half-life old carries
+ * half the weight of a new one. Updating a forecast is constant time whatever
+ * the length of the goal's history.
+ *
+ * <p>
+ * Samples and targets are in the units a goal is measured in, so a level goal
+ * is forecast from the experience gained against the experience its target
+ * level needs, rather than from levels, which take more experience the higher
+ * they are. The forecast keeps the value it was sampled at in those units, and
+ * the goal's level is derived from experience only for display.
+ *
+ * <p>
+ * A forecaster is immutable and can be shared between threads.
+ */
+public final class GoalForecaster {
+    private static final double MILLIS_PER_DAY = Duration.ofDays(1).toMillis();
+
+    /**
+     * Projections further out than this are treated as never completing.
+     */
+    private static final double MAX_PROJECTION_DAYS = 365.0 * 100;
+
+    private final double halfLifeMillis;
+
+    /**
+     * Constructs a new GoalForecaster.
+     *
+     * @param halfLife How long it takes for a sample's weight in the gain rate
+     *                 to halve
+     * @throws IllegalArgumentException if the half-life is not positive
+     */
+    public GoalForecaster(Duration halfLife) {
+        if (halfLife == null || halfLife.isNegative() || halfLife.isZero()) {
+            throw new IllegalArgumentException("Forecast half-life must be positive");
+        }
+        this.halfLifeMillis = halfLife.toMillis();
+    }
+
+    /**
+     * Updates a goal's forecast with a new progress sample. Values are in the
+     * units the goal is measured in: experience for level goals. A forecast
+     * that does not record the value it was sampled at has its gain rate
+     * discarded, as the rate may be in other units.
+     *
+     * @param previous      The goal's last recorded progress, holding the
+     *                      previous sample time and forecast
+     * @param previousValue The goal's previous measured value, used when the
+     *                      forecast does not record it
+     * @param currentValue  The goal's newly measured value
+     * @param targetValue   The measured value that reaches the goal
+     * @param now           When the value was measured
+     * @return The updated forecast, or null if there is no earlier sample to
+     *         measure a gain rate from
+     */
+    public GoalForecast update(GoalProgress previous, long previousValue, long currentValue, long targetValue,
+            Instant now) {
+        GoalForecast forecast = previous.getForecast();
+        if (forecast != null && forecast.getSampledValue() == null) {
+            forecast = null;
+        }
+        Instant sampledAt = previous.getUpdatedAt();
+        long elapsedMillis = sampledAt == null ? 0 : Duration.between(sampledAt, now).toMillis();
+        if (elapsedMillis <= 0) {
+            return forecast == null
+                    ? null
+                    : project(previous.getGoal(), currentValue, targetValue, forecast.getGainRatePerDay(), now);
+        }
+
+        long sampledValue = forecast == null ? previousValue : forecast.getSampledValue();
+        double sampleRate = Math.max(0, currentValue - sampledValue) * MILLIS_PER_DAY / elapsedMillis;
+        double rate = sampleRate;
+        if (forecast != null) {
+            double weight = 1 - Math.pow(0.5, elapsedMillis / halfLifeMillis);
+            rate = forecast.getGainRatePerDay() + weight * (sampleRate - forecast.getGainRatePerDay());
+        }
+        return project(previous.getGoal(), currentValue, targetValue, rate, now);
+    }
+
+    private static GoalForecast project(Goal goal, long currentValue, long targetValue, double gainRatePerDay,
+            Instant now) {
+        long remaining = targetValue - currentValue;
+        Instant projectedCompletion = null;
+        if (remaining <= 0) {
+            projectedCompletion = now;
+        } else if (gainRatePerDay > 0 && remaining / gainRatePerDay <= MAX_PROJECTION_DAYS) {
+            projectedCompletion = now.plusMillis(Math.round(remaining / gainRatePerDay * MILLIS_PER_DAY));
+        }
+
+        Instant targetDate = goal.getTargetDate();
+        boolean atRisk = targetDate != null && (projectedCompletion == null || projectedCompletion.isAfter(targetDate));
+        return GoalForecast.builder()
+                .gainRatePerDay(gainRatePerDay)
+                .sampledValue(currentValue)
+                .projectedCompletion(projectedCompletion)
+                .atRisk(atRisk)
+                .build();
+    }
+}
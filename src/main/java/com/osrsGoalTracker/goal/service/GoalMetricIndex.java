@@ -0,0 +1,223 @@
+package com.osrsGoalTracker.goal.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.goal.model.MetricNameResolver;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.model.MetricMask;
+import com.osrsGoalTracker.utils.CharacterNameUtils;
+
+/**
+ * In-memory inverted index from a character and a {@link MetricName} to the
+ * IDs of the goals that track that metric for that character.
+ *
+ * <p>
+ * Together with the metrics that changed between two snapshots, the index
+ * tells a polling run which of a character's goals can have moved, so only
+ * those are evaluated and written. Goals added since their character was last
+ * evaluated are always reported, so a new goal is measured once even if its
+ * metric has not moved. The index also keeps the last snapshot each character
+ * was evaluated against, which is what changes are measured from.
+ *
+ * <p>
+ * Characters are keyed by normalized name. Goals whose attribute is not a
+ * tracked metric are not indexed. All methods are synchronized, so one index
+ * can be shared between threads.
+ */
+public final class GoalMetricIndex {
+    private final NavigableMap<String, CharacterGoals> characters = new TreeMap<>();
+    private final Map<String, IndexedGoal> goalsById = new HashMap<>();
+
+    /**
+     * Indexes a goal, replacing any earlier entry for the same goal ID. The
+     * goal is reported as affected until its character is next evaluated.
+     *
+     * @param goal The goal to index
+     */
+    public synchronized void add(Goal goal) {
+        remove(goal.getGoalId());
+        MetricName metric = MetricNameResolver.resolve(goal.getTargetAttribute());
+        if (metric == null) {
+            return;
+        }
+        String characterKey = CharacterNameUtils.normalize(goal.getCharacterName());
+        CharacterGoals characterGoals = characters.computeIfAbsent(characterKey, ignored -> new CharacterGoals());
+        characterGoals.goalIdsByMetric.computeIfAbsent(metric, ignored -> new HashSet<>()).add(goal.getGoalId());
+        characterGoals.pendingGoalIds.add(goal.getGoalId());
+        goalsById.put(goal.getGoalId(), new IndexedGoal(characterKey, metric));
+    }
+
+    /**
+     * Removes a goal from the index. A character left with no goals is
+     * dropped together with its last evaluated snapshot.
+     *
+     * @param goalId The ID of the goal to remove
+     */
+    public synchronized void remove(String goalId) {
+        IndexedGoal indexed = goalsById.remove(goalId);
+        if (indexed == null) {
+            return;
+        }
+        CharacterGoals characterGoals = characters.get(indexed.characterKey);
+        Set<String> goalIds = characterGoals.goalIdsByMetric.get(indexed.metric);
+        goalIds.remove(goalId);
+        if (goalIds.isEmpty()) {
+            characterGoals.goalIdsByMetric.remove(indexed.metric);
+        }
+        characterGoals.pendingGoalIds.remove(goalId);
+        if (characterGoals.goalIdsByMetric.isEmpty()) {
+            characters.remove(indexed.characterKey);
+        }
+    }
+
+    /**
+     * Makes the index match a full set of goals, as read from the goal table:
+     * goals not yet indexed are added and indexed goals that are missing are
+     * removed. Goals already indexed keep their state.
+     *
+     * @param goals Every goal that should be indexed
+     */
+    public synchronized void sync(Collection<Goal> goals) {
+        sync(null, null, goals);
+    }
+
+    /**
+     * Makes the index match the goals of a range of characters, as read from
+     * the goal table in character order: goals not yet indexed are added and
+     * indexed goals of characters in the range that are missing are removed.
+     * Goals already indexed keep their state.
+     *
+     * @param afterCharacter   The normalized name the range starts after, or
+     *                         null to start with the first character
+     * @param throughCharacter The normalized name the range ends with, or null
+     *                         to run to the last character
+     * @param goals            Every goal of the characters in the range
+     */
+    public synchronized void sync(String afterCharacter, String throughCharacter, Collection<Goal> goals) {
+        Set<String> goalIds = new HashSet<>();
+        for (Goal goal : goals) {
+            goalIds.add(goal.getGoalId());
+            if (!goalsById.containsKey(goal.getGoalId())) {
+                add(goal);
+            }
+        }
+        NavigableMap<String, CharacterGoals> range = characters;
+        if (afterCharacter != null) {
+            range = range.tailMap(afterCharacter, false);
+        }
+        if (throughCharacter != null) {
+            range = range.headMap(throughCharacter, true);
+        }
+        List<String> missing = new ArrayList<>();
+        for (CharacterGoals characterGoals : range.values()) {
+            for (Set<String> indexedGoalIds : characterGoals.goalIdsByMetric.values()) {
+                for (String indexedGoalId : indexedGoalIds) {
+                    if (!goalIds.contains(indexedGoalId)) {
+                        missing.add(indexedGoalId);
+                    }
+                }
+            }
+        }
+        for (String goalId : missing) {
+            remove(goalId);
+        }
+    }
+
+    /**
+     * Returns the snapshot a character was last evaluated against.
+     *
+     * @param characterName The character's name, in any form
+     * @return The snapshot, or null if the character has not been evaluated
+     *         since it was indexed
+     */
+    public synchronized CharacterHiscoresSnapshot lastEvaluated(String characterName) {
+        CharacterGoals characterGoals = characters.get(CharacterNameUtils.normalize(characterName));
+        return characterGoals == null ? null : characterGoals.lastEvaluated;
+    }
+
+    /**
+     * Returns the IDs of a character's goals that track a changed metric,
+     * together with the character's goals that have not been evaluated yet.
+     *
+     * @param characterName  The character's name, in any form
+     * @param changedMetrics The metrics that changed since the character was
+     *                       last evaluated
+     * @return The IDs of the affected goals
+     */
+    public synchronized Set<String> affectedGoalIds(String characterName, MetricMask changedMetrics) {
+        CharacterGoals characterGoals = characters.get(CharacterNameUtils.normalize(characterName));
+        if (characterGoals == null) {
+            return Set.of();
+        }
+        Set<String> affected = new HashSet<>(characterGoals.pendingGoalIds);
+        for (MetricName metric : changedMetrics.toList()) {
+            Set<String> goalIds = characterGoals.goalIdsByMetric.get(metric);
+            if (goalIds != null) {
+                affected.addAll(goalIds);
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Records that a character's affected goals were evaluated against a
+     * snapshot and their progress written. Later changes are measured from
+     * this snapshot.
+     *
+     * @param characterName The character's name, in any form
+     * @param snapshot      The snapshot the goals were evaluated against
+     * @param goalIds       The IDs returned by
+     *                      {@link #affectedGoalIds(String, MetricMask)} for
+     *                      the snapshot
+     */
+    public synchronized void markEvaluated(String characterName, CharacterHiscoresSnapshot snapshot,
+            Collection<String> goalIds) {
+        CharacterGoals characterGoals = characters.get(CharacterNameUtils.normalize(characterName));
+        if (characterGoals != null) {
+            characterGoals.lastEvaluated = snapshot;
+            characterGoals.pendingGoalIds.removeAll(goalIds);
+        }
+    }
+
+    /**
+     * Returns the number of indexed goals.
+     *
+     * @return The number of goals
+     */
+    public synchronized int size() {
+        return goalsById.size();
+    }
+
+    /**
+     * The indexed goals of one character.
+     */
+    private static final class CharacterGoals {
+        private final Map<MetricName, Set<String>> goalIdsByMetric = new EnumMap<>(MetricName.class);
+        private final Set<String> pendingGoalIds = new HashSet<>();
+        private CharacterHiscoresSnapshot lastEvaluated;
+    }
+
+    /**
+     * Where a goal is indexed.
+     */
+    private static final class IndexedGoal {
+        private final String characterKey;
+        private final MetricName metric;
+
+        private IndexedGoal(String characterKey, MetricName metric) {
+            this.characterKey = characterKey;
+            this.metric = metric;
+        }
+    }
+}
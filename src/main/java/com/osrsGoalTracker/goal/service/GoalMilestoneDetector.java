@@ -0,0 +1,68 @@
+package com.osrsGoalTracker.goal.service;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+import com.osrsGoalTracker.orchestration.events.GoalCompletedEvent;
+import com.osrsGoalTracker.orchestration.events.GoalMilestoneReachedEvent;
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+
+/**
+ * Detects the milestones a goal passes between two progress samples.
+ *
+ * <p>
+ * The milestones are 25, 50 and 75 percent of the target, and completion. A
+ * goal that passes several milestones between samples reports only the
+ * highest, so a goal completed in one jump produces a single completion event
+ * rather than one event per milestone.
+ */
+public final class GoalMilestoneDetector {
+    private static final int[] MILESTONES = {75, 50, 25};
+
+    private GoalMilestoneDetector() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Returns the event for the highest milestone a goal passed.
+     *
+     * @param previous The goal's previous progress
+     * @param current  The goal's newly measured progress
+     * @return The event to publish, or null if no milestone was passed
+     */
+    public static GoalProgressEvent detect(GoalProgress previous, GoalProgress current) {
+        if (previous.isCompleted()) {
+            return null;
+        }
+        Goal goal = current.getGoal();
+        if (current.isCompleted()) {
+            return GoalCompletedEvent.builder()
+                    .userId(goal.getUserId())
+                    .goalId(goal.getGoalId())
+                    .characterName(goal.getCharacterName())
+                    .targetAttribute(goal.getTargetAttribute())
+                    .targetType(goal.getTargetType())
+                    .targetValue(goal.getTargetValue())
+                    .currentValue(current.getCurrentValue())
+                    .targetDate(goal.getTargetDate())
+                    .completedAt(current.getUpdatedAt())
+                    .build();
+        }
+        for (int milestone : MILESTONES) {
+            if (previous.getPercentComplete() < milestone && current.getPercentComplete() >= milestone) {
+                return GoalMilestoneReachedEvent.builder()
+                        .userId(goal.getUserId())
+                        .goalId(goal.getGoalId())
+                        .characterName(goal.getCharacterName())
+                        .targetAttribute(goal.getTargetAttribute())
+                        .targetType(goal.getTargetType())
+                        .targetValue(goal.getTargetValue())
+                        .currentValue(current.getCurrentValue())
+                        .milestone(milestone)
+                        .percentComplete(current.getPercentComplete())
+                        .reachedAt(current.getUpdatedAt())
+                        .build();
+            }
+        }
+        return null;
+    }
+}
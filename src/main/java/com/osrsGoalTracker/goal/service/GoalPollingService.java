@@ -0,0 +1,24 @@
+package com.osrsGoalTracker.goal.service;
+
+import java.util.function.LongSupplier;
+
+import com.osrsGoalTracker.goal.model.GoalPollingResult;
+
+/**
+ * Service interface for refreshing the progress of active goals from the
+ * hiscores.
+ */
+public interface GoalPollingService {
+    /**
+     * Refreshes the progress of active goals, fetching each character's
+     * hiscores once for all of its goals. A run resumes from where the previous
+     * unfinished run stopped and stops starting new characters when the
+     * remaining time falls below the configured reserve, recording where it
+     * stopped.
+     *
+     * @param remainingTimeMillis Supplies the time left before the caller's
+     *                            deadline, in milliseconds
+     * @return A summary of the run
+     */
+    GoalPollingResult pollProgress(LongSupplier remainingTimeMillis);
+}
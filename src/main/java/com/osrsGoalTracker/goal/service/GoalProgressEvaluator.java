@@ -0,0 +1,311 @@
+package com.osrsGoalTracker.goal.service;
+
+import java.util.List;
+import java.util.Locale;
+
+import com.osrsGoalTracker.goal.model.ExperienceTable;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.goal.model.MetricNameResolver;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evaluates every goal of one character against a hiscores snapshot.
+ *
+ * <p>
+ * Goals are compiled once, when the evaluator is created: each goal's
+ * {@code targetAttribute} is resolved to a {@link MetricName} and its
+ * {@code targetType} to the snapshot value it is measured against, and the
+ * results are kept in parallel arrays. Level targets are converted to the
+ * experience that level needs with {@link ExperienceTable}, so every skill
+ * goal is measured against experience and level goals show progress between
+ * levels. Evaluating a snapshot is then a single
+ * pass of array reads that writes into a {@link Progress} allocated up front,
+ * so no strings are compared and nothing is allocated per goal.
+ *
+ * <p>
+ * Goals whose attribute is not a tracked metric, whose target type does not
+ * apply to it (for example a level target for an activity) or whose target is
+ * not positive or, for a level, past the last virtual level are kept in position but never evaluated;
+ * {@link #isEvaluable(int)} reports them.
+ *
+ * <p>
+ * An evaluator is immutable and can be shared between threads. A
+ * {@link Progress} is not; use one per thread.
+ */
+@Slf4j
+public final class GoalProgressEvaluator {
+    private static final double PERCENT = 100.0;
+
+    private final Goal[] goals;
+    private final MetricName[] metrics;
+    private final boolean[] levelTargets;
+    private final long[] targets;
+
+    private GoalProgressEvaluator(List<Goal> goals) {
+        int size = goals.size();
+        this.goals = goals.toArray(new Goal[size]);
+        this.metrics = new MetricName[size];
+        this.levelTargets = new boolean[size];
+        this.targets = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            Goal goal = this.goals[i];
+            targets[i] = goal.getTargetValue();
+            MetricName metric = MetricNameResolver.resolve(goal.getTargetAttribute());
+            TargetType targetType = TargetType.fromName(goal.getTargetType());
+            if (metric == null || targetType == null || targets[i] <= 0
+                    || (targetType == TargetType.LEVEL
+                            && (!metric.isSkill() || targets[i] > ExperienceTable.MAX_VIRTUAL_LEVEL))) {
+                log.warn("Goal {} targets {} {} which cannot be evaluated",
+                        goal.getGoalId(), goal.getTargetType(), goal.getTargetAttribute());
+                continue;
+            }
+            metrics[i] = metric;
+            levelTargets[i] = targetType == TargetType.LEVEL;
+            if (levelTargets[i]) {
+                targets[i] = ExperienceTable.xpForLevel((int) targets[i]);
+            }
+        }
+    }
+
+    /**
+     * Compiles the goals of one character.
+     *
+     * @param goals The character's goals
+     * @return An evaluator for those goals, in the same order
+     * @throws IllegalArgumentException if goals is null or contains null
+     */
+    public static GoalProgressEvaluator compile(List<Goal> goals) {
+        if (goals == null) {
+            throw new IllegalArgumentException("goals cannot be null");
+        }
+        for (Goal goal : goals) {
+            if (goal == null) {
+                throw new IllegalArgumentException("goals cannot contain null");
+            }
+        }
+        return new GoalProgressEvaluator(goals);
+    }
+
+    /**
+     * Returns the number of compiled goals.
+     *
+     * @return The number of goals
+     */
+    public int size() {
+        return goals.length;
+    }
+
+    /**
+     * Returns a compiled goal.
+     *
+     * @param index The goal's position
+     * @return The goal
+     */
+    public Goal goalAt(int index) {
+        return goals[index];
+    }
+
+    /**
+     * Returns a goal's target in the units it is measured in: the experience
+     * the target level needs for level goals, otherwise the target value.
+     *
+     * @param index The goal's position
+     * @return The measured target
+     */
+    public long target(int index) {
+        return targets[index];
+    }
+
+    /**
+     * Converts a value reported for a goal to the units it is measured in. A
+     * reported level becomes the experience that level starts at; other values
+     * are already measured.
+     *
+     * @param index The goal's position
+     * @param value The reported value
+     * @return The measured value
+     */
+    public long toMeasured(int index, long value) {
+        if (!levelTargets[index]) {
+            return value;
+        }
+        return ExperienceTable.xpForLevel((int) Math.min(ExperienceTable.MAX_VIRTUAL_LEVEL, Math.max(1, value)));
+    }
+
+    /**
+     * Returns whether a goal resolved to a metric and value it can be measured
+     * against.
+     *
+     * @param index The goal's position
+     * @return True if the goal is evaluated
+     */
+    public boolean isEvaluable(int index) {
+        return metrics[index] != null;
+    }
+
+    /**
+     * Allocates a progress holder sized for these goals, to be reused across
+     * {@link #evaluate(CharacterHiscoresSnapshot, Progress)} calls.
+     *
+     * @return An empty progress holder
+     */
+    public Progress newProgress() {
+        return new Progress(goals.length);
+    }
+
+    /**
+     * Evaluates every goal against a snapshot into a new progress holder.
+     *
+     * @param snapshot The character's hiscores
+     * @return The progress of every goal
+     */
+    public Progress evaluate(CharacterHiscoresSnapshot snapshot) {
+        return evaluate(snapshot, newProgress());
+    }
+
+    /**
+     * Evaluates every goal against a snapshot, overwriting the given progress
+     * holder. Unranked metrics count as no progress, and goals that are not
+     * evaluable report no progress and are never complete. Level goals are
+     * complete once the skill has the experience the target level needs, and
+     * their percent complete is the share of that experience gained.
+     *
+     * @param snapshot The character's hiscores
+     * @param progress A holder from {@link #newProgress()}
+     * @return The progress holder
+     * @throws IllegalArgumentException if the holder was sized for different
+     *                                  goals
+     */
+    public Progress evaluate(CharacterHiscoresSnapshot snapshot, Progress progress) {
+        if (progress.currentValues.length != goals.length) {
+            throw new IllegalArgumentException("Progress was allocated for " + progress.currentValues.length
+                    + " goals, not " + goals.length);
+        }
+
+        int completed = 0;
+        for (int i = 0; i < goals.length; i++) {
+            MetricName metric = metrics[i];
+            long measured = 0;
+            long current = 0;
+            double percent = 0;
+            boolean complete = false;
+            if (metric != null) {
+                measured = Math.max(0, snapshot.valueOf(metric));
+                complete = measured >= targets[i];
+                percent = complete ? PERCENT : measured * PERCENT / targets[i];
+                current = levelTargets[i] ? ExperienceTable.levelForXp(measured) : measured;
+            }
+            progress.measuredValues[i] = measured;
+            progress.currentValues[i] = current;
+            progress.percentComplete[i] = percent;
+            progress.complete[i] = complete;
+            if (complete) {
+                completed++;
+            }
+        }
+        progress.completedCount = completed;
+        return progress;
+    }
+
+    /**
+     * Progress of every goal of an evaluator from one evaluation, indexed by
+     * goal position.
+     */
+    public static final class Progress {
+        private final long[] measuredValues;
+        private final long[] currentValues;
+        private final double[] percentComplete;
+        private final boolean[] complete;
+        private int completedCount;
+
+        private Progress(int size) {
+            this.measuredValues = new long[size];
+            this.currentValues = new long[size];
+            this.percentComplete = new double[size];
+            this.complete = new boolean[size];
+        }
+
+        /**
+         * Returns the value a goal is measured against: experience for level
+         * goals, otherwise the same as {@link #currentValue(int)}. Compare it
+         * with {@link GoalProgressEvaluator#target(int)}.
+         *
+         * @param index The goal's position
+         * @return The measured value
+         */
+        public long measuredValue(int index) {
+            return measuredValues[index];
+        }
+
+        /**
+         * Returns the character's current value for a goal's target: a level
+         * for level goals, counting virtual levels past 99, otherwise
+         * experience or score.
+         *
+         * @param index The goal's position
+         * @return The current value
+         */
+        public long currentValue(int index) {
+            return currentValues[index];
+        }
+
+        /**
+         * Returns how much of a goal's target has been reached, from 0 to 100.
+         *
+         * @param index The goal's position
+         * @return The percent complete
+         */
+        public double percentComplete(int index) {
+            return percentComplete[index];
+        }
+
+        /**
+         * Returns whether a goal's target has been reached.
+         *
+         * @param index The goal's position
+         * @return True if the goal is complete
+         */
+        public boolean isComplete(int index) {
+            return complete[index];
+        }
+
+        /**
+         * Returns the number of complete goals.
+         *
+         * @return The number of complete goals
+         */
+        public int completedCount() {
+            return completedCount;
+        }
+    }
+
+    /**
+     * The snapshot value a goal's target type is measured against.
+     */
+    private enum TargetType {
+        LEVEL,
+        VALUE;
+
+        private static TargetType fromName(String name) {
+            if (name == null) {
+                return VALUE;
+            }
+            switch (name.trim().toLowerCase(Locale.ROOT)) {
+                case "level":
+                    return LEVEL;
+                case "xp":
+                case "experience":
+                case "score":
+                case "kills":
+                case "kc":
+                    return VALUE;
+                default:
+                    return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.osrsGoalTracker.goal.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.ScheduledGoal;
+
+/**
+ * Service interface for scheduling goal progress notifications by frequency.
+ */
+public interface GoalSchedulingService {
+    /**
+     * Arms a goal's notification one period after {@code now}. A goal that is
+     * already scheduled at the same frequency keeps its schedule; a goal whose
+     * frequency changed is moved to its new due time; a goal with no known
+     * frequency is unscheduled.
+     *
+     * @param goal The goal to schedule
+     * @param now  The current time
+     */
+    void scheduleGoal(Goal goal, Instant now);
+
+    /**
+     * Removes a goal's notification schedule, if it has one.
+     *
+     * @param goalId The ID of the goal
+     */
+    void unscheduleGoal(String goalId);
+
+    /**
+     * Fires every notification in the due-time buckets that have fully passed
+     * since the last call, publishing a due notification event for each goal
+     * and then re-arming it for its next period. Goals that are already
+     * complete are not notified, and their schedule is removed.
+     *
+     * @param now The current time
+     * @return The notifications that fired, in bucket order, without those of
+     *         completed goals
+     */
+    List<ScheduledGoal> fireDueGoals(Instant now);
+}
@@ -1,11 +1,22 @@
 package com.osrsGoalTracker.goal.service;
 
+import java.util.List;
+
 import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalCreation;
+import com.osrsGoalTracker.goal.model.GoalCreationResult;
+import com.osrsGoalTracker.goal.model.GoalListFilter;
+import com.osrsGoalTracker.goal.model.GoalPage;
 
 /**
  * Service interface for managing goals.
  */
 public interface GoalService {
+    /**
+     * The largest page of goals {@link #listGoals} returns.
+     */
+    int MAX_LIST_LIMIT = 100;
+
     /**
      * Creates a new goal with the current progress.
      *
@@ -15,4 +26,71 @@ public interface GoalService {
      * @throws IllegalArgumentException if the goal is invalid
      */
     Goal createGoal(Goal goal, long currentProgress);
-}
\ No newline at end of file
+
+    /**
+     * Creates a new goal with the current progress at most once per request.
+     * A retry of a request that already created a goal returns that goal
+     * without creating another, and repeats only the follow-up steps.
+     *
+     * @param goal            The goal to create
+     * @param currentProgress The current progress towards the goal
+     * @param idempotencyKey  The key identifying the creation request
+     * @return The created goal, or the goal created by an earlier attempt of
+     *         the same request
+     * @throws IllegalArgumentException if the goal or key is invalid
+     * @throws IllegalStateException    if another attempt of the same request
+     *                                  is still in progress
+     */
+    Goal createGoal(Goal goal, long currentProgress, String idempotencyKey);
+
+    /**
+     * Creates several goals with their current progress. Every goal is
+     * validated first; invalid goals and failed writes are reported in their
+     * results without failing the other goals.
+     *
+     * @param creations The goals to create
+     * @return One result per goal, in the same order as the creations
+     * @throws IllegalArgumentException if no goals are given
+     */
+    List<GoalCreationResult> createGoals(List<GoalCreation> creations);
+
+    /**
+     * Starts tracking goals that already exist in the goal store but have no
+     * progress yet, such as goals created before progress was tracked. The
+     * goals are not written again; their progress is saved and they are
+     * scheduled and indexed as if they had just been created. Goals that are
+     * already tracked keep their progress, so tracking the same goals again
+     * changes nothing.
+     *
+     * @param existing The existing goals, with their IDs, and the progress
+     *                 each was last known to have
+     * @return One result per goal, in the same order
+     * @throws IllegalArgumentException if existing is null or empty
+     */
+    List<GoalCreationResult> trackGoals(List<GoalCreation> existing);
+
+    /**
+     * Deletes a goal, so it is no longer polled or notified.
+     *
+     * @param userId The ID of the user who owns the goal
+     * @param goalId The ID of the goal
+     * @throws IllegalArgumentException if either ID is null or empty
+     */
+    void deleteGoal(String userId, String goalId);
+
+    /**
+     * Lists one page of a user's goals in goal ID order.
+     *
+     * @param userId The ID of the user
+     * @param filter The conditions listed goals must meet, or null to list
+     *               every goal
+     * @param cursor The token returned with the previous page, or null for the
+     *               first page
+     * @param limit  The maximum number of goals to return, from 1 to
+     *               {@value #MAX_LIST_LIMIT}
+     * @return The page of goals
+     * @throws IllegalArgumentException if the user ID, cursor or limit is
+     *                                  invalid
+     */
+    GoalPage listGoals(String userId, GoalListFilter filter, String cursor, int limit);
+}
@@ -0,0 +1,435 @@
+package com.osrsGoalTracker.goal.service.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.external.GoalEventPublisher;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalPollingResult;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+import com.osrsGoalTracker.goal.model.OutboxEvent;
+import com.osrsGoalTracker.goal.repository.GoalEventOutboxRepository;
+import com.osrsGoalTracker.goal.repository.GoalProgressRepository;
+import com.osrsGoalTracker.goal.service.GoalForecaster;
+import com.osrsGoalTracker.goal.service.GoalMetricIndex;
+import com.osrsGoalTracker.goal.service.GoalMilestoneDetector;
+import com.osrsGoalTracker.goal.service.GoalPollingService;
+import com.osrsGoalTracker.goal.service.GoalProgressEvaluator;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.model.MetricMask;
+import com.osrsGoalTracker.hiscore.service.HiscoresService;
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+import com.osrsGoalTracker.utils.CharacterNameUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of the GoalPollingService interface.
+ *
+ * <p>
+ * Active goals are read in normalized character name order, starting after
+ * the cursor, and polled in rounds of up to {@code pollingParallelism}
+ * characters. Each round is read from the repository only once the remaining
+ * time allows polling it, so a run reads no more goals than it polls. Each round
+ * fetches its characters' hiscores concurrently, recording each snapshot in
+ * the character's hiscores history, evaluates each character's
+ * goals against its snapshot, updates each goal's completion forecast from
+ * its previous progress, writes the progress and then records the round's last
+ * character as the cursor. A run that stops early therefore resumes after the
+ * last character whose progress was written. Progress is written only for
+ * goals that are still tracked, so a goal deleted during a run is neither
+ * recreated nor reported.
+ *
+ * <p>
+ * Only goals whose metric changed since their character was last evaluated
+ * are evaluated and written, so the cost of a character follows what moved
+ * rather than how many goals it has. The changed metrics come from comparing
+ * the new snapshot with the last one the character was evaluated against,
+ * and a {@link GoalMetricIndex} synced with each round's active goals maps
+ * them to goals. Goals new to the index are always evaluated
+ * once. Both are held in memory, so the first run of a fresh instance
+ * evaluates every goal. A goal whose metric has not changed is still
+ * evaluated against the snapshot already fetched once its progress is from an
+ * earlier UTC day, so its forecast and at-risk flag are re-projected at least
+ * once a day as time passes without progress.
+ *
+ * <p>
+ * Goals that pass a milestone or complete are detected as they are evaluated.
+ * A round's events are kept only once its progress is written, so a round
+ * that fails is detected again by the next run. Events are collected across
+ * rounds and published whenever a whole request's worth has built up, and the
+ * remainder when the run ends, stops or fails. A run therefore makes one
+ * publish request per {@link GoalEventPublisher#MAX_BATCH_SIZE} events rather
+ * than one per goal. Events that cannot be published are kept in the
+ * {@link GoalEventOutboxRepository}, and each run first publishes the events
+ * kept by earlier runs, so an event whose progress was written is not lost.
+ */
+@Slf4j
+public class GoalPollingServiceImpl implements GoalPollingService {
+    private final GoalProgressRepository goalProgressRepository;
+    private final HiscoresService hiscoresService;
+    private final int parallelism;
+    private final long timeReserveMillis;
+    private final long fetchTimeoutNanos;
+    private final GoalForecaster forecaster;
+    private final GoalEventPublisher eventPublisher;
+    private final GoalEventOutboxRepository eventOutbox;
+    private final GoalMetricIndex metricIndex;
+    private final ExecutorService fetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Constructor for GoalPollingServiceImpl.
+     *
+     * @param goalProgressRepository The goal progress repository
+     * @param hiscoresService        The service to fetch hiscores through
+     * @param eventPublisher         The publisher for milestone and completion
+     *                               events
+     * @param eventOutbox            The outbox keeping events that could not be
+     *                               published
+     * @param metricIndex            The index of goals by character and metric
+     * @param config                 The goal configuration holding the polling
+     *                               parallelism, time reserve and forecast
+     *                               half-life
+     */
+    @Inject
+    public GoalPollingServiceImpl(GoalProgressRepository goalProgressRepository, HiscoresService hiscoresService,
+            GoalEventPublisher eventPublisher, GoalEventOutboxRepository eventOutbox, GoalMetricIndex metricIndex,
+            GoalConfig config) {
+        if (config.getPollingParallelism() < 1) {
+            throw new IllegalArgumentException("Polling parallelism must be at least 1");
+        }
+        if (config.getPollingFetchTimeout().compareTo(config.getPollingTimeReserve()) >= 0) {
+            throw new IllegalArgumentException("Polling fetch timeout must be shorter than the polling time reserve");
+        }
+        this.goalProgressRepository = goalProgressRepository;
+        this.hiscoresService = hiscoresService;
+        this.parallelism = config.getPollingParallelism();
+        this.timeReserveMillis = config.getPollingTimeReserve().toMillis();
+        this.fetchTimeoutNanos = config.getPollingFetchTimeout().toNanos();
+        this.forecaster = new GoalForecaster(config.getForecastHalfLife());
+        this.eventPublisher = eventPublisher;
+        this.eventOutbox = eventOutbox;
+        this.metricIndex = metricIndex;
+    }
+
+    @Override
+    public GoalPollingResult pollProgress(LongSupplier remainingTimeMillis) {
+        retryUnpublishedEvents();
+        String cursor = goalProgressRepository.getPollingCursor().orElse(null);
+        CharacterReader characters = new CharacterReader(goalProgressRepository.getActiveProgress(cursor));
+        log.info("Polling characters with active goals, resuming after {}", cursor);
+
+        int polled = 0;
+        int failed = 0;
+        int updated = 0;
+        List<GoalProgressEvent> events = new ArrayList<>();
+        while (true) {
+            if (remainingTimeMillis.getAsLong() < timeReserveMillis) {
+                log.info("Stopping polling after {} with {} ms remaining", cursor, remainingTimeMillis.getAsLong());
+                flush(events, true);
+                return GoalPollingResult.builder()
+                        .charactersPolled(polled)
+                        .charactersFailed(failed)
+                        .goalsUpdated(updated)
+                        .complete(false)
+                        .cursor(cursor)
+                        .build();
+            }
+
+            List<Map.Entry<String, List<GoalProgress>>> round;
+            RoundResult result = new RoundResult();
+            Set<String> deletedGoalIds;
+            try {
+                round = characters.nextRound(parallelism);
+                if (round.isEmpty()) {
+                    break;
+                }
+                syncIndex(cursor, round);
+                pollRound(round, result);
+                deletedGoalIds = goalProgressRepository.updateProgress(result.progress);
+            } catch (RuntimeException e) {
+                flush(events, true);
+                throw e;
+            }
+            for (CharacterEvaluation evaluation : result.evaluations) {
+                metricIndex.markEvaluated(evaluation.characterName, evaluation.snapshot, evaluation.goalIds);
+            }
+            for (String goalId : deletedGoalIds) {
+                metricIndex.remove(goalId);
+            }
+            for (GoalProgressEvent event : result.events) {
+                if (!deletedGoalIds.contains(event.getGoalId())) {
+                    events.add(event);
+                }
+            }
+            cursor = round.get(round.size() - 1).getKey();
+            goalProgressRepository.savePollingCursor(cursor);
+            flush(events, false);
+
+            polled += round.size() - result.failures;
+            failed += result.failures;
+            updated += result.progress.size() - deletedGoalIds.size();
+        }
+
+        metricIndex.sync(cursor, null, List.of());
+        goalProgressRepository.savePollingCursor(null);
+        flush(events, true);
+        log.info("Polled {} characters, {} failed, {} goals updated", polled, failed, updated);
+        return GoalPollingResult.builder()
+                .charactersPolled(polled)
+                .charactersFailed(failed)
+                .goalsUpdated(updated)
+                .complete(true)
+                .build();
+    }
+
+    /**
+     * Makes the metric index match the active goals of a round's characters
+     * and of the characters between the previous round and this one, which no
+     * longer have active goals.
+     *
+     * @param cursor The last character of the previous round, or null
+     * @param round  The round's characters and their goals
+     */
+    private void syncIndex(String cursor, List<Map.Entry<String, List<GoalProgress>>> round) {
+        List<Goal> goals = new ArrayList<>();
+        for (Map.Entry<String, List<GoalProgress>> character : round) {
+            for (GoalProgress goalProgress : character.getValue()) {
+                goals.add(goalProgress.getGoal());
+            }
+        }
+        metricIndex.sync(cursor, round.get(round.size() - 1).getKey(), goals);
+    }
+
+    /**
+     * Publishes the events earlier runs could not publish, removing those
+     * that are published from the outbox.
+     */
+    private void retryUnpublishedEvents() {
+        List<OutboxEvent> unpublished = eventOutbox.getUnpublishedEvents();
+        if (unpublished.isEmpty()) {
+            return;
+        }
+        log.info("Retrying {} unpublished goal progress events", unpublished.size());
+        List<GoalProgressEvent> events = new ArrayList<>(unpublished.size());
+        for (OutboxEvent kept : unpublished) {
+            events.add(kept.getEvent());
+        }
+        Set<GoalProgressEvent> failed = new HashSet<>(eventPublisher.publish(events));
+        List<OutboxEvent> published = new ArrayList<>(unpublished.size());
+        for (OutboxEvent kept : unpublished) {
+            if (!failed.contains(kept.getEvent())) {
+                published.add(kept);
+            }
+        }
+        eventOutbox.deleteUnpublishedEvents(published);
+    }
+
+    /**
+     * Publishes collected events and removes them from the list, keeping any
+     * that could not be published in the outbox. Unless all are flushed, only
+     * whole requests' worth are published and the remainder is kept for the
+     * next flush.
+     *
+     * @param events The events collected so far
+     * @param all    Whether to publish a final, partial request
+     */
+    private void flush(List<GoalProgressEvent> events, boolean all) {
+        int count = all ? events.size() : events.size() - events.size() % GoalEventPublisher.MAX_BATCH_SIZE;
+        if (count == 0) {
+            return;
+        }
+        List<GoalProgressEvent> batch = events.subList(0, count);
+        List<GoalProgressEvent> unpublished = eventPublisher.publish(new ArrayList<>(batch));
+        batch.clear();
+        if (!unpublished.isEmpty()) {
+            log.warn("Keeping {} unpublished goal progress events for the next run", unpublished.size());
+            eventOutbox.saveUnpublishedEvents(unpublished);
+        }
+    }
+
+    /**
+     * Fetches and evaluates one round of characters concurrently. The round
+     * waits for its fetches until the fetch timeout has passed since it
+     * started; characters not fetched by then count as failed.
+     *
+     * @param round  The characters and their goals' previous progress
+     * @param result Receives the round's progress, events and evaluations
+     */
+    private void pollRound(List<Map.Entry<String, List<GoalProgress>>> round, RoundResult result) {
+        List<Future<CharacterHiscoresSnapshot>> fetches = new ArrayList<>(round.size());
+        for (Map.Entry<String, List<GoalProgress>> character : round) {
+            String characterName = character.getValue().get(0).getGoal().getCharacterName();
+            fetches.add(fetchExecutor.submit(() -> hiscoresService.recordCharacterHiscoresSnapshot(characterName)));
+        }
+
+        Instant now = Instant.now();
+        long deadlineNanos = System.nanoTime() + fetchTimeoutNanos;
+        for (int i = 0; i < round.size(); i++) {
+            CharacterHiscoresSnapshot snapshot = awaitFetch(round.get(i).getKey(), fetches.get(i), deadlineNanos);
+            if (snapshot == null) {
+                result.failures++;
+                continue;
+            }
+            evaluate(round.get(i).getKey(), round.get(i).getValue(), snapshot, now, result);
+        }
+    }
+
+    private CharacterHiscoresSnapshot awaitFetch(String characterName, Future<CharacterHiscoresSnapshot> fetch,
+            long deadlineNanos) {
+        try {
+            long remainingNanos = Math.max(0, deadlineNanos - System.nanoTime());
+            return fetch.get(remainingNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            fetch.cancel(true);
+            log.warn("Timed out fetching hiscores for {}", characterName);
+            return null;
+        } catch (ExecutionException e) {
+            log.warn("Failed to fetch hiscores for {}: {}", characterName, e.getCause().getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted polling goal progress", e);
+        }
+    }
+
+    /**
+     * Evaluates the goals of one character that the metric index reports as
+     * affected by the metrics that changed since the character was last
+     * evaluated, and those whose progress was last written before the current
+     * UTC day.
+     *
+     * @param characterName  The character's normalized name
+     * @param characterGoals The previous progress of every active goal of the
+     *                       character
+     * @param snapshot       The character's new snapshot
+     * @param now            When the round started
+     * @param result         Receives the progress and events of the evaluated
+     *                       goals and the character's evaluation
+     */
+    private void evaluate(String characterName, List<GoalProgress> characterGoals,
+            CharacterHiscoresSnapshot snapshot, Instant now, RoundResult result) {
+        MetricMask changedMetrics = snapshot.changedMetrics(metricIndex.lastEvaluated(characterName));
+        Set<String> affectedGoalIds = metricIndex.affectedGoalIds(characterName, changedMetrics);
+        result.evaluations.add(new CharacterEvaluation(characterName, snapshot, affectedGoalIds));
+
+        Instant startOfDay = now.truncatedTo(ChronoUnit.DAYS);
+        List<GoalProgress> previous = new ArrayList<>(affectedGoalIds.size());
+        List<Goal> goals = new ArrayList<>(affectedGoalIds.size());
+        for (GoalProgress goalProgress : characterGoals) {
+            Instant updatedAt = goalProgress.getUpdatedAt();
+            if (affectedGoalIds.contains(goalProgress.getGoal().getGoalId())
+                    || updatedAt == null || updatedAt.isBefore(startOfDay)) {
+                previous.add(goalProgress);
+                goals.add(goalProgress.getGoal());
+            }
+        }
+        if (goals.isEmpty()) {
+            return;
+        }
+        GoalProgressEvaluator evaluator = GoalProgressEvaluator.compile(goals);
+        GoalProgressEvaluator.Progress evaluated = evaluator.evaluate(snapshot);
+        for (int i = 0; i < evaluator.size(); i++) {
+            if (!evaluator.isEvaluable(i)) {
+                continue;
+            }
+            GoalProgress current = GoalProgress.builder()
+                    .goal(evaluator.goalAt(i))
+                    .currentValue(evaluated.currentValue(i))
+                    .percentComplete(evaluated.percentComplete(i))
+                    .completed(evaluated.isComplete(i))
+                    .updatedAt(now)
+                    .forecast(forecaster.update(previous.get(i),
+                            evaluator.toMeasured(i, previous.get(i).getCurrentValue()), evaluated.measuredValue(i),
+                            evaluator.target(i), now))
+                    .build();
+            result.progress.add(current);
+            GoalProgressEvent event = GoalMilestoneDetector.detect(previous.get(i), current);
+            if (event != null) {
+                result.events.add(event);
+            }
+        }
+    }
+
+    /**
+     * Reads active goals, which arrive ordered by character, a round of
+     * characters at a time. Goals are read from the repository only as rounds
+     * are taken.
+     */
+    private static final class CharacterReader {
+        private final Iterator<GoalProgress> active;
+        private GoalProgress next;
+
+        private CharacterReader(Iterator<GoalProgress> active) {
+            this.active = active;
+        }
+
+        /**
+         * Takes the next characters with all of their goals.
+         *
+         * @param size The most characters to take
+         * @return The characters by normalized name, empty once all are read
+         */
+        private List<Map.Entry<String, List<GoalProgress>>> nextRound(int size) {
+            List<Map.Entry<String, List<GoalProgress>>> round = new ArrayList<>(size);
+            while (round.size() < size) {
+                if (next == null) {
+                    if (!active.hasNext()) {
+                        break;
+                    }
+                    next = active.next();
+                }
+                String characterName = CharacterNameUtils.normalize(next.getGoal().getCharacterName());
+                List<GoalProgress> goals = new ArrayList<>();
+                while (next != null
+                        && characterName.equals(CharacterNameUtils.normalize(next.getGoal().getCharacterName()))) {
+                    goals.add(next);
+                    next = active.hasNext() ? active.next() : null;
+                }
+                round.add(Map.entry(characterName, goals));
+            }
+            return round;
+        }
+    }
+
+    /**
+     * What one round produced. Its evaluations are recorded in the metric
+     * index only once its progress is written.
+     */
+    private static final class RoundResult {
+        private final List<GoalProgress> progress = new ArrayList<>();
+        private final List<GoalProgressEvent> events = new ArrayList<>();
+        private final List<CharacterEvaluation> evaluations = new ArrayList<>();
+        private int failures;
+    }
+
+    /**
+     * The snapshot a character was evaluated against and the goals evaluated.
+     */
+    private static final class CharacterEvaluation {
+        private final String characterName;
+        private final CharacterHiscoresSnapshot snapshot;
+        private final Set<String> goalIds;
+
+        private CharacterEvaluation(String characterName, CharacterHiscoresSnapshot snapshot, Set<String> goalIds) {
+            this.characterName = characterName;
+            this.snapshot = snapshot;
+            this.goalIds = goalIds;
+        }
+    }
+}
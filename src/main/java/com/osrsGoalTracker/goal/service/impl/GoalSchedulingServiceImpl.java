@@ -0,0 +1,190 @@
+package com.osrsGoalTracker.goal.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.external.GoalEventPublisher;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+import com.osrsGoalTracker.goal.model.NotificationFrequency;
+import com.osrsGoalTracker.goal.model.ScheduledGoal;
+import com.osrsGoalTracker.goal.repository.GoalProgressRepository;
+import com.osrsGoalTracker.goal.repository.GoalScheduleRepository;
+import com.osrsGoalTracker.goal.service.GoalSchedulingService;
+import com.osrsGoalTracker.orchestration.events.GoalNotificationDueEvent;
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of the GoalSchedulingService interface.
+ *
+ * <p>
+ * Notifications are filed in fixed-width due-time buckets. A tick reads only
+ * the buckets that have passed since the last tick, one bucket at a time, and
+ * records each as done before moving on, so a failed tick resumes at the bucket
+ * it stopped in. Firing a notification publishes a
+ * {@link GoalNotificationDueEvent} for it and then re-arms it in the bucket of
+ * its next due time, skipping periods that have already passed. Each due goal's
+ * progress is read first, and a goal that is already complete is not notified;
+ * its schedule is removed instead. A goal with no progress yet is notified.
+ *
+ * <p>
+ * A bucket's events are published {@link GoalEventPublisher#MAX_BATCH_SIZE} at
+ * a time, and a batch is re-armed only once all of its events are published.
+ * If any are not, the tick stops without recording the bucket as done, so the
+ * next tick publishes the batch again. Notifications are therefore delivered
+ * at least once. Re-arming only replaces the schedule that was fired, so a goal
+ * deleted or rescheduled during the tick keeps its newer state.
+ */
+@Slf4j
+public class GoalSchedulingServiceImpl implements GoalSchedulingService {
+    private final GoalScheduleRepository goalScheduleRepository;
+    private final GoalProgressRepository goalProgressRepository;
+    private final GoalEventPublisher eventPublisher;
+    private final long bucketWidthSeconds;
+
+    /**
+     * Constructor for GoalSchedulingServiceImpl.
+     *
+     * @param goalScheduleRepository The goal schedule repository
+     * @param goalProgressRepository The goal progress repository due goals
+     *                               are checked for completion in
+     * @param eventPublisher         The publisher due notifications are sent
+     *                               through
+     * @param config                 The goal configuration holding the bucket
+     *                               width
+     */
+    @Inject
+    public GoalSchedulingServiceImpl(GoalScheduleRepository goalScheduleRepository,
+            GoalProgressRepository goalProgressRepository, GoalEventPublisher eventPublisher, GoalConfig config) {
+        Duration bucketWidth = config.getScheduleBucketWidth();
+        if (bucketWidth.getSeconds() < 1 || bucketWidth.getNano() != 0) {
+            throw new IllegalArgumentException("Schedule bucket width must be a whole number of seconds");
+        }
+        this.goalScheduleRepository = goalScheduleRepository;
+        this.goalProgressRepository = goalProgressRepository;
+        this.eventPublisher = eventPublisher;
+        this.bucketWidthSeconds = bucketWidth.getSeconds();
+    }
+
+    @Override
+    public void scheduleGoal(Goal goal, Instant now) {
+        NotificationFrequency frequency = NotificationFrequency.fromName(goal.getFrequency());
+        Optional<ScheduledGoal> existing = goalScheduleRepository.getSchedule(goal.getGoalId());
+        if (frequency == null) {
+            log.warn("Goal {} has unknown frequency {} and will not be notified", goal.getGoalId(),
+                    goal.getFrequency());
+            existing.ifPresent(goalScheduleRepository::deleteSchedule);
+            return;
+        }
+        if (existing.isPresent() && existing.get().getFrequency() == frequency) {
+            return;
+        }
+
+        Instant dueAt = frequency.next(now);
+        log.info("Scheduling {} notification for goal {} at {}", frequency, goal.getGoalId(), dueAt);
+        boolean saved = goalScheduleRepository.saveSchedule(existing.orElse(null), ScheduledGoal.builder()
+                .userId(goal.getUserId())
+                .goalId(goal.getGoalId())
+                .characterName(goal.getCharacterName())
+                .frequency(frequency)
+                .dueAt(dueAt)
+                .dueBucket(bucketOf(dueAt))
+                .build());
+        if (!saved) {
+            log.warn("Schedule of goal {} changed while it was being rescheduled, keeping the newer schedule",
+                    goal.getGoalId());
+        }
+    }
+
+    @Override
+    public void unscheduleGoal(String goalId) {
+        goalScheduleRepository.getSchedule(goalId).ifPresent(goalScheduleRepository::deleteSchedule);
+    }
+
+    @Override
+    public List<ScheduledGoal> fireDueGoals(Instant now) {
+        Instant lastFired = goalScheduleRepository.getTickCursor()
+                .orElse(bucketOf(now).minusSeconds(2 * bucketWidthSeconds));
+        List<ScheduledGoal> fired = new ArrayList<>();
+        for (Instant bucket = lastFired.plusSeconds(bucketWidthSeconds);
+                !bucket.plusSeconds(bucketWidthSeconds).isAfter(now);
+                bucket = bucket.plusSeconds(bucketWidthSeconds)) {
+            List<ScheduledGoal> due = withoutCompletedGoals(goalScheduleRepository.getDueGoals(bucket));
+            for (int start = 0; start < due.size(); start += GoalEventPublisher.MAX_BATCH_SIZE) {
+                List<ScheduledGoal> batch = due.subList(start,
+                        Math.min(start + GoalEventPublisher.MAX_BATCH_SIZE, due.size()));
+                List<GoalProgressEvent> unpublished = eventPublisher.publish(toEvents(batch));
+                if (!unpublished.isEmpty()) {
+                    log.error("Failed to publish {} of {} due notifications in bucket {}, retrying it next tick",
+                            unpublished.size(), batch.size(), bucket);
+                    return fired;
+                }
+                for (ScheduledGoal scheduled : batch) {
+                    if (!goalScheduleRepository.saveSchedule(scheduled, rearm(scheduled, now))) {
+                        log.info("Goal {} was unscheduled or rescheduled while firing, not re-arming it",
+                                scheduled.getGoalId());
+                    }
+                    fired.add(scheduled);
+                }
+            }
+            goalScheduleRepository.saveTickCursor(bucket);
+        }
+        log.info("Fired {} goal notifications", fired.size());
+        return fired;
+    }
+
+    private List<ScheduledGoal> withoutCompletedGoals(List<ScheduledGoal> due) {
+        List<ScheduledGoal> pending = new ArrayList<>(due.size());
+        for (ScheduledGoal scheduled : due) {
+            Optional<GoalProgress> progress = goalProgressRepository.getProgress(scheduled.getUserId(),
+                    scheduled.getGoalId());
+            if (progress.isPresent() && progress.get().isCompleted()) {
+                log.info("Goal {} is complete, removing its notification schedule", scheduled.getGoalId());
+                goalScheduleRepository.deleteSchedule(scheduled);
+            } else {
+                pending.add(scheduled);
+            }
+        }
+        return pending;
+    }
+
+    private static List<GoalNotificationDueEvent> toEvents(List<ScheduledGoal> due) {
+        List<GoalNotificationDueEvent> events = new ArrayList<>(due.size());
+        for (ScheduledGoal scheduled : due) {
+            events.add(GoalNotificationDueEvent.builder()
+                    .userId(scheduled.getUserId())
+                    .goalId(scheduled.getGoalId())
+                    .characterName(scheduled.getCharacterName())
+                    .frequency(scheduled.getFrequency().name())
+                    .dueAt(scheduled.getDueAt())
+                    .build());
+        }
+        return events;
+    }
+
+    private ScheduledGoal rearm(ScheduledGoal scheduled, Instant now) {
+        Instant dueAt = scheduled.getFrequency().next(scheduled.getDueAt());
+        while (!dueAt.isAfter(now)) {
+            dueAt = scheduled.getFrequency().next(dueAt);
+        }
+        return ScheduledGoal.builder()
+                .userId(scheduled.getUserId())
+                .goalId(scheduled.getGoalId())
+                .characterName(scheduled.getCharacterName())
+                .frequency(scheduled.getFrequency())
+                .dueAt(dueAt)
+                .dueBucket(bucketOf(dueAt))
+                .build();
+    }
+
+    private Instant bucketOf(Instant time) {
+        return Instant.ofEpochSecond(Math.floorDiv(time.getEpochSecond(), bucketWidthSeconds) * bucketWidthSeconds);
+    }
+}
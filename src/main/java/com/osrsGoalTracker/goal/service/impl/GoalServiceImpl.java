@@ -1,10 +1,25 @@
 package com.osrsGoalTracker.goal.service.impl;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import com.google.inject.Inject;
 import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalCreation;
+import com.osrsGoalTracker.goal.model.GoalCreationResult;
+import com.osrsGoalTracker.goal.model.GoalListFilter;
+import com.osrsGoalTracker.goal.model.GoalPage;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+import com.osrsGoalTracker.goal.repository.GoalIdempotencyRepository;
+import com.osrsGoalTracker.goal.repository.GoalProgressRepository;
 import com.osrsGoalTracker.goal.repository.GoalRepository;
+import com.osrsGoalTracker.goal.service.GoalMetricIndex;
+import com.osrsGoalTracker.goal.service.GoalProgressEvaluator;
+import com.osrsGoalTracker.goal.service.GoalSchedulingService;
 import com.osrsGoalTracker.goal.service.GoalService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -14,16 +29,35 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 public class GoalServiceImpl implements GoalService {
+    private static final double PERCENT = 100.0;
+
     private final GoalRepository goalRepository;
+    private final GoalProgressRepository goalProgressRepository;
+    private final GoalSchedulingService goalSchedulingService;
+    private final GoalIdempotencyRepository goalIdempotencyRepository;
+    private final GoalMetricIndex goalMetricIndex;
 
     /**
      * Constructor for GoalServiceImpl.
      * 
-     * @param goalRepository The goal repository.
+     * @param goalRepository            The goal repository.
+     * @param goalProgressRepository    The repository tracking goal progress.
+     * @param goalSchedulingService     The service scheduling goal notifications.
+     * @param goalIdempotencyRepository The repository deduplicating goal
+     *                                  creation requests.
+     * @param goalMetricIndex           The index of goals by character and
+     *                                  metric, kept current as goals are
+     *                                  created and deleted.
      */
     @Inject
-    public GoalServiceImpl(GoalRepository goalRepository) {
+    public GoalServiceImpl(GoalRepository goalRepository, GoalProgressRepository goalProgressRepository,
+            GoalSchedulingService goalSchedulingService, GoalIdempotencyRepository goalIdempotencyRepository,
+            GoalMetricIndex goalMetricIndex) {
         this.goalRepository = goalRepository;
+        this.goalProgressRepository = goalProgressRepository;
+        this.goalSchedulingService = goalSchedulingService;
+        this.goalIdempotencyRepository = goalIdempotencyRepository;
+        this.goalMetricIndex = goalMetricIndex;
     }
 
     /**
@@ -39,7 +73,344 @@ public class GoalServiceImpl implements GoalService {
         validateGoal(goal, currentProgress);
         log.info("Creating goal for user {} targeting {}", goal.getUserId(), goal.getTargetAttribute());
 
-        return goalRepository.createGoal(goal, currentProgress);
+        Goal createdGoal = goalRepository.createGoal(goal, currentProgress);
+        finishCreation(createdGoal, currentProgress, Instant.now());
+        return createdGoal;
+    }
+
+    /**
+     * Saves a created goal's initial progress unless it is already tracked,
+     * then schedules and indexes it.
+     *
+     * @param createdGoal     The created goal
+     * @param currentProgress The progress the goal was created with
+     * @param now             When the goal was created
+     */
+    private void finishCreation(Goal createdGoal, long currentProgress, Instant now) {
+        goalProgressRepository.createProgress(List.of(initialProgress(createdGoal, currentProgress, now)));
+        goalSchedulingService.scheduleGoal(createdGoal, now);
+        goalMetricIndex.add(createdGoal);
+    }
+
+    /**
+     * Creates a new goal with the current progress at most once per request.
+     * The request is claimed before the goal is written, so concurrent
+     * deliveries of the same request cannot both write. The claim is given up
+     * only if the write itself fails, so a retry can create the goal; once the
+     * goal is written the request is completed before the remaining steps, so
+     * a failure in those cannot lead a retry to create a second goal. A retry
+     * instead repeats the remaining steps for the goal written earlier, which
+     * leave a goal that already has its progress, schedule and index entry as
+     * it is.
+     *
+     * @param goal            The goal to create
+     * @param currentProgress The current progress towards the goal
+     * @param idempotencyKey  The key identifying the creation request
+     * @return The created goal, or the goal created by an earlier attempt of
+     *         the same request
+     * @throws IllegalArgumentException if the goal or key is invalid
+     * @throws IllegalStateException    if another attempt of the same request
+     *                                  is still in progress
+     */
+    @Override
+    public Goal createGoal(Goal goal, long currentProgress, String idempotencyKey) {
+        validateGoal(goal, currentProgress);
+        validateField(idempotencyKey, "idempotencyKey");
+
+        if (!goalIdempotencyRepository.claim(idempotencyKey, Instant.now())) {
+            Goal original = goalIdempotencyRepository.getCreatedGoal(idempotencyKey)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "Goal creation request " + idempotencyKey + " is already in progress"));
+            log.info("Goal creation request {} was already handled, resuming goal {}", idempotencyKey,
+                    original.getGoalId());
+            finishCreation(original, currentProgress, Instant.now());
+            return original;
+        }
+
+        log.info("Creating goal for user {} targeting {}", goal.getUserId(), goal.getTargetAttribute());
+        Goal createdGoal;
+        try {
+            createdGoal = goalRepository.createGoal(goal, currentProgress);
+        } catch (RuntimeException e) {
+            goalIdempotencyRepository.release(idempotencyKey);
+            throw e;
+        }
+        Instant now = Instant.now();
+        goalIdempotencyRepository.complete(idempotencyKey, createdGoal, now);
+        finishCreation(createdGoal, currentProgress, now);
+        return createdGoal;
+    }
+
+    /**
+     * Creates several goals with their current progress. Every goal is
+     * validated before any is written, and only valid goals are passed to the
+     * repository.
+     *
+     * <p>
+     * A goal with an idempotency key is claimed before it is written and its
+     * claim is completed as soon as the write returns, so a retry of the same
+     * request finds the created goal instead of writing another. Saving the
+     * initial progress, scheduling and indexing are repeated for that goal on
+     * a retry. None of them undoes what an earlier attempt or a later polling
+     * run wrote: initial progress is only saved for goals not yet tracked, and
+     * scheduling and indexing leave a goal that already has them as it is. A
+     * goal that was written but whose follow-up steps failed is reported as
+     * failed on its own, so only its request is retried.
+     *
+     * @param creations The goals to create
+     * @return One result per goal, in the same order as the creations
+     * @throws IllegalArgumentException if no goals are given
+     */
+    @Override
+    public List<GoalCreationResult> createGoals(List<GoalCreation> creations) {
+        if (creations == null || creations.isEmpty()) {
+            throw new IllegalArgumentException("creations cannot be null or empty");
+        }
+
+        GoalCreationResult[] results = new GoalCreationResult[creations.size()];
+        Map<Integer, Goal> createdGoals = new TreeMap<>();
+        List<GoalCreation> writes = new ArrayList<>(creations.size());
+        List<Integer> writeIndexes = new ArrayList<>(creations.size());
+        Instant now = Instant.now();
+        for (int i = 0; i < creations.size(); i++) {
+            GoalCreation creation = creations.get(i);
+            try {
+                if (creation == null) {
+                    throw new IllegalArgumentException("goal cannot be null");
+                }
+                validateGoal(creation.getGoal(), creation.getCurrentProgress());
+                String idempotencyKey = creation.getIdempotencyKey();
+                if (idempotencyKey == null || goalIdempotencyRepository.claim(idempotencyKey, now)) {
+                    writes.add(creation);
+                    writeIndexes.add(i);
+                    continue;
+                }
+                Goal original = goalIdempotencyRepository.getCreatedGoal(idempotencyKey)
+                        .orElseThrow(() -> new IllegalStateException(
+                                "Goal creation request " + idempotencyKey + " is already in progress"));
+                log.info("Goal creation request {} was already handled, resuming goal {}", idempotencyKey,
+                        original.getGoalId());
+                createdGoals.put(i, original);
+            } catch (RuntimeException e) {
+                results[i] = GoalCreationResult.failure(describe(e));
+            }
+        }
+
+        log.info("Creating {} goals out of {}", writes.size(), creations.size());
+        if (!writes.isEmpty()) {
+            List<GoalCreationResult> written = goalRepository.createGoals(writes);
+            for (int i = 0; i < written.size(); i++) {
+                int index = writeIndexes.get(i);
+                String idempotencyKey = writes.get(i).getIdempotencyKey();
+                if (written.get(i).isSucceeded()) {
+                    createdGoals.put(index, written.get(i).getGoal());
+                    completeClaim(idempotencyKey, written.get(i).getGoal(), now);
+                } else {
+                    results[index] = written.get(i);
+                    releaseClaim(idempotencyKey);
+                }
+            }
+        }
+        if (!createdGoals.isEmpty()) {
+            finishCreations(creations, createdGoals, results, now);
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Starts tracking existing goals by running only the follow-up steps of
+     * their creation. Goals without an ID or that fail validation are reported
+     * as failed without affecting the others.
+     *
+     * @param existing The existing goals and their last known progress
+     * @return One result per goal, in the same order
+     * @throws IllegalArgumentException if no goals are given
+     */
+    @Override
+    public List<GoalCreationResult> trackGoals(List<GoalCreation> existing) {
+        if (existing == null || existing.isEmpty()) {
+            throw new IllegalArgumentException("existing goals cannot be null or empty");
+        }
+
+        GoalCreationResult[] results = new GoalCreationResult[existing.size()];
+        Map<Integer, Goal> trackedGoals = new TreeMap<>();
+        for (int i = 0; i < existing.size(); i++) {
+            GoalCreation goal = existing.get(i);
+            try {
+                if (goal == null) {
+                    throw new IllegalArgumentException("goal cannot be null");
+                }
+                validateGoal(goal.getGoal(), goal.getCurrentProgress());
+                validateField(goal.getGoal().getGoalId(), "goalId");
+                trackedGoals.put(i, goal.getGoal());
+            } catch (IllegalArgumentException e) {
+                results[i] = GoalCreationResult.failure(describe(e));
+            }
+        }
+
+        log.info("Tracking {} existing goals out of {}", trackedGoals.size(), existing.size());
+        if (!trackedGoals.isEmpty()) {
+            finishCreations(existing, trackedGoals, results, Instant.now());
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Saves the initial progress of created goals that are not yet tracked,
+     * then schedules and indexes each of them. A goal whose follow-up steps
+     * fail is reported as failed without affecting the others.
+     *
+     * @param creations    The goals that were requested
+     * @param createdGoals The created goals by the index of their creation
+     * @param results      The results to fill in, by creation index
+     * @param now          When the goals were created
+     */
+    private void finishCreations(List<GoalCreation> creations, Map<Integer, Goal> createdGoals,
+            GoalCreationResult[] results, Instant now) {
+        List<GoalProgress> progress = new ArrayList<>(createdGoals.size());
+        for (Map.Entry<Integer, Goal> created : createdGoals.entrySet()) {
+            progress.add(initialProgress(created.getValue(), creations.get(created.getKey()).getCurrentProgress(),
+                    now));
+        }
+        try {
+            goalProgressRepository.createProgress(progress);
+        } catch (RuntimeException e) {
+            log.error("Failed to save the initial progress of {} created goals", progress.size(), e);
+            for (Map.Entry<Integer, Goal> created : createdGoals.entrySet()) {
+                results[created.getKey()] = GoalCreationResult.failure("Goal " + created.getValue().getGoalId()
+                        + " was created but its progress could not be saved: " + describe(e));
+            }
+            return;
+        }
+
+        for (Map.Entry<Integer, Goal> created : createdGoals.entrySet()) {
+            Goal goal = created.getValue();
+            try {
+                goalSchedulingService.scheduleGoal(goal, now);
+                goalMetricIndex.add(goal);
+                results[created.getKey()] = GoalCreationResult.success(goal);
+            } catch (RuntimeException e) {
+                log.error("Failed to schedule created goal {}", goal.getGoalId(), e);
+                results[created.getKey()] = GoalCreationResult.failure("Goal " + goal.getGoalId()
+                        + " was created but could not be scheduled: " + describe(e));
+            }
+        }
+    }
+
+    /**
+     * Records the goal a claimed request created. The goal exists either way,
+     * so a failure is logged rather than reported.
+     *
+     * @param idempotencyKey The key of the request, or null if it was not
+     *                       claimed
+     * @param goal           The created goal
+     * @param now            The current time
+     */
+    private void completeClaim(String idempotencyKey, Goal goal, Instant now) {
+        if (idempotencyKey == null) {
+            return;
+        }
+        try {
+            goalIdempotencyRepository.complete(idempotencyKey, goal, now);
+        } catch (RuntimeException e) {
+            log.error("Failed to record goal {} for creation request {}", goal.getGoalId(), idempotencyKey, e);
+        }
+    }
+
+    /**
+     * Gives up the claim of a request whose goal could not be written. A
+     * claim that cannot be released is taken over once it is stale.
+     *
+     * @param idempotencyKey The key of the request, or null if it was not
+     *                       claimed
+     */
+    private void releaseClaim(String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return;
+        }
+        try {
+            goalIdempotencyRepository.release(idempotencyKey);
+        } catch (RuntimeException e) {
+            log.error("Failed to release creation request {}", idempotencyKey, e);
+        }
+    }
+
+    private static String describe(RuntimeException e) {
+        return e.getMessage() != null ? e.getMessage() : e.toString();
+    }
+
+    /**
+     * Deletes a goal, removing its tracked progress, its notification
+     * schedule and its entry in the metric index.
+     *
+     * @param userId The ID of the user who owns the goal
+     * @param goalId The ID of the goal
+     * @throws IllegalArgumentException if either ID is null or empty
+     */
+    @Override
+    public void deleteGoal(String userId, String goalId) {
+        validateField(userId, "userId");
+        validateField(goalId, "goalId");
+        log.info("Deleting goal {} for user {}", goalId, userId);
+
+        goalProgressRepository.deleteProgress(userId, goalId);
+        goalSchedulingService.unscheduleGoal(goalId);
+        goalMetricIndex.remove(goalId);
+    }
+
+    /**
+     * Builds the progress a goal starts with, so that it is polled from
+     * creation onwards. Progress is measured as polling measures it, so a
+     * level goal's percent complete is the share of the target level's
+     * experience that its current level starts at, and the first poll does
+     * not see a jump in percent that was never gained.
+     *
+     * @param goal            The created goal
+     * @param currentProgress The progress the goal was created with
+     * @param now             When the goal was created
+     * @return The goal's initial progress
+     */
+    private static GoalProgress initialProgress(Goal goal, long currentProgress, Instant now) {
+        GoalProgressEvaluator evaluator = GoalProgressEvaluator.compile(List.of(goal));
+        long measured = currentProgress;
+        long target = goal.getTargetValue();
+        if (evaluator.isEvaluable(0)) {
+            measured = evaluator.toMeasured(0, currentProgress);
+            target = evaluator.target(0);
+        }
+        boolean completed = measured >= target;
+        return GoalProgress.builder()
+                .goal(goal)
+                .currentValue(currentProgress)
+                .percentComplete(completed ? PERCENT : measured * PERCENT / target)
+                .completed(completed)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * Lists one page of a user's goals in goal ID order.
+     *
+     * @param userId The ID of the user
+     * @param filter The conditions listed goals must meet, or null to list
+     *               every goal
+     * @param cursor The token returned with the previous page, or null for the
+     *               first page
+     * @param limit  The maximum number of goals to return
+     * @return The page of goals
+     * @throws IllegalArgumentException if the user ID, cursor or limit is
+     *                                  invalid
+     */
+    @Override
+    public GoalPage listGoals(String userId, GoalListFilter filter, String cursor, int limit) {
+        validateField(userId, "userId");
+        if (limit < 1 || limit > MAX_LIST_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIST_LIMIT);
+        }
+        log.info("Listing up to {} goals for user {}", limit, userId);
+
+        return goalProgressRepository.listGoals(userId,
+                filter == null ? GoalListFilter.builder().build() : filter, cursor, limit);
     }
 
     private void validateGoal(Goal goal, long currentProgress) {
@@ -0,0 +1,287 @@
+package com.osrsGoalTracker.hiscore.di;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Deployment configuration for the hiscores domain.
+ * Values are read from environment variables so features can be turned on per
+ * deployment without code changes.
+ */
+@Value
+@Builder
+public class HiscoresConfig {
+    static final String CACHE_ENABLED_ENV = "HISCORES_CACHE_ENABLED";
+    static final String CACHE_TTL_SECONDS_ENV = "HISCORES_CACHE_TTL_SECONDS";
+    static final String CACHE_REFRESH_AFTER_SECONDS_ENV = "HISCORES_CACHE_REFRESH_AFTER_SECONDS";
+    static final String CACHE_MAX_BYTES_ENV = "HISCORES_CACHE_MAX_BYTES";
+    static final String COALESCING_ENABLED_ENV = "HISCORES_COALESCING_ENABLED";
+    static final String BATCH_MAX_CONCURRENCY_ENV = "HISCORES_BATCH_MAX_CONCURRENCY";
+    static final String BATCH_MAX_SIZE_ENV = "HISCORES_BATCH_MAX_SIZE";
+    static final String BATCH_DEADLINE_MILLIS_ENV = "HISCORES_BATCH_DEADLINE_MILLIS";
+    static final String RESILIENCE_ENABLED_ENV = "HISCORES_RESILIENCE_ENABLED";
+    static final String CONCURRENCY_LIMIT_INITIAL_ENV = "HISCORES_CONCURRENCY_LIMIT_INITIAL";
+    static final String CONCURRENCY_LIMIT_MAX_ENV = "HISCORES_CONCURRENCY_LIMIT_MAX";
+    static final String CONCURRENCY_LIMIT_LATENCY_MILLIS_ENV = "HISCORES_CONCURRENCY_LIMIT_LATENCY_MILLIS";
+    static final String BREAKER_FAILURE_THRESHOLD_ENV = "HISCORES_BREAKER_FAILURE_THRESHOLD";
+    static final String BREAKER_OPEN_SECONDS_ENV = "HISCORES_BREAKER_OPEN_SECONDS";
+    static final String BREAKER_HALF_OPEN_TRIALS_ENV = "HISCORES_BREAKER_HALF_OPEN_TRIALS";
+    static final String HEDGING_ENABLED_ENV = "HISCORES_HEDGING_ENABLED";
+    static final String HEDGE_PERCENTILE_ENV = "HISCORES_HEDGE_PERCENTILE";
+    static final String HEDGE_BUDGET_PERCENT_ENV = "HISCORES_HEDGE_BUDGET_PERCENT";
+    static final String LITE_CLIENT_ENABLED_ENV = "HISCORES_LITE_CLIENT_ENABLED";
+    static final String LITE_BASE_URL_ENV = "HISCORES_LITE_BASE_URL";
+    static final String LITE_TIMEOUT_MILLIS_ENV = "HISCORES_LITE_TIMEOUT_MILLIS";
+    static final String SNAPSHOT_TABLE_NAME_ENV = "HISCORE_SNAPSHOT_TABLE_NAME";
+    static final String SNAPSHOT_KEYFRAME_INTERVAL_ENV = "HISCORE_SNAPSHOT_KEYFRAME_INTERVAL";
+    static final String LEADERBOARD_TABLE_NAME_ENV = "HISCORE_LEADERBOARD_TABLE_NAME";
+
+    private static final long DEFAULT_CACHE_TTL_SECONDS = 300;
+    private static final long DEFAULT_CACHE_REFRESH_AFTER_SECONDS = 60;
+    private static final long DEFAULT_CACHE_MAX_BYTES = 16L * 1024 * 1024;
+    private static final int DEFAULT_BATCH_MAX_CONCURRENCY = 8;
+    private static final int DEFAULT_BATCH_MAX_SIZE = 100;
+    private static final long DEFAULT_BATCH_DEADLINE_MILLIS = 20_000;
+    private static final int DEFAULT_SNAPSHOT_KEYFRAME_INTERVAL = 16;
+    private static final int DEFAULT_CONCURRENCY_LIMIT_INITIAL = 10;
+    private static final int DEFAULT_CONCURRENCY_LIMIT_MAX = 50;
+    private static final long DEFAULT_CONCURRENCY_LIMIT_LATENCY_MILLIS = 2_000;
+    private static final int DEFAULT_BREAKER_FAILURE_THRESHOLD = 5;
+    private static final long DEFAULT_BREAKER_OPEN_SECONDS = 30;
+    private static final int DEFAULT_BREAKER_HALF_OPEN_TRIALS = 2;
+    private static final int DEFAULT_HEDGE_PERCENTILE = 95;
+    private static final int DEFAULT_HEDGE_BUDGET_PERCENT = 5;
+    private static final String DEFAULT_LITE_BASE_URL =
+            "https://secure.runescape.com/m=hiscore_oldschool/index_lite.ws";
+    private static final long DEFAULT_LITE_TIMEOUT_MILLIS = 5_000;
+
+    /**
+     * Whether hiscores lookups are served through the in-memory cache.
+     */
+    @Builder.Default
+    private final boolean cacheEnabled = false;
+
+    /**
+     * How long a cached entry may be served at all. Entries older than this are
+     * reloaded synchronously.
+     */
+    @Builder.Default
+    private final Duration cacheTtl = Duration.ofSeconds(DEFAULT_CACHE_TTL_SECONDS);
+
+    /**
+     * Age after which a cached entry is considered stale. Stale entries are
+     * still served while a single background refresh runs.
+     */
+    @Builder.Default
+    private final Duration cacheRefreshAfter = Duration.ofSeconds(DEFAULT_CACHE_REFRESH_AFTER_SECONDS);
+
+    /**
+     * Upper bound on the estimated size of all cached entries, in bytes.
+     */
+    @Builder.Default
+    private final long cacheMaxBytes = DEFAULT_CACHE_MAX_BYTES;
+
+    /**
+     * Whether concurrent lookups of the same character share one upstream call.
+     */
+    @Builder.Default
+    private final boolean coalescingEnabled = false;
+
+    /**
+     * Maximum number of upstream lookups a single batch request runs at once.
+     */
+    @Builder.Default
+    private final int batchMaxConcurrency = DEFAULT_BATCH_MAX_CONCURRENCY;
+
+    /**
+     * Maximum number of characters accepted in a single batch request.
+     */
+    @Builder.Default
+    private final int batchMaxSize = DEFAULT_BATCH_MAX_SIZE;
+
+    /**
+     * Overall time limit for a batch request. Lookups still running when it
+     * passes are cancelled and reported as errors.
+     */
+    @Builder.Default
+    private final Duration batchDeadline = Duration.ofMillis(DEFAULT_BATCH_DEADLINE_MILLIS);
+
+    /**
+     * Whether upstream hiscores calls are guarded by the adaptive concurrency
+     * limit and circuit breaker.
+     */
+    @Builder.Default
+    private final boolean resilienceEnabled = false;
+
+    /**
+     * Concurrency limit used before any latency has been observed.
+     */
+    @Builder.Default
+    private final int concurrencyLimitInitial = DEFAULT_CONCURRENCY_LIMIT_INITIAL;
+
+    /**
+     * Highest the adaptive concurrency limit may grow to.
+     */
+    @Builder.Default
+    private final int concurrencyLimitMax = DEFAULT_CONCURRENCY_LIMIT_MAX;
+
+    /**
+     * Upstream latency above which the concurrency limit is decreased.
+     */
+    @Builder.Default
+    private final Duration concurrencyLimitLatencyThreshold =
+            Duration.ofMillis(DEFAULT_CONCURRENCY_LIMIT_LATENCY_MILLIS);
+
+    /**
+     * Consecutive upstream failures that open the circuit breaker.
+     */
+    @Builder.Default
+    private final int breakerFailureThreshold = DEFAULT_BREAKER_FAILURE_THRESHOLD;
+
+    /**
+     * How long the circuit breaker stays open before probing upstream.
+     */
+    @Builder.Default
+    private final Duration breakerOpenDuration = Duration.ofSeconds(DEFAULT_BREAKER_OPEN_SECONDS);
+
+    /**
+     * Trial calls let through, and required to succeed, while the breaker is
+     * half-open.
+     */
+    @Builder.Default
+    private final int breakerHalfOpenTrials = DEFAULT_BREAKER_HALF_OPEN_TRIALS;
+
+    /**
+     * Whether slow hiscores lookups are hedged with a second identical request.
+     */
+    @Builder.Default
+    private final boolean hedgingEnabled = false;
+
+    /**
+     * Percentile of recent lookup latency after which a lookup is hedged.
+     */
+    @Builder.Default
+    private final int hedgePercentile = DEFAULT_HEDGE_PERCENTILE;
+
+    /**
+     * Maximum extra upstream requests sent as hedges, as a percentage of all
+     * lookups.
+     */
+    @Builder.Default
+    private final int hedgeBudgetPercent = DEFAULT_HEDGE_BUDGET_PERCENT;
+
+    /**
+     * Whether hiscores are fetched by parsing the raw index_lite CSV response
+     * instead of through the OSRS API client library.
+     */
+    @Builder.Default
+    private final boolean liteClientEnabled = false;
+
+    /**
+     * URL of the index_lite endpoint used by the lite client. The character
+     * name is passed as the {@code player} query parameter.
+     */
+    @Builder.Default
+    private final String liteBaseUrl = DEFAULT_LITE_BASE_URL;
+
+    /**
+     * Request timeout for the lite client.
+     */
+    @Builder.Default
+    private final Duration liteTimeout = Duration.ofMillis(DEFAULT_LITE_TIMEOUT_MILLIS);
+
+    /**
+     * DynamoDB table holding hiscores snapshot history. When unset, snapshots
+     * are kept in memory for the lifetime of the process.
+     */
+    private final String snapshotTableName;
+
+    /**
+     * Number of snapshots stored per character between full keyframes. The
+     * snapshots in between are stored as deltas against their predecessor.
+     */
+    @Builder.Default
+    private final int snapshotKeyframeInterval = DEFAULT_SNAPSHOT_KEYFRAME_INTERVAL;
+
+    /**
+     * DynamoDB table holding the leaderboards. When unset, leaderboards are
+     * kept in memory and only rank characters fetched by the same process.
+     */
+    private final String leaderboardTableName;
+
+    /**
+     * Builds the configuration from environment variables, falling back to
+     * defaults for any variable that is not set.
+     *
+     * @return The hiscores configuration for this deployment
+     */
+    public static HiscoresConfig fromEnvironment() {
+        return HiscoresConfig.builder()
+                .cacheEnabled(readBoolean(CACHE_ENABLED_ENV, false))
+                .cacheTtl(Duration.ofSeconds(readLong(CACHE_TTL_SECONDS_ENV, DEFAULT_CACHE_TTL_SECONDS)))
+                .cacheRefreshAfter(Duration.ofSeconds(
+                        readLong(CACHE_REFRESH_AFTER_SECONDS_ENV, DEFAULT_CACHE_REFRESH_AFTER_SECONDS)))
+                .cacheMaxBytes(readLong(CACHE_MAX_BYTES_ENV, DEFAULT_CACHE_MAX_BYTES))
+                .coalescingEnabled(readBoolean(COALESCING_ENABLED_ENV, false))
+                .batchMaxConcurrency((int) readLong(BATCH_MAX_CONCURRENCY_ENV, DEFAULT_BATCH_MAX_CONCURRENCY))
+                .batchMaxSize((int) readLong(BATCH_MAX_SIZE_ENV, DEFAULT_BATCH_MAX_SIZE))
+                .batchDeadline(Duration.ofMillis(readLong(BATCH_DEADLINE_MILLIS_ENV, DEFAULT_BATCH_DEADLINE_MILLIS)))
+                .resilienceEnabled(readBoolean(RESILIENCE_ENABLED_ENV, false))
+                .concurrencyLimitInitial(
+                        (int) readLong(CONCURRENCY_LIMIT_INITIAL_ENV, DEFAULT_CONCURRENCY_LIMIT_INITIAL))
+                .concurrencyLimitMax((int) readLong(CONCURRENCY_LIMIT_MAX_ENV, DEFAULT_CONCURRENCY_LIMIT_MAX))
+                .concurrencyLimitLatencyThreshold(Duration.ofMillis(
+                        readLong(CONCURRENCY_LIMIT_LATENCY_MILLIS_ENV, DEFAULT_CONCURRENCY_LIMIT_LATENCY_MILLIS)))
+                .breakerFailureThreshold(
+                        (int) readLong(BREAKER_FAILURE_THRESHOLD_ENV, DEFAULT_BREAKER_FAILURE_THRESHOLD))
+                .breakerOpenDuration(
+                        Duration.ofSeconds(readLong(BREAKER_OPEN_SECONDS_ENV, DEFAULT_BREAKER_OPEN_SECONDS)))
+                .breakerHalfOpenTrials(
+                        (int) readLong(BREAKER_HALF_OPEN_TRIALS_ENV, DEFAULT_BREAKER_HALF_OPEN_TRIALS))
+                .hedgingEnabled(readBoolean(HEDGING_ENABLED_ENV, false))
+                .hedgePercentile((int) readLong(HEDGE_PERCENTILE_ENV, DEFAULT_HEDGE_PERCENTILE))
+                .hedgeBudgetPercent((int) readLong(HEDGE_BUDGET_PERCENT_ENV, DEFAULT_HEDGE_BUDGET_PERCENT))
+                .liteClientEnabled(readBoolean(LITE_CLIENT_ENABLED_ENV, false))
+                .liteBaseUrl(readString(LITE_BASE_URL_ENV, DEFAULT_LITE_BASE_URL))
+                .liteTimeout(Duration.ofMillis(readLong(LITE_TIMEOUT_MILLIS_ENV, DEFAULT_LITE_TIMEOUT_MILLIS)))
+                .snapshotTableName(readString(SNAPSHOT_TABLE_NAME_ENV))
+                .snapshotKeyframeInterval(
+                        (int) readLong(SNAPSHOT_KEYFRAME_INTERVAL_ENV, DEFAULT_SNAPSHOT_KEYFRAME_INTERVAL))
+                .leaderboardTableName(readString(LEADERBOARD_TABLE_NAME_ENV))
+                .build();
+    }
+
+    private static String readString(String name) {
+        return readString(name, null);
+    }
+
+    private static String readString(String name, String defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return value.trim();
+    }
+
+    private static boolean readBoolean(String name, boolean defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return "true".equalsIgnoreCase(value.trim());
+    }
+
+    private static long readLong(String name, long defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a whole number but was: " + value, e);
+        }
+    }
+}
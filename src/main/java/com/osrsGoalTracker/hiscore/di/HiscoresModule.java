@@ -1,22 +1,123 @@
 package com.osrsGoalTracker.hiscore.di;
 
+import java.util.Map;
+
 import com.google.inject.AbstractModule;
+import com.google.inject.Provider;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
 import com.osrsGoalTracker.hiscore.external.HiscoresClient;
+import com.osrsGoalTracker.hiscore.external.impl.CachingHiscoresClient;
+import com.osrsGoalTracker.hiscore.external.impl.CircuitBreaker;
+import com.osrsGoalTracker.hiscore.external.impl.CoalescingHiscoresClient;
+import com.osrsGoalTracker.hiscore.external.impl.HedgingHiscoresClient;
 import com.osrsGoalTracker.hiscore.external.impl.JagexHiscoresClientImpl;
+import com.osrsGoalTracker.hiscore.external.impl.JagexLiteHiscoresClient;
+import com.osrsGoalTracker.hiscore.external.impl.ResilientHiscoresClient;
+import com.osrsGoalTracker.hiscore.repository.HiscoreSnapshotRepository;
+import com.osrsGoalTracker.hiscore.repository.LeaderboardRepository;
+import com.osrsGoalTracker.hiscore.repository.impl.DynamoHiscoreSnapshotRepository;
+import com.osrsGoalTracker.hiscore.repository.impl.DynamoLeaderboardRepository;
+import com.osrsGoalTracker.hiscore.repository.impl.InMemoryHiscoreSnapshotRepository;
+import com.osrsGoalTracker.hiscore.repository.impl.InMemoryLeaderboardRepository;
 import com.osrsGoalTracker.hiscore.service.HiscoresService;
 import com.osrsGoalTracker.hiscore.service.impl.HiscoresServiceImpl;
+import com.osrsGoalTracker.shared.di.SharedDynamoDbModule;
+import com.osrsGoalTracker.shared.di.SharedMetricsModule;
+import com.osrsGoalTracker.shared.metrics.MetricsPublisher;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 /**
  * Guice module for hiscores-related bindings.
  */
 public class HiscoresModule extends AbstractModule {
+    private final HiscoresConfig config;
+
+    /**
+     * Constructs a new HiscoresModule configured from environment variables.
+     */
+    public HiscoresModule() {
+        this(HiscoresConfig.fromEnvironment());
+    }
+
+    /**
+     * Constructs a new HiscoresModule with an explicit configuration.
+     *
+     * @param config The hiscores configuration to use
+     */
+    public HiscoresModule(HiscoresConfig config) {
+        this.config = config;
+    }
+
     /**
      * Configures the bindings for stats-related services and dependencies.
-     * This includes the service layer and external layer components.
+     * This includes the service layer, repository layer and external layer
+     * components.
      */
     @Override
     protected void configure() {
-        bind(HiscoresClient.class).to(JagexHiscoresClientImpl.class);
+        install(new SharedDynamoDbModule());
+        install(new SharedMetricsModule());
+        bind(HiscoresConfig.class).toInstance(config);
         bind(HiscoresService.class).to(HiscoresServiceImpl.class);
     }
+
+    @Provides
+    @Singleton
+    HiscoresClient provideHiscoresClient(Provider<JagexHiscoresClientImpl> jagexHiscoresClient,
+            MetricsPublisher metrics) {
+        HiscoresClient client = config.isLiteClientEnabled()
+                ? new JagexLiteHiscoresClient(config)
+                : jagexHiscoresClient.get();
+        if (config.isResilienceEnabled()) {
+            ResilientHiscoresClient resilient = new ResilientHiscoresClient(client, config);
+            metrics.register("HiscoresResilience",
+                    () -> Map.of("rejectedRequests", resilient.stats().getRejectedRequests()),
+                    () -> Map.of(
+                            "concurrencyLimit", resilient.stats().getConcurrencyLimit(),
+                            "inFlight", resilient.stats().getInFlight(),
+                            "breakerOpen", resilient.stats().getBreakerState() == CircuitBreaker.State.OPEN ? 1 : 0));
+            client = resilient;
+        }
+        if (config.isHedgingEnabled()) {
+            HedgingHiscoresClient hedging = new HedgingHiscoresClient(client, config);
+            metrics.register("HiscoresHedging", () -> Map.of(
+                    "hedgedRequests", hedging.hedgedRequestCount(),
+                    "hedgeWins", hedging.hedgeWinCount()), Map::of);
+            client = hedging;
+        }
+        if (config.isCoalescingEnabled()) {
+            CoalescingHiscoresClient coalescing = new CoalescingHiscoresClient(client);
+            metrics.register("HiscoresCoalescing", () -> Map.of(
+                    "coalescedRequests", coalescing.coalescedRequestCount(),
+                    "upstreamRequests", coalescing.upstreamRequestCount()), Map::of);
+            client = coalescing;
+        }
+        if (config.isCacheEnabled()) {
+            CachingHiscoresClient caching = new CachingHiscoresClient(client, config);
+            metrics.register("HiscoresCache", () -> MetricsPublisher.cacheCounters(caching.stats()),
+                    () -> Map.of("estimatedSizeBytes", caching.estimatedSizeBytes()));
+            client = caching;
+        }
+        return client;
+    }
+
+    @Provides
+    @Singleton
+    LeaderboardRepository provideLeaderboardRepository(Provider<DynamoDbClient> dynamoDbClient) {
+        if (config.getLeaderboardTableName() == null) {
+            return new InMemoryLeaderboardRepository();
+        }
+        return new DynamoLeaderboardRepository(dynamoDbClient.get(), config);
+    }
+
+    @Provides
+    @Singleton
+    HiscoreSnapshotRepository provideHiscoreSnapshotRepository(Provider<DynamoDbClient> dynamoDbClient) {
+        if (config.getSnapshotTableName() == null) {
+            return new InMemoryHiscoreSnapshotRepository(config);
+        }
+        return new DynamoHiscoreSnapshotRepository(dynamoDbClient.get(), config);
+    }
 }
@@ -0,0 +1,106 @@
+package com.osrsGoalTracker.hiscore.external;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresBatch;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Fans a batch of hiscores lookups out over virtual threads.
+ * At most {@code maxConcurrency} lookups run at once, a failed lookup only
+ * affects its own character, and lookups still running when the deadline
+ * passes are cancelled and reported as timed out.
+ */
+@Log4j2
+final class HiscoresBatchFetcher {
+    static final String TIMEOUT_MESSAGE = "Timed out fetching character hiscores";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private HiscoresBatchFetcher() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Looks up hiscores for each character using the given single lookup.
+     *
+     * @param characterNames The characters to look up
+     * @param maxConcurrency The maximum number of lookups in flight at once
+     * @param deadline       The maximum time to wait for the whole batch
+     * @param lookup         The single-character lookup to fan out
+     * @return The hiscores and errors for every requested character
+     */
+    static CharacterHiscoresBatch fetch(Collection<String> characterNames, int maxConcurrency, Duration deadline,
+            Function<String, CharacterHiscores> lookup) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Map<String, Future<CharacterHiscores>> futures = new LinkedHashMap<>();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (String characterName : characterNames) {
+                futures.put(characterName, executor.submit(() -> lookupWithPermit(characterName, permits, lookup)));
+            }
+            return collect(futures, System.nanoTime() + deadline.toNanos());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static CharacterHiscores lookupWithPermit(String characterName, Semaphore permits,
+            Function<String, CharacterHiscores> lookup) throws InterruptedException {
+        permits.acquire();
+        try {
+            return lookup.apply(characterName);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static CharacterHiscoresBatch collect(Map<String, Future<CharacterHiscores>> futures,
+            long deadlineNanos) {
+        Map<String, CharacterHiscores> hiscores = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Future<CharacterHiscores>> entry : futures.entrySet()) {
+            String characterName = entry.getKey();
+            Future<CharacterHiscores> future = entry.getValue();
+            try {
+                long remainingNanos = Math.max(0, deadlineNanos - System.nanoTime());
+                hiscores.put(characterName, future.get(remainingNanos, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                errors.put(characterName, TIMEOUT_MESSAGE);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                log.error("Failed to fetch character hiscores for {}: {}", characterName, cause.getMessage());
+                errors.put(characterName, cause.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                errors.put(characterName, TIMEOUT_MESSAGE);
+            }
+        }
+
+        return CharacterHiscoresBatch.builder()
+                .hiscores(hiscores)
+                .errors(errors)
+                .build();
+    }
+}
@@ -1,6 +1,12 @@
 package com.osrsGoalTracker.hiscore.external;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+
 import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresBatch;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
 
 /**
  * Interface for retrieving character hiscores from external sources.
@@ -13,4 +19,33 @@ public interface HiscoresClient {
      * @return The character's hiscores
      */
     CharacterHiscores getCharacterHiscores(String characterName);
+
+    /**
+     * Retrieves the hiscores for a character as a compact, ordinal-indexed
+     * snapshot. The default implementation converts the result of
+     * {@link #getCharacterHiscores(String)}, so decorators such as caching apply.
+     *
+     * @param characterName The name of the character
+     * @return The character's hiscores snapshot
+     */
+    default CharacterHiscoresSnapshot getCharacterHiscoresSnapshot(String characterName) {
+        return CharacterHiscoresSnapshot.fromCharacterHiscores(getCharacterHiscores(characterName), Instant.now());
+    }
+
+    /**
+     * Retrieves the hiscores for several characters concurrently.
+     * Each character is looked up through {@link #getCharacterHiscores(String)}
+     * on a virtual thread, so decorators such as caching apply per character.
+     * A failure for one character is reported in the result instead of failing
+     * the whole batch.
+     *
+     * @param characterNames The names of the characters
+     * @param maxConcurrency The maximum number of lookups in flight at once
+     * @param deadline       The maximum time to wait for the whole batch
+     * @return The hiscores and errors for every requested character
+     */
+    default CharacterHiscoresBatch getCharacterHiscoresBatch(Collection<String> characterNames, int maxConcurrency,
+            Duration deadline) {
+        return HiscoresBatchFetcher.fetch(characterNames, maxConcurrency, deadline, this::getCharacterHiscores);
+    }
 }
@@ -0,0 +1,16 @@
+package com.osrsGoalTracker.hiscore.external;
+
+/**
+ * Thrown when a hiscores lookup is rejected without calling upstream, because
+ * the circuit breaker is open or the concurrency limit has been reached.
+ */
+public class HiscoresUnavailableException extends RuntimeException {
+    /**
+     * Constructs a new HiscoresUnavailableException.
+     *
+     * @param message The reason the lookup was rejected
+     */
+    public HiscoresUnavailableException(String message) {
+        super(message);
+    }
+}
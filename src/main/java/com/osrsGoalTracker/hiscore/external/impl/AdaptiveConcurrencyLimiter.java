@@ -0,0 +1,93 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+/**
+ * Concurrency limit that adapts to observed upstream latency using additive
+ * increase, multiplicative decrease (AIMD). Each fast success raises the limit
+ * by {@code 1 / limit}, so the limit grows by about one per limit-worth of
+ * requests. A slow response or failure cuts the limit by {@link #BACKOFF_RATIO}.
+ * Requests over the limit are rejected rather than queued.
+ */
+final class AdaptiveConcurrencyLimiter {
+    static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private double limit;
+    private int inFlight;
+
+    /**
+     * Constructs a new AdaptiveConcurrencyLimiter.
+     *
+     * @param initialLimit          The starting limit
+     * @param minLimit              The lowest the limit may fall to
+     * @param maxLimit              The highest the limit may grow to
+     * @param latencyThresholdNanos Latency above which a success is treated as
+     *                              a sign of overload
+     */
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes a slot if the number of requests in flight is under the limit.
+     *
+     * @return True if a slot was taken and must later be released
+     */
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Releases a slot for a request that completed within or beyond the latency
+     * threshold, adjusting the limit accordingly.
+     *
+     * @param latencyNanos The observed latency of the request
+     */
+    synchronized void onSuccess(long latencyNanos) {
+        inFlight--;
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * Releases a slot for a request that failed upstream and decreases the limit.
+     */
+    synchronized void onFailure() {
+        inFlight--;
+        decrease();
+    }
+
+    /**
+     * Releases a slot for a request that never reached upstream, leaving the
+     * limit unchanged.
+     */
+    synchronized void release() {
+        inFlight--;
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+    }
+}
@@ -0,0 +1,217 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.external.HiscoresClient;
+import com.osrsGoalTracker.hiscore.model.Activity;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.model.Skill;
+import com.osrsGoalTracker.utils.CharacterNameUtils;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * HiscoresClient decorator that keeps recently fetched hiscores in memory.
+ * Entries are bounded by their estimated size in bytes and evicted using
+ * Caffeine's W-TinyLFU policy. Entries older than the refresh interval are
+ * served stale while a single background refresh runs; entries older than the
+ * TTL are reloaded before being returned.
+ *
+ * <p>
+ * Snapshots are cached separately from list-based hiscores and loaded through
+ * the delegate's snapshot method, so a snapshot read keeps the direct-fill path
+ * of the underlying client. Each form is bounded by the same byte budget; a
+ * Lambda normally reads only one of them.
+ */
+@Log4j2
+public class CachingHiscoresClient implements HiscoresClient {
+    private static final int OBJECT_OVERHEAD_BYTES = 16;
+    private static final int REFERENCE_BYTES = 8;
+    private static final int LIST_OVERHEAD_BYTES = 40;
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    private static final int SKILL_FIELD_BYTES = Integer.BYTES * 2 + Long.BYTES;
+    private static final int ACTIVITY_FIELD_BYTES = Integer.BYTES * 2;
+    private static final int ARRAY_OVERHEAD_BYTES = 16;
+    private static final int SNAPSHOT_FIELD_BYTES = Integer.BYTES * 2 + Long.BYTES * 3 + REFERENCE_BYTES * 6;
+
+    private final HiscoresClient delegate;
+    private final LoadingCache<String, CharacterHiscores> cache;
+    private final LoadingCache<String, CharacterHiscoresSnapshot> snapshots;
+
+    /**
+     * Constructs a new CachingHiscoresClient.
+     *
+     * @param delegate The client used to load hiscores on a cache miss or refresh
+     * @param config   The hiscores configuration holding the cache settings
+     */
+    public CachingHiscoresClient(HiscoresClient delegate, HiscoresConfig config) {
+        this(delegate, config, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows the clock and refresh executor to be controlled in tests.
+     *
+     * @param delegate The client used to load hiscores on a cache miss or refresh
+     * @param config   The hiscores configuration holding the cache settings
+     * @param ticker   The time source used for expiry and refresh
+     * @param executor The executor used for background refreshes
+     */
+    CachingHiscoresClient(HiscoresClient delegate, HiscoresConfig config, Ticker ticker, Executor executor) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(config.getCacheMaxBytes())
+                .weigher((String key, CharacterHiscores hiscores) -> estimateBytes(key, hiscores))
+                .expireAfterWrite(config.getCacheTtl())
+                .refreshAfterWrite(config.getCacheRefreshAfter())
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .build(new HiscoresCacheLoader());
+        this.snapshots = Caffeine.newBuilder()
+                .maximumWeight(config.getCacheMaxBytes())
+                .weigher((String key, CharacterHiscoresSnapshot snapshot) -> estimateBytes(key, snapshot))
+                .expireAfterWrite(config.getCacheTtl())
+                .refreshAfterWrite(config.getCacheRefreshAfter())
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .build(new SnapshotCacheLoader());
+    }
+
+    @Override
+    public CharacterHiscores getCharacterHiscores(String characterName) {
+        String key = CharacterNameUtils.normalize(characterName);
+        return cache.get(key, ignored -> delegate.getCharacterHiscores(characterName));
+    }
+
+    @Override
+    public CharacterHiscoresSnapshot getCharacterHiscoresSnapshot(String characterName) {
+        String key = CharacterNameUtils.normalize(characterName);
+        return snapshots.get(key, ignored -> delegate.getCharacterHiscoresSnapshot(characterName));
+    }
+
+    /**
+     * Returns a snapshot of the cache counters (hits, misses, evictions and load
+     * timings) accumulated since this client was created, summed over the
+     * hiscores and snapshot caches.
+     *
+     * @return The cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats().plus(snapshots.stats());
+    }
+
+    /**
+     * Returns the estimated size in bytes of everything currently cached.
+     *
+     * @return The weighted size of the cache
+     */
+    public long estimatedSizeBytes() {
+        return weightedSize(cache) + weightedSize(snapshots);
+    }
+
+    private static long weightedSize(LoadingCache<String, ?> cache) {
+        cache.cleanUp();
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    /**
+     * Estimates the retained heap size of a cache entry. This is an approximation
+     * used only to bound the cache, so it favours being cheap over being exact.
+     *
+     * @param key      The cache key
+     * @param hiscores The cached hiscores
+     * @return The estimated size in bytes, never less than one
+     */
+    static int estimateBytes(String key, CharacterHiscores hiscores) {
+        long bytes = stringBytes(key) + OBJECT_OVERHEAD_BYTES + REFERENCE_BYTES * 3
+                + stringBytes(hiscores.getCharacterName());
+
+        List<Skill> skills = hiscores.getSkills();
+        if (skills != null) {
+            bytes += LIST_OVERHEAD_BYTES + (long) skills.size() * REFERENCE_BYTES;
+            for (Skill skill : skills) {
+                bytes += OBJECT_OVERHEAD_BYTES + REFERENCE_BYTES + SKILL_FIELD_BYTES + stringBytes(skill.getName());
+            }
+        }
+
+        List<Activity> activities = hiscores.getActivities();
+        if (activities != null) {
+            bytes += LIST_OVERHEAD_BYTES + (long) activities.size() * REFERENCE_BYTES;
+            for (Activity activity : activities) {
+                bytes += OBJECT_OVERHEAD_BYTES + REFERENCE_BYTES + ACTIVITY_FIELD_BYTES
+                        + stringBytes(activity.getName());
+            }
+        }
+
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, bytes));
+    }
+
+    /**
+     * Estimates the retained heap size of a cached snapshot. Snapshots hold
+     * fixed-size arrays indexed by metric, so the estimate depends only on the
+     * metric count and the name.
+     *
+     * @param key      The cache key
+     * @param snapshot The cached snapshot
+     * @return The estimated size in bytes, never less than one
+     */
+    static int estimateBytes(String key, CharacterHiscoresSnapshot snapshot) {
+        long bytes = stringBytes(key) + OBJECT_OVERHEAD_BYTES + SNAPSHOT_FIELD_BYTES
+                + stringBytes(snapshot.getCharacterName())
+                + ARRAY_OVERHEAD_BYTES * 4L
+                + (long) CharacterHiscoresSnapshot.METRIC_COUNT * (Long.BYTES + Integer.BYTES * 2)
+                + (CharacterHiscoresSnapshot.METRIC_COUNT + Long.SIZE - 1) / Long.SIZE * (long) Long.BYTES;
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, bytes));
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : STRING_OVERHEAD_BYTES + value.length();
+    }
+
+    /**
+     * Loader used for background refreshes. Refreshes reuse the character name
+     * from the stale entry so the delegate sees the name as originally requested.
+     */
+    private final class HiscoresCacheLoader implements CacheLoader<String, CharacterHiscores> {
+        @Override
+        public CharacterHiscores load(String key) {
+            return delegate.getCharacterHiscores(key);
+        }
+
+        @Override
+        public CharacterHiscores reload(String key, CharacterHiscores oldValue) {
+            log.info("Refreshing stale hiscores for characterName: {}", oldValue.getCharacterName());
+            return delegate.getCharacterHiscores(oldValue.getCharacterName());
+        }
+    }
+
+    /**
+     * Loader used for background snapshot refreshes, reusing the character
+     * name from the stale snapshot.
+     */
+    private final class SnapshotCacheLoader implements CacheLoader<String, CharacterHiscoresSnapshot> {
+        @Override
+        public CharacterHiscoresSnapshot load(String key) {
+            return delegate.getCharacterHiscoresSnapshot(key);
+        }
+
+        @Override
+        public CharacterHiscoresSnapshot reload(String key, CharacterHiscoresSnapshot oldValue) {
+            log.info("Refreshing stale hiscores snapshot for characterName: {}", oldValue.getCharacterName());
+            return delegate.getCharacterHiscoresSnapshot(oldValue.getCharacterName());
+        }
+    }
+}
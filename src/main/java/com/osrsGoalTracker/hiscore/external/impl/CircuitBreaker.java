@@ -0,0 +1,128 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Consecutive-failure circuit breaker. After {@code failureThreshold} failures
+ * in a row the breaker opens and rejects calls for the open duration. It then
+ * half-opens and lets a fixed number of trial calls through: if they all
+ * succeed the breaker closes, and any failure opens it again.
+ */
+public final class CircuitBreaker {
+    /**
+     * The states a circuit breaker moves between.
+     */
+    public enum State {
+        /** Calls pass through and failures are counted. */
+        CLOSED,
+        /** Calls are rejected until the open duration has passed. */
+        OPEN,
+        /** A limited number of trial calls are let through. */
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenTrials;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private int trialsStarted;
+    private int trialSuccesses;
+
+    /**
+     * Constructs a new CircuitBreaker.
+     *
+     * @param failureThreshold  Consecutive failures that open the breaker
+     * @param openDurationNanos How long the breaker stays open before probing
+     * @param halfOpenTrials    Trial calls allowed, and required to succeed,
+     *                          while half-open
+     * @param nanoClock         The time source, in nanoseconds
+     */
+    CircuitBreaker(int failureThreshold, long openDurationNanos, int halfOpenTrials, LongSupplier nanoClock) {
+        if (failureThreshold < 1 || halfOpenTrials < 1) {
+            throw new IllegalArgumentException("Circuit breaker thresholds must be at least 1");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDurationNanos;
+        this.halfOpenTrials = halfOpenTrials;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns whether a call may proceed. While half-open, each permitted call
+     * uses up one trial and must report its outcome.
+     *
+     * @return True if the call may proceed
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialsStarted = 0;
+            trialSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialsStarted >= halfOpenTrials) {
+                return false;
+            }
+            trialsStarted++;
+        }
+        return true;
+    }
+
+    /**
+     * Records a successful call.
+     */
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            trialSuccesses++;
+            if (trialSuccesses >= halfOpenTrials) {
+                state = State.CLOSED;
+                consecutiveFailures = 0;
+            }
+        } else {
+            consecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * Records a failed call.
+     */
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * Gives back a permit for a call that never reached upstream.
+     */
+    synchronized void release() {
+        if (state == State.HALF_OPEN && trialsStarted > 0) {
+            trialsStarted--;
+        }
+    }
+
+    /**
+     * Returns the current state. An open breaker moves to half-open on the
+     * first call after the open duration has passed.
+     *
+     * @return The breaker state
+     */
+    synchronized State getState() {
+        return state;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = nanoClock.getAsLong();
+        consecutiveFailures = 0;
+    }
+}
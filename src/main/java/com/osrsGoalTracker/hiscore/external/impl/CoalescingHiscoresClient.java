@@ -0,0 +1,111 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.osrsGoalTracker.hiscore.external.HiscoresClient;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.utils.CharacterNameUtils;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * HiscoresClient decorator that collapses concurrent lookups of the same
+ * character into a single upstream call. The first caller for a normalized
+ * character name becomes the leader and performs the lookup; callers arriving
+ * while it is in flight wait for and share the leader's result or exception,
+ * including errors, so a follower never waits on a lookup that has ended.
+ * Nothing is retained once the lookup completes, so no staleness is added.
+ * Snapshot lookups are coalesced separately and go through the delegate's
+ * snapshot method, so they keep its direct-fill path.
+ */
+@Log4j2
+public class CoalescingHiscoresClient implements HiscoresClient {
+    private final HiscoresClient delegate;
+    private final ConcurrentMap<String, CompletableFuture<CharacterHiscores>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<CharacterHiscoresSnapshot>> snapshotsInFlight =
+            new ConcurrentHashMap<>();
+    private final LongAdder upstreamRequests = new LongAdder();
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    /**
+     * Constructs a new CoalescingHiscoresClient.
+     *
+     * @param delegate The client used to perform the shared lookups
+     */
+    public CoalescingHiscoresClient(HiscoresClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CharacterHiscores getCharacterHiscores(String characterName) {
+        return coalesce(inFlight, characterName, delegate::getCharacterHiscores);
+    }
+
+    @Override
+    public CharacterHiscoresSnapshot getCharacterHiscoresSnapshot(String characterName) {
+        return coalesce(snapshotsInFlight, characterName, delegate::getCharacterHiscoresSnapshot);
+    }
+
+    /**
+     * Returns the number of lookups that were answered by another caller's
+     * in-flight request instead of calling upstream.
+     *
+     * @return The coalesced request count
+     */
+    public long coalescedRequestCount() {
+        return coalescedRequests.sum();
+    }
+
+    /**
+     * Returns the number of lookups that were passed through to the delegate.
+     *
+     * @return The upstream request count
+     */
+    public long upstreamRequestCount() {
+        return upstreamRequests.sum();
+    }
+
+    private <T> T coalesce(ConcurrentMap<String, CompletableFuture<T>> lookups, String characterName,
+            Function<String, T> lookup) {
+        String key = CharacterNameUtils.normalize(characterName);
+        CompletableFuture<T> leaderFuture = new CompletableFuture<>();
+        CompletableFuture<T> existing = lookups.putIfAbsent(key, leaderFuture);
+        if (existing != null) {
+            coalescedRequests.increment();
+            log.debug("Coalescing hiscores lookup for characterName: {}", characterName);
+            return awaitLeader(existing);
+        }
+
+        upstreamRequests.increment();
+        try {
+            T result = lookup.apply(characterName);
+            leaderFuture.complete(result);
+            return result;
+        } catch (Throwable t) {
+            leaderFuture.completeExceptionally(t);
+            throw t;
+        } finally {
+            lookups.remove(key, leaderFuture);
+        }
+    }
+
+    private static <T> T awaitLeader(CompletableFuture<T> leaderFuture) {
+        try {
+            return leaderFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
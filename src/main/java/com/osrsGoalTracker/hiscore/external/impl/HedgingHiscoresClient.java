@@ -0,0 +1,200 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.external.HiscoresClient;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * HiscoresClient decorator that hedges slow lookups. If a lookup has not
+ * answered by the configured percentile of recent latency, an identical second
+ * lookup is sent and whichever succeeds first is returned. Hedges are paid for
+ * from a budget that grows by the configured fraction of each lookup, so at
+ * most that fraction of extra upstream requests is sent. No lookup is hedged
+ * until enough latency samples have been collected.
+ */
+@Log4j2
+public class HedgingHiscoresClient implements HiscoresClient {
+    static final int LATENCY_WINDOW_SIZE = 256;
+    static final int MIN_SAMPLES = 20;
+    private static final double MAX_BUDGET_TOKENS = 10.0;
+
+    private final HiscoresClient delegate;
+    private final double hedgePercentile;
+    private final double budgetPerRequest;
+    private final LongSupplier nanoClock;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LatencyTracker latencies = new LatencyTracker(LATENCY_WINDOW_SIZE);
+    private final LongAdder hedgedRequests = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private double budgetTokens;
+
+    /**
+     * Constructs a new HedgingHiscoresClient.
+     *
+     * @param delegate The client used for both the original and hedged lookups
+     * @param config   The hiscores configuration holding the hedging settings
+     */
+    public HedgingHiscoresClient(HiscoresClient delegate, HiscoresConfig config) {
+        this(delegate, config, System::nanoTime);
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows the clock used to measure latency to be controlled.
+     *
+     * @param delegate  The client used for both the original and hedged lookups
+     * @param config    The hiscores configuration holding the hedging settings
+     * @param nanoClock The time source, in nanoseconds
+     */
+    HedgingHiscoresClient(HiscoresClient delegate, HiscoresConfig config, LongSupplier nanoClock) {
+        if (config.getHedgePercentile() <= 0 || config.getHedgePercentile() > 100) {
+            throw new IllegalArgumentException("Hedge percentile must be greater than 0 and at most 100");
+        }
+        this.delegate = delegate;
+        this.hedgePercentile = config.getHedgePercentile();
+        this.budgetPerRequest = config.getHedgeBudgetPercent() / 100.0;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public CharacterHiscores getCharacterHiscores(String characterName) {
+        return hedge(characterName, () -> delegate.getCharacterHiscores(characterName));
+    }
+
+    @Override
+    public CharacterHiscoresSnapshot getCharacterHiscoresSnapshot(String characterName) {
+        return hedge(characterName, () -> delegate.getCharacterHiscoresSnapshot(characterName));
+    }
+
+    /**
+     * Returns the number of hedged lookups sent.
+     *
+     * @return The hedged request count
+     */
+    public long hedgedRequestCount() {
+        return hedgedRequests.sum();
+    }
+
+    /**
+     * Returns the number of lookups answered by the hedged request rather than
+     * the original.
+     *
+     * @return The hedge win count
+     */
+    public long hedgeWinCount() {
+        return hedgeWins.sum();
+    }
+
+    private <T> T hedge(String characterName, Supplier<T> lookup) {
+        earnBudget();
+        long hedgeDelayNanos = latencies.size() >= MIN_SAMPLES ? latencies.percentile(hedgePercentile) : -1;
+        CompletableFuture<T> primary = submit(lookup);
+        if (hedgeDelayNanos < 0) {
+            return await(primary);
+        }
+
+        try {
+            return primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (!trySpendBudget()) {
+                return await(primary);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted fetching character hiscores", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+
+        hedgedRequests.increment();
+        log.debug("Hedging hiscores lookup for characterName: {}", characterName);
+        CompletableFuture<T> hedged = submit(lookup);
+        return await(firstSuccessful(primary, hedged));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> lookup) {
+        long start = nanoClock.getAsLong();
+        return CompletableFuture.supplyAsync(() -> {
+            T result = lookup.get();
+            latencies.record(nanoClock.getAsLong() - start);
+            return result;
+        }, executor);
+    }
+
+    private <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> primary, CompletableFuture<T> hedged) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicBoolean settled = new AtomicBoolean();
+        primary.whenComplete((value, error) -> settle(result, settled, value, error, hedged, null));
+        hedged.whenComplete((value, error) -> settle(result, settled, value, error, primary, hedgeWins));
+        return result;
+    }
+
+    /**
+     * Completes the result with the first success, or with the failure once
+     * both lookups have failed. The winner is counted before the result is
+     * completed so callers observe the count as soon as they see the result.
+     */
+    private static <T> void settle(CompletableFuture<T> result, AtomicBoolean settled, T value, Throwable error,
+            CompletableFuture<T> other, LongAdder wins) {
+        if (error == null) {
+            if (settled.compareAndSet(false, true)) {
+                if (wins != null) {
+                    wins.increment();
+                }
+                result.complete(value);
+            }
+            return;
+        }
+        if (other.isCompletedExceptionally()) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted fetching character hiscores", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new RuntimeException(cause);
+    }
+
+    private synchronized void earnBudget() {
+        budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + budgetPerRequest);
+    }
+
+    private synchronized boolean trySpendBudget() {
+        if (budgetTokens < 1.0) {
+            return false;
+        }
+        budgetTokens -= 1.0;
+        return true;
+    }
+}
@@ -0,0 +1,154 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.goal.model.MetricNameResolver;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+/**
+ * Parses the Jagex index_lite hiscores format straight from response bytes.
+ *
+ * <p>
+ * The format has no names: one line per hiscores row, in a fixed order, with
+ * {@code rank,level,xp} for skills and {@code rank,score} for activities.
+ * {@link #SKILL_ROWS} and {@link #ACTIVITY_ROWS} list that order and are
+ * resolved to metrics once at class initialization. Parsing walks the bytes
+ * once, accumulating each field into a long and writing finished rows into the
+ * snapshot builder, so no strings or row objects are created.
+ *
+ * <p>
+ * Jagex inserts rows when new content is released. A line with the wrong
+ * number of fields for its position, which is what inserting a skill looks
+ * like, fails the parse rather than silently shifting every later row. An
+ * inserted activity row has the same shape as its neighbours, so a response
+ * whose row count differs from the known layout fails the parse too; the
+ * layout must be updated before such responses can be read.
+ */
+final class IndexLiteParser {
+    /**
+     * Skill rows in response order, including the Overall row.
+     */
+    static final String[] SKILL_ROWS = {
+        "Overall", "Attack", "Defence", "Strength", "Hitpoints", "Ranged", "Prayer", "Magic", "Cooking",
+        "Woodcutting", "Fletching", "Fishing", "Firemaking", "Crafting", "Smithing", "Mining", "Herblore",
+        "Agility", "Thieving", "Slayer", "Farming", "Runecraft", "Hunter", "Construction",
+    };
+
+    /**
+     * Activity rows in response order, including rows that are not tracked
+     * metrics.
+     */
+    static final String[] ACTIVITY_ROWS = {
+        "League Points", "Deadman Points", "Bounty Hunter - Hunter", "Bounty Hunter - Rogue",
+        "Bounty Hunter (Legacy) - Hunter", "Bounty Hunter (Legacy) - Rogue", "Clue Scrolls (all)",
+        "Clue Scrolls (beginner)", "Clue Scrolls (easy)", "Clue Scrolls (medium)", "Clue Scrolls (hard)",
+        "Clue Scrolls (elite)", "Clue Scrolls (master)", "LMS - Rank", "PvP Arena - Rank", "Soul Wars Zeal",
+        "Rifts closed", "Colosseum Glory", "Abyssal Sire", "Alchemical Hydra", "Amoxliatl", "Araxxor", "Artio",
+        "Barrows Chests", "Bryophyta", "Callisto", "Cal'varion", "Cerberus", "Chambers of Xeric",
+        "Chambers of Xeric: Challenge Mode", "Chaos Elemental", "Chaos Fanatic", "Commander Zilyana",
+        "Corporeal Beast", "Crazy Archaeologist", "Dagannoth Prime", "Dagannoth Rex", "Dagannoth Supreme",
+        "Deranged Archaeologist", "Duke Sucellus", "General Graardor", "Giant Mole", "Grotesque Guardians",
+        "Hespori", "Kalphite Queen", "King Black Dragon", "Kraken", "Kree'Arra", "K'ril Tsutsaroth",
+        "Lunar Chests", "Mimic", "Nex", "Nightmare", "Phosani's Nightmare", "Obor", "Phantom Muspah",
+        "Sarachnis", "Scorpia", "Scurrius", "Skotizo", "Sol Heredit", "Spindel", "Tempoross", "The Gauntlet",
+        "The Corrupted Gauntlet", "The Hueycoatl", "The Leviathan", "The Whisperer", "Theatre of Blood",
+        "Theatre of Blood: Hard Mode", "Thermonuclear Smoke Devil", "Tombs of Amascut",
+        "Tombs of Amascut: Expert Mode", "TzKal-Zuk", "TzTok-Jad", "Vardorvis", "Venenatis", "Vet'ion",
+        "Vorkath", "Wintertodt", "Zalcano", "Zulrah",
+    };
+
+    private static final int SKILL_FIELDS = 3;
+    private static final int ACTIVITY_FIELDS = 2;
+
+    /**
+     * Metric for each row, or null for rows that are not tracked.
+     */
+    private static final MetricName[] ROW_METRICS = new MetricName[SKILL_ROWS.length + ACTIVITY_ROWS.length];
+
+    static {
+        for (int i = 0; i < SKILL_ROWS.length; i++) {
+            ROW_METRICS[i] = MetricNameResolver.lookup(SKILL_ROWS[i]);
+        }
+        for (int i = 0; i < ACTIVITY_ROWS.length; i++) {
+            ROW_METRICS[SKILL_ROWS.length + i] = MetricNameResolver.lookup(ACTIVITY_ROWS[i]);
+        }
+    }
+
+    private IndexLiteParser() {
+    }
+
+    /**
+     * Parses an index_lite response into a snapshot builder.
+     *
+     * @param body    The response bytes
+     * @param length  The number of bytes of {@code body} to read
+     * @param builder The builder to record skills and activities into
+     * @return The builder
+     * @throws IllegalStateException if the response does not match the layout,
+     *                               including when it has more or fewer rows
+     */
+    static CharacterHiscoresSnapshot.Builder parse(byte[] body, int length,
+            CharacterHiscoresSnapshot.Builder builder) {
+        long[] fields = new long[SKILL_FIELDS];
+        int fieldCount = 0;
+        int row = 0;
+        long value = 0;
+        boolean negative = false;
+        boolean inField = false;
+
+        for (int i = 0; i <= length; i++) {
+            byte b = i < length ? body[i] : (byte) '\n';
+            if (b >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                inField = true;
+            } else if (b == '-') {
+                negative = true;
+                inField = true;
+            } else if (b == ',' || b == '\n') {
+                if (inField) {
+                    if (fieldCount == SKILL_FIELDS) {
+                        throw malformed(row);
+                    }
+                    fields[fieldCount++] = negative ? -value : value;
+                }
+                value = 0;
+                negative = false;
+                inField = false;
+                if (b == '\n' && fieldCount > 0) {
+                    record(row++, fields, fieldCount, builder);
+                    fieldCount = 0;
+                }
+            } else if (b != '\r' && b != ' ') {
+                throw malformed(row);
+            }
+        }
+
+        if (row != ROW_METRICS.length) {
+            throw new IllegalStateException("Hiscores lite response has " + row + " rows but the layout has "
+                    + ROW_METRICS.length + "; rows were added or removed upstream");
+        }
+        return builder;
+    }
+
+    private static void record(int row, long[] fields, int fieldCount, CharacterHiscoresSnapshot.Builder builder) {
+        if (row >= ROW_METRICS.length) {
+            return;
+        }
+        boolean skillRow = row < SKILL_ROWS.length;
+        if (fieldCount != (skillRow ? SKILL_FIELDS : ACTIVITY_FIELDS)) {
+            throw malformed(row);
+        }
+        MetricName metric = ROW_METRICS[row];
+        if (metric == null) {
+            return;
+        }
+        if (skillRow) {
+            builder.skill(metric, (int) fields[0], (int) fields[1], fields[2]);
+        } else {
+            builder.activity(metric, (int) fields[0], fields[1]);
+        }
+    }
+
+    private static IllegalStateException malformed(int row) {
+        return new IllegalStateException("Unexpected hiscores lite format at row " + row);
+    }
+}
@@ -1,14 +1,16 @@
 package com.osrsGoalTracker.hiscore.external.impl;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.google.inject.Inject;
 import com.osrsGoalTracker.hiscore.model.Activity;
 import com.osrsGoalTracker.hiscore.model.Skill;
 import com.osrsGoalTracker.hiscore.external.HiscoresClient;
 import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
 import com.osrshiscores.apiclient.OsrsApiClient;
 import com.osrshiscores.apiclient.model.output.OsrsPlayer;
 
@@ -42,13 +44,39 @@ public class JagexHiscoresClientImpl implements HiscoresClient {
 
     @Override
     public CharacterHiscores getCharacterHiscores(String characterName) {
+        OsrsPlayer player = fetchPlayer(characterName);
+        return CharacterHiscores.builder()
+                .characterName(characterName)
+                .skills(convertSkills(player.getSkills()))
+                .activities(convertActivities(player.getActivities()))
+                .build();
+    }
+
+    /**
+     * Retrieves the hiscores for a character as a snapshot, filling the
+     * snapshot arrays directly from the API response without building the
+     * intermediate list model.
+     *
+     * @param characterName The name of the character
+     * @return The character's hiscores snapshot
+     */
+    @Override
+    public CharacterHiscoresSnapshot getCharacterHiscoresSnapshot(String characterName) {
+        OsrsPlayer player = fetchPlayer(characterName);
+        CharacterHiscoresSnapshot.Builder builder = CharacterHiscoresSnapshot.builder(characterName)
+                .capturedAt(Instant.now());
+        for (com.osrshiscores.apiclient.model.output.Skill skill : player.getSkills()) {
+            builder.skill(skill.getName(), skill.getRank(), skill.getLevel(), skill.getXp());
+        }
+        for (com.osrshiscores.apiclient.model.output.Activity activity : player.getActivities()) {
+            builder.activity(activity.getName(), activity.getRank(), activity.getScore());
+        }
+        return builder.build();
+    }
+
+    private OsrsPlayer fetchPlayer(String characterName) {
         try {
-            OsrsPlayer player = osrsApiClient.getPlayerByRsn(characterName);
-            return CharacterHiscores.builder()
-                    .characterName(characterName)
-                    .skills(convertSkills(player.getSkills()))
-                    .activities(convertActivities(player.getActivities()))
-                    .build();
+            return osrsApiClient.getPlayerByRsn(characterName);
         } catch (IOException e) {
             log.error("Failed to fetch character hiscores for {}: {}", characterName, e.getMessage());
             throw new RuntimeException("Error fetching character hiscores", e);
@@ -56,23 +84,27 @@ public class JagexHiscoresClientImpl implements HiscoresClient {
     }
 
     private List<Skill> convertSkills(List<com.osrshiscores.apiclient.model.output.Skill> skills) {
-        return skills.stream()
-                .map(skill -> Skill.builder()
-                        .name(skill.getName())
-                        .rank(skill.getRank())
-                        .level(skill.getLevel())
-                        .xp(skill.getXp())
-                        .build())
-                .collect(Collectors.toList());
+        List<Skill> converted = new ArrayList<>(skills.size());
+        for (com.osrshiscores.apiclient.model.output.Skill skill : skills) {
+            converted.add(Skill.builder()
+                    .name(skill.getName())
+                    .rank(skill.getRank())
+                    .level(skill.getLevel())
+                    .xp(skill.getXp())
+                    .build());
+        }
+        return converted;
     }
 
     private List<Activity> convertActivities(List<com.osrshiscores.apiclient.model.output.Activity> activities) {
-        return activities.stream()
-                .map(activity -> Activity.builder()
-                        .name(activity.getName())
-                        .rank(activity.getRank())
-                        .score(activity.getScore())
-                        .build())
-                .collect(Collectors.toList());
+        List<Activity> converted = new ArrayList<>(activities.size());
+        for (com.osrshiscores.apiclient.model.output.Activity activity : activities) {
+            converted.add(Activity.builder()
+                    .name(activity.getName())
+                    .rank(activity.getRank())
+                    .score(activity.getScore())
+                    .build());
+        }
+        return converted;
     }
 }
@@ -0,0 +1,106 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.external.HiscoresClient;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Implementation of the HiscoresClient interface that reads the Jagex
+ * index_lite endpoint directly.
+ *
+ * <p>
+ * The response body is read as bytes and parsed by {@link IndexLiteParser}
+ * straight into a {@link CharacterHiscoresSnapshot}, skipping the object graph
+ * the OSRS API client library builds. List-shaped {@link CharacterHiscores}
+ * are converted from that snapshot when requested.
+ */
+@Log4j2
+public class JagexLiteHiscoresClient implements HiscoresClient {
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_FOUND = 404;
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration timeout;
+
+    /**
+     * Constructs a new JagexLiteHiscoresClient.
+     *
+     * @param config The hiscores configuration holding the endpoint and timeout
+     */
+    public JagexLiteHiscoresClient(HiscoresConfig config) {
+        this(HttpClient.newBuilder().connectTimeout(config.getLiteTimeout()).build(), config);
+    }
+
+    /**
+     * Constructs a new JagexLiteHiscoresClient with an explicit HTTP client.
+     *
+     * @param httpClient The HTTP client to send requests with
+     * @param config     The hiscores configuration holding the endpoint and
+     *                   timeout
+     */
+    JagexLiteHiscoresClient(HttpClient httpClient, HiscoresConfig config) {
+        this.httpClient = httpClient;
+        this.baseUrl = config.getLiteBaseUrl();
+        this.timeout = config.getLiteTimeout();
+    }
+
+    @Override
+    public CharacterHiscores getCharacterHiscores(String characterName) {
+        return getCharacterHiscoresSnapshot(characterName).toCharacterHiscores();
+    }
+
+    @Override
+    public CharacterHiscoresSnapshot getCharacterHiscoresSnapshot(String characterName) {
+        byte[] body = fetch(characterName);
+        CharacterHiscoresSnapshot.Builder builder = CharacterHiscoresSnapshot.builder(characterName)
+                .capturedAt(Instant.now());
+        try {
+            return IndexLiteParser.parse(body, body.length, builder).build();
+        } catch (IllegalStateException e) {
+            log.error("Failed to parse character hiscores for {}: {}", characterName, e.getMessage());
+            throw new RuntimeException("Error fetching character hiscores", e);
+        }
+    }
+
+    private byte[] fetch(String characterName) {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "?player=" + URLEncoder.encode(characterName, StandardCharsets.UTF_8)))
+                .timeout(timeout)
+                .GET()
+                .build();
+
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            log.error("Failed to fetch character hiscores for {}: {}", characterName, e.getMessage());
+            throw new RuntimeException("Error fetching character hiscores", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted fetching character hiscores", e);
+        }
+
+        if (response.statusCode() == HTTP_NOT_FOUND) {
+            throw new IllegalArgumentException("Character not found on hiscores: " + characterName);
+        }
+        if (response.statusCode() != HTTP_OK) {
+            log.error("Hiscores returned status {} for {}", response.statusCode(), characterName);
+            throw new RuntimeException("Error fetching character hiscores");
+        }
+        return response.body();
+    }
+}
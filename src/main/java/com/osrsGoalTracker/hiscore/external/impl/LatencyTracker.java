@@ -0,0 +1,65 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring buffer of recent latencies used to estimate a percentile.
+ * The percentile is recomputed from a sorted copy of the window, which for a
+ * few hundred samples is cheap next to a network call.
+ */
+final class LatencyTracker {
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    /**
+     * Constructs a new LatencyTracker.
+     *
+     * @param windowSize The number of most recent samples to keep
+     */
+    LatencyTracker(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Latency window size must be at least 1");
+        }
+        this.samples = new long[windowSize];
+    }
+
+    /**
+     * Records a latency sample, replacing the oldest once the window is full.
+     *
+     * @param latencyNanos The observed latency
+     */
+    synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    /**
+     * Returns the number of samples currently in the window.
+     *
+     * @return The sample count
+     */
+    synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Returns the latency at the given percentile of the current window using
+     * the nearest-rank method.
+     *
+     * @param percentile The percentile, between 0 (exclusive) and 100 (inclusive)
+     * @return The latency in nanoseconds, or -1 if no samples were recorded
+     */
+    synchronized long percentile(double percentile) {
+        if (count == 0) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(0, Math.min(count - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,32 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Point-in-time view of the concurrency limiter and circuit breaker guarding
+ * upstream hiscores calls.
+ */
+@Value
+@Builder
+public class ResilienceStats {
+    /**
+     * The current adaptive concurrency limit.
+     */
+    int concurrencyLimit;
+
+    /**
+     * The number of upstream calls currently in flight.
+     */
+    int inFlight;
+
+    /**
+     * The current circuit breaker state.
+     */
+    CircuitBreaker.State breakerState;
+
+    /**
+     * The number of calls rejected by the limiter or breaker since startup.
+     */
+    long rejectedRequests;
+}
@@ -0,0 +1,145 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.external.HiscoresClient;
+import com.osrsGoalTracker.hiscore.external.HiscoresUnavailableException;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * HiscoresClient decorator that protects the upstream hiscores API with an
+ * adaptive concurrency limit and a circuit breaker. When upstream slows down
+ * the limit shrinks, and when it keeps failing the breaker opens, so callers
+ * fail fast with {@link HiscoresUnavailableException} instead of each waiting
+ * for the full IO timeout. Cached entries keep being served by
+ * {@link CachingHiscoresClient} while the breaker is open, since failed
+ * background refreshes leave the previous value in place.
+ */
+@Log4j2
+public class ResilientHiscoresClient implements HiscoresClient {
+    static final String BREAKER_OPEN_MESSAGE = "Hiscores are temporarily unavailable";
+    static final String LIMIT_REACHED_MESSAGE = "Too many concurrent hiscores requests";
+
+    private static final int MIN_LIMIT = 1;
+
+    private final HiscoresClient delegate;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final CircuitBreaker breaker;
+    private final LongSupplier nanoClock;
+    private final LongAdder rejectedRequests = new LongAdder();
+
+    /**
+     * Constructs a new ResilientHiscoresClient.
+     *
+     * @param delegate The client that calls the upstream hiscores API
+     * @param config   The hiscores configuration holding the limiter and
+     *                 breaker settings
+     */
+    public ResilientHiscoresClient(HiscoresClient delegate, HiscoresConfig config) {
+        this(delegate, config, System::nanoTime);
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows the clock used for latency and breaker timing to be controlled.
+     *
+     * @param delegate  The client that calls the upstream hiscores API
+     * @param config    The hiscores configuration holding the limiter and
+     *                  breaker settings
+     * @param nanoClock The time source, in nanoseconds
+     */
+    ResilientHiscoresClient(HiscoresClient delegate, HiscoresConfig config, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.nanoClock = nanoClock;
+        this.limiter = new AdaptiveConcurrencyLimiter(config.getConcurrencyLimitInitial(), MIN_LIMIT,
+                config.getConcurrencyLimitMax(), config.getConcurrencyLimitLatencyThreshold().toNanos());
+        this.breaker = new CircuitBreaker(config.getBreakerFailureThreshold(),
+                config.getBreakerOpenDuration().toNanos(), config.getBreakerHalfOpenTrials(), nanoClock);
+    }
+
+    @Override
+    public CharacterHiscores getCharacterHiscores(String characterName) {
+        return call(characterName, () -> delegate.getCharacterHiscores(characterName));
+    }
+
+    @Override
+    public CharacterHiscoresSnapshot getCharacterHiscoresSnapshot(String characterName) {
+        return call(characterName, () -> delegate.getCharacterHiscoresSnapshot(characterName));
+    }
+
+    /**
+     * Returns the current limiter and breaker metrics.
+     *
+     * @return The resilience statistics
+     */
+    public ResilienceStats stats() {
+        return ResilienceStats.builder()
+                .concurrencyLimit(limiter.getLimit())
+                .inFlight(limiter.getInFlight())
+                .breakerState(breaker.getState())
+                .rejectedRequests(rejectedRequests.sum())
+                .build();
+    }
+
+    private <T> T call(String characterName, Supplier<T> upstreamCall) {
+        // Read before acquiring, as acquiring moves an open breaker to half-open.
+        CircuitBreaker.State stateBefore = breaker.getState();
+        if (!limiter.tryAcquire()) {
+            reject(characterName, LIMIT_REACHED_MESSAGE);
+        }
+        if (!breaker.tryAcquire()) {
+            limiter.release();
+            logTransition(stateBefore);
+            reject(characterName, BREAKER_OPEN_MESSAGE);
+        }
+
+        long start = nanoClock.getAsLong();
+        boolean recorded = false;
+        try {
+            T result = upstreamCall.get();
+            limiter.onSuccess(nanoClock.getAsLong() - start);
+            breaker.onSuccess();
+            recorded = true;
+            return result;
+        } catch (IllegalArgumentException e) {
+            limiter.release();
+            breaker.onSuccess();
+            recorded = true;
+            throw e;
+        } catch (RuntimeException e) {
+            limiter.onFailure();
+            breaker.onFailure();
+            recorded = true;
+            throw e;
+        } finally {
+            if (!recorded) {
+                // An Error says nothing about upstream health; just give the permits back.
+                limiter.release();
+                breaker.release();
+            }
+            logTransition(stateBefore);
+        }
+    }
+
+    private void reject(String characterName, String message) {
+        rejectedRequests.increment();
+        log.warn("Rejected hiscores lookup for characterName: {}: {}", characterName, message);
+        throw new HiscoresUnavailableException(message);
+    }
+
+    private void logTransition(CircuitBreaker.State stateBefore) {
+        CircuitBreaker.State stateAfter = breaker.getState();
+        if (stateAfter != stateBefore) {
+            ResilienceStats stats = stats();
+            log.info("Hiscores circuit breaker moved from {} to {} (limit={}, inFlight={}, rejected={})",
+                    stateBefore, stateAfter, stats.getConcurrencyLimit(), stats.getInFlight(),
+                    stats.getRejectedRequests());
+        }
+    }
+}
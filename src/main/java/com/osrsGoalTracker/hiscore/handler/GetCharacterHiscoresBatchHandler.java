@@ -0,0 +1,115 @@
+package com.osrsGoalTracker.hiscore.handler;
+
+import java.util.List;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.hiscore.di.HiscoresModule;
+import com.osrsGoalTracker.hiscore.handler.request.GetCharacterHiscoresBatchRequest;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresBatch;
+import com.osrsGoalTracker.hiscore.service.HiscoresService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * AWS Lambda handler for retrieving hiscores for several characters in one
+ * request. Characters that cannot be fetched are reported individually so the
+ * rest of the batch is still returned.
+ */
+@Log4j2
+public class GetCharacterHiscoresBatchHandler
+        implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_SERVER_ERROR = 500;
+
+    private final HiscoresService hiscoresService;
+
+    /**
+     * Constructs a new GetCharacterHiscoresBatchHandler.
+     * Initializes the dependency injection container and retrieves required
+     * services.
+     */
+    public GetCharacterHiscoresBatchHandler() {
+        Injector injector = Guice.createInjector(new HiscoresModule());
+        this.hiscoresService = injector.getInstance(HiscoresService.class);
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services in tests.
+     *
+     * @param hiscoresService The service for retrieving character hiscores
+     */
+    GetCharacterHiscoresBatchHandler(HiscoresService hiscoresService) {
+        this.hiscoresService = hiscoresService;
+    }
+
+    /**
+     * Handles the Lambda request to fetch hiscores for several characters.
+     *
+     * @param input   The API Gateway request event
+     * @param context The Lambda execution context
+     * @return API Gateway response containing the hiscores and per-character
+     *         errors
+     */
+    @Override
+    public APIGatewayProxyResponseEvent handleRequest(
+            final APIGatewayProxyRequestEvent input,
+            final Context context) {
+        log.info("Received request to get character hiscores batch");
+        try {
+            List<String> characterNames = parseAndValidateInput(input);
+            CharacterHiscoresBatch batch = executeRequest(characterNames);
+            return createSuccessResponse(batch);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(HTTP_BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error processing request", e);
+            return createErrorResponse(HTTP_SERVER_ERROR, "Error processing request: " + e.getMessage());
+        }
+    }
+
+    private List<String> parseAndValidateInput(APIGatewayProxyRequestEvent input) throws Exception {
+        if (input == null) {
+            throw new IllegalArgumentException("Request cannot be null");
+        }
+
+        String body = input.getBody();
+        if (body == null || body.trim().isEmpty()) {
+            throw new IllegalArgumentException("Request body cannot be null or empty");
+        }
+
+        GetCharacterHiscoresBatchRequest request = OBJECT_MAPPER.readValue(body,
+                GetCharacterHiscoresBatchRequest.class);
+        if (request.getCharacterNames() == null || request.getCharacterNames().isEmpty()) {
+            throw new IllegalArgumentException("Character names cannot be null or empty");
+        }
+
+        return request.getCharacterNames();
+    }
+
+    private CharacterHiscoresBatch executeRequest(List<String> characterNames) {
+        log.info("Getting character hiscores for {} characters", characterNames.size());
+        return hiscoresService.getCharacterHiscoresBatch(characterNames);
+    }
+
+    private APIGatewayProxyResponseEvent createSuccessResponse(CharacterHiscoresBatch batch) throws Exception {
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(HTTP_OK)
+                .withBody(OBJECT_MAPPER.writeValueAsString(batch));
+    }
+
+    private APIGatewayProxyResponseEvent createErrorResponse(int statusCode, String message) {
+        log.error(message);
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(statusCode)
+                .withBody(String.format("{\"message\":\"%s\"}", message));
+    }
+}
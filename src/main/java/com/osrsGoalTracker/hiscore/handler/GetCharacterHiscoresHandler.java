@@ -1,5 +1,6 @@
 package com.osrsGoalTracker.hiscore.handler;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import com.amazonaws.services.lambda.runtime.Context;
@@ -9,8 +10,12 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
 import com.osrsGoalTracker.hiscore.di.HiscoresModule;
+import com.osrsGoalTracker.hiscore.external.HiscoresUnavailableException;
+import com.osrsGoalTracker.hiscore.model.Activity;
 import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.Skill;
 import com.osrsGoalTracker.hiscore.service.HiscoresService;
 
 import lombok.extern.log4j.Log4j2;
@@ -19,16 +24,31 @@ import lombok.extern.log4j.Log4j2;
  * AWS Lambda handler for retrieving player statistics from OSRS hiscores.
  * This class serves as the entry point for the Lambda function and coordinates
  * the request processing through the application layers.
+ *
+ * <p>
+ * Responses carry a strong ETag computed from the hiscores content. When the
+ * request's If-None-Match header matches it, a 304 is returned with no body and
+ * the hiscores are not serialized.
  */
 @Log4j2
 public class GetCharacterHiscoresHandler
         implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_MODIFIED = 304;
     private static final int HTTP_BAD_REQUEST = 400;
     private static final int HTTP_SERVER_ERROR = 500;
+    private static final int HTTP_SERVICE_UNAVAILABLE = 503;
+
+    private static final String ETAG_HEADER = "ETag";
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final String CACHE_CONTROL_HEADER = "Cache-Control";
+    private static final String NO_CACHE = "no-cache";
+    private static final long HASH_SEED = 0xCBF29CE484222325L;
+    private static final long HASH_MULTIPLIER = 0x100000001B3L;
 
     private final HiscoresService hiscoresService;
+    private final String cacheControl;
 
     /**
      * Constructs a new GetPlayerStatsHandler.
@@ -38,6 +58,7 @@ public class GetCharacterHiscoresHandler
     public GetCharacterHiscoresHandler() {
         Injector injector = Guice.createInjector(new HiscoresModule());
         this.hiscoresService = injector.getInstance(HiscoresService.class);
+        this.cacheControl = cacheControl(injector.getInstance(HiscoresConfig.class));
     }
 
     /**
@@ -47,7 +68,19 @@ public class GetCharacterHiscoresHandler
      * @param statsService The service for retrieving player statistics
      */
     GetCharacterHiscoresHandler(HiscoresService hiscoresService) {
+        this(hiscoresService, HiscoresConfig.builder().build());
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services and configuration in tests.
+     *
+     * @param hiscoresService The service for retrieving player statistics
+     * @param config          The hiscores configuration holding the cache TTL
+     */
+    GetCharacterHiscoresHandler(HiscoresService hiscoresService, HiscoresConfig config) {
         this.hiscoresService = hiscoresService;
+        this.cacheControl = cacheControl(config);
     }
 
     /**
@@ -65,9 +98,15 @@ public class GetCharacterHiscoresHandler
         try {
             String characterName = parseAndValidateInput(input);
             CharacterHiscores hiscores = executeRequest(characterName);
-            return createSuccessResponse(hiscores);
+            String etag = computeEtag(hiscores);
+            if (matchesEtag(input.getHeaders(), etag)) {
+                return createNotModifiedResponse(etag);
+            }
+            return createSuccessResponse(hiscores, etag);
         } catch (IllegalArgumentException e) {
             return createErrorResponse(HTTP_BAD_REQUEST, e.getMessage());
+        } catch (HiscoresUnavailableException e) {
+            return createErrorResponse(HTTP_SERVICE_UNAVAILABLE, e.getMessage());
         } catch (Exception e) {
             log.error("Error processing request", e);
             return createErrorResponse(HTTP_SERVER_ERROR, "Error processing request: " + e.getMessage());
@@ -97,12 +136,107 @@ public class GetCharacterHiscoresHandler
         return hiscoresService.getCharacterHiscores(characterName);
     }
 
-    private APIGatewayProxyResponseEvent createSuccessResponse(CharacterHiscores stats) throws Exception {
+    private APIGatewayProxyResponseEvent createSuccessResponse(CharacterHiscores stats, String etag)
+            throws Exception {
         return new APIGatewayProxyResponseEvent()
                 .withStatusCode(HTTP_OK)
+                .withHeaders(cachingHeaders(etag))
                 .withBody(OBJECT_MAPPER.writeValueAsString(stats));
     }
 
+    private APIGatewayProxyResponseEvent createNotModifiedResponse(String etag) {
+        log.info("Hiscores unchanged for ETag {}", etag);
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(HTTP_NOT_MODIFIED)
+                .withHeaders(cachingHeaders(etag));
+    }
+
+    private Map<String, String> cachingHeaders(String etag) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(ETAG_HEADER, etag);
+        headers.put(CACHE_CONTROL_HEADER, cacheControl);
+        return headers;
+    }
+
+    /**
+     * Computes a strong ETag from every field that appears in the response body,
+     * without serializing it.
+     *
+     * @param hiscores The hiscores being returned
+     * @return The quoted ETag
+     */
+    static String computeEtag(CharacterHiscores hiscores) {
+        long hash = mix(HASH_SEED, hiscores.getCharacterName());
+        if (hiscores.getSkills() != null) {
+            for (Skill skill : hiscores.getSkills()) {
+                hash = mix(hash, skill.getName());
+                hash = mix(hash, skill.getRank());
+                hash = mix(hash, skill.getLevel());
+                hash = mix(hash, skill.getXp());
+            }
+        }
+        hash = mix(hash, -1L);
+        if (hiscores.getActivities() != null) {
+            for (Activity activity : hiscores.getActivities()) {
+                hash = mix(hash, activity.getName());
+                hash = mix(hash, activity.getRank());
+                hash = mix(hash, activity.getScore());
+            }
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Returns whether an If-None-Match header lists the given ETag. Uses the weak
+     * comparison required for If-None-Match, so a W/ prefix is ignored, and
+     * treats {@code *} as matching any current representation.
+     *
+     * @param headers The request headers, which may be null
+     * @param etag    The ETag of the current representation
+     * @return True if the client already has this representation
+     */
+    static boolean matchesEtag(Map<String, String> headers, String etag) {
+        if (headers == null) {
+            return false;
+        }
+        String ifNoneMatch = null;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (IF_NONE_MATCH_HEADER.equalsIgnoreCase(header.getKey())) {
+                ifNoneMatch = header.getValue();
+                break;
+            }
+        }
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String cacheControl(HiscoresConfig config) {
+        if (!config.isCacheEnabled()) {
+            return NO_CACHE;
+        }
+        return "max-age=" + config.getCacheTtl().getSeconds();
+    }
+
+    private static long mix(long hash, String value) {
+        return mix(hash, value == null ? 0 : value.hashCode());
+    }
+
+    private static long mix(long hash, long value) {
+        hash = (hash ^ value) * HASH_MULTIPLIER;
+        return hash ^ (hash >>> 29);
+    }
+
     private APIGatewayProxyResponseEvent createErrorResponse(int statusCode, String message) {
         log.error(message);
         return new APIGatewayProxyResponseEvent()
@@ -0,0 +1,147 @@
+package com.osrsGoalTracker.hiscore.handler;
+
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.goal.model.MetricNameResolver;
+import com.osrsGoalTracker.hiscore.di.HiscoresModule;
+import com.osrsGoalTracker.hiscore.model.Leaderboard;
+import com.osrsGoalTracker.hiscore.service.HiscoresService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * AWS Lambda handler for retrieving the top tracked characters for a metric,
+ * and optionally where one character places among them.
+ */
+@Log4j2
+public class GetLeaderboardHandler
+        implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_SERVER_ERROR = 500;
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final HiscoresService hiscoresService;
+
+    /**
+     * Constructs a new GetLeaderboardHandler.
+     * Initializes the dependency injection container and retrieves required
+     * services.
+     */
+    public GetLeaderboardHandler() {
+        Injector injector = Guice.createInjector(new HiscoresModule());
+        this.hiscoresService = injector.getInstance(HiscoresService.class);
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services in tests.
+     *
+     * @param hiscoresService The service for retrieving leaderboards
+     */
+    GetLeaderboardHandler(HiscoresService hiscoresService) {
+        this.hiscoresService = hiscoresService;
+    }
+
+    /**
+     * Handles the Lambda request to fetch a leaderboard.
+     *
+     * @param input   The API Gateway request event
+     * @param context The Lambda execution context
+     * @return API Gateway response containing the leaderboard
+     */
+    @Override
+    public APIGatewayProxyResponseEvent handleRequest(
+            final APIGatewayProxyRequestEvent input,
+            final Context context) {
+        log.info("Received request to get leaderboard");
+        try {
+            LeaderboardRequest request = parseAndValidateInput(input);
+            Leaderboard leaderboard = executeRequest(request);
+            return createSuccessResponse(leaderboard);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(HTTP_BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error processing request", e);
+            return createErrorResponse(HTTP_SERVER_ERROR, "Error processing request: " + e.getMessage());
+        }
+    }
+
+    private LeaderboardRequest parseAndValidateInput(APIGatewayProxyRequestEvent input) {
+        if (input == null) {
+            throw new IllegalArgumentException("Request cannot be null");
+        }
+
+        Map<String, String> pathParameters = input.getPathParameters();
+        if (pathParameters == null) {
+            throw new IllegalArgumentException("Path parameters cannot be null");
+        }
+
+        String metricName = pathParameters.get("metric");
+        if (metricName == null || metricName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Metric cannot be null or empty");
+        }
+        MetricName metric = MetricNameResolver.lookup(metricName);
+        if (metric == null) {
+            throw new IllegalArgumentException("Unknown metric: " + metricName);
+        }
+
+        Map<String, String> queryParameters = input.getQueryStringParameters();
+        int limit = DEFAULT_LIMIT;
+        String characterName = null;
+        if (queryParameters != null) {
+            String limitParameter = queryParameters.get("limit");
+            if (limitParameter != null) {
+                try {
+                    limit = Integer.parseInt(limitParameter.trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Limit must be a whole number");
+                }
+            }
+            characterName = queryParameters.get("characterName");
+        }
+        return new LeaderboardRequest(metric, limit, characterName);
+    }
+
+    private Leaderboard executeRequest(LeaderboardRequest request) {
+        log.info("Getting leaderboard for metric: {}", request.metric);
+        return hiscoresService.getLeaderboard(request.metric, request.limit, request.characterName);
+    }
+
+    private APIGatewayProxyResponseEvent createSuccessResponse(Leaderboard leaderboard) throws Exception {
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(HTTP_OK)
+                .withBody(OBJECT_MAPPER.writeValueAsString(leaderboard));
+    }
+
+    private APIGatewayProxyResponseEvent createErrorResponse(int statusCode, String message) {
+        log.error(message);
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(statusCode)
+                .withBody(String.format("{\"message\":\"%s\"}", message));
+    }
+
+    /**
+     * Validated leaderboard request parameters.
+     */
+    private static final class LeaderboardRequest {
+        private final MetricName metric;
+        private final int limit;
+        private final String characterName;
+
+        private LeaderboardRequest(MetricName metric, int limit, String characterName) {
+            this.metric = metric;
+            this.limit = limit;
+            this.characterName = characterName;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.osrsGoalTracker.hiscore.handler.request;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request object for retrieving hiscores for several characters at once.
+ */
+@Data
+@NoArgsConstructor
+public class GetCharacterHiscoresBatchRequest {
+    /**
+     * The names of the characters to look up.
+     */
+    private List<String> characterNames;
+}
@@ -0,0 +1,26 @@
+package com.osrsGoalTracker.hiscore.model;
+
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Model representing the result of looking up hiscores for several characters
+ * at once. Each requested character appears in exactly one of the two maps.
+ */
+@Value
+@Builder
+public class CharacterHiscoresBatch {
+    /**
+     * Hiscores for every character that was fetched successfully, keyed by the
+     * character name as requested.
+     */
+    private final Map<String, CharacterHiscores> hiscores;
+
+    /**
+     * Error messages for every character that could not be fetched, keyed by
+     * the character name as requested.
+     */
+    private final Map<String, String> errors;
+}
@@ -0,0 +1,387 @@
+package com.osrsGoalTracker.hiscore.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Compact, immutable representation of a character's hiscores.
+ * Values are held in primitive arrays indexed by {@link MetricName#ordinal()},
+ * so looking up a metric is a single array read with no string comparison.
+ * Derived totals and a content fingerprint are computed once when the
+ * snapshot is built.
+ *
+ * <p>
+ * Metrics the hiscores did not report (unranked) hold a rank and value of
+ * {@link #UNRANKED} and a level of 1.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class CharacterHiscoresSnapshot {
+    /**
+     * Value the hiscores use for unranked metrics.
+     */
+    public static final int UNRANKED = -1;
+
+    /**
+     * Number of metrics held by every snapshot.
+     */
+    public static final int METRIC_COUNT = MetricName.values().length;
+
+    private static final MetricName[] METRICS = MetricName.values();
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final int PRESENCE_WORDS = (METRIC_COUNT + BITS_PER_WORD - 1) / BITS_PER_WORD;
+    private static final double COMBAT_BASE_WEIGHT = 0.25;
+    private static final double COMBAT_STYLE_WEIGHT = 0.325;
+    private static final long FINGERPRINT_SEED = 0xCBF29CE484222325L;
+    private static final long FINGERPRINT_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The name of the character.
+     */
+    private final String characterName;
+
+    /**
+     * When the hiscores were fetched.
+     */
+    private final Instant capturedAt;
+
+    /**
+     * Sum of all skill levels.
+     */
+    private final int totalLevel;
+
+    /**
+     * Sum of all ranked skill experience.
+     */
+    private final long totalXp;
+
+    /**
+     * The character's combat level, derived from its combat skill levels.
+     */
+    private final int combatLevel;
+
+    /**
+     * 64-bit hash of every skill's xp and every activity's score. Ranks are
+     * excluded because they drift as other characters progress. Two snapshots
+     * with the same fingerprint can be treated as unchanged.
+     */
+    private final long fingerprint;
+
+    @Getter(lombok.AccessLevel.NONE)
+    private final long[] values;
+
+    @Getter(lombok.AccessLevel.NONE)
+    private final int[] levels;
+
+    @Getter(lombok.AccessLevel.NONE)
+    private final int[] ranks;
+
+    @Getter(lombok.AccessLevel.NONE)
+    private final long[] presence;
+
+    private CharacterHiscoresSnapshot(Builder builder) {
+        this.characterName = builder.characterName;
+        this.capturedAt = builder.capturedAt;
+        this.values = builder.values.clone();
+        this.levels = builder.levels.clone();
+        this.ranks = builder.ranks.clone();
+        this.presence = builder.presence.clone();
+        this.totalLevel = computeTotalLevel(levels);
+        this.totalXp = computeTotalXp(values);
+        this.combatLevel = computeCombatLevel(levels);
+        this.fingerprint = computeFingerprint(values);
+    }
+
+    /**
+     * Creates a builder for a snapshot of the given character.
+     *
+     * @param characterName The name of the character
+     * @return A new builder with every metric unranked
+     */
+    public static Builder builder(String characterName) {
+        return new Builder(characterName);
+    }
+
+    /**
+     * Returns the tracked value of a metric: experience for skills, score for
+     * activities.
+     *
+     * @param metric The metric to read
+     * @return The metric's value, or {@link #UNRANKED}
+     */
+    public long valueOf(MetricName metric) {
+        return values[metric.ordinal()];
+    }
+
+    /**
+     * Returns the level of a skill. Activities always report a level of 1.
+     *
+     * @param metric The metric to read
+     * @return The metric's level
+     */
+    public int levelOf(MetricName metric) {
+        return levels[metric.ordinal()];
+    }
+
+    /**
+     * Returns the hiscores rank of a metric.
+     *
+     * @param metric The metric to read
+     * @return The metric's rank, or {@link #UNRANKED}
+     */
+    public int rankOf(MetricName metric) {
+        return ranks[metric.ordinal()];
+    }
+
+    /**
+     * Returns whether the hiscores reported this metric when the snapshot was
+     * built.
+     *
+     * @param metric The metric to check
+     * @return True if the metric was reported
+     */
+    public boolean isPresent(MetricName metric) {
+        int ordinal = metric.ordinal();
+        return (presence[ordinal / BITS_PER_WORD] & (1L << (ordinal % BITS_PER_WORD))) != 0;
+    }
+
+    /**
+     * Returns whether any skill xp or activity score differs from the snapshot
+     * the given fingerprint was taken from. Callers can keep only the
+     * fingerprint of the last snapshot they processed and skip all work when
+     * this returns false.
+     *
+     * @param previousFingerprint The fingerprint of an earlier snapshot
+     * @return True if the character's xp or scores changed
+     */
+    public boolean hasChangedSince(long previousFingerprint) {
+        return fingerprint != previousFingerprint;
+    }
+
+    /**
+     * Returns the metrics whose xp or score differs from an earlier snapshot,
+     * so consumers can process only the metrics that moved.
+     *
+     * @param previous The earlier snapshot, or null to include every reported
+     *                 metric
+     * @return The changed metrics
+     */
+    public MetricMask changedMetrics(CharacterHiscoresSnapshot previous) {
+        return MetricMask.changedBetween(this, previous);
+    }
+
+    /**
+     * Creates a snapshot from the list-based hiscores model. Entries whose
+     * names are not tracked metrics are ignored.
+     *
+     * @param hiscores   The hiscores to convert
+     * @param capturedAt When the hiscores were fetched
+     * @return The equivalent snapshot
+     */
+    public static CharacterHiscoresSnapshot fromCharacterHiscores(CharacterHiscores hiscores, Instant capturedAt) {
+        Builder builder = builder(hiscores.getCharacterName()).capturedAt(capturedAt);
+        if (hiscores.getSkills() != null) {
+            for (Skill skill : hiscores.getSkills()) {
+                builder.skill(skill.getName(), skill.getRank(), skill.getLevel(), skill.getXp());
+            }
+        }
+        if (hiscores.getActivities() != null) {
+            for (Activity activity : hiscores.getActivities()) {
+                builder.activity(activity.getName(), activity.getRank(), activity.getScore());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Converts this snapshot to the list-based hiscores model. Only metrics the
+     * hiscores reported are included, in {@link MetricName} order.
+     *
+     * @return The equivalent list-based hiscores
+     */
+    public CharacterHiscores toCharacterHiscores() {
+        List<Skill> skills = new ArrayList<>();
+        List<Activity> activities = new ArrayList<>();
+        for (MetricName metric : METRICS) {
+            if (!isPresent(metric)) {
+                continue;
+            }
+            int ordinal = metric.ordinal();
+            if (metric.isSkill()) {
+                skills.add(Skill.builder()
+                        .name(metric.getDisplayName())
+                        .rank(ranks[ordinal])
+                        .level(levels[ordinal])
+                        .xp(values[ordinal])
+                        .build());
+            } else {
+                activities.add(Activity.builder()
+                        .name(metric.getDisplayName())
+                        .rank(ranks[ordinal])
+                        .score((int) values[ordinal])
+                        .build());
+            }
+        }
+        return CharacterHiscores.builder()
+                .characterName(characterName)
+                .skills(skills)
+                .activities(activities)
+                .build();
+    }
+
+    private static int computeTotalLevel(int[] levels) {
+        int total = 0;
+        for (MetricName metric : METRICS) {
+            if (metric.isSkill()) {
+                total += levels[metric.ordinal()];
+            }
+        }
+        return total;
+    }
+
+    private static long computeTotalXp(long[] values) {
+        long total = 0;
+        for (MetricName metric : METRICS) {
+            if (metric.isSkill() && values[metric.ordinal()] > 0) {
+                total += values[metric.ordinal()];
+            }
+        }
+        return total;
+    }
+
+    private static long computeFingerprint(long[] values) {
+        long hash = FINGERPRINT_SEED;
+        for (long value : values) {
+            hash = (hash ^ value) * FINGERPRINT_MULTIPLIER;
+            hash ^= hash >>> 32;
+        }
+        return hash;
+    }
+
+    private static int computeCombatLevel(int[] levels) {
+        double base = COMBAT_BASE_WEIGHT * (levels[MetricName.DEFENCE.ordinal()]
+                + levels[MetricName.HITPOINTS.ordinal()]
+                + levels[MetricName.PRAYER.ordinal()] / 2);
+        double melee = COMBAT_STYLE_WEIGHT * (levels[MetricName.ATTACK.ordinal()]
+                + levels[MetricName.STRENGTH.ordinal()]);
+        double ranged = COMBAT_STYLE_WEIGHT * (levels[MetricName.RANGED.ordinal()] * 3 / 2);
+        double magic = COMBAT_STYLE_WEIGHT * (levels[MetricName.MAGIC.ordinal()] * 3 / 2);
+        return (int) Math.floor(base + Math.max(melee, Math.max(ranged, magic)));
+    }
+
+    /**
+     * Mutable builder that fills the snapshot arrays in place.
+     * Builders are not thread-safe and are meant to be used by one ingest pass.
+     */
+    public static final class Builder {
+        private final String characterName;
+        private final long[] values = new long[METRIC_COUNT];
+        private final int[] levels = new int[METRIC_COUNT];
+        private final int[] ranks = new int[METRIC_COUNT];
+        private final long[] presence = new long[PRESENCE_WORDS];
+        private Instant capturedAt;
+
+        private Builder(String characterName) {
+            this.characterName = characterName;
+            Arrays.fill(values, UNRANKED);
+            Arrays.fill(levels, 1);
+            Arrays.fill(ranks, UNRANKED);
+        }
+
+        /**
+         * Sets when the hiscores were fetched.
+         *
+         * @param capturedAt The fetch time
+         * @return This builder
+         */
+        public Builder capturedAt(Instant capturedAt) {
+            this.capturedAt = capturedAt;
+            return this;
+        }
+
+        /**
+         * Records a skill.
+         *
+         * @param metric The skill
+         * @param rank   The rank in the skill
+         * @param level  The level in the skill
+         * @param xp     The experience in the skill
+         * @return This builder
+         */
+        public Builder skill(MetricName metric, int rank, int level, long xp) {
+            int ordinal = metric.ordinal();
+            ranks[ordinal] = rank;
+            levels[ordinal] = level;
+            values[ordinal] = xp;
+            markPresent(ordinal);
+            return this;
+        }
+
+        /**
+         * Records a skill by its hiscores name. Names that are not tracked
+         * metrics are ignored.
+         *
+         * @param name  The hiscores name of the skill
+         * @param rank  The rank in the skill
+         * @param level The level in the skill
+         * @param xp    The experience in the skill
+         * @return This builder
+         */
+        public Builder skill(String name, int rank, int level, long xp) {
+            MetricName metric = MetricName.fromDisplayName(name);
+            return metric == null ? this : skill(metric, rank, level, xp);
+        }
+
+        /**
+         * Records an activity.
+         *
+         * @param metric The activity
+         * @param rank   The rank in the activity
+         * @param score  The score in the activity
+         * @return This builder
+         */
+        public Builder activity(MetricName metric, int rank, long score) {
+            int ordinal = metric.ordinal();
+            ranks[ordinal] = rank;
+            values[ordinal] = score;
+            markPresent(ordinal);
+            return this;
+        }
+
+        /**
+         * Records an activity by its hiscores name. Names that are not tracked
+         * metrics are ignored.
+         *
+         * @param name  The hiscores name of the activity
+         * @param rank  The rank in the activity
+         * @param score The score in the activity
+         * @return This builder
+         */
+        public Builder activity(String name, int rank, long score) {
+            MetricName metric = MetricName.fromDisplayName(name);
+            return metric == null ? this : activity(metric, rank, score);
+        }
+
+        /**
+         * Builds the snapshot and computes its derived totals.
+         *
+         * @return The immutable snapshot
+         */
+        public CharacterHiscoresSnapshot build() {
+            return new CharacterHiscoresSnapshot(this);
+        }
+
+        private void markPresent(int ordinal) {
+            presence[ordinal / BITS_PER_WORD] |= 1L << (ordinal % BITS_PER_WORD);
+        }
+    }
+}
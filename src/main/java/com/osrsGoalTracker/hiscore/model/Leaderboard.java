@@ -0,0 +1,37 @@
+package com.osrsGoalTracker.hiscore.model;
+
+import java.util.List;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Model representing the top tracked characters for a metric, optionally with
+ * the place of one requested character.
+ */
+@Value
+@Builder
+public class Leaderboard {
+    /**
+     * The metric the characters are ranked by.
+     */
+    private final MetricName metric;
+
+    /**
+     * The number of tracked characters ranked in this metric.
+     */
+    private final int characterCount;
+
+    /**
+     * The top characters, highest first.
+     */
+    private final List<LeaderboardEntry> entries;
+
+    /**
+     * The requested character's place, or null if no character was requested
+     * or the character is not ranked.
+     */
+    private final LeaderboardEntry characterEntry;
+}
@@ -0,0 +1,26 @@
+package com.osrsGoalTracker.hiscore.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Model representing a character's place on a leaderboard.
+ */
+@Value
+@Builder
+public class LeaderboardEntry {
+    /**
+     * The name of the character.
+     */
+    private final String characterName;
+
+    /**
+     * The character's 1-based position among tracked characters.
+     */
+    private final int rank;
+
+    /**
+     * The character's xp for skills, or score for activities.
+     */
+    private final long value;
+}
@@ -0,0 +1,104 @@
+package com.osrsGoalTracker.hiscore.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Immutable set of metrics backed by a bitmask indexed by
+ * {@link MetricName#ordinal()}. Used to tell consumers which metrics moved
+ * between two snapshots so they can skip the rest.
+ */
+@EqualsAndHashCode
+@ToString
+public final class MetricMask {
+    private static final MetricName[] METRICS = MetricName.values();
+    private static final int WORDS = (METRICS.length + Long.SIZE - 1) / Long.SIZE;
+
+    private final long[] words;
+
+    private MetricMask(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Creates a mask of the metrics whose tracked value differs between two
+     * snapshots. When there is no previous snapshot, every metric the current
+     * snapshot reports is included.
+     *
+     * @param current  The newer snapshot
+     * @param previous The older snapshot, or null
+     * @return The metrics that changed
+     */
+    static MetricMask changedBetween(CharacterHiscoresSnapshot current, CharacterHiscoresSnapshot previous) {
+        long[] words = new long[WORDS];
+        for (MetricName metric : METRICS) {
+            boolean changed = previous == null
+                    ? current.isPresent(metric)
+                    : current.valueOf(metric) != previous.valueOf(metric);
+            if (changed) {
+                words[metric.ordinal() / Long.SIZE] |= 1L << (metric.ordinal() % Long.SIZE);
+            }
+        }
+        return new MetricMask(words);
+    }
+
+    /**
+     * Returns whether a metric is in the mask.
+     *
+     * @param metric The metric to check
+     * @return True if the metric is included
+     */
+    public boolean contains(MetricName metric) {
+        return (words[metric.ordinal() / Long.SIZE] & (1L << (metric.ordinal() % Long.SIZE))) != 0;
+    }
+
+    /**
+     * Returns whether the mask contains no metrics.
+     *
+     * @return True if no metric is included
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of metrics in the mask.
+     *
+     * @return The metric count
+     */
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the metrics in the mask in {@link MetricName} order.
+     *
+     * @return The included metrics
+     */
+    public List<MetricName> toList() {
+        List<MetricName> metrics = new ArrayList<>(size());
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                metrics.add(METRICS[w * Long.SIZE + bit]);
+                word &= word - 1;
+            }
+        }
+        return metrics;
+    }
+}
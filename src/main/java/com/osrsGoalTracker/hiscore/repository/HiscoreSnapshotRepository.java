@@ -0,0 +1,44 @@
+package com.osrsGoalTracker.hiscore.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+/**
+ * Repository interface for the hiscores snapshot history of each character.
+ * Snapshots are stored as deltas against the previous snapshot, with a full
+ * keyframe at a fixed interval, so storage grows with a character's activity
+ * rather than with how often it is polled.
+ */
+public interface HiscoreSnapshotRepository {
+    /**
+     * Appends a snapshot to its character's history. Snapshots identical to the
+     * latest stored snapshot are not stored.
+     *
+     * @param snapshot The snapshot to store
+     * @return True if the snapshot was stored, false if nothing had changed
+     * @throws IllegalArgumentException if the snapshot has no capture time or is
+     *                                  not newer than the latest stored snapshot
+     */
+    boolean saveSnapshot(CharacterHiscoresSnapshot snapshot);
+
+    /**
+     * Retrieves the most recently stored snapshot for a character.
+     *
+     * @param characterName The name of the character
+     * @return The latest snapshot, or empty if none has been stored
+     */
+    Optional<CharacterHiscoresSnapshot> getLatestSnapshot(String characterName);
+
+    /**
+     * Retrieves the snapshots captured within a time range, oldest first.
+     *
+     * @param characterName The name of the character
+     * @param from          The start of the range, inclusive
+     * @param to            The end of the range, inclusive
+     * @return The snapshots in the range
+     */
+    List<CharacterHiscoresSnapshot> getSnapshots(String characterName, Instant from, Instant to);
+}
@@ -0,0 +1,48 @@
+package com.osrsGoalTracker.hiscore.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.model.LeaderboardEntry;
+
+/**
+ * Repository interface for per-metric leaderboards of the characters whose
+ * hiscores have been fetched. Characters are ranked by xp for skills and score
+ * for activities; characters unranked on the hiscores are left off.
+ */
+public interface LeaderboardRepository {
+    /**
+     * Updates every leaderboard with a character's latest hiscores.
+     *
+     * @param snapshot The character's hiscores
+     */
+    void updateCharacter(CharacterHiscoresSnapshot snapshot);
+
+    /**
+     * Retrieves the highest ranked characters for a metric.
+     *
+     * @param metric The metric to rank by
+     * @param limit  The maximum number of entries to return
+     * @return The entries, highest first
+     */
+    List<LeaderboardEntry> getTopEntries(MetricName metric, int limit);
+
+    /**
+     * Retrieves a character's place for a metric.
+     *
+     * @param metric        The metric to rank by
+     * @param characterName The name of the character
+     * @return The character's entry, or empty if the character is not ranked
+     */
+    Optional<LeaderboardEntry> getEntry(MetricName metric, String characterName);
+
+    /**
+     * Returns the number of characters ranked for a metric.
+     *
+     * @param metric The metric to rank by
+     * @return The number of ranked characters
+     */
+    int getCharacterCount(MetricName metric);
+}
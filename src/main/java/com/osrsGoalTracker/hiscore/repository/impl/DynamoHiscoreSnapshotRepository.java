@@ -0,0 +1,292 @@
+package com.osrsGoalTracker.hiscore.repository.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.repository.HiscoreSnapshotRepository;
+import com.osrsGoalTracker.utils.CharacterNameUtils;
+
+import lombok.extern.log4j.Log4j2;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+
+/**
+ * HiscoreSnapshotRepository backed by a DynamoDB table.
+ *
+ * <p>
+ * Each record is one item keyed by {@code CHARACTER#<normalized name>} and
+ * {@code SNAPSHOT#<capture time in epoch nanoseconds>}, so a character's
+ * history is a single partition sorted by capture time. Range reads query the
+ * range directly and, when the range starts on a delta, read backwards to the
+ * keyframe it was encoded against.
+ *
+ * <p>
+ * Each record is encoded against the latest record, so two writers appending
+ * to the same character at once would both encode against the same base. A
+ * head item keyed by {@code ~HEAD} holds the sort key of the latest
+ * record; every append writes the record and moves the head in one
+ * transaction conditioned on the head still pointing at the record that was
+ * encoded against. A writer that loses the race re-reads the history and
+ * encodes again.
+ */
+@Log4j2
+public class DynamoHiscoreSnapshotRepository implements HiscoreSnapshotRepository {
+    static final String PARTITION_KEY = "pk";
+    static final String SORT_KEY = "sk";
+    static final String CHARACTER_NAME = "characterName";
+    static final String CAPTURED_AT = "capturedAt";
+    static final String KEYFRAME = "keyframe";
+    static final String PAYLOAD = "payload";
+    static final String LATEST_SORT_KEY = "latestSortKey";
+
+    /**
+     * Sort key of the head item. Sorts after every snapshot sort key, so range
+     * and backward reads never reach it.
+     */
+    static final String HEAD_SORT_KEY = "~HEAD";
+    static final int MAX_SAVE_ATTEMPTS = 3;
+
+    private static final String PARTITION_PREFIX = "CHARACTER#";
+    private static final String SORT_PREFIX = "SNAPSHOT#";
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    private final int keyframeInterval;
+
+    /**
+     * Constructs a new DynamoHiscoreSnapshotRepository.
+     *
+     * @param dynamoDbClient The DynamoDB client
+     * @param config         The hiscores configuration holding the table name
+     *                       and keyframe interval
+     */
+    public DynamoHiscoreSnapshotRepository(DynamoDbClient dynamoDbClient, HiscoresConfig config) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = config.getSnapshotTableName();
+        this.keyframeInterval = HiscoreSnapshotCodec.validateKeyframeInterval(config.getSnapshotKeyframeInterval());
+    }
+
+    @Override
+    public boolean saveSnapshot(CharacterHiscoresSnapshot snapshot) {
+        HiscoreSnapshotCodec.validateSnapshot(snapshot);
+        String partitionKey = partitionKey(snapshot.getCharacterName());
+
+        for (int attempt = 1; attempt <= MAX_SAVE_ATTEMPTS; attempt++) {
+            List<EncodedSnapshot> tail = readChainBefore(partitionKey, null);
+            CharacterHiscoresSnapshot latest = lastOf(HiscoreSnapshotCodec.decodeChain(tail));
+            if (latest != null && !snapshot.getCapturedAt().isAfter(latest.getCapturedAt())) {
+                throw new IllegalArgumentException("Snapshots must be saved in capture order");
+            }
+            if (latest != null && HiscoreSnapshotCodec.isUnchanged(snapshot, latest)) {
+                log.debug("Skipping unchanged snapshot for characterName: {}", snapshot.getCharacterName());
+                return false;
+            }
+
+            EncodedSnapshot record = HiscoreSnapshotCodec.encode(snapshot, latest, Math.max(0, tail.size() - 1),
+                    keyframeInterval);
+            log.info("Saving {} snapshot for characterName: {}", record.isKeyframe() ? "keyframe" : "delta",
+                    snapshot.getCharacterName());
+            try {
+                append(partitionKey, record, latest == null ? null : sortKey(latest.getCapturedAt()));
+                return true;
+            } catch (TransactionCanceledException e) {
+                log.warn("Concurrent snapshot write for characterName: {}, attempt {} of {}",
+                        snapshot.getCharacterName(), attempt, MAX_SAVE_ATTEMPTS);
+            }
+        }
+        throw new IllegalStateException("Could not save snapshot for characterName: "
+                + snapshot.getCharacterName() + " after " + MAX_SAVE_ATTEMPTS + " concurrent writes");
+    }
+
+    /**
+     * Writes a record and moves the head item to it in one transaction.
+     *
+     * @param partitionKey   The character's partition key
+     * @param record         The record to write
+     * @param expectedLatest The sort key of the record it was encoded against,
+     *                       or null if the history was empty
+     * @throws TransactionCanceledException if another writer appended first
+     */
+    private void append(String partitionKey, EncodedSnapshot record, String expectedLatest) {
+        String sortKey = sortKey(record.getCapturedAt());
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put(PARTITION_KEY, AttributeValue.fromS(partitionKey));
+        item.put(SORT_KEY, AttributeValue.fromS(sortKey));
+        item.put(CHARACTER_NAME, AttributeValue.fromS(record.getCharacterName()));
+        item.put(CAPTURED_AT, AttributeValue.fromS(record.getCapturedAt().toString()));
+        item.put(KEYFRAME, AttributeValue.fromBool(record.isKeyframe()));
+        item.put(PAYLOAD, AttributeValue.fromB(SdkBytes.fromByteArray(record.getPayload())));
+
+        Map<String, AttributeValue> headValues = new HashMap<>();
+        headValues.put(":latest", AttributeValue.fromS(sortKey));
+        // A history written before the head item existed has no head yet; the
+        // first append creates it, after which every writer is serialized on it.
+        String headCondition = "attribute_not_exists(#pk)";
+        if (expectedLatest != null) {
+            headValues.put(":expected", AttributeValue.fromS(expectedLatest));
+            headCondition += " OR #latest = :expected";
+        }
+
+        dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                .transactItems(
+                        TransactWriteItem.builder().put(Put.builder()
+                                .tableName(tableName)
+                                .item(item)
+                                .conditionExpression("attribute_not_exists(#sk)")
+                                .expressionAttributeNames(Map.of("#sk", SORT_KEY))
+                                .build()).build(),
+                        TransactWriteItem.builder().update(Update.builder()
+                                .tableName(tableName)
+                                .key(Map.of(
+                                        PARTITION_KEY, AttributeValue.fromS(partitionKey),
+                                        SORT_KEY, AttributeValue.fromS(HEAD_SORT_KEY)))
+                                .updateExpression("SET #latest = :latest")
+                                .conditionExpression(headCondition)
+                                .expressionAttributeNames(Map.of("#pk", PARTITION_KEY, "#latest", LATEST_SORT_KEY))
+                                .expressionAttributeValues(headValues)
+                                .build()).build())
+                .build());
+    }
+
+    @Override
+    public Optional<CharacterHiscoresSnapshot> getLatestSnapshot(String characterName) {
+        List<EncodedSnapshot> tail = readChainBefore(partitionKey(characterName), null);
+        return Optional.ofNullable(lastOf(HiscoreSnapshotCodec.decodeChain(tail)));
+    }
+
+    @Override
+    public List<CharacterHiscoresSnapshot> getSnapshots(String characterName, Instant from, Instant to) {
+        if (from.isAfter(to)) {
+            return Collections.emptyList();
+        }
+        String partitionKey = partitionKey(characterName);
+        String fromKey = sortKey(from);
+
+        List<EncodedSnapshot> inRange = new ArrayList<>();
+        Map<String, AttributeValue> startKey = null;
+        do {
+            QueryResponse response = dynamoDbClient.query(QueryRequest.builder()
+                    .tableName(tableName)
+                    .keyConditionExpression("#pk = :pk AND #sk BETWEEN :from AND :to")
+                    .expressionAttributeNames(Map.of("#pk", PARTITION_KEY, "#sk", SORT_KEY))
+                    .expressionAttributeValues(Map.of(
+                            ":pk", AttributeValue.fromS(partitionKey),
+                            ":from", AttributeValue.fromS(fromKey),
+                            ":to", AttributeValue.fromS(sortKey(to))))
+                    .exclusiveStartKey(startKey)
+                    .build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                inRange.add(toRecord(item));
+            }
+            startKey = response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : null;
+        } while (startKey != null);
+
+        if (inRange.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<EncodedSnapshot> chain = new ArrayList<>();
+        if (!inRange.get(0).isKeyframe()) {
+            chain.addAll(readChainBefore(partitionKey, fromKey));
+        }
+        chain.addAll(inRange);
+
+        List<CharacterHiscoresSnapshot> snapshots = new ArrayList<>(inRange.size());
+        for (CharacterHiscoresSnapshot snapshot : HiscoreSnapshotCodec.decodeChain(chain)) {
+            if (!snapshot.getCapturedAt().isBefore(from)) {
+                snapshots.add(snapshot);
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Reads backwards from a sort key to the nearest keyframe and returns the
+     * records from that keyframe onwards, oldest first.
+     *
+     * @param partitionKey The character's partition key
+     * @param beforeKey    The exclusive upper bound, or null to read from the end
+     * @return The chain of records, empty if the character has no history
+     */
+    private List<EncodedSnapshot> readChainBefore(String partitionKey, String beforeKey) {
+        Map<String, String> names = Map.of("#pk", PARTITION_KEY, "#sk", SORT_KEY);
+        Map<String, AttributeValue> values = new HashMap<>();
+        values.put(":pk", AttributeValue.fromS(partitionKey));
+        String condition = "#pk = :pk";
+        if (beforeKey != null) {
+            values.put(":before", AttributeValue.fromS(beforeKey));
+            condition += " AND #sk < :before";
+        } else {
+            condition += " AND begins_with(#sk, :prefix)";
+            values.put(":prefix", AttributeValue.fromS(SORT_PREFIX));
+        }
+
+        List<EncodedSnapshot> newestFirst = new ArrayList<>();
+        Map<String, AttributeValue> startKey = null;
+        do {
+            QueryResponse response = dynamoDbClient.query(QueryRequest.builder()
+                    .tableName(tableName)
+                    .keyConditionExpression(condition)
+                    .expressionAttributeNames(names)
+                    .expressionAttributeValues(values)
+                    .scanIndexForward(false)
+                    .limit(keyframeInterval)
+                    .exclusiveStartKey(startKey)
+                    .build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                EncodedSnapshot record = toRecord(item);
+                newestFirst.add(record);
+                if (record.isKeyframe()) {
+                    Collections.reverse(newestFirst);
+                    return newestFirst;
+                }
+            }
+            startKey = response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : null;
+        } while (startKey != null);
+
+        if (!newestFirst.isEmpty()) {
+            throw new IllegalStateException("Hiscores snapshot delta has no preceding keyframe");
+        }
+        return newestFirst;
+    }
+
+    private static EncodedSnapshot toRecord(Map<String, AttributeValue> item) {
+        return EncodedSnapshot.builder()
+                .characterName(item.get(CHARACTER_NAME).s())
+                .capturedAt(Instant.parse(item.get(CAPTURED_AT).s()))
+                .keyframe(item.get(KEYFRAME).bool())
+                .payload(item.get(PAYLOAD).b().asByteArray())
+                .build();
+    }
+
+    private static CharacterHiscoresSnapshot lastOf(List<CharacterHiscoresSnapshot> snapshots) {
+        return snapshots.isEmpty() ? null : snapshots.get(snapshots.size() - 1);
+    }
+
+    static String partitionKey(String characterName) {
+        return PARTITION_PREFIX + CharacterNameUtils.normalize(characterName);
+    }
+
+    static String sortKey(Instant capturedAt) {
+        long epochNanos = Math.addExact(Math.multiplyExact(capturedAt.getEpochSecond(), NANOS_PER_SECOND),
+                capturedAt.getNano());
+        return SORT_PREFIX + String.format("%019d", epochNanos);
+    }
+}
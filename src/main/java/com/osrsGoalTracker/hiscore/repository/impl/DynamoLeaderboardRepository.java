@@ -0,0 +1,490 @@
+package com.osrsGoalTracker.hiscore.repository.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.model.LeaderboardEntry;
+import com.osrsGoalTracker.hiscore.repository.LeaderboardRepository;
+import com.osrsGoalTracker.utils.CharacterNameUtils;
+
+import lombok.extern.log4j.Log4j2;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.Delete;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+
+/**
+ * LeaderboardRepository backed by a DynamoDB table, so every Lambda shares the
+ * same leaderboards.
+ *
+ * <p>
+ * Each ranked character is one entry item per metric, keyed by
+ * {@code BOARD#<metric>} and {@code CHARACTER#<normalized name>}. Entries
+ * carry a {@code rankKey} of the inverted value and the normalized name,
+ * indexed by the {@value #RANK_INDEX} global secondary index under the same
+ * partition key, so reading the index forwards lists the board highest value
+ * first with ties broken by name, as {@link InMemoryLeaderboardRepository}
+ * does.
+ *
+ * <p>
+ * Ranks are read from count items rather than by counting every character
+ * ahead. Values are grouped into buckets that are exact below 128 and then
+ * split every power of two into {@code 2^}{@value #MANTISSA_BITS} ranges, so a
+ * bucket spans under 2% of its values and there are at most
+ * {@code LAST_BUCKET + 1} of them. Each board keeps one count item per
+ * occupied bucket, keyed by {@code COUNTS#<metric>} and
+ * {@code BUCKET#<inverted bucket>}, so the characters in higher buckets are
+ * the sum of one Query over a small partition, and only the characters in a
+ * character's own bucket are read from the index. The number of ranked
+ * characters is the sum of every count item. An entry is written in one
+ * transaction with the count updates it causes, on the condition that the
+ * entry still holds the value it was read with, so counts never drift from
+ * the entries; a failed condition re-reads the entry and retries.
+ *
+ * <p>
+ * A summary item per character, keyed by {@code CHARACTER#<normalized name>}
+ * and {@code LEADERBOARD}, holds the values last written for it, so an update
+ * only writes the entries that changed. The summary is only a hint: each
+ * entry's own condition decides what is written.
+ */
+@Log4j2
+public class DynamoLeaderboardRepository implements LeaderboardRepository {
+    static final String PARTITION_KEY = "pk";
+    static final String SORT_KEY = "sk";
+    static final String CHARACTER_NAME = "characterName";
+    static final String VALUE = "value";
+    static final String RANK_KEY = "rankKey";
+    static final String VALUES = "values";
+    static final String COUNT = "count";
+    static final String RANK_INDEX = "rank-index";
+
+    static final String BOARD_PREFIX = "BOARD#";
+    static final String CHARACTER_PREFIX = "CHARACTER#";
+    static final String COUNTS_PREFIX = "COUNTS#";
+    static final String BUCKET_PREFIX = "BUCKET#";
+    static final String SUMMARY_SORT_KEY = "LEADERBOARD";
+    static final int MANTISSA_BITS = 6;
+    static final int LAST_BUCKET = bucketOf(Long.MAX_VALUE);
+
+    private static final int MAX_CONDITION_ATTEMPTS = 3;
+    private static final int RANK_PAGE_SIZE = 1000;
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    private final ExecutorService writeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Constructs a new DynamoLeaderboardRepository.
+     *
+     * @param dynamoDbClient The DynamoDB client
+     * @param config         The hiscores configuration holding the table name
+     */
+    public DynamoLeaderboardRepository(DynamoDbClient dynamoDbClient, HiscoresConfig config) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = config.getLeaderboardTableName();
+    }
+
+    @Override
+    public void updateCharacter(CharacterHiscoresSnapshot snapshot) {
+        String key = CharacterNameUtils.normalize(snapshot.getCharacterName());
+        Map<String, AttributeValue> summaryKey = key(CHARACTER_PREFIX + key, SUMMARY_SORT_KEY);
+        GetItemResponse summary = dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(tableName)
+                .key(summaryKey)
+                .build());
+        Map<String, AttributeValue> previous = summary.hasItem() && summary.item().containsKey(VALUES)
+                ? summary.item().get(VALUES).m()
+                : Map.of();
+
+        Map<String, AttributeValue> current = new HashMap<>();
+        List<Future<?>> writes = new ArrayList<>();
+        for (MetricName metric : MetricName.values()) {
+            boolean ranked = snapshot.isPresent(metric)
+                    && snapshot.rankOf(metric) != CharacterHiscoresSnapshot.UNRANKED
+                    && snapshot.valueOf(metric) >= 0;
+            Long before = previous.containsKey(metric.name()) ? Long.valueOf(previous.get(metric.name()).n()) : null;
+            Long after = ranked ? snapshot.valueOf(metric) : null;
+            if (after != null) {
+                current.put(metric.name(), AttributeValue.fromN(Long.toString(after)));
+            }
+            if (!Objects.equals(before, after)) {
+                writes.add(writeExecutor.submit(
+                        () -> writeEntry(metric, key, snapshot.getCharacterName(), before, after)));
+            }
+        }
+        if (writes.isEmpty()) {
+            return;
+        }
+
+        log.debug("Updating {} leaderboard entries for characterName: {}", writes.size(),
+                snapshot.getCharacterName());
+        RuntimeException failure = null;
+        for (Future<?> write : writes) {
+            try {
+                awaitWrite(write);
+            } catch (RuntimeException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        Map<String, AttributeValue> summaryItem = new HashMap<>(summaryKey);
+        summaryItem.put(VALUES, AttributeValue.fromM(current));
+        dynamoDbClient.putItem(PutItemRequest.builder()
+                .tableName(tableName)
+                .item(summaryItem)
+                .build());
+    }
+
+    @Override
+    public List<LeaderboardEntry> getTopEntries(MetricName metric, int limit) {
+        QueryResponse response = dynamoDbClient.query(QueryRequest.builder()
+                .tableName(tableName)
+                .indexName(RANK_INDEX)
+                .keyConditionExpression("#pk = :pk")
+                .expressionAttributeNames(Map.of("#pk", PARTITION_KEY))
+                .expressionAttributeValues(Map.of(":pk", AttributeValue.fromS(BOARD_PREFIX + metric.name())))
+                .limit(limit)
+                .build());
+        List<LeaderboardEntry> entries = new ArrayList<>(response.items().size());
+        for (Map<String, AttributeValue> item : response.items()) {
+            entries.add(toEntry(item, entries.size() + 1));
+        }
+        return entries;
+    }
+
+    @Override
+    public Optional<LeaderboardEntry> getEntry(MetricName metric, String characterName) {
+        String key = CharacterNameUtils.normalize(characterName);
+        GetItemResponse response = dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(tableName)
+                .key(key(BOARD_PREFIX + metric.name(), CHARACTER_PREFIX + key))
+                .build());
+        if (!response.hasItem() || response.item().isEmpty()) {
+            return Optional.empty();
+        }
+        int bucket = bucketOf(Long.parseLong(response.item().get(VALUE).n()));
+        long ahead = sumCounts(metric, bucketKey(bucket))
+                + countAheadInBucket(metric, bucket, response.item().get(RANK_KEY));
+        return Optional.of(toEntry(response.item(), (int) ahead + 1));
+    }
+
+    @Override
+    public int getCharacterCount(MetricName metric) {
+        return (int) sumCounts(metric, null);
+    }
+
+    /**
+     * Returns the bucket of a value. Values below {@code 2^(MANTISSA_BITS + 1)}
+     * are their own bucket; larger values share a bucket with the values that
+     * have the same bit length and the same {@value #MANTISSA_BITS} bits after
+     * their leading one. Higher values never fall in a lower bucket.
+     *
+     * @param value The xp or score, never negative
+     * @return The bucket
+     */
+    static int bucketOf(long value) {
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(value);
+        if (bits <= MANTISSA_BITS + 1) {
+            return (int) value;
+        }
+        int shift = bits - MANTISSA_BITS - 1;
+        return (shift << MANTISSA_BITS) + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the highest value in a bucket.
+     *
+     * @param bucket The bucket
+     * @return The highest value that falls in the bucket
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket == LAST_BUCKET) {
+            return Long.MAX_VALUE;
+        }
+        int next = bucket + 1;
+        if (next < 1 << (MANTISSA_BITS + 1)) {
+            return next - 1;
+        }
+        int shift = (next >> MANTISSA_BITS) - 1;
+        return ((long) (next - (shift << MANTISSA_BITS)) << shift) - 1;
+    }
+
+    /**
+     * Writes one entry of a character together with the count updates it
+     * causes, on the condition that the entry still holds the value it is
+     * expected to. When another update changed the entry first, the entry is
+     * re-read and the write retried from its actual value.
+     *
+     * @param metric        The metric of the entry
+     * @param key           The normalized character name
+     * @param characterName The character name
+     * @param before        The value the entry is expected to hold, or null if none
+     * @param after         The value to write, or null to remove the entry
+     */
+    private void writeEntry(MetricName metric, String key, String characterName, Long before, Long after) {
+        Long expected = before;
+        for (int attempt = 1; !Objects.equals(expected, after); attempt++) {
+            try {
+                dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                        .transactItems(entryWrites(metric, key, characterName, expected, after))
+                        .build());
+                return;
+            } catch (TransactionCanceledException e) {
+                if (!isConditionFailure(e) || attempt == MAX_CONDITION_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Leaderboard entry {} of {} changed while it was updated, retrying", metric, characterName);
+                expected = readValue(metric, key);
+            }
+        }
+    }
+
+    private List<TransactWriteItem> entryWrites(MetricName metric, String key, String characterName, Long before,
+            Long after) {
+        Map<String, AttributeValue> entryKey = key(BOARD_PREFIX + metric.name(), CHARACTER_PREFIX + key);
+        String condition = before == null ? "attribute_not_exists(#pk)" : "#value = :previous";
+        Map<String, String> names = before == null ? Map.of("#pk", PARTITION_KEY) : Map.of("#value", VALUE);
+        Map<String, AttributeValue> values = before == null
+                ? null
+                : Map.of(":previous", AttributeValue.fromN(Long.toString(before)));
+
+        List<TransactWriteItem> writes = new ArrayList<>(3);
+        if (after != null) {
+            writes.add(TransactWriteItem.builder()
+                    .put(Put.builder()
+                            .tableName(tableName)
+                            .item(toEntryItem(metric, key, characterName, after))
+                            .conditionExpression(condition)
+                            .expressionAttributeNames(names)
+                            .expressionAttributeValues(values)
+                            .build())
+                    .build());
+        } else {
+            writes.add(TransactWriteItem.builder()
+                    .delete(Delete.builder()
+                            .tableName(tableName)
+                            .key(entryKey)
+                            .conditionExpression(condition)
+                            .expressionAttributeNames(names)
+                            .expressionAttributeValues(values)
+                            .build())
+                    .build());
+        }
+        if (before != null && after != null && bucketOf(before) == bucketOf(after)) {
+            return writes;
+        }
+        if (before != null) {
+            writes.add(countUpdate(metric, bucketOf(before), -1));
+        }
+        if (after != null) {
+            writes.add(countUpdate(metric, bucketOf(after), 1));
+        }
+        return writes;
+    }
+
+    private TransactWriteItem countUpdate(MetricName metric, int bucket, int delta) {
+        return TransactWriteItem.builder()
+                .update(Update.builder()
+                        .tableName(tableName)
+                        .key(key(COUNTS_PREFIX + metric.name(), bucketKey(bucket)))
+                        .updateExpression("ADD #count :delta")
+                        .expressionAttributeNames(Map.of("#count", COUNT))
+                        .expressionAttributeValues(Map.of(":delta", AttributeValue.fromN(Integer.toString(delta))))
+                        .build())
+                .build();
+    }
+
+    private Long readValue(MetricName metric, String key) {
+        GetItemResponse response = dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(tableName)
+                .key(key(BOARD_PREFIX + metric.name(), CHARACTER_PREFIX + key))
+                .consistentRead(true)
+                .build());
+        return response.hasItem() && response.item().containsKey(VALUE)
+                ? Long.valueOf(response.item().get(VALUE).n())
+                : null;
+    }
+
+    /**
+     * Sums the count items of a board, following pages until the end.
+     *
+     * @param metric      The metric of the board
+     * @param belowBucket Only sum the buckets with higher values than this
+     *                    bucket key, or null to sum every bucket
+     * @return The number of characters counted
+     */
+    private long sumCounts(MetricName metric, String belowBucket) {
+        Map<String, String> names = new HashMap<>(Map.of("#pk", PARTITION_KEY, "#count", COUNT));
+        Map<String, AttributeValue> values = new HashMap<>(
+                Map.of(":pk", AttributeValue.fromS(COUNTS_PREFIX + metric.name())));
+        String condition = "#pk = :pk";
+        if (belowBucket != null) {
+            condition += " AND #sk < :bucket";
+            names.put("#sk", SORT_KEY);
+            values.put(":bucket", AttributeValue.fromS(belowBucket));
+        }
+
+        long sum = 0;
+        Map<String, AttributeValue> startKey = null;
+        do {
+            QueryResponse response = dynamoDbClient.query(QueryRequest.builder()
+                    .tableName(tableName)
+                    .keyConditionExpression(condition)
+                    .expressionAttributeNames(names)
+                    .expressionAttributeValues(values)
+                    .projectionExpression("#count")
+                    .exclusiveStartKey(startKey)
+                    .build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                sum += item.containsKey(COUNT) ? Long.parseLong(item.get(COUNT).n()) : 0;
+            }
+            startKey = response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : null;
+        } while (startKey != null);
+        return sum;
+    }
+
+    /**
+     * Counts the characters ranked ahead of a character within its own bucket
+     * by reading the rank index backwards from the character's rank key until
+     * it leaves the bucket, so at most one page past the bucket is read.
+     *
+     * @param metric  The metric of the board
+     * @param bucket  The character's bucket
+     * @param rankKey The character's rank key
+     * @return The number of characters in the bucket ranked ahead of it
+     */
+    private long countAheadInBucket(MetricName metric, int bucket, AttributeValue rankKey) {
+        String bucketStart = String.format("%019d", Long.MAX_VALUE - highestValueOf(bucket));
+        long ahead = 0;
+        Map<String, AttributeValue> startKey = null;
+        do {
+            QueryResponse response = dynamoDbClient.query(QueryRequest.builder()
+                    .tableName(tableName)
+                    .indexName(RANK_INDEX)
+                    .keyConditionExpression("#pk = :pk AND #rank < :rank")
+                    .expressionAttributeNames(Map.of("#pk", PARTITION_KEY, "#rank", RANK_KEY))
+                    .expressionAttributeValues(Map.of(
+                            ":pk", AttributeValue.fromS(BOARD_PREFIX + metric.name()),
+                            ":rank", rankKey))
+                    .projectionExpression("#rank")
+                    .scanIndexForward(false)
+                    .limit(RANK_PAGE_SIZE)
+                    .exclusiveStartKey(startKey)
+                    .build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                if (item.get(RANK_KEY).s().compareTo(bucketStart) < 0) {
+                    return ahead;
+                }
+                ahead++;
+            }
+            startKey = response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : null;
+        } while (startKey != null);
+        return ahead;
+    }
+
+    /**
+     * Returns whether a transaction was cancelled because a condition failed,
+     * rather than by a conflicting transaction or throttling, which the caller
+     * should see as errors.
+     *
+     * @param e The cancellation
+     * @return True if a condition check failed
+     */
+    private static boolean isConditionFailure(TransactionCanceledException e) {
+        if (!e.hasCancellationReasons()) {
+            return false;
+        }
+        for (CancellationReason reason : e.cancellationReasons()) {
+            if (CONDITIONAL_CHECK_FAILED.equals(reason.code())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void awaitWrite(Future<?> write) {
+        try {
+            write.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to write leaderboard entry", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted writing leaderboard entries", e);
+        }
+    }
+
+    private static Map<String, AttributeValue> toEntryItem(MetricName metric, String key, String characterName,
+            long value) {
+        Map<String, AttributeValue> item = new HashMap<>(key(BOARD_PREFIX + metric.name(), CHARACTER_PREFIX + key));
+        item.put(CHARACTER_NAME, AttributeValue.fromS(characterName));
+        item.put(VALUE, AttributeValue.fromN(Long.toString(value)));
+        item.put(RANK_KEY, AttributeValue.fromS(rankKey(key, value)));
+        return item;
+    }
+
+    /**
+     * Builds the sort key of a bucket's count item, inverted so that reading
+     * the counts forwards lists the highest bucket first.
+     *
+     * @param bucket The bucket
+     * @return The count item's sort key
+     */
+    static String bucketKey(int bucket) {
+        return String.format("%s%04d", BUCKET_PREFIX, LAST_BUCKET - bucket);
+    }
+
+    /**
+     * Builds the index sort key that orders a board highest value first, then
+     * by normalized name. Values are never negative, so the inverted value
+     * fits the same fixed width.
+     *
+     * @param key   The normalized character name
+     * @param value The character's xp or score
+     * @return The rank key
+     */
+    static String rankKey(String key, long value) {
+        return String.format("%019d#%s", Long.MAX_VALUE - value, key);
+    }
+
+    private static LeaderboardEntry toEntry(Map<String, AttributeValue> item, int rank) {
+        return LeaderboardEntry.builder()
+                .characterName(item.get(CHARACTER_NAME).s())
+                .rank(rank)
+                .value(Long.parseLong(item.get(VALUE).n()))
+                .build();
+    }
+
+    private static Map<String, AttributeValue> key(String partitionKey, String sortKey) {
+        return Map.of(
+                PARTITION_KEY, AttributeValue.fromS(partitionKey),
+                SORT_KEY, AttributeValue.fromS(sortKey));
+    }
+}
@@ -0,0 +1,34 @@
+package com.osrsGoalTracker.hiscore.repository.impl;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A stored hiscores snapshot record, either a full keyframe or a delta against
+ * the record before it.
+ */
+@Value
+@Builder
+class EncodedSnapshot {
+    /**
+     * The name of the character as it was captured.
+     */
+    String characterName;
+
+    /**
+     * When the snapshot was captured.
+     */
+    Instant capturedAt;
+
+    /**
+     * Whether the payload is a full keyframe rather than a delta.
+     */
+    boolean keyframe;
+
+    /**
+     * The encoded metric values.
+     */
+    byte[] payload;
+}
@@ -0,0 +1,409 @@
+package com.osrsGoalTracker.hiscore.repository.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+/**
+ * Binary encoding for hiscores snapshot history.
+ *
+ * <p>
+ * Every payload starts with a format version byte and the number of metric ids
+ * it covers. Metrics are identified by their position in {@link #METRICS_BY_ID}
+ * rather than by enum ordinal, so stored history keeps decoding when metrics
+ * are added to {@link MetricName}.
+ *
+ * <p>
+ * A keyframe holds a presence bitmask followed by the rank, level (skills only)
+ * and value of every present metric. A delta holds a bitmask of the metrics
+ * that changed since the previous snapshot, followed by each changed metric's
+ * presence and its differences from the previous rank, level and value. All
+ * numbers are zigzag varints, so the small differences between polls usually
+ * take one or two bytes.
+ */
+final class HiscoreSnapshotCodec {
+    /**
+     * The current payload format.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    /**
+     * Stable wire ids: a metric's id is its index in this table. New metrics
+     * must only be appended; reordering or removing entries corrupts stored
+     * history.
+     */
+    private static final MetricName[] METRICS_BY_ID = {
+            MetricName.ATTACK, MetricName.DEFENCE, MetricName.STRENGTH, MetricName.HITPOINTS, MetricName.RANGED,
+            MetricName.PRAYER, MetricName.MAGIC, MetricName.COOKING, MetricName.WOODCUTTING, MetricName.FLETCHING,
+            MetricName.FISHING, MetricName.FIREMAKING, MetricName.CRAFTING, MetricName.SMITHING, MetricName.MINING,
+            MetricName.HERBLORE, MetricName.AGILITY, MetricName.THIEVING, MetricName.SLAYER, MetricName.FARMING,
+            MetricName.RUNECRAFTING, MetricName.HUNTER, MetricName.CONSTRUCTION, MetricName.LEAGUE_POINTS,
+            MetricName.BOUNTY_HUNTER_HUNTER, MetricName.BOUNTY_HUNTER_ROGUE, MetricName.CLUE_SCROLLS_ALL,
+            MetricName.CLUE_SCROLLS_BEGINNER, MetricName.CLUE_SCROLLS_EASY, MetricName.CLUE_SCROLLS_MEDIUM,
+            MetricName.CLUE_SCROLLS_HARD, MetricName.CLUE_SCROLLS_ELITE, MetricName.CLUE_SCROLLS_MASTER,
+            MetricName.LMS_RANK, MetricName.SOUL_WARS_ZEAL, MetricName.RIFTS_CLOSED, MetricName.ABYSSAL_SIRE,
+            MetricName.ALCHEMICAL_HYDRA, MetricName.BARROWS_CHESTS, MetricName.BRYOPHYTA, MetricName.CALLISTO,
+            MetricName.CERBERUS, MetricName.CHAMBERS_OF_XERIC, MetricName.CHAMBERS_OF_XERIC_CHALLENGE_MODE,
+            MetricName.CHAOS_ELEMENTAL, MetricName.CHAOS_FANATIC, MetricName.COMMANDER_ZILYANA,
+            MetricName.CORPOREAL_BEAST, MetricName.CRAZY_ARCHAEOLOGIST, MetricName.DAGANNOTH_PRIME,
+            MetricName.DAGANNOTH_REX, MetricName.DAGANNOTH_SUPREME, MetricName.DERANGED_ARCHAEOLOGIST,
+            MetricName.GENERAL_GRAARDOR, MetricName.GIANT_MOLE, MetricName.GROTESQUE_GUARDIANS, MetricName.HESPORI,
+            MetricName.KALPHITE_QUEEN, MetricName.KING_BLACK_DRAGON, MetricName.KRAKEN, MetricName.KREEARRA,
+            MetricName.KRIL_TSUTSAROTH, MetricName.MIMIC, MetricName.NEX, MetricName.NIGHTMARE,
+            MetricName.PHOSANIS_NIGHTMARE, MetricName.OBOR, MetricName.PHANTOM_MUSPAH, MetricName.SARACHNIS,
+            MetricName.SCORPIA, MetricName.SKOTIZO, MetricName.TEMPOROSS, MetricName.THE_GAUNTLET,
+            MetricName.THE_CORRUPTED_GAUNTLET, MetricName.THEATRE_OF_BLOOD, MetricName.THEATRE_OF_BLOOD_HARD_MODE,
+            MetricName.THERMONUCLEAR_SMOKE_DEVIL, MetricName.TOMBS_OF_AMASCUT, MetricName.TOMBS_OF_AMASCUT_EXPERT,
+            MetricName.TZKAL_ZUK, MetricName.TZTOK_JAD, MetricName.VENENATIS, MetricName.VETION, MetricName.VORKATH,
+            MetricName.WINTERTODT, MetricName.ZALCANO, MetricName.ZULRAH
+    };
+    private static final int[] IDS_BY_ORDINAL = indexIds();
+    private static final int MASK_WORDS = maskWords(METRICS_BY_ID.length);
+    private static final String CORRUPT_RECORD_MESSAGE = "Corrupt hiscores snapshot record";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private HiscoreSnapshotCodec() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Validates the configured number of records per keyframe.
+     *
+     * @param keyframeInterval The configured interval
+     * @return The interval
+     * @throws IllegalArgumentException if the interval is less than one
+     */
+    static int validateKeyframeInterval(int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("Snapshot keyframe interval must be at least 1");
+        }
+        return keyframeInterval;
+    }
+
+    /**
+     * Validates that a snapshot can be stored.
+     *
+     * @param snapshot The snapshot to store
+     * @throws IllegalArgumentException if the snapshot or its capture time is null
+     */
+    static void validateSnapshot(CharacterHiscoresSnapshot snapshot) {
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Snapshot cannot be null");
+        }
+        if (snapshot.getCapturedAt() == null) {
+            throw new IllegalArgumentException("Snapshot capture time cannot be null");
+        }
+    }
+
+    /**
+     * Encodes the next record of a character's history.
+     *
+     * @param snapshot              The snapshot to encode
+     * @param previous              The latest stored snapshot, or null if none
+     * @param deltasSinceKeyframe   The number of deltas stored since the last keyframe
+     * @param keyframeInterval      The number of records per keyframe
+     * @return The encoded record
+     */
+    static EncodedSnapshot encode(CharacterHiscoresSnapshot snapshot, CharacterHiscoresSnapshot previous,
+            int deltasSinceKeyframe, int keyframeInterval) {
+        boolean keyframe = previous == null || deltasSinceKeyframe + 1 >= keyframeInterval;
+        return EncodedSnapshot.builder()
+                .characterName(snapshot.getCharacterName())
+                .capturedAt(snapshot.getCapturedAt())
+                .keyframe(keyframe)
+                .payload(keyframe ? encodeKeyframe(snapshot) : encodeDelta(snapshot, previous))
+                .build();
+    }
+
+    /**
+     * Returns whether a snapshot has the same xp and scores as the latest stored
+     * snapshot, judged by their fingerprints. Rank-only changes are not worth a
+     * record of their own; the new ranks are stored with the next real change.
+     *
+     * @param snapshot The snapshot to compare
+     * @param previous The snapshot to compare against
+     * @return True if no xp or score changed
+     */
+    static boolean isUnchanged(CharacterHiscoresSnapshot snapshot, CharacterHiscoresSnapshot previous) {
+        return !snapshot.hasChangedSince(previous.getFingerprint());
+    }
+
+    /**
+     * Decodes a chain of records, oldest first. The first record must be a
+     * keyframe; each later record is applied to the one before it.
+     *
+     * @param records The records to decode
+     * @return The decoded snapshots, in the same order
+     * @throws IllegalStateException if the chain does not start with a keyframe
+     */
+    static List<CharacterHiscoresSnapshot> decodeChain(List<EncodedSnapshot> records) {
+        List<CharacterHiscoresSnapshot> snapshots = new ArrayList<>(records.size());
+        CharacterHiscoresSnapshot previous = null;
+        for (EncodedSnapshot record : records) {
+            previous = decode(record, previous);
+            snapshots.add(previous);
+        }
+        return snapshots;
+    }
+
+    /**
+     * Decodes one record.
+     *
+     * @param record   The record to decode
+     * @param previous The snapshot decoded from the record before it, or null if
+     *                 the record is a keyframe
+     * @return The decoded snapshot
+     * @throws IllegalStateException if a delta has no previous snapshot, the
+     *                               format version or a metric id is unknown, or
+     *                               the payload is malformed
+     */
+    static CharacterHiscoresSnapshot decode(EncodedSnapshot record, CharacterHiscoresSnapshot previous) {
+        if (!record.isKeyframe() && previous == null) {
+            throw new IllegalStateException("Hiscores snapshot delta has no preceding keyframe");
+        }
+        Reader reader = new Reader(record.getPayload());
+        int version = reader.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported hiscores snapshot format version: " + version);
+        }
+        long idCount = reader.readUnsigned();
+        if (idCount > METRICS_BY_ID.length) {
+            throw new IllegalStateException("Hiscores snapshot record has " + idCount
+                    + " metric ids but only " + METRICS_BY_ID.length + " are known");
+        }
+        long[] mask = reader.readMask(maskWords((int) idCount));
+        CharacterHiscoresSnapshot.Builder builder = CharacterHiscoresSnapshot.builder(record.getCharacterName())
+                .capturedAt(record.getCapturedAt());
+
+        for (int id = 0; id < METRICS_BY_ID.length; id++) {
+            MetricName metric = METRICS_BY_ID[id];
+            boolean inMask = id < idCount && isSet(mask, id);
+            if (record.isKeyframe()) {
+                if (inMask) {
+                    put(builder, metric, reader.readInt(), reader.readLevel(metric), reader.readLong());
+                }
+            } else if (inMask) {
+                if (reader.readByte() != 0) {
+                    put(builder, metric,
+                            previous.rankOf(metric) + reader.readInt(),
+                            previous.levelOf(metric) + reader.readLevel(metric),
+                            previous.valueOf(metric) + reader.readLong());
+                }
+            } else if (previous.isPresent(metric)) {
+                put(builder, metric, previous.rankOf(metric), previous.levelOf(metric), previous.valueOf(metric));
+            }
+        }
+
+        if (reader.hasRemaining()) {
+            throw new IllegalStateException(CORRUPT_RECORD_MESSAGE);
+        }
+        return builder.build();
+    }
+
+    private static byte[] encodeKeyframe(CharacterHiscoresSnapshot snapshot) {
+        long[] mask = new long[MASK_WORDS];
+        for (int id = 0; id < METRICS_BY_ID.length; id++) {
+            if (snapshot.isPresent(METRICS_BY_ID[id])) {
+                setBit(mask, id);
+            }
+        }
+
+        Writer writer = newWriter(mask);
+        for (MetricName metric : METRICS_BY_ID) {
+            if (snapshot.isPresent(metric)) {
+                writer.writeSigned(snapshot.rankOf(metric));
+                if (metric.isSkill()) {
+                    writer.writeSigned(snapshot.levelOf(metric));
+                }
+                writer.writeSigned(snapshot.valueOf(metric));
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    private static byte[] encodeDelta(CharacterHiscoresSnapshot snapshot, CharacterHiscoresSnapshot previous) {
+        long[] mask = new long[MASK_WORDS];
+        for (int id = 0; id < METRICS_BY_ID.length; id++) {
+            if (hasChanged(METRICS_BY_ID[id], snapshot, previous)) {
+                setBit(mask, id);
+            }
+        }
+
+        Writer writer = newWriter(mask);
+        for (int id = 0; id < METRICS_BY_ID.length; id++) {
+            if (!isSet(mask, id)) {
+                continue;
+            }
+            MetricName metric = METRICS_BY_ID[id];
+            boolean present = snapshot.isPresent(metric);
+            writer.writeByte(present ? 1 : 0);
+            if (present) {
+                writer.writeSigned((long) snapshot.rankOf(metric) - previous.rankOf(metric));
+                if (metric.isSkill()) {
+                    writer.writeSigned((long) snapshot.levelOf(metric) - previous.levelOf(metric));
+                }
+                writer.writeSigned(snapshot.valueOf(metric) - previous.valueOf(metric));
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    private static Writer newWriter(long[] mask) {
+        Writer writer = new Writer();
+        writer.writeByte(FORMAT_VERSION);
+        writer.writeUnsigned(METRICS_BY_ID.length);
+        writer.writeMask(mask);
+        return writer;
+    }
+
+    /**
+     * Returns the stable wire id of a metric.
+     *
+     * @param metric The metric
+     * @return Its index in {@link #METRICS_BY_ID}
+     */
+    static int idOf(MetricName metric) {
+        return IDS_BY_ORDINAL[metric.ordinal()];
+    }
+
+    private static int[] indexIds() {
+        int[] ids = new int[MetricName.values().length];
+        Arrays.fill(ids, -1);
+        for (int id = 0; id < METRICS_BY_ID.length; id++) {
+            if (ids[METRICS_BY_ID[id].ordinal()] != -1) {
+                throw new IllegalStateException("Metric has two snapshot ids: " + METRICS_BY_ID[id]);
+            }
+            ids[METRICS_BY_ID[id].ordinal()] = id;
+        }
+        for (MetricName metric : MetricName.values()) {
+            if (ids[metric.ordinal()] == -1) {
+                throw new IllegalStateException("Metric has no snapshot id: " + metric);
+            }
+        }
+        return ids;
+    }
+
+    private static int maskWords(int idCount) {
+        return (idCount + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    private static boolean hasChanged(MetricName metric, CharacterHiscoresSnapshot snapshot,
+            CharacterHiscoresSnapshot previous) {
+        return snapshot.isPresent(metric) != previous.isPresent(metric)
+                || snapshot.rankOf(metric) != previous.rankOf(metric)
+                || snapshot.levelOf(metric) != previous.levelOf(metric)
+                || snapshot.valueOf(metric) != previous.valueOf(metric);
+    }
+
+    private static void put(CharacterHiscoresSnapshot.Builder builder, MetricName metric, long rank, long level,
+            long value) {
+        if (metric.isSkill()) {
+            builder.skill(metric, (int) rank, (int) level, value);
+        } else {
+            builder.activity(metric, (int) rank, value);
+        }
+    }
+
+    private static boolean isSet(long[] mask, int bit) {
+        return (mask[bit / Long.SIZE] & (1L << (bit % Long.SIZE))) != 0;
+    }
+
+    private static void setBit(long[] mask, int bit) {
+        mask[bit / Long.SIZE] |= 1L << (bit % Long.SIZE);
+    }
+
+    /**
+     * Appends zigzag varints to a growable buffer.
+     */
+    private static final class Writer {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        void writeMask(long[] mask) {
+            for (long word : mask) {
+                writeUnsigned(word);
+            }
+        }
+
+        void writeByte(int value) {
+            out.write(value);
+        }
+
+        void writeSigned(long value) {
+            writeUnsigned((value << 1) ^ (value >> 63));
+        }
+
+        void writeUnsigned(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Reads zigzag varints from an encoded payload.
+     */
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long[] readMask(int words) {
+            long[] mask = new long[MASK_WORDS];
+            for (int i = 0; i < words; i++) {
+                mask[i] = readUnsigned();
+            }
+            return mask;
+        }
+
+        int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalStateException(CORRUPT_RECORD_MESSAGE);
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        int readInt() {
+            return (int) readLong();
+        }
+
+        int readLevel(MetricName metric) {
+            return metric.isSkill() ? readInt() : 0;
+        }
+
+        long readLong() {
+            long raw = readUnsigned();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        long readUnsigned() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException(CORRUPT_RECORD_MESSAGE);
+        }
+
+        boolean hasRemaining() {
+            return position < bytes.length;
+        }
+    }
+}
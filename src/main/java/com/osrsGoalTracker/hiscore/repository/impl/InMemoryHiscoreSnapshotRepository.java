@@ -0,0 +1,116 @@
+package com.osrsGoalTracker.hiscore.repository.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.repository.HiscoreSnapshotRepository;
+import com.osrsGoalTracker.utils.CharacterNameUtils;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * HiscoreSnapshotRepository that keeps encoded snapshot history in memory for
+ * the lifetime of the process. Used when no snapshot table is configured.
+ */
+@Log4j2
+public class InMemoryHiscoreSnapshotRepository implements HiscoreSnapshotRepository {
+    private final int keyframeInterval;
+    private final Map<String, CharacterHistory> histories = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new InMemoryHiscoreSnapshotRepository.
+     *
+     * @param config The hiscores configuration holding the keyframe interval
+     */
+    public InMemoryHiscoreSnapshotRepository(HiscoresConfig config) {
+        this.keyframeInterval = HiscoreSnapshotCodec.validateKeyframeInterval(config.getSnapshotKeyframeInterval());
+    }
+
+    @Override
+    public boolean saveSnapshot(CharacterHiscoresSnapshot snapshot) {
+        HiscoreSnapshotCodec.validateSnapshot(snapshot);
+        CharacterHistory history = histories.computeIfAbsent(
+                CharacterNameUtils.normalize(snapshot.getCharacterName()), ignored -> new CharacterHistory());
+
+        synchronized (history) {
+            CharacterHiscoresSnapshot latest = history.latest;
+            if (latest != null && !snapshot.getCapturedAt().isAfter(latest.getCapturedAt())) {
+                throw new IllegalArgumentException("Snapshots must be saved in capture order");
+            }
+            if (latest != null && HiscoreSnapshotCodec.isUnchanged(snapshot, latest)) {
+                log.debug("Skipping unchanged snapshot for characterName: {}", snapshot.getCharacterName());
+                return false;
+            }
+
+            EncodedSnapshot record = HiscoreSnapshotCodec.encode(snapshot, latest, history.deltasSinceKeyframe,
+                    keyframeInterval);
+            history.records.put(record.getCapturedAt(), record);
+            history.latest = snapshot;
+            history.deltasSinceKeyframe = record.isKeyframe() ? 0 : history.deltasSinceKeyframe + 1;
+            return true;
+        }
+    }
+
+    @Override
+    public Optional<CharacterHiscoresSnapshot> getLatestSnapshot(String characterName) {
+        CharacterHistory history = histories.get(CharacterNameUtils.normalize(characterName));
+        if (history == null) {
+            return Optional.empty();
+        }
+        synchronized (history) {
+            return Optional.ofNullable(history.latest);
+        }
+    }
+
+    @Override
+    public List<CharacterHiscoresSnapshot> getSnapshots(String characterName, Instant from, Instant to) {
+        CharacterHistory history = histories.get(CharacterNameUtils.normalize(characterName));
+        if (history == null || from.isAfter(to)) {
+            return Collections.emptyList();
+        }
+
+        List<EncodedSnapshot> chain = new ArrayList<>();
+        synchronized (history) {
+            Instant start = findKeyframeAtOrBefore(history.records, from);
+            if (start == null || start.isAfter(to)) {
+                return Collections.emptyList();
+            }
+            chain.addAll(history.records.subMap(start, true, to, true).values());
+        }
+
+        List<CharacterHiscoresSnapshot> snapshots = new ArrayList<>(chain.size());
+        for (CharacterHiscoresSnapshot snapshot : HiscoreSnapshotCodec.decodeChain(chain)) {
+            if (!snapshot.getCapturedAt().isBefore(from)) {
+                snapshots.add(snapshot);
+            }
+        }
+        return snapshots;
+    }
+
+    private static Instant findKeyframeAtOrBefore(NavigableMap<Instant, EncodedSnapshot> records, Instant from) {
+        for (EncodedSnapshot record : records.headMap(from, true).descendingMap().values()) {
+            if (record.isKeyframe()) {
+                return record.getCapturedAt();
+            }
+        }
+        return records.isEmpty() ? null : records.firstKey();
+    }
+
+    /**
+     * Encoded history of one character, guarded by its own monitor.
+     */
+    private static final class CharacterHistory {
+        private final NavigableMap<Instant, EncodedSnapshot> records = new TreeMap<>();
+        private CharacterHiscoresSnapshot latest;
+        private int deltasSinceKeyframe;
+    }
+}
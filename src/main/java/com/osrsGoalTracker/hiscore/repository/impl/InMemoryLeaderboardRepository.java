@@ -0,0 +1,119 @@
+package com.osrsGoalTracker.hiscore.repository.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.model.LeaderboardEntry;
+import com.osrsGoalTracker.hiscore.repository.LeaderboardRepository;
+import com.osrsGoalTracker.utils.CharacterNameUtils;
+
+/**
+ * LeaderboardRepository that keeps one {@link RankedSkipList} per metric in
+ * memory for the lifetime of the process. Updates, rank lookups and top-K reads
+ * are O(log n) in the number of ranked characters, plus K for top-K.
+ */
+public class InMemoryLeaderboardRepository implements LeaderboardRepository {
+    private final MetricBoard[] boards = new MetricBoard[MetricName.values().length];
+
+    /**
+     * Constructs a new InMemoryLeaderboardRepository with an empty board for
+     * every metric.
+     */
+    public InMemoryLeaderboardRepository() {
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = new MetricBoard();
+        }
+    }
+
+    @Override
+    public void updateCharacter(CharacterHiscoresSnapshot snapshot) {
+        String key = CharacterNameUtils.normalize(snapshot.getCharacterName());
+        for (MetricName metric : MetricName.values()) {
+            boolean ranked = snapshot.isPresent(metric)
+                    && snapshot.rankOf(metric) != CharacterHiscoresSnapshot.UNRANKED
+                    && snapshot.valueOf(metric) >= 0;
+            MetricBoard board = boards[metric.ordinal()];
+            if (ranked) {
+                board.put(key, snapshot.getCharacterName(), snapshot.valueOf(metric));
+            } else {
+                board.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntry> getTopEntries(MetricName metric, int limit) {
+        return boards[metric.ordinal()].top(limit);
+    }
+
+    @Override
+    public Optional<LeaderboardEntry> getEntry(MetricName metric, String characterName) {
+        return boards[metric.ordinal()].entry(CharacterNameUtils.normalize(characterName));
+    }
+
+    @Override
+    public int getCharacterCount(MetricName metric) {
+        return boards[metric.ordinal()].size();
+    }
+
+    /**
+     * Leaderboard for one metric, guarded by its own monitor.
+     */
+    private static final class MetricBoard {
+        private final RankedSkipList ranking = new RankedSkipList();
+        private final Map<String, Long> values = new HashMap<>();
+
+        synchronized void put(String key, String characterName, long value) {
+            Long previous = values.put(key, value);
+            if (previous != null) {
+                if (previous == value) {
+                    return;
+                }
+                ranking.remove(key, previous);
+            }
+            ranking.insert(key, characterName, value);
+        }
+
+        synchronized void remove(String key) {
+            Long previous = values.remove(key);
+            if (previous != null) {
+                ranking.remove(key, previous);
+            }
+        }
+
+        synchronized List<LeaderboardEntry> top(int limit) {
+            List<RankedSkipList.Node> nodes = ranking.range(1, limit);
+            List<LeaderboardEntry> entries = new ArrayList<>(nodes.size());
+            for (int i = 0; i < nodes.size(); i++) {
+                entries.add(toEntry(nodes.get(i), i + 1));
+            }
+            return entries;
+        }
+
+        synchronized Optional<LeaderboardEntry> entry(String key) {
+            Long value = values.get(key);
+            if (value == null) {
+                return Optional.empty();
+            }
+            int rank = ranking.rankOf(key, value);
+            return Optional.of(toEntry(ranking.range(rank, 1).get(0), rank));
+        }
+
+        synchronized int size() {
+            return ranking.size();
+        }
+
+        private static LeaderboardEntry toEntry(RankedSkipList.Node node, int rank) {
+            return LeaderboardEntry.builder()
+                    .characterName(node.getCharacterName())
+                    .rank(rank)
+                    .value(node.getValue())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.osrsGoalTracker.hiscore.repository.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Skip list of characters ordered by value, highest first, with ties broken by
+ * key. Every forward pointer records how many positions it skips, so the
+ * position of a character and the character at a position are both found in
+ * O(log n) expected time.
+ *
+ * <p>
+ * Not thread-safe; callers synchronize.
+ */
+final class RankedSkipList {
+    private static final int MAX_LEVEL = 32;
+
+    private final Node head = new Node(null, null, 0, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    /**
+     * A character's position in the list.
+     */
+    static final class Node {
+        private final String key;
+        private final String characterName;
+        private final long value;
+        private final Node[] next;
+        private final int[] span;
+
+        private Node(String key, String characterName, long value, int level) {
+            this.key = key;
+            this.characterName = characterName;
+            this.value = value;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+
+        String getCharacterName() {
+            return characterName;
+        }
+
+        long getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * Returns the number of characters in the list.
+     *
+     * @return The size of the list
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Inserts a character. The key must not already be in the list with the
+     * same value.
+     *
+     * @param key           The normalized character name
+     * @param characterName The character name to report
+     * @param value         The character's value
+     */
+    void insert(String key, String characterName, long value) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && precedes(x.next[i], key, value)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(key, characterName, value, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * Removes a character.
+     *
+     * @param key   The normalized character name
+     * @param value The value the character was inserted with
+     * @return True if the character was found and removed
+     */
+    boolean remove(String key, long value) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && precedes(x.next[i], key, value)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        x = x.next[0];
+        if (x == null || x.value != value || !x.key.equals(key)) {
+            return false;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].next[i] = x.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns the 1-based position of a character.
+     *
+     * @param key   The normalized character name
+     * @param value The value the character was inserted with
+     * @return The position, or 0 if the character is not in the list
+     */
+    int rankOf(String key, long value) {
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && (precedes(x.next[i], key, value)
+                    || (x.next[i].value == value && x.next[i].key.equals(key)))) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x != head && x.key.equals(key)) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns up to {@code limit} characters starting at a 1-based position.
+     *
+     * @param fromRank The first position to return
+     * @param limit    The maximum number of characters to return
+     * @return The characters in order
+     */
+    List<Node> range(int fromRank, int limit) {
+        List<Node> nodes = new ArrayList<>(Math.min(limit, Math.max(0, size - fromRank + 1)));
+        Node x = nodeAt(fromRank);
+        while (x != null && nodes.size() < limit) {
+            nodes.add(x);
+            x = x.next[0];
+        }
+        return nodes;
+    }
+
+    private Node nodeAt(int rank) {
+        if (rank < 1 || rank > size) {
+            return null;
+        }
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    private static boolean precedes(Node node, String key, long value) {
+        return node.value > value || (node.value == value && node.key.compareTo(key) < 0);
+    }
+
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (nodeLevel < MAX_LEVEL && (random.nextInt() & 3) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+}
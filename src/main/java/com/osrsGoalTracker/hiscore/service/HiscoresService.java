@@ -1,6 +1,14 @@
 package com.osrsGoalTracker.hiscore.service;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.model.MetricName;
 import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresBatch;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.model.Leaderboard;
 
 /**
  * Domain logic service interface for retrieving OSRS character stats.
@@ -14,4 +22,64 @@ public interface HiscoresService {
      * @throws RuntimeException if there's an error fetching the stats
      */
     CharacterHiscores getCharacterHiscores(String characterName);
+
+    /**
+     * Retrieves stats for a character as a compact snapshot indexed by metric,
+     * with derived totals already computed.
+     *
+     * @param characterName The RuneScape name of the character
+     * @return The character's stats snapshot
+     * @throws RuntimeException if there's an error fetching the stats
+     */
+    CharacterHiscoresSnapshot getCharacterHiscoresSnapshot(String characterName);
+
+    /**
+     * Retrieves stats for several characters from the OSRS hiscores.
+     * Characters that cannot be fetched are reported in the result's errors
+     * instead of failing the whole batch.
+     *
+     * @param characterNames The RuneScape names of the characters
+     * @return The stats and errors for every requested character
+     * @throws IllegalArgumentException if no names are given, a name is blank,
+     *                                  or too many names are given
+     */
+    CharacterHiscoresBatch getCharacterHiscoresBatch(Collection<String> characterNames);
+
+    /**
+     * Fetches a character's current stats and appends them to the character's
+     * snapshot history. Stats identical to the latest stored snapshot are not
+     * stored again. A failure to store the snapshot is logged and does not
+     * fail the fetch.
+     *
+     * @param characterName The RuneScape name of the character
+     * @return The character's current stats snapshot
+     * @throws RuntimeException if there's an error fetching the stats
+     */
+    CharacterHiscoresSnapshot recordCharacterHiscoresSnapshot(String characterName);
+
+    /**
+     * Retrieves the stored stats snapshots for a character within a time range,
+     * oldest first.
+     *
+     * @param characterName The RuneScape name of the character
+     * @param from          The start of the range, inclusive
+     * @param to            The end of the range, inclusive
+     * @return The snapshots captured in the range
+     * @throws IllegalArgumentException if the range is missing or reversed
+     */
+    List<CharacterHiscoresSnapshot> getCharacterHiscoresHistory(String characterName, Instant from, Instant to);
+
+    /**
+     * Retrieves the highest ranked characters for a metric among the
+     * characters whose hiscores this service has fetched, and optionally the
+     * place of one character.
+     *
+     * @param metric        The metric to rank by
+     * @param limit         The maximum number of top entries to return
+     * @param characterName The character whose place to include, or null
+     * @return The leaderboard
+     * @throws IllegalArgumentException if the metric is missing or the limit is
+     *                                  out of range
+     */
+    Leaderboard getLeaderboard(MetricName metric, int limit, String characterName);
 }
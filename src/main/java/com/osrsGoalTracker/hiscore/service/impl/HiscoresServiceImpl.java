@@ -1,8 +1,21 @@
 package com.osrsGoalTracker.hiscore.service.impl;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import com.google.inject.Inject;
-import com.osrsGoalTracker.hiscore.external.impl.JagexHiscoresClientImpl;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.external.HiscoresClient;
 import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresBatch;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.model.Leaderboard;
+import com.osrsGoalTracker.hiscore.repository.HiscoreSnapshotRepository;
+import com.osrsGoalTracker.hiscore.repository.LeaderboardRepository;
 import com.osrsGoalTracker.hiscore.service.HiscoresService;
 
 import lombok.extern.log4j.Log4j2;
@@ -16,21 +29,137 @@ import lombok.extern.log4j.Log4j2;
  */
 @Log4j2
 public class HiscoresServiceImpl implements HiscoresService {
-    private final JagexHiscoresClientImpl jagexHiscoresClient;
+    private static final int MAX_LEADERBOARD_LIMIT = 100;
+
+    private final HiscoresClient hiscoresClient;
+    private final HiscoreSnapshotRepository snapshotRepository;
+    private final LeaderboardRepository leaderboardRepository;
+    private final HiscoresConfig config;
 
     /**
      * Constructs a new DefaultHiscoresService.
      *
-     * @param jagexHiscoresClient The client for retrieving character statistics
+     * @param hiscoresClient        The client for retrieving character statistics
+     * @param snapshotRepository    The repository holding snapshot history
+     * @param leaderboardRepository The repository ranking fetched characters
+     * @param config                The hiscores configuration
      */
     @Inject
-    public HiscoresServiceImpl(JagexHiscoresClientImpl jagexHiscoresClient) {
-        this.jagexHiscoresClient = jagexHiscoresClient;
+    public HiscoresServiceImpl(HiscoresClient hiscoresClient, HiscoreSnapshotRepository snapshotRepository,
+            LeaderboardRepository leaderboardRepository, HiscoresConfig config) {
+        this.hiscoresClient = hiscoresClient;
+        this.snapshotRepository = snapshotRepository;
+        this.leaderboardRepository = leaderboardRepository;
+        this.config = config;
     }
 
     @Override
     public CharacterHiscores getCharacterHiscores(String characterName) {
         log.info("Getting character stats for characterName: {}", characterName);
-        return jagexHiscoresClient.getCharacterHiscores(characterName);
+        CharacterHiscores hiscores = hiscoresClient.getCharacterHiscores(characterName);
+        updateLeaderboard(CharacterHiscoresSnapshot.fromCharacterHiscores(hiscores, Instant.now()));
+        return hiscores;
+    }
+
+    @Override
+    public CharacterHiscoresSnapshot getCharacterHiscoresSnapshot(String characterName) {
+        log.info("Getting character stats snapshot for characterName: {}", characterName);
+        CharacterHiscoresSnapshot snapshot = hiscoresClient.getCharacterHiscoresSnapshot(characterName);
+        updateLeaderboard(snapshot);
+        return snapshot;
+    }
+
+    @Override
+    public CharacterHiscoresBatch getCharacterHiscoresBatch(Collection<String> characterNames) {
+        Set<String> uniqueNames = validateCharacterNames(characterNames);
+        log.info("Getting character stats for {} characters", uniqueNames.size());
+        CharacterHiscoresBatch batch = hiscoresClient.getCharacterHiscoresBatch(uniqueNames,
+                config.getBatchMaxConcurrency(), config.getBatchDeadline());
+        Instant capturedAt = Instant.now();
+        for (CharacterHiscores hiscores : batch.getHiscores().values()) {
+            updateLeaderboard(CharacterHiscoresSnapshot.fromCharacterHiscores(hiscores, capturedAt));
+        }
+        return batch;
+    }
+
+    @Override
+    public CharacterHiscoresSnapshot recordCharacterHiscoresSnapshot(String characterName) {
+        log.info("Recording character stats snapshot for characterName: {}", characterName);
+        CharacterHiscoresSnapshot snapshot = hiscoresClient.getCharacterHiscoresSnapshot(characterName);
+        try {
+            snapshotRepository.saveSnapshot(snapshot);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record snapshot for characterName: {}", characterName, e);
+        }
+        updateLeaderboard(snapshot);
+        return snapshot;
+    }
+
+    @Override
+    public Leaderboard getLeaderboard(MetricName metric, int limit, String characterName) {
+        if (metric == null) {
+            throw new IllegalArgumentException("Metric cannot be null");
+        }
+        if (limit < 1 || limit > MAX_LEADERBOARD_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LEADERBOARD_LIMIT);
+        }
+        log.info("Getting top {} characters for metric: {}", limit, metric);
+        return Leaderboard.builder()
+                .metric(metric)
+                .characterCount(leaderboardRepository.getCharacterCount(metric))
+                .entries(leaderboardRepository.getTopEntries(metric, limit))
+                .characterEntry(characterName == null || characterName.trim().isEmpty()
+                        ? null
+                        : leaderboardRepository.getEntry(metric, characterName.trim()).orElse(null))
+                .build();
+    }
+
+    @Override
+    public List<CharacterHiscoresSnapshot> getCharacterHiscoresHistory(String characterName, Instant from,
+            Instant to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("History range cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("History range start must not be after its end");
+        }
+        log.info("Getting character stats history for characterName: {} from {} to {}", characterName, from, to);
+        return snapshotRepository.getSnapshots(characterName, from, to);
+    }
+
+    /**
+     * Ranks a fetched character on the leaderboards. The leaderboards are
+     * secondary to the read that fetched the character, so a failed update is
+     * logged rather than failing the read; the character's next fetch ranks it
+     * again.
+     *
+     * @param snapshot The fetched character's hiscores
+     */
+    private void updateLeaderboard(CharacterHiscoresSnapshot snapshot) {
+        try {
+            leaderboardRepository.updateCharacter(snapshot);
+        } catch (RuntimeException e) {
+            log.warn("Failed to update leaderboards for characterName: {}", snapshot.getCharacterName(), e);
+        }
+    }
+
+    private Set<String> validateCharacterNames(Collection<String> characterNames) {
+        if (characterNames == null || characterNames.isEmpty()) {
+            throw new IllegalArgumentException("Character names cannot be null or empty");
+        }
+
+        Set<String> uniqueNames = new LinkedHashSet<>();
+        for (String characterName : characterNames) {
+            if (characterName == null || characterName.trim().isEmpty()) {
+                throw new IllegalArgumentException("Character names cannot contain null or empty names");
+            }
+            uniqueNames.add(characterName.trim());
+        }
+
+        if (uniqueNames.size() > config.getBatchMaxSize()) {
+            throw new IllegalArgumentException(
+                    "Cannot request more than " + config.getBatchMaxSize() + " characters at once");
+        }
+        return uniqueNames;
     }
 }
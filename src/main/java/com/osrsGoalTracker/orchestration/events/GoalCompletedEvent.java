@@ -0,0 +1,80 @@
+package com.osrsGoalTracker.orchestration.events;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Event published when a goal's target is reached.
+ */
+@Value
+@Builder
+@JsonDeserialize(builder = GoalCompletedEvent.GoalCompletedEventBuilder.class)
+public class GoalCompletedEvent implements GoalProgressEvent {
+    /**
+     * The detail type completion events are published under.
+     */
+    public static final String DETAIL_TYPE = "GoalCompleted";
+
+    /**
+     * The ID of the user who owns the goal.
+     */
+    private final String userId;
+
+    /**
+     * The ID of the goal.
+     */
+    private final String goalId;
+
+    /**
+     * The name of the character the goal is for.
+     */
+    private final String characterName;
+
+    /**
+     * The name of the skill or activity (e.g., "WOODCUTTING", "BOUNTY_HUNTER").
+     */
+    private final String targetAttribute;
+
+    /**
+     * The type of target (e.g., "xp", "level").
+     */
+    private final String targetType;
+
+    /**
+     * The target value of the goal.
+     */
+    private final long targetValue;
+
+    /**
+     * The character's value when the completion was detected.
+     */
+    private final long currentValue;
+
+    /**
+     * The deadline the goal had.
+     */
+    private final Instant targetDate;
+
+    /**
+     * When the completion was detected.
+     */
+    private final Instant completedAt;
+
+    @Override
+    public String detailType() {
+        return DETAIL_TYPE;
+    }
+
+    /**
+     * Builder for GoalCompletedEvent.
+     */
+    @JsonPOJOBuilder(withPrefix = "")
+    public static class GoalCompletedEventBuilder {
+        // Builder will be generated by Lombok
+    }
+}
@@ -0,0 +1,87 @@
+package com.osrsGoalTracker.orchestration.events;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Event published when a goal's progress passes 25, 50 or 75 percent of its
+ * target.
+ */
+@Value
+@Builder
+@JsonDeserialize(builder = GoalMilestoneReachedEvent.GoalMilestoneReachedEventBuilder.class)
+public class GoalMilestoneReachedEvent implements GoalProgressEvent {
+    /**
+     * The detail type milestone events are published under.
+     */
+    public static final String DETAIL_TYPE = "GoalMilestoneReached";
+
+    /**
+     * The ID of the user who owns the goal.
+     */
+    private final String userId;
+
+    /**
+     * The ID of the goal.
+     */
+    private final String goalId;
+
+    /**
+     * The name of the character the goal is for.
+     */
+    private final String characterName;
+
+    /**
+     * The name of the skill or activity (e.g., "WOODCUTTING", "BOUNTY_HUNTER").
+     */
+    private final String targetAttribute;
+
+    /**
+     * The type of target (e.g., "xp", "level").
+     */
+    private final String targetType;
+
+    /**
+     * The target value of the goal.
+     */
+    private final long targetValue;
+
+    /**
+     * The character's value when the milestone was detected.
+     */
+    private final long currentValue;
+
+    /**
+     * The milestone passed, as a percentage of the target (25, 50 or 75).
+     */
+    private final int milestone;
+
+    /**
+     * How much of the target had been reached when the milestone was detected,
+     * from 0 to 100.
+     */
+    private final double percentComplete;
+
+    /**
+     * When the milestone was detected.
+     */
+    private final Instant reachedAt;
+
+    @Override
+    public String detailType() {
+        return DETAIL_TYPE;
+    }
+
+    /**
+     * Builder for GoalMilestoneReachedEvent.
+     */
+    @JsonPOJOBuilder(withPrefix = "")
+    public static class GoalMilestoneReachedEventBuilder {
+        // Builder will be generated by Lombok
+    }
+}
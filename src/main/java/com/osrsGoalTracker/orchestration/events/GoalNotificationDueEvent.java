@@ -0,0 +1,61 @@
+package com.osrsGoalTracker.orchestration.events;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Event published when a goal's scheduled progress notification comes due,
+ * so the user's notification channel can send it.
+ */
+@Value
+@Builder
+@JsonDeserialize(builder = GoalNotificationDueEvent.GoalNotificationDueEventBuilder.class)
+public class GoalNotificationDueEvent implements GoalProgressEvent {
+    /**
+     * The detail type due notification events are published under.
+     */
+    public static final String DETAIL_TYPE = "GoalNotificationDue";
+
+    /**
+     * The ID of the user who owns the goal.
+     */
+    private final String userId;
+
+    /**
+     * The ID of the goal.
+     */
+    private final String goalId;
+
+    /**
+     * The name of the character the goal is for.
+     */
+    private final String characterName;
+
+    /**
+     * How often the notification repeats (e.g., "DAILY", "WEEKLY").
+     */
+    private final String frequency;
+
+    /**
+     * When the notification was due.
+     */
+    private final Instant dueAt;
+
+    @Override
+    public String detailType() {
+        return DETAIL_TYPE;
+    }
+
+    /**
+     * Builder for GoalNotificationDueEvent.
+     */
+    @JsonPOJOBuilder(withPrefix = "")
+    public static class GoalNotificationDueEventBuilder {
+        // Builder will be generated by Lombok
+    }
+}
@@ -0,0 +1,21 @@
+package com.osrsGoalTracker.orchestration.events;
+
+/**
+ * Event published when a goal's progress reaches a point the rest of the
+ * system is told about.
+ */
+public interface GoalProgressEvent {
+    /**
+     * Returns the detail type the event is published under.
+     *
+     * @return The detail type
+     */
+    String detailType();
+
+    /**
+     * Returns the ID of the goal the event is about.
+     *
+     * @return The goal ID
+     */
+    String getGoalId();
+}
@@ -9,6 +9,10 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 /**
  * Shared module for providing DynamoDB client.
+ *
+ * <p>
+ * Every instance is equal, so domain modules that each install this module can
+ * be combined in one injector and Guice installs it only once.
  */
 public class SharedDynamoDbModule extends AbstractModule {
     @Provides
@@ -18,4 +22,14 @@ public class SharedDynamoDbModule extends AbstractModule {
                 .region(Region.of(System.getenv("AWS_REGION")))
                 .build();
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SharedDynamoDbModule;
+    }
+
+    @Override
+    public int hashCode() {
+        return SharedDynamoDbModule.class.hashCode();
+    }
+}
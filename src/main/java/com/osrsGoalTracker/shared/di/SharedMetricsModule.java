@@ -0,0 +1,59 @@
+package com.osrsGoalTracker.shared.di;
+
+import java.time.Duration;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.osrsGoalTracker.shared.metrics.MetricsPublisher;
+
+/**
+ * Shared module for providing the in-process metrics publisher.
+ *
+ * <p>
+ * Every instance is equal, so domain modules that each install this module can
+ * be combined in one injector and Guice installs it only once.
+ */
+public class SharedMetricsModule extends AbstractModule {
+    static final String NAMESPACE_ENV = "METRICS_NAMESPACE";
+    static final String PUBLISH_INTERVAL_SECONDS_ENV = "METRICS_PUBLISH_INTERVAL_SECONDS";
+
+    private static final String DEFAULT_NAMESPACE = "OsrsGoalTracker";
+    private static final long DEFAULT_PUBLISH_INTERVAL_SECONDS = 60;
+
+    @Provides
+    @Singleton
+    MetricsPublisher provideMetricsPublisher() {
+        String namespace = System.getenv(NAMESPACE_ENV);
+        MetricsPublisher publisher = new MetricsPublisher(
+                namespace == null || namespace.trim().isEmpty() ? DEFAULT_NAMESPACE : namespace.trim());
+        long intervalSeconds = readIntervalSeconds();
+        if (intervalSeconds > 0) {
+            publisher.start(Duration.ofSeconds(intervalSeconds));
+        }
+        return publisher;
+    }
+
+    private static long readIntervalSeconds() {
+        String value = System.getenv(PUBLISH_INTERVAL_SECONDS_ENV);
+        if (value == null || value.trim().isEmpty()) {
+            return DEFAULT_PUBLISH_INTERVAL_SECONDS;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    PUBLISH_INTERVAL_SECONDS_ENV + " must be a whole number but was: " + value, e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SharedMetricsModule;
+    }
+
+    @Override
+    public int hashCode() {
+        return SharedMetricsModule.class.hashCode();
+    }
+}
@@ -0,0 +1,179 @@
+package com.osrsGoalTracker.shared.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Publishes in-process metrics as CloudWatch embedded metric format (EMF) log
+ * lines, so caches, limiters and other components that only keep counters in
+ * memory show up as CloudWatch metrics without an extra API call.
+ *
+ * <p>
+ * Each registered component is published as one line with a
+ * {@code Component} dimension. Counters are cumulative in the component and
+ * are published as the increase since the previous publish; gauges are
+ * published as read.
+ */
+@Log4j2
+public class MetricsPublisher {
+    static final String COMPONENT_DIMENSION = "Component";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String namespace;
+    private final Consumer<String> sink;
+    private final LongSupplier clockMillis;
+    private final Map<String, Source> sources = new LinkedHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a new MetricsPublisher that writes to standard output, where
+     * Lambda forwards it to CloudWatch Logs.
+     *
+     * @param namespace The CloudWatch namespace to publish under
+     */
+    public MetricsPublisher(String namespace) {
+        this(namespace, System.out::println, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows the output and clock to be controlled.
+     *
+     * @param namespace   The CloudWatch namespace to publish under
+     * @param sink        Receives each EMF line
+     * @param clockMillis The time source, in epoch milliseconds
+     */
+    MetricsPublisher(String namespace, Consumer<String> sink, LongSupplier clockMillis) {
+        this.namespace = namespace;
+        this.sink = sink;
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * Registers a component's metrics. Registering the same component again
+     * replaces its sources.
+     *
+     * @param component The component name, published as the dimension value
+     * @param counters  Reads the component's cumulative counters
+     * @param gauges    Reads the component's current gauges
+     */
+    public synchronized void register(String component, Supplier<Map<String, Long>> counters,
+            Supplier<Map<String, Number>> gauges) {
+        sources.put(component, new Source(counters, gauges));
+    }
+
+    /**
+     * Returns the Caffeine cache counters worth alerting on, named for
+     * publishing.
+     *
+     * @param stats The cache statistics
+     * @return The counters by metric name
+     */
+    public static Map<String, Long> cacheCounters(CacheStats stats) {
+        return Map.of(
+                "hitCount", stats.hitCount(),
+                "missCount", stats.missCount(),
+                "loadFailureCount", stats.loadFailureCount(),
+                "evictionCount", stats.evictionCount());
+    }
+
+    /**
+     * Publishes every registered component's metrics every {@code interval}
+     * on a daemon thread. Calling this again has no effect.
+     *
+     * @param interval The time between publishes
+     */
+    public synchronized void start(Duration interval) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::publish, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Publishes every registered component's metrics now. A component whose
+     * metrics cannot be read is logged and skipped.
+     */
+    public synchronized void publish() {
+        long timestamp = clockMillis.getAsLong();
+        for (Map.Entry<String, Source> entry : sources.entrySet()) {
+            try {
+                sink.accept(toEmf(entry.getKey(), entry.getValue().read(), timestamp));
+            } catch (RuntimeException | JsonProcessingException e) {
+                log.warn("Failed to publish metrics for component: {}", entry.getKey(), e);
+            }
+        }
+    }
+
+    private String toEmf(String component, Map<String, Number> values, long timestamp)
+            throws JsonProcessingException {
+        List<Map<String, String>> definitions = new ArrayList<>(values.size());
+        for (String name : values.keySet()) {
+            definitions.add(Map.of("Name", name));
+        }
+        Map<String, Object> directive = new LinkedHashMap<>();
+        directive.put("Namespace", namespace);
+        directive.put("Dimensions", List.of(List.of(COMPONENT_DIMENSION)));
+        directive.put("Metrics", definitions);
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("Timestamp", timestamp);
+        metadata.put("CloudWatchMetrics", List.of(directive));
+
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("_aws", metadata);
+        line.put(COMPONENT_DIMENSION, component);
+        line.putAll(values);
+        return OBJECT_MAPPER.writeValueAsString(line);
+    }
+
+    /**
+     * A registered component and the counter values it last published.
+     */
+    private static final class Source {
+        private final Supplier<Map<String, Long>> counters;
+        private final Supplier<Map<String, Number>> gauges;
+        private final Map<String, Long> published = new HashMap<>();
+
+        Source(Supplier<Map<String, Long>> counters, Supplier<Map<String, Number>> gauges) {
+            this.counters = counters;
+            this.gauges = gauges;
+        }
+
+        Map<String, Number> read() {
+            Map<String, Number> values = new LinkedHashMap<>();
+            for (Map.Entry<String, Long> counter : counters.get().entrySet()) {
+                long previous = published.getOrDefault(counter.getKey(), 0L);
+                long current = counter.getValue();
+                // A counter that went backwards was reset; publish it whole.
+                values.put(counter.getKey(), current >= previous ? current - previous : current);
+                published.put(counter.getKey(), current);
+            }
+            values.putAll(gauges.get());
+            return values;
+        }
+    }
+}
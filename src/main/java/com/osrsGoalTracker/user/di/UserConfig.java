@@ -0,0 +1,88 @@
+package com.osrsGoalTracker.user.di;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Deployment configuration for the user domain.
+ * Values are read from environment variables so the user cache can be tuned
+ * or turned off per deployment without code changes.
+ */
+@Value
+@Builder
+public class UserConfig {
+    static final String CACHE_ENABLED_ENV = "USER_CACHE_ENABLED";
+    static final String CACHE_TTL_SECONDS_ENV = "USER_CACHE_TTL_SECONDS";
+    static final String CACHE_NEGATIVE_TTL_SECONDS_ENV = "USER_CACHE_NEGATIVE_TTL_SECONDS";
+    static final String CACHE_MAX_ENTRIES_ENV = "USER_CACHE_MAX_ENTRIES";
+
+    private static final long DEFAULT_CACHE_TTL_SECONDS = 300;
+    private static final long DEFAULT_CACHE_NEGATIVE_TTL_SECONDS = 30;
+    private static final long DEFAULT_CACHE_MAX_ENTRIES = 10_000;
+
+    /**
+     * Whether user lookups are served through the in-memory cache.
+     */
+    @Builder.Default
+    private final boolean cacheEnabled = true;
+
+    /**
+     * How long a user that was found is served from the cache before it is
+     * read again.
+     */
+    @Builder.Default
+    private final Duration cacheTtl = Duration.ofSeconds(DEFAULT_CACHE_TTL_SECONDS);
+
+    /**
+     * How long a user ID that was not found is answered from the cache. Kept
+     * shorter than {@link #cacheTtl}, as a user created by another instance is
+     * not visible here until the entry expires.
+     */
+    @Builder.Default
+    private final Duration cacheNegativeTtl = Duration.ofSeconds(DEFAULT_CACHE_NEGATIVE_TTL_SECONDS);
+
+    /**
+     * Maximum number of user IDs cached, found or not.
+     */
+    @Builder.Default
+    private final long cacheMaxEntries = DEFAULT_CACHE_MAX_ENTRIES;
+
+    /**
+     * Creates a configuration from environment variables, falling back to
+     * defaults for any that are unset.
+     *
+     * @return The user configuration
+     * @throws IllegalArgumentException if a numeric variable is not a number
+     */
+    public static UserConfig fromEnvironment() {
+        return UserConfig.builder()
+                .cacheEnabled(readBoolean(CACHE_ENABLED_ENV, true))
+                .cacheTtl(Duration.ofSeconds(readLong(CACHE_TTL_SECONDS_ENV, DEFAULT_CACHE_TTL_SECONDS)))
+                .cacheNegativeTtl(Duration.ofSeconds(
+                        readLong(CACHE_NEGATIVE_TTL_SECONDS_ENV, DEFAULT_CACHE_NEGATIVE_TTL_SECONDS)))
+                .cacheMaxEntries(readLong(CACHE_MAX_ENTRIES_ENV, DEFAULT_CACHE_MAX_ENTRIES))
+                .build();
+    }
+
+    private static boolean readBoolean(String name, boolean defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return "true".equalsIgnoreCase(value.trim());
+    }
+
+    private static long readLong(String name, long defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a whole number but was: " + value, e);
+        }
+    }
+}
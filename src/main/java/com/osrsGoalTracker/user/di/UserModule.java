@@ -1,12 +1,18 @@
 package com.osrsGoalTracker.user.di;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.osrsGoalTracker.user.dao.UserDao;
 import com.osrsGoalTracker.user.dao.impl.DynamoUserDao;
 import com.osrsGoalTracker.shared.di.SharedDynamoDbModule;
+import com.osrsGoalTracker.shared.di.SharedMetricsModule;
+import com.osrsGoalTracker.shared.metrics.MetricsPublisher;
 import com.osrsGoalTracker.user.repository.UserRepository;
+import com.osrsGoalTracker.user.repository.impl.CachingUserRepository;
 import com.osrsGoalTracker.user.repository.impl.UserRepositoryImpl;
 import com.osrsGoalTracker.user.service.UserService;
 import com.osrsGoalTracker.user.service.impl.UserServiceImpl;
@@ -17,10 +23,29 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
  * Guice module for user-related bindings.
  */
 public class UserModule extends AbstractModule {
+    private final UserConfig config;
+
+    /**
+     * Constructs a new UserModule configured from environment variables.
+     */
+    public UserModule() {
+        this(UserConfig.fromEnvironment());
+    }
+
+    /**
+     * Constructs a new UserModule with an explicit configuration.
+     *
+     * @param config The user configuration to use
+     */
+    public UserModule(UserConfig config) {
+        this.config = config;
+    }
+
     @Override
     protected void configure() {
         install(new SharedDynamoDbModule());
-        bind(UserRepository.class).to(UserRepositoryImpl.class);
+        install(new SharedMetricsModule());
+        bind(UserConfig.class).toInstance(config);
         bind(UserService.class).to(UserServiceImpl.class);
     }
 
@@ -29,4 +54,19 @@ public class UserModule extends AbstractModule {
     UserDao provideUserDao(DynamoDbClient dynamoDbClient) {
         return new DynamoUserDao(dynamoDbClient, System.getenv("USER_TABLE_NAME"));
     }
+
+    @Provides
+    @Singleton
+    UserRepository provideUserRepository(UserRepositoryImpl userRepository, MetricsPublisher metrics) {
+        if (config.isCacheEnabled()) {
+            CachingUserRepository caching = new CachingUserRepository(userRepository, config);
+            metrics.register("UserCache", () -> {
+                Map<String, Long> counters = new HashMap<>(MetricsPublisher.cacheCounters(caching.stats()));
+                counters.put("notFoundCount", caching.notFoundCount());
+                return counters;
+            }, () -> Map.of("estimatedSize", caching.estimatedSize()));
+            return caching;
+        }
+        return userRepository;
+    }
 }
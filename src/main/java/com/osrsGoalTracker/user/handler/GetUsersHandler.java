@@ -0,0 +1,105 @@
+package com.osrsGoalTracker.user.handler;
+
+import java.util.List;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.user.di.UserModule;
+import com.osrsGoalTracker.user.handler.request.GetUsersRequest;
+import com.osrsGoalTracker.user.model.UserBatch;
+import com.osrsGoalTracker.user.service.UserService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Lambda handler for retrieving several users in one request.
+ * Users that do not exist are reported by ID so the rest of the batch is still
+ * returned.
+ */
+@Log4j2
+public class GetUsersHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_SERVER_ERROR = 500;
+    private final UserService userService;
+
+    /**
+     * Default constructor for AWS Lambda.
+     * This constructor is required by AWS Lambda to instantiate the handler.
+     */
+    public GetUsersHandler() {
+        Injector injector = Guice.createInjector(new UserModule());
+        this.userService = injector.getInstance(UserService.class);
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows injection of mock services in tests.
+     *
+     * @param userService The UserService instance to use for retrieving user data
+     */
+    @Inject
+    GetUsersHandler(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input, Context context) {
+        log.info("Received request to get users");
+        try {
+            List<String> userIds = parseAndValidateInput(input);
+            UserBatch batch = getUsers(userIds);
+            return createSuccessResponse(batch);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(HTTP_BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error processing request", e);
+            return createErrorResponse(HTTP_SERVER_ERROR, "Error processing request: " + e.getMessage());
+        }
+    }
+
+    private List<String> parseAndValidateInput(APIGatewayProxyRequestEvent input) throws Exception {
+        if (input == null) {
+            throw new IllegalArgumentException("Request cannot be null");
+        }
+
+        String body = input.getBody();
+        if (body == null || body.trim().isEmpty()) {
+            throw new IllegalArgumentException("Request body cannot be null or empty");
+        }
+
+        GetUsersRequest request = OBJECT_MAPPER.readValue(body, GetUsersRequest.class);
+        if (request.getUserIds() == null || request.getUserIds().isEmpty()) {
+            throw new IllegalArgumentException("User IDs cannot be null or empty");
+        }
+
+        return request.getUserIds();
+    }
+
+    private UserBatch getUsers(List<String> userIds) {
+        log.info("Getting {} users", userIds.size());
+        return userService.getUsers(userIds);
+    }
+
+    private APIGatewayProxyResponseEvent createSuccessResponse(UserBatch batch) throws Exception {
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(HTTP_OK)
+                .withBody(OBJECT_MAPPER.writeValueAsString(batch));
+    }
+
+    private APIGatewayProxyResponseEvent createErrorResponse(int statusCode, String message) {
+        log.error(message);
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(statusCode)
+                .withBody(String.format("{\"message\":\"%s\"}", message));
+    }
+}
@@ -0,0 +1,18 @@
+package com.osrsGoalTracker.user.handler.request;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request object for retrieving several users at once.
+ */
+@Data
+@NoArgsConstructor
+public class GetUsersRequest {
+    /**
+     * The IDs of the users to look up.
+     */
+    private List<String> userIds;
+}
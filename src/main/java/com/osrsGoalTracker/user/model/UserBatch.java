@@ -0,0 +1,25 @@
+package com.osrsGoalTracker.user.model;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Model representing the result of looking up several users at once. Each
+ * distinct requested user ID appears in exactly one of the two lists, and both
+ * lists keep the order the IDs were requested in.
+ */
+@Value
+@Builder
+public class UserBatch {
+    /**
+     * Every user that was found.
+     */
+    private final List<User> users;
+
+    /**
+     * The IDs of the requested users that do not exist.
+     */
+    private final List<String> missingUserIds;
+}
@@ -1,6 +1,9 @@
 package com.osrsGoalTracker.user.repository;
 
+import java.util.Collection;
+
 import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserBatch;
 
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 
@@ -17,6 +20,16 @@ public interface UserRepository {
      */
     User getUser(String userId) throws ResourceNotFoundException;
 
+    /**
+     * Retrieves several users by their unique identifiers. Duplicate IDs are
+     * looked up once.
+     *
+     * @param userIds The unique identifiers of the users to retrieve
+     * @return The users that were found and the IDs that were not, both in
+     *         the order the IDs were given
+     */
+    UserBatch getUsers(Collection<String> userIds);
+
     /**
      * Creates a new user with the given email address.
      *
@@ -0,0 +1,220 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.osrsGoalTracker.user.di.UserConfig;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserBatch;
+import com.osrsGoalTracker.user.repository.UserRepository;
+
+import lombok.extern.log4j.Log4j2;
+
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+/**
+ * UserRepository decorator that reads users through an in-memory cache.
+ *
+ * <p>
+ * Users almost never change once created, so a user that was found is served
+ * from a Caffeine cache until its TTL passes. A user ID that was not found is
+ * cached too, for a shorter TTL, so a client retrying an unknown ID in a loop
+ * costs one read per TTL rather than one per request. Concurrent misses on the
+ * same ID share a single read. The cache is bounded by entry count and evicts
+ * with Caffeine's W-TinyLFU policy.
+ *
+ * <p>
+ * {@link #createUser(String)} replaces any cached entry for the new user's ID,
+ * so a cached "not found" never outlives the user's creation on this instance.
+ */
+@Log4j2
+public class CachingUserRepository implements UserRepository {
+    private final UserRepository delegate;
+    private final Cache<String, Optional<User>> cache;
+    private final LongAdder notFound = new LongAdder();
+
+    /**
+     * Constructs a new CachingUserRepository.
+     *
+     * @param delegate The repository used to read users on a cache miss
+     * @param config   The user configuration holding the cache settings
+     */
+    public CachingUserRepository(UserRepository delegate, UserConfig config) {
+        this(delegate, config, Ticker.systemTicker());
+    }
+
+    /**
+     * Constructor for testing purposes.
+     * Allows the clock to be controlled in tests.
+     *
+     * @param delegate The repository used to read users on a cache miss
+     * @param config   The user configuration holding the cache settings
+     * @param ticker   The time source used for expiry
+     */
+    CachingUserRepository(UserRepository delegate, UserConfig config, Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getCacheMaxEntries())
+                .expireAfter(new UserExpiry(config.getCacheTtl().toNanos(), config.getCacheNegativeTtl().toNanos()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public User getUser(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+
+        String trimmedUserId = userId.trim();
+        Optional<User> user = cache.get(trimmedUserId, this::load);
+        if (user.isEmpty()) {
+            notFound.increment();
+            throw ResourceNotFoundException.builder()
+                    .message("User not found with ID: " + trimmedUserId)
+                    .build();
+        }
+        return user.get();
+    }
+
+    /**
+     * Retrieves several users, answering cached IDs from memory and reading
+     * only the rest from the delegate in one batch. Every ID read is cached,
+     * including those that were not found.
+     *
+     * @param userIds The unique identifiers of the users to retrieve
+     * @return The users that were found and the IDs that were not, both in
+     *         the order the IDs were given
+     */
+    @Override
+    public UserBatch getUsers(Collection<String> userIds) {
+        Map<String, Optional<User>> found = new LinkedHashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String userId : userIds) {
+            if (userId == null || userId.trim().isEmpty()) {
+                throw new IllegalArgumentException("User ID cannot be null or empty");
+            }
+            String trimmedUserId = userId.trim();
+            if (!found.containsKey(trimmedUserId)) {
+                Optional<User> cached = cache.getIfPresent(trimmedUserId);
+                found.put(trimmedUserId, cached);
+                if (cached == null) {
+                    uncached.add(trimmedUserId);
+                }
+            }
+        }
+
+        if (!uncached.isEmpty()) {
+            UserBatch loaded = delegate.getUsers(uncached);
+            for (User user : loaded.getUsers()) {
+                cache.put(user.getUserId(), Optional.of(user));
+                found.put(user.getUserId(), Optional.of(user));
+            }
+            for (String missingUserId : loaded.getMissingUserIds()) {
+                cache.put(missingUserId, Optional.empty());
+                found.put(missingUserId, Optional.empty());
+            }
+        }
+
+        List<User> users = new ArrayList<>(found.size());
+        List<String> missingUserIds = new ArrayList<>();
+        for (Map.Entry<String, Optional<User>> entry : found.entrySet()) {
+            if (entry.getValue() != null && entry.getValue().isPresent()) {
+                users.add(entry.getValue().get());
+            } else {
+                notFound.increment();
+                missingUserIds.add(entry.getKey());
+            }
+        }
+        return UserBatch.builder()
+                .users(users)
+                .missingUserIds(missingUserIds)
+                .build();
+    }
+
+    @Override
+    public User createUser(String email) {
+        User user = delegate.createUser(email);
+        cache.put(user.getUserId(), Optional.of(user));
+        return user;
+    }
+
+    /**
+     * Returns a snapshot of the cache counters (hits, misses, evictions and load
+     * timings) accumulated since this repository was created. Hits include
+     * lookups answered by a cached "not found".
+     *
+     * @return The cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Returns how many lookups were answered with "not found", whether from
+     * the cache or from a read that found nothing.
+     *
+     * @return The number of "not found" answers
+     */
+    public long notFoundCount() {
+        return notFound.sum();
+    }
+
+    /**
+     * Returns the approximate number of cached user IDs, found or not.
+     *
+     * @return The number of entries
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private Optional<User> load(String userId) {
+        try {
+            return Optional.of(delegate.getUser(userId));
+        } catch (ResourceNotFoundException e) {
+            log.info("User with ID {} not found, caching the miss", userId);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Expires users that were found after the TTL and users that were not
+     * found after the shorter negative TTL. Reads do not extend either.
+     */
+    private static final class UserExpiry implements Expiry<String, Optional<User>> {
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        private UserExpiry(long ttlNanos, long negativeTtlNanos) {
+            this.ttlNanos = ttlNanos;
+            this.negativeTtlNanos = negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Optional<User> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<User> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<User> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
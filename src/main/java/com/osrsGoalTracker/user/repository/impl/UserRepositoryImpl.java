@@ -1,19 +1,50 @@
 package com.osrsGoalTracker.user.repository.impl;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import com.google.inject.Inject;
 import com.osrsGoalTracker.user.dao.UserDao;
 import com.osrsGoalTracker.user.dao.entity.UserEntity;
 import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserBatch;
 import com.osrsGoalTracker.user.repository.UserRepository;
 
 import lombok.extern.log4j.Log4j2;
 
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
 /**
  * Default implementation of the UserRepository interface.
  */
 @Log4j2
 public class UserRepositoryImpl implements UserRepository {
+    /**
+     * Number of user reads in flight at once, matching the DynamoDB batch get
+     * limit.
+     */
+    static final int READ_CHUNK_SIZE = 100;
+
+    /**
+     * Number of times a throttled read is attempted before its error is
+     * returned.
+     */
+    static final int MAX_READ_ATTEMPTS = 4;
+
+    private static final Duration BASE_BACKOFF = Duration.ofMillis(50);
+
     private final UserDao userDao;
+    private final ExecutorService readExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     /**
      * Constructs a new UserRepositoryImpl.
@@ -54,6 +85,83 @@ public class UserRepositoryImpl implements UserRepository {
         return convertToUser(userEntity);
     }
 
+    /**
+     * Retrieves several users, reading up to {@link #READ_CHUNK_SIZE} users
+     * concurrently and waiting for each chunk before starting the next. The
+     * user DAO reads one user at a time, so chunks bound the fan-out instead of
+     * being sent as a single batch request. Reads rejected by throttling are
+     * retried with exponential backoff.
+     *
+     * @param userIds The unique identifiers of the users to retrieve
+     * @return The users that were found and the IDs that were not, both in
+     *         the order the IDs were given
+     * @throws IllegalStateException if a read fails for any reason other than
+     *                               the user not existing
+     */
+    @Override
+    public UserBatch getUsers(Collection<String> userIds) {
+        Set<String> distinctUserIds = new LinkedHashSet<>();
+        for (String userId : userIds) {
+            if (userId == null || userId.trim().isEmpty()) {
+                throw new IllegalArgumentException("User ID cannot be null or empty");
+            }
+            distinctUserIds.add(userId.trim());
+        }
+        log.info("Getting {} users in chunks of {}", distinctUserIds.size(), READ_CHUNK_SIZE);
+
+        List<String> orderedUserIds = new ArrayList<>(distinctUserIds);
+        List<User> users = new ArrayList<>(orderedUserIds.size());
+        List<String> missingUserIds = new ArrayList<>();
+        for (int start = 0; start < orderedUserIds.size(); start += READ_CHUNK_SIZE) {
+            List<String> chunk = orderedUserIds.subList(start, Math.min(start + READ_CHUNK_SIZE,
+                    orderedUserIds.size()));
+            List<Future<UserEntity>> reads = new ArrayList<>(chunk.size());
+            for (String userId : chunk) {
+                reads.add(readExecutor.submit(() -> readWithRetry(userId)));
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                UserEntity userEntity = awaitRead(chunk.get(i), reads.get(i));
+                if (userEntity == null) {
+                    missingUserIds.add(chunk.get(i));
+                } else {
+                    users.add(convertToUser(userEntity));
+                }
+            }
+        }
+        return UserBatch.builder()
+                .users(users)
+                .missingUserIds(missingUserIds)
+                .build();
+    }
+
+    private UserEntity readWithRetry(String userId) throws InterruptedException {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return userDao.getUser(userId);
+            } catch (ResourceNotFoundException e) {
+                return null;
+            } catch (ProvisionedThroughputExceededException | RequestLimitExceededException e) {
+                if (attempt == MAX_READ_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Read of user {} throttled on attempt {}, retrying", userId, attempt);
+                Thread.sleep(BASE_BACKOFF.toMillis() << (attempt - 1));
+            }
+        }
+    }
+
+    private UserEntity awaitRead(String userId, Future<UserEntity> read) {
+        try {
+            return read.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to read user " + userId + ": " + e.getCause().getMessage(),
+                    e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted reading user " + userId, e);
+        }
+    }
+
     private User convertToUser(UserEntity userEntity) {
         return User.builder()
                 .userId(userEntity.getUserId())
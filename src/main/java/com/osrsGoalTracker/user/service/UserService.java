@@ -1,6 +1,9 @@
 package com.osrsGoalTracker.user.service;
 
+import java.util.Collection;
+
 import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserBatch;
 
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 
@@ -9,6 +12,11 @@ import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
  * This service provides methods to interact with user data in the domain layer.
  */
 public interface UserService {
+    /**
+     * Maximum number of user IDs accepted by {@link #getUsers(Collection)}.
+     */
+    int MAX_BATCH_SIZE = 1_000;
+
     /**
      * Retrieves a user by their ID.
      *
@@ -18,6 +26,18 @@ public interface UserService {
      */
     User getUser(String userId);
 
+    /**
+     * Retrieves several users by their IDs in one call.
+     *
+     * @param userIds The unique identifiers of the users, at most
+     *                {@link #MAX_BATCH_SIZE}
+     * @return The users that were found and the IDs that were not, both in
+     *         the order the IDs were given
+     * @throws IllegalArgumentException if the IDs are empty, too many, or any
+     *                                  is blank
+     */
+    UserBatch getUsers(Collection<String> userIds);
+
     /**
      * Creates a new user with the given email address.
      *
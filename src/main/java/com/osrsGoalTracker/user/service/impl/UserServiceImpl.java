@@ -1,7 +1,12 @@
 package com.osrsGoalTracker.user.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import com.google.inject.Inject;
 import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserBatch;
 import com.osrsGoalTracker.user.repository.UserRepository;
 import com.osrsGoalTracker.user.service.UserService;
 
@@ -45,4 +50,25 @@ public class UserServiceImpl implements UserService {
         log.info("Getting user with ID: {}", trimmedUserId);
         return userRepository.getUser(trimmedUserId);
     }
+
+    @Override
+    public UserBatch getUsers(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("User IDs cannot be null or empty");
+        }
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " user IDs can be requested at once");
+        }
+
+        List<String> trimmedUserIds = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            if (userId == null || userId.trim().isEmpty()) {
+                throw new IllegalArgumentException("User ID cannot be null or empty");
+            }
+            trimmedUserIds.add(userId.trim());
+        }
+
+        log.info("Getting {} users", trimmedUserIds.size());
+        return userRepository.getUsers(trimmedUserIds);
+    }
 }
@@ -0,0 +1,47 @@
+package com.osrsGoalTracker.utils;
+
+import java.util.Locale;
+
+/**
+ * Utility class for working with RuneScape character names.
+ */
+public final class CharacterNameUtils {
+    private static final char NON_BREAKING_SPACE = '\u00A0';
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private CharacterNameUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Normalizes a character name so that names the hiscores treat as the same
+     * character map to the same key. Jagex names are case-insensitive and treat
+     * spaces, underscores, hyphens and non-breaking spaces as equivalent.
+     *
+     * @param characterName The character name as provided by the caller
+     * @return The normalized character name
+     * @throws IllegalArgumentException if the name is null or blank
+     */
+    public static String normalize(String characterName) {
+        if (characterName == null) {
+            throw new IllegalArgumentException("Character name cannot be null or empty");
+        }
+
+        StringBuilder normalized = new StringBuilder(characterName.length());
+        for (int i = 0; i < characterName.length(); i++) {
+            char c = characterName.charAt(i);
+            if (c == '_' || c == '-' || c == ' ' || c == NON_BREAKING_SPACE) {
+                normalized.append(' ');
+            } else {
+                normalized.append(c);
+            }
+        }
+        String trimmed = normalized.toString().trim();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("Character name cannot be null or empty");
+        }
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+}
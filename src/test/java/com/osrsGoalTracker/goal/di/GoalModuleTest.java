@@ -0,0 +1,50 @@
+package com.osrsGoalTracker.goal.di;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.inject.CreationException;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.osrsGoalTracker.goal.repository.GoalProgressRepository;
+import com.osrsGoalTracker.goal.repository.impl.InMemoryGoalProgressRepository;
+import com.osrsGoalTracker.goal.service.GoalPollingService;
+import com.osrsGoalTracker.goal.service.impl.GoalPollingServiceImpl;
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.di.HiscoresModule;
+
+import org.junit.jupiter.api.Test;
+
+class GoalModuleTest {
+
+    @Test
+    void testGoalModuleBindings_CombinedWithHiscoresModule() {
+        // Given
+        Injector injector = Guice.createInjector(
+                new GoalModule(GoalConfig.builder().inMemoryStorage(true).build()),
+                new HiscoresModule(HiscoresConfig.builder().build()));
+
+        // When
+        GoalPollingService pollingService = injector.getInstance(GoalPollingService.class);
+        GoalProgressRepository progressRepository = injector.getInstance(GoalProgressRepository.class);
+
+        // Then
+        assertTrue(pollingService instanceof GoalPollingServiceImpl,
+                "GoalPollingService should be bound to GoalPollingServiceImpl");
+        assertTrue(progressRepository instanceof InMemoryGoalProgressRepository,
+                "GoalProgressRepository should be in memory when it is allowed and no table is configured");
+        assertSame(progressRepository, injector.getInstance(GoalProgressRepository.class),
+                "GoalProgressRepository should be a singleton");
+    }
+
+    @Test
+    void testGoalModule_NoProgressTableOrInMemoryStorage_FailsFast() {
+        // When
+        CreationException e = assertThrows(CreationException.class,
+                () -> Guice.createInjector(new GoalModule(GoalConfig.builder().build())));
+
+        // Then
+        assertTrue(e.getMessage().contains(GoalConfig.PROGRESS_TABLE_NAME_ENV));
+    }
+}
@@ -0,0 +1,147 @@
+package com.osrsGoalTracker.goal.external.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osrsGoalTracker.orchestration.events.GoalCompletedEvent;
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+import software.amazon.awssdk.services.eventbridge.model.EventBridgeException;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+
+@ExtendWith(MockitoExtension.class)
+class EventBridgeGoalEventPublisherTest {
+    private static final String EVENT_BUS_NAME = "goal-events";
+
+    @Mock
+    private EventBridgeClient eventBridgeClient;
+
+    private EventBridgeGoalEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new EventBridgeGoalEventPublisher(eventBridgeClient, EVENT_BUS_NAME);
+    }
+
+    @Test
+    void publish_ManyEvents_SendsRequestsOfAtMostTenEntries() {
+        // Given
+        when(eventBridgeClient.putEvents(any(PutEventsRequest.class)))
+                .thenReturn(PutEventsResponse.builder().failedEntryCount(0).build());
+
+        // When
+        List<GoalProgressEvent> failed = publisher.publish(events(23));
+
+        // Then
+        ArgumentCaptor<PutEventsRequest> requests = ArgumentCaptor.forClass(PutEventsRequest.class);
+        verify(eventBridgeClient, times(3)).putEvents(requests.capture());
+        assertEquals(List.of(10, 10, 3), requests.getAllValues().stream().map(r -> r.entries().size()).toList());
+        assertTrue(failed.isEmpty());
+
+        PutEventsRequestEntry entry = requests.getValue().entries().get(0);
+        assertEquals(EVENT_BUS_NAME, entry.eventBusName());
+        assertEquals(EventBridgeGoalEventPublisher.SOURCE, entry.source());
+        assertEquals(GoalCompletedEvent.DETAIL_TYPE, entry.detailType());
+        assertTrue(entry.detail().contains("\"goalId\":\"goal20\""));
+        assertTrue(entry.detail().contains("\"completedAt\":\"2024-01-01T00:00:00Z\""));
+    }
+
+    @Test
+    void publish_SomeEntriesRejected_ResendsOnlyRejectedEntries() {
+        // Given
+        when(eventBridgeClient.putEvents(any(PutEventsRequest.class)))
+                .thenReturn(PutEventsResponse.builder()
+                        .failedEntryCount(1)
+                        .entries(accepted(), rejected(), accepted())
+                        .build())
+                .thenReturn(PutEventsResponse.builder().failedEntryCount(0).build());
+
+        // When
+        List<GoalProgressEvent> failed = publisher.publish(events(3));
+
+        // Then
+        ArgumentCaptor<PutEventsRequest> requests = ArgumentCaptor.forClass(PutEventsRequest.class);
+        verify(eventBridgeClient, times(2)).putEvents(requests.capture());
+        PutEventsRequest retry = requests.getAllValues().get(1);
+        assertEquals(1, retry.entries().size());
+        assertTrue(retry.entries().get(0).detail().contains("\"goalId\":\"goal1\""));
+        assertTrue(failed.isEmpty());
+    }
+
+    @Test
+    void publish_EntriesAlwaysRejected_GivesUpAfterMaxAttempts() {
+        // Given
+        when(eventBridgeClient.putEvents(any(PutEventsRequest.class)))
+                .thenReturn(PutEventsResponse.builder().failedEntryCount(1).entries(rejected()).build());
+
+        // When
+        List<GoalProgressEvent> failed = publisher.publish(events(1));
+
+        // Then
+        verify(eventBridgeClient, times(EventBridgeGoalEventPublisher.MAX_ATTEMPTS)).putEvents(
+                any(PutEventsRequest.class));
+        assertEquals(1, failed.size());
+    }
+
+    @Test
+    void publish_RequestFails_CountsBatchAndContinues() {
+        // Given
+        when(eventBridgeClient.putEvents(any(PutEventsRequest.class)))
+                .thenThrow(EventBridgeException.builder().message("Service unavailable").build())
+                .thenReturn(PutEventsResponse.builder().failedEntryCount(0).build());
+
+        // When
+        List<GoalProgressEvent> failed = publisher.publish(events(12));
+
+        // Then
+        verify(eventBridgeClient, times(2)).putEvents(any(PutEventsRequest.class));
+        assertEquals(events(10), failed);
+    }
+
+    private static List<GoalProgressEvent> events(int count) {
+        List<GoalProgressEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(GoalCompletedEvent.builder()
+                    .userId("user123")
+                    .goalId("goal" + i)
+                    .characterName("Zezima")
+                    .targetAttribute("ATTACK")
+                    .targetType("level")
+                    .targetValue(99)
+                    .currentValue(99)
+                    .completedAt(Instant.parse("2024-01-01T00:00:00Z"))
+                    .build());
+        }
+        return events;
+    }
+
+    private static PutEventsResultEntry accepted() {
+        return PutEventsResultEntry.builder().eventId("event").build();
+    }
+
+    private static PutEventsResultEntry rejected() {
+        return PutEventsResultEntry.builder()
+                .errorCode("ThrottlingException")
+                .errorMessage("Rate exceeded")
+                .build();
+    }
+}
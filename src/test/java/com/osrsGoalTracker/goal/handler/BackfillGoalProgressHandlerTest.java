@@ -0,0 +1,124 @@
+package com.osrsGoalTracker.goal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent;
+import com.osrsGoalTracker.goal.model.GoalCreation;
+import com.osrsGoalTracker.goal.model.GoalCreationResult;
+import com.osrsGoalTracker.goal.service.GoalService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BackfillGoalProgressHandlerTest {
+    private static final String BODY = "{\"goal\":{\"userId\":\"testUser\",\"goalId\":\"%s\","
+            + "\"characterName\":\"Zezima\",\"targetAttribute\":\"ATTACK\",\"targetType\":\"level\","
+            + "\"targetValue\":99,\"targetDate\":\"2030-01-01T00:00:00Z\",\"frequency\":\"DAILY\"},"
+            + "\"currentProgress\":80}";
+
+    @Mock
+    private GoalService goalService;
+    @Mock
+    private Context context;
+
+    private BackfillGoalProgressHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new BackfillGoalProgressHandler(goalService);
+    }
+
+    @Test
+    void handleRequest_ExistingGoals_TracksThemInOneBatch() {
+        // Given
+        SQSEvent event = event(message("1", String.format(BODY, "goal1")), message("2", String.format(BODY, "goal2")));
+        when(goalService.trackGoals(anyList())).thenAnswer(invocation -> {
+            List<GoalCreation> existing = invocation.getArgument(0);
+            return existing.stream()
+                    .map(goal -> GoalCreationResult.success(goal.getGoal()))
+                    .collect(Collectors.toList());
+        });
+
+        // When
+        SQSBatchResponse response = handler.handleRequest(event, context);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GoalCreation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(goalService).trackGoals(captor.capture());
+        List<GoalCreation> existing = captor.getValue();
+        assertEquals(2, existing.size());
+        assertEquals("goal1", existing.get(0).getGoal().getGoalId());
+        assertEquals(Instant.parse("2030-01-01T00:00:00Z"), existing.get(0).getGoal().getTargetDate());
+        assertEquals(80L, existing.get(0).getCurrentProgress());
+        assertEquals("goal2", existing.get(1).getGoal().getGoalId());
+        assertEquals(0, response.getBatchItemFailures().size());
+    }
+
+    @Test
+    void handleRequest_InvalidAndFailedMessages_ReportsBatchItemFailures() {
+        // Given
+        SQSEvent event = event(
+                message("1", "{\"currentProgress\":80}"),
+                message("2", "not json"),
+                message("3", String.format(BODY, "goal3")),
+                message("4", String.format(BODY, "goal4")));
+        when(goalService.trackGoals(anyList())).thenAnswer(invocation -> {
+            List<GoalCreation> existing = invocation.getArgument(0);
+            return List.of(
+                    GoalCreationResult.success(existing.get(0).getGoal()),
+                    GoalCreationResult.failure("Throughput exceeded"));
+        });
+
+        // When
+        SQSBatchResponse response = handler.handleRequest(event, context);
+
+        // Then
+        List<String> failedIds = response.getBatchItemFailures().stream()
+                .map(SQSBatchResponse.BatchItemFailure::getItemIdentifier)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(List.of("1", "2", "4"), failedIds);
+    }
+
+    @Test
+    void handleRequest_OnlyInvalidMessages_DoesNotCallService() {
+        // Given
+        SQSEvent event = event(message("1", ""));
+
+        // When
+        SQSBatchResponse response = handler.handleRequest(event, context);
+
+        // Then
+        verify(goalService, never()).trackGoals(anyList());
+        assertEquals(1, response.getBatchItemFailures().size());
+    }
+
+    private static SQSEvent event(SQSEvent.SQSMessage... messages) {
+        SQSEvent event = new SQSEvent();
+        event.setRecords(List.of(messages));
+        return event;
+    }
+
+    private static SQSEvent.SQSMessage message(String messageId, String body) {
+        SQSEvent.SQSMessage message = new SQSEvent.SQSMessage();
+        message.setMessageId(messageId);
+        message.setBody(body);
+        return message;
+    }
+}
@@ -2,8 +2,12 @@ package com.osrsGoalTracker.goal.handler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,6 +24,7 @@ import com.osrsGoalTracker.goal.service.GoalService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -55,6 +60,7 @@ class CreateGoalFromGoalCreationRequestEventHandlerTest {
         detail.put("frequency", "DAILY");
 
         ScheduledEvent event = new ScheduledEvent();
+        event.setId("event-1");
         event.setDetail(detail);
 
         Goal expectedGoal = Goal.builder()
@@ -68,16 +74,49 @@ class CreateGoalFromGoalCreationRequestEventHandlerTest {
                 .frequency("DAILY")
                 .build();
 
-        when(goalService.createGoal(any(Goal.class), anyLong())).thenReturn(expectedGoal);
+        when(goalService.createGoal(any(Goal.class), anyLong(), anyString())).thenReturn(expectedGoal);
 
         // When
         Goal actualGoal = handler.handleRequest(event, context);
 
         // Then
-        verify(goalService).createGoal(any(Goal.class), anyLong());
+        verify(goalService).createGoal(any(Goal.class), anyLong(), anyString());
         assertEquals(expectedGoal, actualGoal);
     }
 
+    @Test
+    void handleRequest_EventId_UsedAsIdempotencyKey() {
+        // Given
+        ScheduledEvent event = new ScheduledEvent();
+        event.setId("event-1");
+        event.setDetail(validDetail());
+
+        // When
+        handler.handleRequest(event, context);
+
+        // Then
+        verify(goalService).createGoal(any(Goal.class), eq(1L), eq("event:event-1"));
+    }
+
+    @Test
+    void handleRequest_NoEventId_SameContentGetsSameHashKey() {
+        // Given
+        ScheduledEvent first = new ScheduledEvent();
+        first.setDetail(validDetail());
+        ScheduledEvent retry = new ScheduledEvent();
+        retry.setDetail(validDetail());
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+
+        // When
+        handler.handleRequest(first, context);
+        handler.handleRequest(retry, context);
+
+        // Then
+        verify(goalService, times(2)).createGoal(any(Goal.class), eq(1L), keys.capture());
+        assertTrue(keys.getValue().startsWith("sha256:"));
+        assertEquals(keys.getAllValues().get(0), keys.getAllValues().get(1));
+    }
+
     @Test
     void handleRequest_InvalidEvent_ThrowsException() {
         // Given
@@ -93,4 +132,18 @@ class CreateGoalFromGoalCreationRequestEventHandlerTest {
         // When/Then
         assertThrows(IllegalArgumentException.class, () -> handler.handleRequest(null, context));
     }
-}
\ No newline at end of file
+
+    private static Map<String, Object> validDetail() {
+        Map<String, Object> detail = new HashMap<>();
+        detail.put("userId", "testUser");
+        detail.put("characterName", "testChar");
+        detail.put("targetAttribute", "ATTACK");
+        detail.put("targetType", "LEVEL");
+        detail.put("targetValue", 99L);
+        detail.put("currentValue", 1L);
+        detail.put("targetDate", "2030-01-01T00:00:00Z");
+        detail.put("notificationChannelType", "DISCORD");
+        detail.put("frequency", "DAILY");
+        return detail;
+    }
+}
@@ -0,0 +1,128 @@
+package com.osrsGoalTracker.goal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent;
+import com.osrsGoalTracker.goal.model.GoalCreation;
+import com.osrsGoalTracker.goal.model.GoalCreationResult;
+import com.osrsGoalTracker.goal.service.GoalService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CreateGoalsFromGoalCreationRequestEventsHandlerTest {
+    private static final String DETAIL = "{\"userId\":\"testUser\",\"characterName\":\"%s\","
+            + "\"targetAttribute\":\"ATTACK\",\"targetType\":\"LEVEL\",\"targetValue\":99,\"currentValue\":1,"
+            + "\"targetDate\":\"2030-01-01T00:00:00Z\",\"notificationChannelType\":\"DISCORD\","
+            + "\"frequency\":\"DAILY\"}";
+
+    @Mock
+    private GoalService goalService;
+    @Mock
+    private Context context;
+
+    private CreateGoalsFromGoalCreationRequestEventsHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new CreateGoalsFromGoalCreationRequestEventsHandler(goalService);
+    }
+
+    @Test
+    void handleRequest_ValidMessages_CreatesGoalsInOneBatch() {
+        // Given
+        SQSEvent event = event(
+                message("1", String.format(DETAIL, "first")),
+                message("2", "{\"detail-type\":\"GoalCreationRequest\",\"detail\":"
+                        + String.format(DETAIL, "second") + "}"));
+        when(goalService.createGoals(anyList())).thenAnswer(invocation -> {
+            List<GoalCreation> creations = invocation.getArgument(0);
+            return creations.stream()
+                    .map(creation -> GoalCreationResult.success(creation.getGoal()))
+                    .collect(Collectors.toList());
+        });
+
+        // When
+        SQSBatchResponse response = handler.handleRequest(event, context);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GoalCreation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(goalService).createGoals(captor.capture());
+        List<GoalCreation> creations = captor.getValue();
+        assertEquals(2, creations.size());
+        assertEquals("first", creations.get(0).getGoal().getCharacterName());
+        assertEquals("second", creations.get(1).getGoal().getCharacterName());
+        assertEquals(1L, creations.get(0).getCurrentProgress());
+        assertEquals("1", creations.get(0).getIdempotencyKey());
+        assertEquals("2", creations.get(1).getIdempotencyKey());
+        assertTrue(response.getBatchItemFailures().isEmpty());
+    }
+
+    @Test
+    void handleRequest_InvalidAndFailedMessages_ReportsBatchItemFailures() {
+        // Given
+        SQSEvent event = event(
+                message("1", "{\"userId\":\"testUser\"}"),
+                message("2", "not json"),
+                message("3", String.format(DETAIL, "ok")),
+                message("4", String.format(DETAIL, "throttled")));
+        when(goalService.createGoals(anyList())).thenAnswer(invocation -> {
+            List<GoalCreation> creations = invocation.getArgument(0);
+            return List.of(
+                    GoalCreationResult.success(creations.get(0).getGoal()),
+                    GoalCreationResult.failure("Throughput exceeded"));
+        });
+
+        // When
+        SQSBatchResponse response = handler.handleRequest(event, context);
+
+        // Then
+        List<String> failedIds = response.getBatchItemFailures().stream()
+                .map(SQSBatchResponse.BatchItemFailure::getItemIdentifier)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(List.of("1", "2", "4"), failedIds);
+    }
+
+    @Test
+    void handleRequest_OnlyInvalidMessages_DoesNotCallService() {
+        // Given
+        SQSEvent event = event(message("1", ""));
+
+        // When
+        SQSBatchResponse response = handler.handleRequest(event, context);
+
+        // Then
+        verify(goalService, never()).createGoals(anyList());
+        assertEquals(1, response.getBatchItemFailures().size());
+    }
+
+    private static SQSEvent event(SQSEvent.SQSMessage... messages) {
+        SQSEvent event = new SQSEvent();
+        event.setRecords(List.of(messages));
+        return event;
+    }
+
+    private static SQSEvent.SQSMessage message(String messageId, String body) {
+        SQSEvent.SQSMessage message = new SQSEvent.SQSMessage();
+        message.setMessageId(messageId);
+        message.setBody(body);
+        return message;
+    }
+}
@@ -0,0 +1,188 @@
+package com.osrsGoalTracker.goal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalCreation;
+
+import org.junit.jupiter.api.Test;
+
+class GoalCreationRequestReaderTest {
+    private static final String DETAIL = "{\"userId\":\"testUser\",\"characterName\":\"testChar\","
+            + "\"targetAttribute\":\"ATTACK\",\"targetType\":\"LEVEL\",\"targetValue\":99,\"currentValue\":1,"
+            + "\"targetDate\":\"2030-01-01T00:00:00Z\",\"notificationChannelType\":\"DISCORD\","
+            + "\"frequency\":\"DAILY\"}";
+
+    private static final Goal EXPECTED_GOAL = Goal.builder()
+            .userId("testUser")
+            .characterName("testChar")
+            .targetAttribute("ATTACK")
+            .targetType("LEVEL")
+            .targetValue(99L)
+            .targetDate(Instant.parse("2030-01-01T00:00:00Z"))
+            .notificationChannelType("DISCORD")
+            .frequency("DAILY")
+            .build();
+
+    @Test
+    void read_Map_BuildsGoalAndProgress() {
+        // Given
+        Map<String, Object> detail = validDetail();
+        detail.put("targetValue", 99);
+
+        // When
+        GoalCreation creation = GoalCreationRequestReader.read(detail);
+
+        // Then
+        assertEquals(EXPECTED_GOAL, creation.getGoal());
+        assertEquals(1L, creation.getCurrentProgress());
+    }
+
+    @Test
+    void read_MapWithNumericStrings_ParsesNumbers() {
+        // Given
+        Map<String, Object> detail = validDetail();
+        detail.put("targetValue", "99");
+        detail.put("currentValue", "1");
+
+        // When
+        GoalCreation creation = GoalCreationRequestReader.read(detail);
+
+        // Then
+        assertEquals(EXPECTED_GOAL, creation.getGoal());
+        assertEquals(1L, creation.getCurrentProgress());
+    }
+
+    @Test
+    void read_MapMissingFields_ReportsEveryMissingField() {
+        // Given
+        Map<String, Object> detail = validDetail();
+        detail.remove("characterName");
+        detail.remove("frequency");
+
+        // When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> GoalCreationRequestReader.read(detail));
+
+        // Then
+        assertEquals("Event detail is missing required fields: characterName, frequency", exception.getMessage());
+    }
+
+    @Test
+    void read_MapWithInvalidNumber_ThrowsException() {
+        // Given
+        Map<String, Object> detail = validDetail();
+        detail.put("targetValue", "ninety-nine");
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> GoalCreationRequestReader.read(detail));
+    }
+
+    @Test
+    void read_MapWithInvalidDate_ThrowsException() {
+        // Given
+        Map<String, Object> detail = validDetail();
+        detail.put("targetDate", "next year");
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> GoalCreationRequestReader.read(detail));
+    }
+
+    @Test
+    void read_JsonEnvelope_ReadsDetail() {
+        // Given
+        String json = "{\"version\":\"0\",\"resources\":[],\"detail-type\":\"GoalCreationRequest\",\"detail\":"
+                + DETAIL + ",\"source\":\"test\"}";
+
+        // When
+        GoalCreation creation = GoalCreationRequestReader.read(json);
+
+        // Then
+        assertEquals(EXPECTED_GOAL, creation.getGoal());
+        assertEquals(1L, creation.getCurrentProgress());
+    }
+
+    @Test
+    void read_JsonDetail_ReadsBody() {
+        // When
+        GoalCreation creation = GoalCreationRequestReader.read(DETAIL);
+
+        // Then
+        assertEquals(EXPECTED_GOAL, creation.getGoal());
+        assertEquals(1L, creation.getCurrentProgress());
+    }
+
+    @Test
+    void read_JsonWithUnknownFields_SkipsThem() {
+        // Given
+        String json = "{\"extra\":{\"nested\":[1,2,{\"userId\":\"other\"}]},"
+                + DETAIL.substring(1, DETAIL.length() - 1) + ",\"note\":\"ignored\"}";
+
+        // When
+        GoalCreation creation = GoalCreationRequestReader.read(json);
+
+        // Then
+        assertEquals(EXPECTED_GOAL, creation.getGoal());
+    }
+
+    @Test
+    void read_JsonWithEpochSecondsDate_ParsesDate() {
+        // Given
+        String json = DETAIL.replace("\"2030-01-01T00:00:00Z\"", "1893456000");
+
+        // When
+        GoalCreation creation = GoalCreationRequestReader.read(json);
+
+        // Then
+        assertEquals(Instant.parse("2030-01-01T00:00:00Z"), creation.getGoal().getTargetDate());
+    }
+
+    @Test
+    void read_JsonMissingFields_ReportsEveryMissingField() {
+        // Given
+        String json = "{\"detail\":{\"userId\":\"testUser\",\"targetValue\":99}}";
+
+        // When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> GoalCreationRequestReader.read(json));
+
+        // Then
+        assertEquals("Event detail is missing required fields: characterName, targetAttribute, targetType, "
+                + "currentValue, targetDate, notificationChannelType, frequency", exception.getMessage());
+    }
+
+    @Test
+    void read_JsonWithFractionalValue_ThrowsException() {
+        // Given
+        String json = DETAIL.replace("\"targetValue\":99", "\"targetValue\":99.5");
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> GoalCreationRequestReader.read(json));
+    }
+
+    @Test
+    void read_MalformedJson_ThrowsException() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> GoalCreationRequestReader.read("{\"userId\":"));
+        assertThrows(IllegalArgumentException.class, () -> GoalCreationRequestReader.read("[]"));
+    }
+
+    private static Map<String, Object> validDetail() {
+        Map<String, Object> detail = new HashMap<>();
+        detail.put("userId", "testUser");
+        detail.put("characterName", "testChar");
+        detail.put("targetAttribute", "ATTACK");
+        detail.put("targetType", "LEVEL");
+        detail.put("targetValue", 99L);
+        detail.put("currentValue", 1L);
+        detail.put("targetDate", "2030-01-01T00:00:00Z");
+        detail.put("notificationChannelType", "DISCORD");
+        detail.put("frequency", "DAILY");
+        return detail;
+    }
+}
@@ -0,0 +1,119 @@
+package com.osrsGoalTracker.goal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.osrsGoalTracker.goal.model.GoalListFilter;
+import com.osrsGoalTracker.goal.model.GoalPage;
+import com.osrsGoalTracker.goal.model.GoalStatus;
+import com.osrsGoalTracker.goal.model.GoalSummary;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.goal.service.GoalService;
+import com.osrsGoalTracker.utils.JsonUtils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ListGoalsHandlerTest {
+
+    @Mock
+    private GoalService goalService;
+
+    @Mock
+    private Context context;
+
+    private ListGoalsHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ListGoalsHandler(goalService);
+    }
+
+    @Test
+    void handleRequest_ValidInput_ReturnsPage() {
+        // Given
+        GoalPage expected = GoalPage.builder()
+                .goals(List.of(GoalSummary.builder().goalId("goal1").characterName("Zezima").build()))
+                .nextCursor("next")
+                .build();
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(Map.of("userId", "user123"))
+                .withQueryStringParameters(Map.of("characterName", "Zezima", "metric", "attack",
+                        "status", "completed", "cursor", "abc", "limit", "10"));
+        GoalListFilter filter = GoalListFilter.builder()
+                .characterName("Zezima")
+                .metric(MetricName.ATTACK)
+                .status(GoalStatus.COMPLETED)
+                .build();
+        when(goalService.listGoals("user123", filter, "abc", 10)).thenReturn(expected);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        assertEquals(JsonUtils.toJson(expected), response.getBody());
+    }
+
+    @Test
+    void handleRequest_NoQueryParameters_UsesDefaultLimitAndNoFilter() {
+        // Given
+        GoalPage expected = GoalPage.builder().goals(List.of()).build();
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(Map.of("userId", "user123"));
+        when(goalService.listGoals("user123", GoalListFilter.builder().build(), null, 25)).thenReturn(expected);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+    }
+
+    @Test
+    void handleRequest_UnknownStatus_ReturnsBadRequest() {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(Map.of("userId", "user123"))
+                .withQueryStringParameters(Map.of("status", "paused"));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+        verify(goalService, never()).listGoals(anyString(), any(), any(), anyInt());
+    }
+
+    @Test
+    void handleRequest_InvalidCursor_ReturnsBadRequest() {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(Map.of("userId", "user123"))
+                .withQueryStringParameters(Map.of("cursor", "bogus"));
+        when(goalService.listGoals("user123", GoalListFilter.builder().build(), "bogus", 25))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+        assertEquals("{\"message\":\"Invalid cursor\"}", response.getBody());
+    }
+}
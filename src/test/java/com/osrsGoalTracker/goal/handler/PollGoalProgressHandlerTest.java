@@ -0,0 +1,57 @@
+package com.osrsGoalTracker.goal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.function.LongSupplier;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.osrsGoalTracker.goal.model.GoalPollingResult;
+import com.osrsGoalTracker.goal.service.GoalPollingService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PollGoalProgressHandlerTest {
+    @Mock
+    private GoalPollingService goalPollingService;
+    @Mock
+    private Context context;
+
+    private PollGoalProgressHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new PollGoalProgressHandler(goalPollingService);
+    }
+
+    @Test
+    void handleRequest_PassesRemainingTimeToService() {
+        // Given
+        when(context.getRemainingTimeInMillis()).thenReturn(42_000);
+        GoalPollingResult expected = GoalPollingResult.builder().complete(true).build();
+        when(goalPollingService.pollProgress(any())).thenAnswer(invocation -> {
+            LongSupplier remainingTimeMillis = invocation.getArgument(0);
+            assertEquals(42_000, remainingTimeMillis.getAsLong());
+            return expected;
+        });
+
+        // When
+        GoalPollingResult result = handler.handleRequest(new ScheduledEvent(), context);
+
+        // Then
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void handleRequest_NullContext_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> handler.handleRequest(new ScheduledEvent(), null));
+    }
+}
@@ -0,0 +1,43 @@
+package com.osrsGoalTracker.goal.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class ExperienceTableTest {
+    @Test
+    void xpForLevel_KnownLevels_MatchesGameTable() {
+        assertEquals(0, ExperienceTable.xpForLevel(1));
+        assertEquals(83, ExperienceTable.xpForLevel(2));
+        assertEquals(1_154, ExperienceTable.xpForLevel(10));
+        assertEquals(101_333, ExperienceTable.xpForLevel(50));
+        assertEquals(737_627, ExperienceTable.xpForLevel(70));
+        assertEquals(13_034_431, ExperienceTable.xpForLevel(99));
+        assertEquals(188_884_740, ExperienceTable.xpForLevel(126));
+    }
+
+    @Test
+    void xpForLevel_OutOfRange_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> ExperienceTable.xpForLevel(0));
+        assertThrows(IllegalArgumentException.class, () -> ExperienceTable.xpForLevel(127));
+    }
+
+    @Test
+    void levelForXp_EveryLevel_InvertsXpForLevel() {
+        for (int level = 1; level <= ExperienceTable.MAX_VIRTUAL_LEVEL; level++) {
+            long xp = ExperienceTable.xpForLevel(level);
+            assertEquals(level, ExperienceTable.levelForXp(xp));
+            if (level > 1) {
+                assertEquals(level - 1, ExperienceTable.levelForXp(xp - 1));
+            }
+        }
+    }
+
+    @Test
+    void levelForXp_OutsideTable_ClampsToRange() {
+        assertEquals(1, ExperienceTable.levelForXp(-1));
+        assertEquals(ExperienceTable.MAX_VIRTUAL_LEVEL, ExperienceTable.levelForXp(ExperienceTable.MAX_XP));
+        assertEquals(ExperienceTable.MAX_VIRTUAL_LEVEL, ExperienceTable.levelForXp(Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,60 @@
+package com.osrsGoalTracker.goal.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MetricNameResolverTest {
+
+    @BeforeEach
+    void setUp() {
+        MetricNameResolver.resetUnknownNameCounts();
+    }
+
+    @Test
+    void resolve_EveryDisplayNameAndEnumName_ResolvesToItsMetric() {
+        for (MetricName metric : MetricName.values()) {
+            assertEquals(metric, MetricNameResolver.resolve(metric.getDisplayName()));
+            assertEquals(metric, MetricNameResolver.resolve(metric.name()));
+        }
+    }
+
+    @Test
+    void resolve_IgnoresCaseAndPunctuation() {
+        assertEquals(MetricName.CLUE_SCROLLS_ALL, MetricNameResolver.resolve("clue scrolls all"));
+        assertEquals(MetricName.KREEARRA, MetricNameResolver.resolve("KREE ARRA"));
+        assertEquals(MetricName.TZKAL_ZUK, MetricNameResolver.resolve("tzkalzuk"));
+        assertEquals(MetricName.RUNECRAFTING, MetricNameResolver.resolve("runecrafting"));
+        assertEquals(MetricName.RUNECRAFTING, MetricNameResolver.resolve("Runecraft"));
+    }
+
+    @Test
+    void resolve_PrefixOfKnownName_ReturnsNull() {
+        assertNull(MetricNameResolver.resolve("Clue Scrolls"));
+        assertNull(MetricNameResolver.resolve("Attacks"));
+    }
+
+    @Test
+    void resolve_UnknownName_ReturnsNullAndCountsIt() {
+        // When
+        assertNull(MetricNameResolver.resolve("Doom of Mokhaiotl"));
+        assertNull(MetricNameResolver.resolve("doom of mokhaiotl"));
+
+        // Then
+        Map<String, Long> counts = MetricNameResolver.unknownNameCounts();
+        assertEquals(Map.of("doomofmokhaiotl", 2L), counts);
+    }
+
+    @Test
+    void resolve_IgnoredOrNullName_IsNotCounted() {
+        assertNull(MetricNameResolver.resolve("Overall"));
+        assertNull(MetricNameResolver.resolve(null));
+        assertNull(MetricNameResolver.resolve(" - "));
+        assertTrue(MetricNameResolver.unknownNameCounts().isEmpty());
+    }
+}
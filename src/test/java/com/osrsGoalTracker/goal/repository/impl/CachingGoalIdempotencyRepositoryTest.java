@@ -0,0 +1,82 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.repository.GoalIdempotencyRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingGoalIdempotencyRepositoryTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Goal GOAL = Goal.builder().userId("user123").goalId("goal1").build();
+
+    private final AtomicLong nanos = new AtomicLong();
+    private GoalIdempotencyRepository delegate;
+    private CachingGoalIdempotencyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(GoalIdempotencyRepository.class);
+        repository = new CachingGoalIdempotencyRepository(delegate,
+                GoalConfig.builder().idempotencyCacheTtl(Duration.ofMinutes(5)).build(), nanos::get);
+    }
+
+    @Test
+    void claim_CompletedInProcess_AnsweredFromCacheWithoutDelegate() {
+        // Given
+        repository.complete("event:1", GOAL, NOW);
+
+        // When
+        boolean claimed = repository.claim("event:1", NOW);
+        Optional<Goal> created = repository.getCreatedGoal("event:1");
+
+        // Then
+        assertFalse(claimed);
+        assertEquals(Optional.of(GOAL), created);
+        verify(delegate, never()).claim(any(), any());
+        verify(delegate, never()).getCreatedGoal(any());
+    }
+
+    @Test
+    void claim_CacheExpired_GoesToDelegate() {
+        // Given
+        repository.complete("event:1", GOAL, NOW);
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        when(delegate.claim("event:1", NOW)).thenReturn(true);
+
+        // When
+        boolean claimed = repository.claim("event:1", NOW);
+
+        // Then
+        assertTrue(claimed);
+    }
+
+    @Test
+    void getCreatedGoal_CompletedElsewhere_CachesDelegateResult() {
+        // Given
+        when(delegate.getCreatedGoal("event:1")).thenReturn(Optional.of(GOAL));
+
+        // When
+        repository.getCreatedGoal("event:1");
+        boolean claimed = repository.claim("event:1", NOW);
+
+        // Then
+        assertFalse(claimed);
+        verify(delegate, never()).claim(any(), any());
+    }
+}
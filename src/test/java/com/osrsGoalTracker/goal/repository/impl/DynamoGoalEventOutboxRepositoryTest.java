@@ -0,0 +1,142 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.model.OutboxEvent;
+import com.osrsGoalTracker.orchestration.events.GoalCompletedEvent;
+import com.osrsGoalTracker.orchestration.events.GoalMilestoneReachedEvent;
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+class DynamoGoalEventOutboxRepositoryTest {
+    private static final Instant DETECTED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final Map<String, Map<String, AttributeValue>> items = new TreeMap<>();
+    private DynamoGoalEventOutboxRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DynamoDbClient dynamoDbClient = mock(DynamoDbClient.class);
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenAnswer(invocation -> {
+            Map<String, AttributeValue> item = ((PutItemRequest) invocation.getArgument(0)).item();
+            items.put(item.get(DynamoGoalEventOutboxRepository.SORT_KEY).s(), item);
+            return PutItemResponse.builder().build();
+        });
+        when(dynamoDbClient.deleteItem(any(DeleteItemRequest.class))).thenAnswer(invocation -> {
+            Map<String, AttributeValue> key = ((DeleteItemRequest) invocation.getArgument(0)).key();
+            items.remove(key.get(DynamoGoalEventOutboxRepository.SORT_KEY).s());
+            return DeleteItemResponse.builder().build();
+        });
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenAnswer(invocation ->
+                QueryResponse.builder().items(new ArrayList<>(items.values())).build());
+
+        repository = new DynamoGoalEventOutboxRepository(dynamoDbClient,
+                GoalConfig.builder().progressTableName("goals").build());
+    }
+
+    @Test
+    void saveUnpublishedEvents_SameEventTwice_KeepsOneItem() {
+        // When
+        repository.saveUnpublishedEvents(List.of(completed("goal1"), milestone("goal1")));
+        repository.saveUnpublishedEvents(List.of(completed("goal1")));
+
+        // Then
+        assertEquals(2, items.size());
+        assertTrue(items.keySet().stream().allMatch(key -> key.contains("#goal1#")));
+        List<GoalProgressEvent> unpublished = events(repository.getUnpublishedEvents());
+        assertEquals(2, unpublished.size());
+        assertTrue(unpublished.contains(completed("goal1")));
+        assertTrue(unpublished.contains(milestone("goal1")));
+    }
+
+    @Test
+    void deleteUnpublishedEvents_PublishedEvent_RemovesOnlyThatEvent() {
+        // Given
+        repository.saveUnpublishedEvents(List.of(completed("goal1"), completed("goal2")));
+
+        List<OutboxEvent> unpublished = repository.getUnpublishedEvents();
+
+        // When
+        repository.deleteUnpublishedEvents(List.of(unpublished.get(0)));
+
+        // Then
+        assertEquals(List.of(completed("goal2")), events(repository.getUnpublishedEvents()));
+    }
+
+    @Test
+    void deleteUnpublishedEvents_StoredJsonDiffersFromEvent_DeletesByStoredKey() {
+        // Given
+        Map<String, AttributeValue> item = new HashMap<>(Map.of(
+                DynamoGoalEventOutboxRepository.PARTITION_KEY,
+                AttributeValue.fromS(DynamoGoalEventOutboxRepository.OUTBOX_PARTITION_KEY),
+                DynamoGoalEventOutboxRepository.SORT_KEY, AttributeValue.fromS("GoalCompleted#goal1#saved-earlier"),
+                DynamoGoalEventOutboxRepository.DETAIL_TYPE, AttributeValue.fromS(GoalCompletedEvent.DETAIL_TYPE),
+                DynamoGoalEventOutboxRepository.EVENT, AttributeValue.fromS(
+                        "{\"userId\":\"user123\",\"goalId\":\"goal1\",\"targetValue\":99}")));
+        items.put("GoalCompleted#goal1#saved-earlier", item);
+        List<OutboxEvent> unpublished = repository.getUnpublishedEvents();
+
+        // When
+        repository.deleteUnpublishedEvents(unpublished);
+
+        // Then
+        assertEquals("GoalCompleted#goal1#saved-earlier", unpublished.get(0).getKey());
+        assertEquals("goal1", unpublished.get(0).getEvent().getGoalId());
+        assertTrue(items.isEmpty());
+    }
+
+    private static List<GoalProgressEvent> events(List<OutboxEvent> unpublished) {
+        return unpublished.stream().map(OutboxEvent::getEvent).toList();
+    }
+
+    private static GoalCompletedEvent completed(String goalId) {
+        return GoalCompletedEvent.builder()
+                .userId("user123")
+                .goalId(goalId)
+                .characterName("Zezima")
+                .targetAttribute("ATTACK")
+                .targetType("level")
+                .targetValue(99)
+                .currentValue(99)
+                .completedAt(DETECTED_AT)
+                .build();
+    }
+
+    private static GoalMilestoneReachedEvent milestone(String goalId) {
+        return GoalMilestoneReachedEvent.builder()
+                .userId("user123")
+                .goalId(goalId)
+                .characterName("Zezima")
+                .targetAttribute("ATTACK")
+                .targetType("xp")
+                .targetValue(1_000_000)
+                .currentValue(500_000)
+                .milestone(50)
+                .percentComplete(50.0)
+                .reachedAt(DETECTED_AT)
+                .build();
+    }
+}
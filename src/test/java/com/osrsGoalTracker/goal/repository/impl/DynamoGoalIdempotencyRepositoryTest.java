@@ -0,0 +1,113 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.model.Goal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+
+class DynamoGoalIdempotencyRepositoryTest {
+    private static final String TABLE_NAME = "goals";
+
+    private DynamoDbClient dynamoDbClient;
+    private DynamoGoalIdempotencyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = mock(DynamoDbClient.class);
+        repository = new DynamoGoalIdempotencyRepository(dynamoDbClient,
+                GoalConfig.builder().progressTableName(TABLE_NAME).build());
+    }
+
+    @Test
+    void claim_NoLiveRecord_WritesConditionalPendingRecordWithTtl() {
+        // Given
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        // When
+        boolean claimed = repository.claim("event:1", now);
+
+        // Then
+        assertTrue(claimed);
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(captor.capture());
+        PutItemRequest request = captor.getValue();
+        assertEquals("IDEMPOTENCY#event:1", request.item().get("pk").s());
+        assertEquals("PENDING", request.item().get("status").s());
+        assertEquals(Long.toString(now.plusSeconds(24 * 3600).getEpochSecond()), request.item().get("expiresAt").n());
+        assertTrue(request.conditionExpression().startsWith("attribute_not_exists(#pk)"));
+    }
+
+    @Test
+    void claim_LiveRecordExists_ReturnsFalse() {
+        // Given
+        when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("exists").build());
+
+        // When
+        boolean claimed = repository.claim("event:1", Instant.now());
+
+        // Then
+        assertFalse(claimed);
+    }
+
+    @Test
+    void getCreatedGoal_CompletedRecord_ReturnsStoredGoal() {
+        // Given
+        Goal goal = Goal.builder()
+                .userId("user123")
+                .goalId("goal1")
+                .characterName("Zezima")
+                .targetAttribute("ATTACK")
+                .targetType("level")
+                .targetValue(99)
+                .targetDate(Instant.parse("2030-01-01T00:00:00Z"))
+                .frequency("DAILY")
+                .build();
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        repository.complete("event:1", goal, Instant.now());
+        verify(dynamoDbClient).putItem(captor.capture());
+        Map<String, AttributeValue> item = captor.getValue().item();
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().item(item).build());
+
+        // When
+        Optional<Goal> created = repository.getCreatedGoal("event:1");
+
+        // Then
+        assertEquals(Optional.of(goal), created);
+    }
+
+    @Test
+    void getCreatedGoal_PendingRecord_ReturnsEmpty() {
+        // Given
+        repository.claim("event:1", Instant.now());
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(captor.capture());
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().item(captor.getValue().item()).build());
+
+        // When/Then
+        assertEquals(Optional.empty(), repository.getCreatedGoal("event:1"));
+    }
+}
@@ -0,0 +1,411 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalForecast;
+import com.osrsGoalTracker.goal.model.GoalListFilter;
+import com.osrsGoalTracker.goal.model.GoalPage;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+import com.osrsGoalTracker.goal.model.GoalStatus;
+import com.osrsGoalTracker.goal.model.GoalSummary;
+import com.osrsGoalTracker.goal.model.MetricName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+class DynamoGoalProgressRepositoryTest {
+    private static final String TABLE_NAME = "goals";
+
+    private DynamoDbClient dynamoDbClient;
+    private DynamoGoalProgressRepository repository;
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = mock(DynamoDbClient.class);
+        repository = new DynamoGoalProgressRepository(dynamoDbClient,
+                GoalConfig.builder().progressTableName(TABLE_NAME).build());
+    }
+
+    @Test
+    void saveProgress_MoreThanOneBatch_WritesInBatchesAndRetriesUnprocessedItems() {
+        // Given
+        boolean[] throttled = {false};
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            List<WriteRequest> writes = ((BatchWriteItemRequest) invocation.getArgument(0))
+                    .requestItems().get(TABLE_NAME);
+            batchSizes.add(writes.size());
+            if (!throttled[0]) {
+                throttled[0] = true;
+                return BatchWriteItemResponse.builder()
+                        .unprocessedItems(Map.of(TABLE_NAME, writes.subList(0, 5)))
+                        .build();
+            }
+            return BatchWriteItemResponse.builder().build();
+        });
+        List<GoalProgress> progress = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            progress.add(progress(goal("goal" + i), 10));
+        }
+
+        // When
+        repository.saveProgress(progress);
+
+        // Then
+        assertEquals(List.of(25, 5, 5), batchSizes);
+    }
+
+    @Test
+    void saveProgress_WritesStayUnprocessed_ThrowsException() {
+        // Given
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation ->
+                BatchWriteItemResponse.builder()
+                        .unprocessedItems(((BatchWriteItemRequest) invocation.getArgument(0)).requestItems())
+                        .build());
+
+        // When/Then
+        assertThrows(IllegalStateException.class,
+                () -> repository.saveProgress(List.of(progress(goal("goal1"), 10))));
+    }
+
+    @Test
+    void updateProgress_GoalDeleted_SkipsItWithoutRecreatingIt() {
+        // Given
+        List<UpdateItemRequest> requests = new ArrayList<>();
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenAnswer(invocation -> {
+            UpdateItemRequest request = invocation.getArgument(0);
+            synchronized (requests) {
+                requests.add(request);
+            }
+            if (request.key().get("sk").s().equals("GOAL#deleted")) {
+                throw ConditionalCheckFailedException.builder().message("The conditional request failed").build();
+            }
+            return UpdateItemResponse.builder().build();
+        });
+
+        // When
+        Set<String> untracked = repository.updateProgress(
+                List.of(progress(goal("goal1"), 10), progress(goal("deleted"), 20)));
+
+        // Then
+        assertEquals(Set.of("deleted"), untracked);
+        assertEquals(2, requests.size());
+        UpdateItemRequest request = requests.get(0);
+        assertEquals("attribute_exists(#pk)", request.conditionExpression());
+        assertTrue(request.updateExpression().startsWith("SET "));
+        assertTrue(request.updateExpression().contains("REMOVE #gainRatePerDay"));
+        assertFalse(request.expressionAttributeNames().containsValue("targetValue"));
+        verify(dynamoDbClient, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void updateProgress_UpdateFails_ThrowsException() {
+        // Given
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+                .thenThrow(new IllegalStateException("Throughput exceeded"));
+
+        // When/Then
+        assertThrows(IllegalStateException.class,
+                () -> repository.updateProgress(List.of(progress(goal("goal1"), 10))));
+    }
+
+    @Test
+    void createProgress_GoalAlreadyTracked_KeepsItsProgress() {
+        // Given
+        List<PutItemRequest> requests = new ArrayList<>();
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenAnswer(invocation -> {
+            PutItemRequest request = invocation.getArgument(0);
+            synchronized (requests) {
+                requests.add(request);
+            }
+            if (request.item().get("sk").s().equals("GOAL#tracked")) {
+                throw ConditionalCheckFailedException.builder().message("The conditional request failed").build();
+            }
+            return PutItemResponse.builder().build();
+        });
+
+        // When
+        Set<String> tracked = repository.createProgress(
+                List.of(progress(goal("goal1"), 10), progress(goal("tracked"), 20)));
+
+        // Then
+        assertEquals(Set.of("tracked"), tracked);
+        assertEquals(2, requests.size());
+        PutItemRequest request = requests.get(0);
+        assertEquals("attribute_not_exists(#pk)", request.conditionExpression());
+        assertEquals("pk", request.expressionAttributeNames().get("#pk"));
+        verify(dynamoDbClient, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void getProgress_TrackedGoal_ReadsItsItemConsistently() {
+        // Given
+        GoalProgress completed = GoalProgress.builder()
+                .goal(goal("goal1"))
+                .currentValue(1000)
+                .percentComplete(100)
+                .completed(true)
+                .updatedAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .build();
+        List<GetItemRequest> requests = new ArrayList<>();
+        Map<String, AttributeValue> item = item(completed);
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenAnswer(invocation -> {
+            GetItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            return request.key().get("sk").s().equals("GOAL#goal1")
+                    ? GetItemResponse.builder().item(item).build()
+                    : GetItemResponse.builder().build();
+        });
+
+        // When
+        Optional<GoalProgress> progress = repository.getProgress("user123", "goal1");
+        Optional<GoalProgress> untracked = repository.getProgress("user123", "goal2");
+
+        // Then
+        assertEquals(Optional.of(completed), progress);
+        assertEquals(Optional.empty(), untracked);
+        assertEquals("USER#user123", requests.get(0).key().get("pk").s());
+        assertTrue(requests.get(0).consistentRead());
+    }
+
+    @Test
+    void getActiveProgress_SeveralPages_QueriesPollingIndexAfterCursorAsIterated() {
+        // Given
+        List<QueryRequest> requests = new ArrayList<>();
+        Map<String, AttributeValue> lastKey = Map.of("pk", AttributeValue.fromS("USER#user123"));
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+            QueryRequest request = invocation.getArgument(0);
+            requests.add(request);
+            if (request.exclusiveStartKey() == null || request.exclusiveStartKey().isEmpty()) {
+                return QueryResponse.builder().items(List.of(item("goal1"))).lastEvaluatedKey(lastKey).build();
+            }
+            return QueryResponse.builder().items(List.of(item("goal2"))).build();
+        });
+
+        // When
+        Iterator<GoalProgress> active = repository.getActiveProgress("lynx titan");
+        GoalProgress first = active.next();
+
+        // Then
+        assertEquals(progress(goal("goal1"), 0), first);
+        assertEquals(1, requests.size());
+        assertEquals(DynamoGoalProgressRepository.POLLING_INDEX, requests.get(0).indexName());
+        assertEquals("#active = :active AND #character > :after", requests.get(0).keyConditionExpression());
+        assertEquals("lynx titan", requests.get(0).expressionAttributeValues().get(":after").s());
+        assertEquals(progress(goal("goal2"), 0), active.next());
+        assertFalse(active.hasNext());
+        assertEquals(lastKey, requests.get(1).exclusiveStartKey());
+    }
+
+    @Test
+    void saveProgress_CompletedGoal_LeavesPollingIndex() {
+        // Given
+        GoalProgress completed = GoalProgress.builder()
+                .goal(goal("goal1"))
+                .currentValue(1000)
+                .percentComplete(100)
+                .completed(true)
+                .build();
+
+        // When
+        Map<String, AttributeValue> activeItem = item("goal2");
+        Map<String, AttributeValue> completedItem = item(completed);
+
+        // Then
+        assertEquals("ACTIVE", activeItem.get(DynamoGoalProgressRepository.ACTIVE_PARTITION).s());
+        assertEquals("zezima", activeItem.get(DynamoGoalProgressRepository.CHARACTER_KEY).s());
+        assertFalse(completedItem.containsKey(DynamoGoalProgressRepository.ACTIVE_PARTITION));
+    }
+
+    @Test
+    void getActiveProgress_ForecastSaved_ReadsForecastWithProgress() {
+        // Given
+        GoalForecast forecast = GoalForecast.builder()
+                .gainRatePerDay(12.5)
+                .sampledValue(1_154L)
+                .projectedCompletion(Instant.parse("2024-03-20T00:00:00Z"))
+                .atRisk(true)
+                .build();
+        GoalProgress saved = GoalProgress.builder()
+                .goal(goal("goal1"))
+                .currentValue(10)
+                .percentComplete(1.0)
+                .updatedAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .forecast(forecast)
+                .build();
+        Map<String, AttributeValue> item = item(saved);
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder().items(item).build());
+
+        // When
+        Iterator<GoalProgress> active = repository.getActiveProgress(null);
+
+        // Then
+        assertEquals(saved, active.next());
+        assertFalse(active.hasNext());
+    }
+
+    @Test
+    void listGoals_FilteredPage_QueriesUserPartitionWithProjectionUntilPageIsFull() {
+        // Given
+        List<QueryRequest> requests = new ArrayList<>();
+        Map<String, AttributeValue> firstKey = Map.of("pk", AttributeValue.fromS("USER#user123"),
+                "sk", AttributeValue.fromS("GOAL#goal1"));
+        Map<String, AttributeValue> secondKey = Map.of("pk", AttributeValue.fromS("USER#user123"),
+                "sk", AttributeValue.fromS("GOAL#goal3"));
+        Map<String, AttributeValue> goal1 = item("goal1");
+        Map<String, AttributeValue> goal3 = item("goal3");
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+            QueryRequest request = invocation.getArgument(0);
+            requests.add(request);
+            if (requests.size() == 1) {
+                return QueryResponse.builder().items(List.of(goal1)).lastEvaluatedKey(firstKey).build();
+            }
+            return QueryResponse.builder().items(List.of(goal3)).lastEvaluatedKey(secondKey).build();
+        });
+        GoalListFilter filter = GoalListFilter.builder()
+                .characterName("ZEZIMA")
+                .metric(MetricName.ATTACK)
+                .status(GoalStatus.ACTIVE)
+                .build();
+
+        // When
+        GoalPage page = repository.listGoals("user123", filter, null, 2);
+
+        // Then
+        assertEquals(List.of("goal1", "goal3"),
+                page.getGoals().stream().map(GoalSummary::getGoalId).toList());
+        assertEquals(2, requests.size());
+        QueryRequest first = requests.get(0);
+        assertEquals(TABLE_NAME, first.tableName());
+        assertEquals("USER#user123", first.expressionAttributeValues().get(":pk").s());
+        assertEquals("zezima", first.expressionAttributeValues().get(":character").s());
+        assertEquals("ATTACK", first.expressionAttributeValues().get(":metric").s());
+        assertFalse(first.expressionAttributeValues().get(":completed").bool());
+        assertEquals("#characterKey = :character AND #metric = :metric AND #completed = :completed",
+                first.filterExpression());
+        assertTrue(first.projectionExpression().contains("#percentComplete"));
+        assertFalse(first.projectionExpression().contains("#notificationChannelType"));
+        assertEquals(2, first.limit());
+        assertEquals(1, requests.get(1).limit());
+        assertEquals(firstKey, requests.get(1).exclusiveStartKey());
+
+        // When
+        repository.listGoals("user123", filter, page.getNextCursor(), 2);
+
+        // Then
+        assertEquals(secondKey, requests.get(2).exclusiveStartKey());
+    }
+
+    @Test
+    void listGoals_SparseFilter_StopsAfterMaxQueriesWithCursor() {
+        // Given
+        Map<String, AttributeValue> lastKey = Map.of("pk", AttributeValue.fromS("USER#user123"),
+                "sk", AttributeValue.fromS("GOAL#goal9"));
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(List.of()).lastEvaluatedKey(lastKey).build());
+
+        // When
+        GoalPage page = repository.listGoals("user123", GoalListFilter.builder().build(), null, 10);
+
+        // Then
+        assertTrue(page.getGoals().isEmpty());
+        assertNotNull(page.getNextCursor());
+        verify(dynamoDbClient, times(DynamoGoalProgressRepository.MAX_QUERIES_PER_PAGE))
+                .query(any(QueryRequest.class));
+    }
+
+    @Test
+    void listGoals_LastPage_ReturnsNoCursor() {
+        // Given
+        Map<String, AttributeValue> goal1 = item("goal1");
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(List.of(goal1)).build());
+
+        // When
+        GoalPage page = repository.listGoals("user123", GoalListFilter.builder().build(), null, 10);
+
+        // Then
+        assertEquals(1, page.getGoals().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void listGoals_InvalidCursor_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.listGoals("user123", GoalListFilter.builder().build(), "not-a-cursor", 10));
+    }
+
+    private Map<String, AttributeValue> item(String goalId) {
+        return item(progress(goal(goalId), 0));
+    }
+
+    private Map<String, AttributeValue> item(GoalProgress progress) {
+        List<Map<String, AttributeValue>> written = new ArrayList<>();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            written.add(((BatchWriteItemRequest) invocation.getArgument(0)).requestItems().get(TABLE_NAME).get(0)
+                    .putRequest().item());
+            return BatchWriteItemResponse.builder().build();
+        });
+        repository.saveProgress(List.of(progress));
+        return written.get(0);
+    }
+
+    private static GoalProgress progress(Goal goal, long currentValue) {
+        return GoalProgress.builder()
+                .goal(goal)
+                .currentValue(currentValue)
+                .percentComplete(1.0)
+                .updatedAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .build();
+    }
+
+    private static Goal goal(String goalId) {
+        return Goal.builder()
+                .userId("user123")
+                .goalId(goalId)
+                .characterName("Zezima")
+                .targetAttribute("ATTACK")
+                .targetType("xp")
+                .targetValue(1000)
+                .targetDate(Instant.parse("2030-01-01T00:00:00Z"))
+                .notificationChannelType("DISCORD")
+                .frequency("DAILY")
+                .build();
+    }
+}
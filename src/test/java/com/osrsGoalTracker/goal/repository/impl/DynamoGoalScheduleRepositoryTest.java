@@ -0,0 +1,130 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.model.NotificationFrequency;
+import com.osrsGoalTracker.goal.model.ScheduledGoal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+class DynamoGoalScheduleRepositoryTest {
+    private static final String TABLE_NAME = "goals";
+
+    private DynamoDbClient dynamoDbClient;
+    private DynamoGoalScheduleRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = mock(DynamoDbClient.class);
+        repository = new DynamoGoalScheduleRepository(dynamoDbClient,
+                GoalConfig.builder().progressTableName(TABLE_NAME).build());
+    }
+
+    @Test
+    void saveSchedule_ReArm_ConditionsPointerOnPreviousBucket() {
+        // Given
+        ScheduledGoal previous = scheduled(Instant.parse("2026-01-02T12:00:00Z"));
+        ScheduledGoal next = scheduled(Instant.parse("2026-01-03T12:00:00Z"));
+
+        // When
+        boolean saved = repository.saveSchedule(previous, next);
+
+        // Then
+        assertTrue(saved);
+        Put pointer = pointerPut(captureTransaction());
+        assertEquals("attribute_exists(#pk) AND #dueBucket = :expected", pointer.conditionExpression());
+        assertEquals(Long.toString(previous.getDueBucket().getEpochSecond()),
+                pointer.expressionAttributeValues().get(":expected").n());
+        assertEquals(Long.toString(next.getDueBucket().getEpochSecond()), pointer.item().get("dueBucket").n());
+    }
+
+    @Test
+    void saveSchedule_NewSchedule_ConditionsOnNoPointer() {
+        // When
+        repository.saveSchedule(null, scheduled(Instant.parse("2026-01-03T12:00:00Z")));
+
+        // Then
+        TransactWriteItemsRequest request = captureTransaction();
+        assertEquals(2, request.transactItems().size());
+        assertEquals("attribute_not_exists(#pk)", pointerPut(request).conditionExpression());
+    }
+
+    @Test
+    void saveSchedule_PointerChanged_ReturnsFalse() {
+        // Given
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(cancelled("None", "ConditionalCheckFailed", "None"));
+
+        // When
+        boolean saved = repository.saveSchedule(scheduled(Instant.parse("2026-01-02T12:00:00Z")),
+                scheduled(Instant.parse("2026-01-03T12:00:00Z")));
+
+        // Then
+        assertFalse(saved);
+    }
+
+    @Test
+    void saveSchedule_TransactionConflict_Throws() {
+        // Given
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(cancelled("None", "TransactionConflict", "None"));
+
+        // When / Then
+        assertThrows(TransactionCanceledException.class, () -> repository.saveSchedule(
+                scheduled(Instant.parse("2026-01-02T12:00:00Z")), scheduled(Instant.parse("2026-01-03T12:00:00Z"))));
+    }
+
+    private TransactWriteItemsRequest captureTransaction() {
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        return captor.getValue();
+    }
+
+    private static Put pointerPut(TransactWriteItemsRequest request) {
+        return request.transactItems().stream()
+                .map(item -> item.put())
+                .filter(put -> put != null && put.item().get("pk").s().startsWith("SCHEDULE#"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static TransactionCanceledException cancelled(String... codes) {
+        CancellationReason[] reasons = new CancellationReason[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            reasons[i] = CancellationReason.builder().code(codes[i]).build();
+        }
+        return TransactionCanceledException.builder()
+                .message("Transaction cancelled")
+                .cancellationReasons(reasons)
+                .build();
+    }
+
+    private static ScheduledGoal scheduled(Instant dueBucket) {
+        return ScheduledGoal.builder()
+                .userId("user123")
+                .goalId("goal1")
+                .characterName("Zezima")
+                .frequency(NotificationFrequency.DAILY)
+                .dueAt(dueBucket.plusSeconds(120))
+                .dueBucket(dueBucket)
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.dao.GoalDao;
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalCreation;
+import com.osrsGoalTracker.goal.model.GoalCreationResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GoalRepositoryImplTest {
+    private static final Instant TARGET_DATE = Instant.parse("2030-01-01T00:00:00Z");
+
+    @Mock
+    private GoalDao goalDao;
+
+    private GoalRepositoryImpl goalRepository;
+
+    @BeforeEach
+    void setUp() {
+        goalRepository = new GoalRepositoryImpl(goalDao);
+    }
+
+    @Test
+    void createGoals_MoreThanOneChunk_WritesEveryGoalInOrder() {
+        // Given
+        int count = GoalRepositoryImpl.WRITE_CHUNK_SIZE * 2 + 3;
+        List<GoalCreation> creations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            creations.add(GoalCreation.builder().goal(goal("character" + i)).currentProgress(i).build());
+        }
+        when(goalDao.createGoal(any(GoalEntity.class), anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<GoalCreationResult> results = goalRepository.createGoals(creations);
+
+        // Then
+        assertEquals(count, results.size());
+        for (int i = 0; i < count; i++) {
+            assertTrue(results.get(i).isSucceeded());
+            assertEquals("character" + i, results.get(i).getGoal().getCharacterName());
+        }
+        verify(goalDao, times(count)).createGoal(any(GoalEntity.class), anyLong());
+    }
+
+    @Test
+    void createGoals_OneWriteFails_ReportsOnlyThatGoal() {
+        // Given
+        List<GoalCreation> creations = List.of(
+                GoalCreation.builder().goal(goal("first")).currentProgress(1).build(),
+                GoalCreation.builder().goal(goal("second")).currentProgress(2).build());
+        when(goalDao.createGoal(any(GoalEntity.class), anyLong())).thenAnswer(invocation -> {
+            GoalEntity entity = invocation.getArgument(0);
+            if ("second".equals(entity.getCharacterName())) {
+                throw new RuntimeException("Throughput exceeded");
+            }
+            return entity;
+        });
+
+        // When
+        List<GoalCreationResult> results = goalRepository.createGoals(creations);
+
+        // Then
+        assertTrue(results.get(0).isSucceeded());
+        assertFalse(results.get(1).isSucceeded());
+        assertEquals("Throughput exceeded", results.get(1).getError());
+    }
+
+    @Test
+    void createGoals_WriteFailsWithoutMessage_ReportsFailure() {
+        // Given
+        List<GoalCreation> creations = List.of(GoalCreation.builder().goal(goal("first")).currentProgress(1).build());
+        when(goalDao.createGoal(any(GoalEntity.class), anyLong())).thenThrow(new IllegalStateException());
+
+        // When
+        List<GoalCreationResult> results = goalRepository.createGoals(creations);
+
+        // Then
+        assertFalse(results.get(0).isSucceeded());
+        assertEquals(IllegalStateException.class.getName(), results.get(0).getError());
+    }
+
+    private static Goal goal(String characterName) {
+        return Goal.builder()
+                .userId("user123")
+                .characterName(characterName)
+                .targetAttribute("ATTACK")
+                .targetType("LEVEL")
+                .targetValue(99)
+                .targetDate(TARGET_DATE)
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalListFilter;
+import com.osrsGoalTracker.goal.model.GoalPage;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+import com.osrsGoalTracker.goal.model.GoalStatus;
+import com.osrsGoalTracker.goal.model.GoalSummary;
+import com.osrsGoalTracker.goal.model.MetricName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryGoalProgressRepositoryTest {
+    private InMemoryGoalProgressRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryGoalProgressRepository();
+        repository.saveProgress(List.of(
+                progress("user123", "goal1", "Zezima", "Attack", false),
+                progress("user123", "goal2", "Lynx Titan", "Attack", false),
+                progress("user123", "goal3", "zezima", "Slayer", true),
+                progress("user123", "goal4", "ZEZIMA", "ATTACK", false),
+                progress("user456", "goal5", "Zezima", "Attack", false)));
+    }
+
+    @Test
+    void listGoals_SeveralPages_ResumesAfterCursorInGoalIdOrder() {
+        // When
+        GoalPage first = repository.listGoals("user123", GoalListFilter.builder().build(), null, 3);
+        GoalPage second = repository.listGoals("user123", GoalListFilter.builder().build(), first.getNextCursor(), 3);
+
+        // Then
+        assertEquals(List.of("goal1", "goal2", "goal3"), goalIds(first));
+        assertEquals(List.of("goal4"), goalIds(second));
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void listGoals_Filtered_MatchesNormalizedCharacterMetricAndStatus() {
+        // Given
+        GoalListFilter filter = GoalListFilter.builder()
+                .characterName("zezima")
+                .metric(MetricName.ATTACK)
+                .status(GoalStatus.ACTIVE)
+                .build();
+
+        // When
+        GoalPage page = repository.listGoals("user123", filter, null, 10);
+
+        // Then
+        assertEquals(List.of("goal1", "goal4"), goalIds(page));
+    }
+
+    @Test
+    void listGoals_CompletedStatus_ListsOnlyCompletedGoals() {
+        // When
+        GoalPage page = repository.listGoals("user123",
+                GoalListFilter.builder().status(GoalStatus.COMPLETED).build(), null, 10);
+
+        // Then
+        assertEquals(List.of("goal3"), goalIds(page));
+    }
+
+    @Test
+    void createProgress_GoalAlreadyTracked_KeepsItsProgress() {
+        // When
+        Set<String> tracked = repository.createProgress(List.of(
+                progress("user123", "goal3", "Zezima", "Slayer", false),
+                progress("user123", "goal6", "Zezima", "Slayer", false)));
+
+        // Then
+        assertEquals(Set.of("goal3"), tracked);
+        GoalPage completed = repository.listGoals("user123",
+                GoalListFilter.builder().status(GoalStatus.COMPLETED).build(), null, 10);
+        assertEquals(List.of("goal3"), goalIds(completed));
+        assertEquals(5, goalIds(repository.listGoals("user123", GoalListFilter.builder().build(), null, 10)).size());
+    }
+
+    private static List<String> goalIds(GoalPage page) {
+        return page.getGoals().stream().map(GoalSummary::getGoalId).toList();
+    }
+
+    private static GoalProgress progress(String userId, String goalId, String characterName,
+            String targetAttribute, boolean completed) {
+        return GoalProgress.builder()
+                .goal(Goal.builder()
+                        .userId(userId)
+                        .goalId(goalId)
+                        .characterName(characterName)
+                        .targetAttribute(targetAttribute)
+                        .targetType("level")
+                        .targetValue(99)
+                        .build())
+                .currentValue(completed ? 99 : 50)
+                .percentComplete(completed ? 100.0 : 50.5)
+                .completed(completed)
+                .updatedAt(Instant.parse("2026-01-01T00:00:00Z"))
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.osrsGoalTracker.goal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalForecast;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+
+import org.junit.jupiter.api.Test;
+
+class GoalForecasterTest {
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant TARGET_DATE = Instant.parse("2026-01-31T00:00:00Z");
+    private static final long TARGET = 1_000;
+
+    private final GoalForecaster forecaster = new GoalForecaster(Duration.ofDays(1));
+
+    @Test
+    void update_FirstSample_NoForecast() {
+        // Given
+        GoalProgress previous = progress(0, null, null);
+
+        // When
+        GoalForecast forecast = forecaster.update(previous, previous.getCurrentValue(), 100, TARGET, START);
+
+        // Then
+        assertNull(forecast);
+    }
+
+    @Test
+    void update_SecondSample_UsesRateSinceFirstSample() {
+        // Given
+        GoalProgress previous = progress(0, START, null);
+
+        // When
+        GoalForecast forecast = forecaster.update(previous, previous.getCurrentValue(), 100, TARGET, START.plus(Duration.ofDays(2)));
+
+        // Then
+        assertEquals(50.0, forecast.getGainRatePerDay(), 1e-9);
+        assertEquals(START.plus(Duration.ofDays(20)), forecast.getProjectedCompletion());
+        assertFalse(forecast.isAtRisk());
+    }
+
+    @Test
+    void update_OneHalfLifeLater_MovesHalfwayToNewRate() {
+        // Given
+        GoalProgress previous = progress(90, START, forecast(50.0, 90L));
+
+        // When
+        GoalForecast forecast = forecaster.update(previous, previous.getCurrentValue(), 100, TARGET, START.plus(Duration.ofDays(1)));
+
+        // Then
+        assertEquals(30.0, forecast.getGainRatePerDay(), 1e-9);
+        assertEquals(START.plus(Duration.ofDays(1 + 30)), forecast.getProjectedCompletion());
+        assertTrue(forecast.isAtRisk());
+    }
+
+    @Test
+    void update_NoProgress_NeverCompletesAndIsAtRisk() {
+        // Given
+        GoalProgress previous = progress(100, START, null);
+
+        // When
+        GoalForecast forecast = forecaster.update(previous, previous.getCurrentValue(), 100, TARGET, START.plus(Duration.ofDays(1)));
+
+        // Then
+        assertEquals(0.0, forecast.getGainRatePerDay(), 1e-9);
+        assertNull(forecast.getProjectedCompletion());
+        assertTrue(forecast.isAtRisk());
+    }
+
+    @Test
+    void update_TargetReached_CompletesNow() {
+        // Given
+        GoalProgress previous = progress(900, START, forecast(10.0, 900L));
+        Instant now = START.plus(Duration.ofDays(1));
+
+        // When
+        GoalForecast forecast = forecaster.update(previous, previous.getCurrentValue(), 1_000, TARGET, now);
+
+        // Then
+        assertEquals(now, forecast.getProjectedCompletion());
+        assertFalse(forecast.isAtRisk());
+    }
+
+    @Test
+    void update_SameInstant_KeepsRateAndReprojects() {
+        // Given
+        GoalProgress previous = progress(100, START, forecast(50.0, 100L));
+
+        // When
+        GoalForecast forecast = forecaster.update(previous, previous.getCurrentValue(), 200, TARGET, START);
+
+        // Then
+        assertEquals(50.0, forecast.getGainRatePerDay(), 1e-9);
+        assertEquals(START.plus(Duration.ofDays(16)), forecast.getProjectedCompletion());
+    }
+
+    @Test
+    void update_ForecastSampledInOtherUnits_RestartsFromPreviousValue() {
+        // Given
+        GoalProgress previous = progress(90, START, forecast(2.0, null));
+
+        // When
+        GoalForecast forecast = forecaster.update(previous, 500, 600, TARGET, START.plus(Duration.ofDays(1)));
+
+        // Then
+        assertEquals(100.0, forecast.getGainRatePerDay(), 1e-9);
+        assertEquals(600L, forecast.getSampledValue());
+    }
+
+    @Test
+    void update_RateFromSampledValue_IgnoresPreviousValue() {
+        // Given
+        GoalProgress previous = progress(70, START, forecast(100.0, 700L));
+
+        // When
+        GoalForecast forecast = forecaster.update(previous, 0, 800, TARGET, START.plus(Duration.ofDays(1)));
+
+        // Then
+        assertEquals(100.0, forecast.getGainRatePerDay(), 1e-9);
+        assertEquals(START.plus(Duration.ofDays(3)), forecast.getProjectedCompletion());
+    }
+
+    @Test
+    void constructor_ZeroHalfLife_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new GoalForecaster(Duration.ZERO));
+    }
+
+    private static GoalProgress progress(long currentValue, Instant updatedAt, GoalForecast forecast) {
+        return GoalProgress.builder()
+                .goal(Goal.builder()
+                        .goalId("goal1")
+                        .targetAttribute("ATTACK")
+                        .targetType("xp")
+                        .targetValue(1_000)
+                        .targetDate(TARGET_DATE)
+                        .build())
+                .currentValue(currentValue)
+                .updatedAt(updatedAt)
+                .forecast(forecast)
+                .build();
+    }
+
+    private static GoalForecast forecast(double gainRatePerDay, Long sampledValue) {
+        return GoalForecast.builder().gainRatePerDay(gainRatePerDay).sampledValue(sampledValue).build();
+    }
+}
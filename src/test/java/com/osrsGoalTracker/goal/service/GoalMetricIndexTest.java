@@ -0,0 +1,139 @@
+package com.osrsGoalTracker.goal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Set;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GoalMetricIndexTest {
+    private static final CharacterHiscoresSnapshot FIRST = snapshot(1_000, 500);
+    private static final CharacterHiscoresSnapshot ATTACK_GAINED = snapshot(2_000, 500);
+
+    private GoalMetricIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GoalMetricIndex();
+        index.add(goal("1", "Zezima", "ATTACK"));
+        index.add(goal("2", "zezima", "attack"));
+        index.add(goal("3", "ZEZIMA", "STRENGTH"));
+        index.add(goal("4", "Lynx Titan", "ATTACK"));
+    }
+
+    @Test
+    void affectedGoalIds_NewGoals_AreReportedUntilEvaluated() {
+        // Given
+        Set<String> affected = index.affectedGoalIds("Zezima", FIRST.changedMetrics(null));
+
+        // When
+        index.markEvaluated("Zezima", FIRST, affected);
+
+        // Then
+        assertEquals(Set.of("1", "2", "3"), affected);
+        assertSame(FIRST, index.lastEvaluated("zezima"));
+        assertEquals(Set.of(), index.affectedGoalIds("Zezima", FIRST.changedMetrics(FIRST)));
+    }
+
+    @Test
+    void affectedGoalIds_OneMetricChanged_ReturnsOnlyItsGoals() {
+        // Given
+        index.markEvaluated("Zezima", FIRST, Set.of("1", "2", "3"));
+
+        // When
+        Set<String> affected = index.affectedGoalIds("Zezima", ATTACK_GAINED.changedMetrics(FIRST));
+
+        // Then
+        assertEquals(Set.of("1", "2"), affected);
+    }
+
+    @Test
+    void add_AfterEvaluation_ReportsOnlyTheNewGoal() {
+        // Given
+        index.markEvaluated("Zezima", FIRST, Set.of("1", "2", "3"));
+
+        // When
+        index.add(goal("5", "Zezima", "ATTACK"));
+
+        // Then
+        assertEquals(Set.of("5"), index.affectedGoalIds("Zezima", FIRST.changedMetrics(FIRST)));
+    }
+
+    @Test
+    void add_UnresolvableAttribute_IsNotIndexed() {
+        // When
+        index.add(goal("5", "Zezima", "NOT_A_METRIC"));
+
+        // Then
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void remove_LastGoalOfCharacter_DropsCharacter() {
+        // Given
+        index.markEvaluated("Lynx Titan", FIRST, Set.of("4"));
+
+        // When
+        index.remove("4");
+
+        // Then
+        assertEquals(3, index.size());
+        assertNull(index.lastEvaluated("Lynx Titan"));
+        assertEquals(Set.of(), index.affectedGoalIds("Lynx Titan", FIRST.changedMetrics(null)));
+    }
+
+    @Test
+    void sync_GoalTable_AddsMissingAndRemovesAbsentGoals() {
+        // Given
+        index.markEvaluated("Zezima", FIRST, Set.of("1", "2", "3"));
+
+        // When
+        index.sync(List.of(goal("1", "Zezima", "ATTACK"), goal("3", "Zezima", "STRENGTH"),
+                goal("5", "Zezima", "STRENGTH")));
+
+        // Then
+        assertEquals(3, index.size());
+        assertEquals(Set.of("1", "5"), index.affectedGoalIds("Zezima", ATTACK_GAINED.changedMetrics(FIRST)));
+        assertEquals(Set.of(), index.affectedGoalIds("Lynx Titan", FIRST.changedMetrics(null)));
+    }
+
+    @Test
+    void sync_CharacterRange_RemovesAbsentGoalsOnlyWithinRange() {
+        // Given
+        index.markEvaluated("Zezima", FIRST, Set.of("1", "2", "3"));
+
+        // When
+        index.sync("lynx titan", "zezima", List.of(goal("1", "Zezima", "ATTACK")));
+
+        // Then
+        assertEquals(2, index.size());
+        assertEquals(Set.of("1"), index.affectedGoalIds("Zezima", ATTACK_GAINED.changedMetrics(FIRST)));
+        assertEquals(Set.of("4"), index.affectedGoalIds("Lynx Titan", FIRST.changedMetrics(null)));
+    }
+
+    private static CharacterHiscoresSnapshot snapshot(long attackXp, long strengthXp) {
+        return CharacterHiscoresSnapshot.builder("Zezima")
+                .skill(MetricName.ATTACK, 100, 10, attackXp)
+                .skill(MetricName.STRENGTH, 100, 5, strengthXp)
+                .build();
+    }
+
+    private static Goal goal(String goalId, String characterName, String targetAttribute) {
+        return Goal.builder()
+                .userId("user123")
+                .goalId(goalId)
+                .characterName(characterName)
+                .targetAttribute(targetAttribute)
+                .targetType("xp")
+                .targetValue(1_000_000)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.osrsGoalTracker.goal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Instant;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+import com.osrsGoalTracker.orchestration.events.GoalCompletedEvent;
+import com.osrsGoalTracker.orchestration.events.GoalMilestoneReachedEvent;
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+
+import org.junit.jupiter.api.Test;
+
+class GoalMilestoneDetectorTest {
+    private static final Goal GOAL = Goal.builder()
+            .userId("user123")
+            .goalId("goal1")
+            .characterName("Zezima")
+            .targetAttribute("ATTACK")
+            .targetType("xp")
+            .targetValue(1_000)
+            .build();
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void detect_PassesOneMilestone_ReturnsMilestoneEvent() {
+        // When
+        GoalProgressEvent event = GoalMilestoneDetector.detect(progress(200, false), progress(300, false));
+
+        // Then
+        GoalMilestoneReachedEvent milestone = assertInstanceOf(GoalMilestoneReachedEvent.class, event);
+        assertEquals(25, milestone.getMilestone());
+        assertEquals("goal1", milestone.getGoalId());
+        assertEquals(300, milestone.getCurrentValue());
+        assertEquals(NOW, milestone.getReachedAt());
+    }
+
+    @Test
+    void detect_PassesSeveralMilestones_ReturnsHighest() {
+        // When
+        GoalProgressEvent event = GoalMilestoneDetector.detect(progress(100, false), progress(800, false));
+
+        // Then
+        assertEquals(75, assertInstanceOf(GoalMilestoneReachedEvent.class, event).getMilestone());
+    }
+
+    @Test
+    void detect_Completes_ReturnsCompletionEventOnly() {
+        // When
+        GoalProgressEvent event = GoalMilestoneDetector.detect(progress(100, false), progress(1_000, true));
+
+        // Then
+        GoalCompletedEvent completed = assertInstanceOf(GoalCompletedEvent.class, event);
+        assertEquals(1_000, completed.getCurrentValue());
+        assertEquals(NOW, completed.getCompletedAt());
+    }
+
+    @Test
+    void detect_NoMilestonePassed_ReturnsNull() {
+        assertNull(GoalMilestoneDetector.detect(progress(300, false), progress(400, false)));
+        assertNull(GoalMilestoneDetector.detect(progress(500, false), progress(500, false)));
+        assertNull(GoalMilestoneDetector.detect(progress(1_000, true), progress(1_000, true)));
+    }
+
+    private static GoalProgress progress(long currentValue, boolean completed) {
+        return GoalProgress.builder()
+                .goal(GOAL)
+                .currentValue(currentValue)
+                .percentComplete(currentValue * 100.0 / GOAL.getTargetValue())
+                .completed(completed)
+                .updatedAt(NOW)
+                .build();
+    }
+}
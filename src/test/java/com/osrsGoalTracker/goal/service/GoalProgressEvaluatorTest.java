@@ -0,0 +1,172 @@
+package com.osrsGoalTracker.goal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+import org.junit.jupiter.api.Test;
+
+class GoalProgressEvaluatorTest {
+    private static final CharacterHiscoresSnapshot SNAPSHOT = CharacterHiscoresSnapshot.builder("TestCharacter")
+            .skill(MetricName.ATTACK, 1000, 70, 737_627)
+            .skill(MetricName.WOODCUTTING, 500, 99, 13_034_431)
+            .activity(MetricName.ZULRAH, 2000, 250)
+            .build();
+
+    @Test
+    void evaluate_SkillAndActivityGoals_ComputesProgressInGoalOrder() {
+        // Given
+        GoalProgressEvaluator evaluator = GoalProgressEvaluator.compile(List.of(
+                goal("ATTACK", "xp", 1_475_254),
+                goal("Attack", "LEVEL", 70),
+                goal("Woodcutting", "xp", 13_034_431),
+                goal("ZULRAH", "kc", 1000)));
+
+        // When
+        GoalProgressEvaluator.Progress progress = evaluator.evaluate(SNAPSHOT);
+
+        // Then
+        assertEquals(737_627, progress.currentValue(0));
+        assertEquals(50.0, progress.percentComplete(0), 0.001);
+        assertFalse(progress.isComplete(0));
+        assertEquals(70, progress.currentValue(1));
+        assertTrue(progress.isComplete(1));
+        assertEquals(100.0, progress.percentComplete(2));
+        assertTrue(progress.isComplete(2));
+        assertEquals(250, progress.currentValue(3));
+        assertEquals(25.0, progress.percentComplete(3), 0.001);
+        assertEquals(2, progress.completedCount());
+    }
+
+    @Test
+    void evaluate_LevelGoals_MeasuresExperienceTowardsTargetLevel() {
+        // Given
+        GoalProgressEvaluator evaluator = GoalProgressEvaluator.compile(List.of(
+                goal("ATTACK", "level", 99),
+                goal("WOODCUTTING", "level", 105),
+                goal("ATTACK", "level", 127)));
+
+        // When
+        GoalProgressEvaluator.Progress progress = evaluator.evaluate(SNAPSHOT);
+
+        // Then
+        assertEquals(70, progress.currentValue(0));
+        assertEquals(737_627 * 100.0 / 13_034_431, progress.percentComplete(0), 0.001);
+        assertFalse(progress.isComplete(0));
+        assertEquals(99, progress.currentValue(1));
+        assertEquals(13_034_431 * 100.0 / 23_611_006, progress.percentComplete(1), 0.001);
+        assertFalse(evaluator.isEvaluable(2));
+    }
+
+    @Test
+    void evaluate_LevelGoals_ReportsMeasuredValuesInExperience() {
+        // Given
+        GoalProgressEvaluator evaluator = GoalProgressEvaluator.compile(List.of(
+                goal("ATTACK", "level", 99),
+                goal("ZULRAH", "kc", 1000)));
+
+        // When
+        GoalProgressEvaluator.Progress progress = evaluator.evaluate(SNAPSHOT);
+
+        // Then
+        assertEquals(737_627, progress.measuredValue(0));
+        assertEquals(13_034_431, evaluator.target(0));
+        assertEquals(1_986_068, evaluator.toMeasured(0, 80));
+        assertEquals(250, progress.measuredValue(1));
+        assertEquals(1000, evaluator.target(1));
+        assertEquals(80, evaluator.toMeasured(1, 80));
+    }
+
+    @Test
+    void evaluate_UnrankedMetric_CountsAsNoProgress() {
+        // Given
+        GoalProgressEvaluator evaluator = GoalProgressEvaluator.compile(List.of(goal("MINING", "xp", 1000)));
+
+        // When
+        GoalProgressEvaluator.Progress progress = evaluator.evaluate(SNAPSHOT);
+
+        // Then
+        assertEquals(0, progress.currentValue(0));
+        assertEquals(0.0, progress.percentComplete(0));
+        assertFalse(progress.isComplete(0));
+    }
+
+    @Test
+    void compile_UnresolvableGoals_AreKeptButNotEvaluated() {
+        // Given
+        GoalProgressEvaluator evaluator = GoalProgressEvaluator.compile(List.of(
+                goal("NOT_A_METRIC", "xp", 1000),
+                goal("ZULRAH", "level", 10),
+                goal("ATTACK", "rank", 1),
+                goal("ATTACK", "xp", 1000)));
+
+        // When
+        GoalProgressEvaluator.Progress progress = evaluator.evaluate(SNAPSHOT);
+
+        // Then
+        assertEquals(4, evaluator.size());
+        assertFalse(evaluator.isEvaluable(0));
+        assertFalse(evaluator.isEvaluable(1));
+        assertFalse(evaluator.isEvaluable(2));
+        assertTrue(evaluator.isEvaluable(3));
+        assertEquals(0, progress.currentValue(0));
+        assertFalse(progress.isComplete(1));
+        assertEquals(1, progress.completedCount());
+    }
+
+    @Test
+    void evaluate_ReusedProgress_OverwritesPreviousResults() {
+        // Given
+        GoalProgressEvaluator evaluator = GoalProgressEvaluator.compile(List.of(goal("ATTACK", "level", 80)));
+        GoalProgressEvaluator.Progress progress = evaluator.newProgress();
+        CharacterHiscoresSnapshot later = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .skill(MetricName.ATTACK, 900, 80, 1_986_068)
+                .build();
+
+        // When
+        evaluator.evaluate(SNAPSHOT, progress);
+        GoalProgressEvaluator.Progress result = evaluator.evaluate(later, progress);
+
+        // Then
+        assertSame(progress, result);
+        assertEquals(80, progress.currentValue(0));
+        assertTrue(progress.isComplete(0));
+        assertEquals(1, progress.completedCount());
+    }
+
+    @Test
+    void evaluate_ProgressForOtherGoals_ThrowsException() {
+        // Given
+        GoalProgressEvaluator evaluator = GoalProgressEvaluator.compile(List.of(goal("ATTACK", "level", 80)));
+        GoalProgressEvaluator.Progress progress = GoalProgressEvaluator.compile(Collections.emptyList())
+                .newProgress();
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(SNAPSHOT, progress));
+    }
+
+    @Test
+    void compile_NullGoals_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> GoalProgressEvaluator.compile(null));
+    }
+
+    private static Goal goal(String targetAttribute, String targetType, long targetValue) {
+        return Goal.builder()
+                .userId("user123")
+                .goalId(targetAttribute + "-" + targetType)
+                .characterName("TestCharacter")
+                .targetAttribute(targetAttribute)
+                .targetType(targetType)
+                .targetValue(targetValue)
+                .build();
+    }
+}
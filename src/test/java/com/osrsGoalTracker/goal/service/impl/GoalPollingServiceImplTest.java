@@ -0,0 +1,415 @@
+package com.osrsGoalTracker.goal.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.external.GoalEventPublisher;
+import com.osrsGoalTracker.goal.model.ExperienceTable;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalForecast;
+import com.osrsGoalTracker.goal.model.GoalPollingResult;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.goal.model.OutboxEvent;
+import com.osrsGoalTracker.goal.repository.impl.InMemoryGoalEventOutboxRepository;
+import com.osrsGoalTracker.goal.repository.impl.InMemoryGoalProgressRepository;
+import com.osrsGoalTracker.goal.service.GoalMetricIndex;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.service.HiscoresService;
+import com.osrsGoalTracker.orchestration.events.GoalCompletedEvent;
+import com.osrsGoalTracker.orchestration.events.GoalMilestoneReachedEvent;
+import com.osrsGoalTracker.orchestration.events.GoalProgressEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GoalPollingServiceImplTest {
+    private static final long TIME_RESERVE_MILLIS = 1_000;
+    private static final long FETCH_TIMEOUT_MILLIS = 200;
+
+    private HiscoresService hiscoresService;
+    private InMemoryGoalProgressRepository repository;
+    private GoalEventPublisher eventPublisher;
+    private InMemoryGoalEventOutboxRepository eventOutbox;
+    private GoalPollingServiceImpl pollingService;
+
+    @BeforeEach
+    void setUp() {
+        hiscoresService = mock(HiscoresService.class);
+        when(hiscoresService.recordCharacterHiscoresSnapshot(anyString())).thenAnswer(invocation ->
+                CharacterHiscoresSnapshot.builder(invocation.getArgument(0))
+                        .skill(MetricName.ATTACK, 100, 80, 2_000_000)
+                        .build());
+        repository = new InMemoryGoalProgressRepository();
+        eventPublisher = mock(GoalEventPublisher.class);
+        eventOutbox = new InMemoryGoalEventOutboxRepository();
+        pollingService = new GoalPollingServiceImpl(repository, hiscoresService, eventPublisher, eventOutbox,
+                new GoalMetricIndex(), GoalConfig.builder()
+                        .pollingParallelism(2)
+                        .pollingTimeReserve(Duration.ofMillis(TIME_RESERVE_MILLIS))
+                        .pollingFetchTimeout(Duration.ofMillis(FETCH_TIMEOUT_MILLIS))
+                        .build());
+    }
+
+    @Test
+    void pollProgress_SeveralGoalsPerCharacter_FetchesEachCharacterOnce() {
+        // Given
+        track(goal("1", "Zezima", 99), goal("2", "zezima", 1_000_000), goal("3", "ZEZIMA", 5_000_000),
+                goal("4", "Lynx Titan", 70));
+
+        // When
+        GoalPollingResult result = pollingService.pollProgress(() -> Long.MAX_VALUE);
+
+        // Then
+        verify(hiscoresService, times(2)).recordCharacterHiscoresSnapshot(anyString());
+        assertTrue(result.isComplete());
+        assertNull(result.getCursor());
+        assertEquals(2, result.getCharactersPolled());
+        assertEquals(4, result.getGoalsUpdated());
+        assertEquals(List.of("1", "3"), activeGoalIds());
+        assertEquals(Optional.empty(), repository.getPollingCursor());
+    }
+
+    @Test
+    void pollProgress_TimeRunsOut_CheckpointsAndResumes() {
+        // Given
+        track(goal("1", "alpha", 99), goal("2", "bravo", 99), goal("3", "charlie", 99), goal("4", "delta", 99),
+                goal("5", "echo", 99));
+        long[] remaining = {TIME_RESERVE_MILLIS * 2};
+        when(hiscoresService.recordCharacterHiscoresSnapshot("bravo")).thenAnswer(invocation -> {
+            remaining[0] = 0;
+            return CharacterHiscoresSnapshot.builder("bravo").skill(MetricName.ATTACK, 1, 99, 13_034_431).build();
+        });
+
+        // When
+        GoalPollingResult first = pollingService.pollProgress(() -> remaining[0]);
+
+        // Then
+        assertFalse(first.isComplete());
+        assertEquals("bravo", first.getCursor());
+        assertEquals(2, first.getCharactersPolled());
+        assertEquals(Optional.of("bravo"), repository.getPollingCursor());
+        verify(hiscoresService, never()).recordCharacterHiscoresSnapshot("charlie");
+
+        // When
+        GoalPollingResult second = pollingService.pollProgress(() -> Long.MAX_VALUE);
+
+        // Then
+        assertTrue(second.isComplete());
+        assertEquals(3, second.getCharactersPolled());
+        verify(hiscoresService, times(1)).recordCharacterHiscoresSnapshot("alpha");
+        verify(hiscoresService, times(1)).recordCharacterHiscoresSnapshot("echo");
+    }
+
+    @Test
+    void pollProgress_FetchFails_KeepsPreviousProgressAndContinues() {
+        // Given
+        track(goal("1", "alpha", 70), goal("2", "bravo", 70));
+        when(hiscoresService.recordCharacterHiscoresSnapshot("alpha"))
+                .thenThrow(new IllegalArgumentException("Character not found"));
+
+        // When
+        GoalPollingResult result = pollingService.pollProgress(() -> Long.MAX_VALUE);
+
+        // Then
+        assertTrue(result.isComplete());
+        assertEquals(1, result.getCharactersFailed());
+        assertEquals(1, result.getCharactersPolled());
+        assertEquals(List.of("1"), activeGoalIds());
+    }
+
+    @Test
+    void pollProgress_FetchHangs_TimesOutAtRoundDeadlineAndContinues() {
+        // Given
+        track(goal("1", "alpha", 70), goal("2", "bravo", 70), goal("3", "charlie", 70));
+        CountDownLatch never = new CountDownLatch(1);
+        when(hiscoresService.recordCharacterHiscoresSnapshot("alpha")).thenAnswer(invocation -> {
+            never.await();
+            return null;
+        });
+
+        // When
+        long start = System.nanoTime();
+        GoalPollingResult result = pollingService.pollProgress(() -> Long.MAX_VALUE);
+
+        // Then
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < TIME_RESERVE_MILLIS);
+        assertTrue(result.isComplete());
+        assertEquals(1, result.getCharactersFailed());
+        assertEquals(2, result.getCharactersPolled());
+        assertEquals(List.of("1"), activeGoalIds());
+    }
+
+    @Test
+    void constructor_FetchTimeoutNotShorterThanTimeReserve_ThrowsIllegalArgumentException() {
+        // Given
+        GoalConfig config = GoalConfig.builder()
+                .pollingTimeReserve(Duration.ofMillis(TIME_RESERVE_MILLIS))
+                .pollingFetchTimeout(Duration.ofMillis(TIME_RESERVE_MILLIS))
+                .build();
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> new GoalPollingServiceImpl(repository, hiscoresService,
+                eventPublisher, eventOutbox, new GoalMetricIndex(), config));
+    }
+
+    @Test
+    void pollProgress_LevelGoal_ForecastsExperienceAgainstTargetExperience() {
+        // Given
+        repository.saveProgress(List.of(GoalProgress.builder()
+                .goal(goal("1", "Zezima", 90))
+                .currentValue(70)
+                .updatedAt(Instant.now().minus(Duration.ofDays(1)))
+                .build()));
+
+        // When
+        pollingService.pollProgress(() -> Long.MAX_VALUE);
+
+        // Then
+        GoalProgress progress = activeProgress().get(0);
+        GoalForecast forecast = progress.getForecast();
+        double gainRatePerDay = 2_000_000 - ExperienceTable.xpForLevel(70);
+        double remainingDays = (ExperienceTable.xpForLevel(90) - 2_000_000) / gainRatePerDay;
+        assertEquals(80, progress.getCurrentValue());
+        assertEquals(2_000_000L, forecast.getSampledValue());
+        assertEquals(gainRatePerDay, forecast.getGainRatePerDay(), 1_000);
+        assertEquals(Instant.now().plusMillis(Math.round(remainingDays * Duration.ofDays(1).toMillis()))
+                .getEpochSecond(), forecast.getProjectedCompletion().getEpochSecond(), 600);
+    }
+
+    @Test
+    void pollProgress_PreviousSample_StoresForecastWithProgress() {
+        // Given
+        repository.saveProgress(List.of(GoalProgress.builder()
+                .goal(goal("1", "Zezima", 5_000_000))
+                .currentValue(1_000_000)
+                .updatedAt(Instant.now().minus(Duration.ofDays(1)))
+                .build()));
+
+        // When
+        pollingService.pollProgress(() -> Long.MAX_VALUE);
+
+        // Then
+        GoalForecast forecast = activeProgress().get(0).getForecast();
+        assertEquals(1_000_000, forecast.getGainRatePerDay(), 1_000);
+        assertEquals(Instant.now().plus(Duration.ofDays(3)).getEpochSecond(),
+                forecast.getProjectedCompletion().getEpochSecond(), 600);
+        assertFalse(forecast.isAtRisk());
+    }
+
+    @Test
+    void pollProgress_PublishFails_KeepsEventsAndRetriesThemNextRun() {
+        // Given
+        track(goal("1", "alpha", 70), goal("2", "bravo", 70));
+        List<List<GoalProgressEvent>> requests = new ArrayList<>();
+        when(eventPublisher.publish(anyList())).thenAnswer(invocation -> {
+            List<GoalProgressEvent> batch = List.copyOf(invocation.getArgument(0));
+            requests.add(batch);
+            return requests.size() == 1 ? batch.subList(1, 2) : List.of();
+        });
+
+        // When
+        pollingService.pollProgress(() -> Long.MAX_VALUE);
+
+        // Then
+        GoalProgressEvent failed = requests.get(0).get(1);
+        assertEquals(List.of(failed), unpublishedEvents());
+
+        // When
+        pollingService.pollProgress(() -> Long.MAX_VALUE);
+
+        // Then
+        assertEquals(List.of(failed), requests.get(1));
+        assertEquals(2, requests.size());
+        assertTrue(unpublishedEvents().isEmpty());
+    }
+
+    @Test
+    void pollProgress_GoalsPassMilestones_PublishesEventsInWholeBatches() {
+        // Given
+        List<Goal> goals = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            goals.add(goal(String.format("%02d", i), "player" + i, i < 11 ? 70 : 3_000_000));
+        }
+        track(goals.toArray(new Goal[0]));
+        List<Integer> batchSizes = new ArrayList<>();
+        List<GoalProgressEvent> published = new ArrayList<>();
+        when(eventPublisher.publish(anyList())).thenAnswer(invocation -> {
+            List<GoalProgressEvent> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            published.addAll(batch);
+            return List.of();
+        });
+
+        // When
+        pollingService.pollProgress(() -> Long.MAX_VALUE);
+
+        // Then
+        assertEquals(List.of(10, 2), batchSizes);
+        assertEquals(11, published.stream().filter(GoalCompletedEvent.class::isInstance).count());
+        GoalMilestoneReachedEvent milestone = (GoalMilestoneReachedEvent) published.stream()
+                .filter(GoalMilestoneReachedEvent.class::isInstance)
+                .findFirst()
+                .orElseThrow();
+        assertEquals("11", milestone.getGoalId());
+        assertEquals(50, milestone.getMilestone());
+    }
+
+    @Test
+    void pollProgress_NoMilestonePassed_PublishesNothing() {
+        // Given
+        repository.saveProgress(List.of(GoalProgress.builder()
+                .goal(goal("1", "Zezima", 5_000_000))
+                .currentValue(1_900_000)
+                .percentComplete(38)
+                .updatedAt(Instant.EPOCH)
+                .build()));
+
+        // When
+        pollingService.pollProgress(() -> Long.MAX_VALUE);
+
+        // Then
+        verify(eventPublisher, never()).publish(anyList());
+    }
+
+    @Test
+    void pollProgress_GoalDeletedWhilePolling_IsNotRecreatedOrReported() {
+        // Given
+        track(goal("1", "Zezima", 70), goal("2", "Zezima", 99));
+        when(hiscoresService.recordCharacterHiscoresSnapshot(anyString())).thenAnswer(invocation -> {
+            repository.deleteProgress("user123", "1");
+            return CharacterHiscoresSnapshot.builder("Zezima").skill(MetricName.ATTACK, 100, 80, 2_000_000).build();
+        });
+
+        // When
+        GoalPollingResult result = pollingService.pollProgress(() -> Long.MAX_VALUE);
+
+        // Then
+        assertEquals(1, result.getGoalsUpdated());
+        assertEquals(List.of("2"), activeGoalIds());
+        verify(eventPublisher, never()).publish(anyList());
+    }
+
+    @Test
+    void pollProgress_OnlyOneMetricChanged_EvaluatesOnlyItsGoals() {
+        // Given
+        Goal strengthGoal = Goal.builder()
+                .userId("user123")
+                .goalId("2")
+                .characterName("Zezima")
+                .targetAttribute("STRENGTH")
+                .targetType("xp")
+                .targetValue(5_000_000)
+                .build();
+        track(goal("1", "Zezima", 5_000_000), strengthGoal);
+        when(hiscoresService.recordCharacterHiscoresSnapshot(anyString())).thenReturn(
+                snapshot(2_000_000, 1_000_000), snapshot(2_000_000, 1_000_000), snapshot(2_100_000, 1_000_000));
+
+        // When
+        GoalPollingResult first = pollingService.pollProgress(() -> Long.MAX_VALUE);
+        GoalPollingResult unchanged = pollingService.pollProgress(() -> Long.MAX_VALUE);
+        GoalPollingResult attackChanged = pollingService.pollProgress(() -> Long.MAX_VALUE);
+
+        // Then
+        assertEquals(2, first.getGoalsUpdated());
+        assertEquals(0, unchanged.getGoalsUpdated());
+        assertEquals(1, unchanged.getCharactersPolled());
+        assertEquals(1, attackChanged.getGoalsUpdated());
+        List<GoalProgress> progress = activeProgress();
+        progress.sort((a, b) -> a.getGoal().getGoalId().compareTo(b.getGoal().getGoalId()));
+        assertEquals(2_100_000, progress.get(0).getCurrentValue());
+        assertEquals(1_000_000, progress.get(1).getCurrentValue());
+    }
+
+    @Test
+    void pollProgress_UnchangedGoalFromEarlierDay_ReprojectsForecastFromFetchedSnapshot() {
+        // Given
+        track(goal("1", "Zezima", 5_000_000));
+        pollingService.pollProgress(() -> Long.MAX_VALUE);
+        Instant yesterday = Instant.now().minus(Duration.ofDays(1));
+        repository.saveProgress(List.of(GoalProgress.builder()
+                .goal(goal("1", "Zezima", 5_000_000))
+                .currentValue(2_000_000)
+                .updatedAt(yesterday)
+                .forecast(GoalForecast.builder()
+                        .gainRatePerDay(1_000_000)
+                        .sampledValue(2_000_000L)
+                        .projectedCompletion(yesterday.plus(Duration.ofDays(3)))
+                        .build())
+                .build()));
+
+        // When
+        GoalPollingResult result = pollingService.pollProgress(() -> Long.MAX_VALUE);
+
+        // Then
+        verify(hiscoresService, times(2)).recordCharacterHiscoresSnapshot(anyString());
+        assertEquals(1, result.getGoalsUpdated());
+        GoalProgress progress = activeProgress().get(0);
+        assertTrue(progress.getUpdatedAt().isAfter(yesterday));
+        assertTrue(progress.getForecast().getGainRatePerDay() < 1_000_000);
+        assertTrue(progress.getForecast().getProjectedCompletion().isAfter(yesterday.plus(Duration.ofDays(3))));
+    }
+
+    private void track(Goal... goals) {
+        List<GoalProgress> progress = new ArrayList<>();
+        for (Goal goal : goals) {
+            progress.add(GoalProgress.builder().goal(goal).updatedAt(Instant.EPOCH).build());
+        }
+        repository.saveProgress(progress);
+    }
+
+    private List<String> activeGoalIds() {
+        List<String> goalIds = new ArrayList<>();
+        for (GoalProgress progress : activeProgress()) {
+            goalIds.add(progress.getGoal().getGoalId());
+        }
+        goalIds.sort(null);
+        return goalIds;
+    }
+
+    private List<GoalProgress> activeProgress() {
+        List<GoalProgress> progress = new ArrayList<>();
+        repository.getActiveProgress(null).forEachRemaining(progress::add);
+        return progress;
+    }
+
+    private static CharacterHiscoresSnapshot snapshot(long attackXp, long strengthXp) {
+        return CharacterHiscoresSnapshot.builder("Zezima")
+                .skill(MetricName.ATTACK, 100, 80, attackXp)
+                .skill(MetricName.STRENGTH, 100, 70, strengthXp)
+                .build();
+    }
+
+    private static Goal goal(String goalId, String characterName, long targetValue) {
+        return Goal.builder()
+                .userId("user123")
+                .goalId(goalId)
+                .characterName(characterName)
+                .targetAttribute("ATTACK")
+                .targetType(targetValue < 127 ? "level" : "xp")
+                .targetValue(targetValue)
+                .build();
+    }
+
+    private List<GoalProgressEvent> unpublishedEvents() {
+        return eventOutbox.getUnpublishedEvents().stream().map(OutboxEvent::getEvent).toList();
+    }
+}
@@ -0,0 +1,267 @@
+package com.osrsGoalTracker.goal.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.di.GoalConfig;
+import com.osrsGoalTracker.goal.external.GoalEventPublisher;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+import com.osrsGoalTracker.goal.model.NotificationFrequency;
+import com.osrsGoalTracker.goal.model.ScheduledGoal;
+import com.osrsGoalTracker.goal.repository.impl.InMemoryGoalProgressRepository;
+import com.osrsGoalTracker.goal.repository.impl.InMemoryGoalScheduleRepository;
+import com.osrsGoalTracker.orchestration.events.GoalNotificationDueEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GoalSchedulingServiceImplTest {
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T12:02:00Z");
+
+    private InMemoryGoalScheduleRepository repository;
+    private InMemoryGoalProgressRepository progressRepository;
+    private GoalEventPublisher eventPublisher;
+    private GoalSchedulingServiceImpl schedulingService;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryGoalScheduleRepository();
+        progressRepository = new InMemoryGoalProgressRepository();
+        eventPublisher = mock(GoalEventPublisher.class);
+        schedulingService = new GoalSchedulingServiceImpl(repository, progressRepository, eventPublisher,
+                GoalConfig.builder()
+                        .scheduleBucketWidth(Duration.ofMinutes(5))
+                        .build());
+    }
+
+    @Test
+    void scheduleGoal_DailyGoal_FilesUnderBucketOfNextDay() {
+        // When
+        schedulingService.scheduleGoal(goal("1", "DAILY"), CREATED_AT);
+
+        // Then
+        ScheduledGoal scheduled = repository.getSchedule("1").orElseThrow();
+        assertEquals(NotificationFrequency.DAILY, scheduled.getFrequency());
+        assertEquals(Instant.parse("2026-01-02T12:02:00Z"), scheduled.getDueAt());
+        assertEquals(Instant.parse("2026-01-02T12:00:00Z"), scheduled.getDueBucket());
+        assertEquals(List.of(scheduled), repository.getDueGoals(scheduled.getDueBucket()));
+    }
+
+    @Test
+    void scheduleGoal_SameFrequencyAgain_KeepsExistingSchedule() {
+        // Given
+        schedulingService.scheduleGoal(goal("1", "DAILY"), CREATED_AT);
+
+        // When
+        schedulingService.scheduleGoal(goal("1", "daily"), CREATED_AT.plusSeconds(3_600));
+
+        // Then
+        assertEquals(Instant.parse("2026-01-02T12:02:00Z"), repository.getSchedule("1").orElseThrow().getDueAt());
+    }
+
+    @Test
+    void scheduleGoal_FrequencyChanged_MovesToNewBucket() {
+        // Given
+        schedulingService.scheduleGoal(goal("1", "DAILY"), CREATED_AT);
+
+        // When
+        schedulingService.scheduleGoal(goal("1", "WEEKLY"), CREATED_AT);
+
+        // Then
+        ScheduledGoal scheduled = repository.getSchedule("1").orElseThrow();
+        assertEquals(Instant.parse("2026-01-08T12:02:00Z"), scheduled.getDueAt());
+        assertTrue(repository.getDueGoals(Instant.parse("2026-01-02T12:00:00Z")).isEmpty());
+        assertEquals(List.of(scheduled), repository.getDueGoals(scheduled.getDueBucket()));
+    }
+
+    @Test
+    void scheduleGoal_UnknownFrequency_RemovesExistingSchedule() {
+        // Given
+        schedulingService.scheduleGoal(goal("1", "DAILY"), CREATED_AT);
+
+        // When
+        schedulingService.scheduleGoal(goal("1", "HOURLY"), CREATED_AT);
+
+        // Then
+        assertFalse(repository.getSchedule("1").isPresent());
+        assertTrue(repository.getDueGoals(Instant.parse("2026-01-02T12:00:00Z")).isEmpty());
+    }
+
+    @Test
+    void unscheduleGoal_ScheduledGoal_RemovesSchedule() {
+        // Given
+        schedulingService.scheduleGoal(goal("1", "DAILY"), CREATED_AT);
+
+        // When
+        schedulingService.unscheduleGoal("1");
+
+        // Then
+        assertFalse(repository.getSchedule("1").isPresent());
+    }
+
+    @Test
+    void fireDueGoals_BucketStillOpen_FiresNothing() {
+        // Given
+        schedulingService.scheduleGoal(goal("1", "DAILY"), CREATED_AT);
+        repository.saveTickCursor(Instant.parse("2026-01-02T11:55:00Z"));
+
+        // When
+        List<ScheduledGoal> fired = schedulingService.fireDueGoals(Instant.parse("2026-01-02T12:04:59Z"));
+
+        // Then
+        assertTrue(fired.isEmpty());
+        assertEquals(Instant.parse("2026-01-02T11:55:00Z"), repository.getTickCursor().orElseThrow());
+    }
+
+    @Test
+    void fireDueGoals_BucketPassed_FiresAndRearmsForNextPeriod() {
+        // Given
+        schedulingService.scheduleGoal(goal("1", "DAILY"), CREATED_AT);
+        repository.saveTickCursor(Instant.parse("2026-01-02T11:55:00Z"));
+
+        // When
+        List<ScheduledGoal> fired = schedulingService.fireDueGoals(Instant.parse("2026-01-02T12:05:00Z"));
+
+        // Then
+        assertEquals(1, fired.size());
+        assertEquals("1", fired.get(0).getGoalId());
+        verify(eventPublisher).publish(List.of(GoalNotificationDueEvent.builder()
+                .userId("user123")
+                .goalId("1")
+                .characterName("Zezima")
+                .frequency("DAILY")
+                .dueAt(Instant.parse("2026-01-02T12:02:00Z"))
+                .build()));
+        assertEquals(Instant.parse("2026-01-03T12:02:00Z"), repository.getSchedule("1").orElseThrow().getDueAt());
+        assertTrue(repository.getDueGoals(Instant.parse("2026-01-02T12:00:00Z")).isEmpty());
+        assertEquals(Instant.parse("2026-01-02T12:00:00Z"), repository.getTickCursor().orElseThrow());
+    }
+
+    @Test
+    void fireDueGoals_SeveralBucketsMissed_CatchesUpInOrderAndSkipsPassedPeriods() {
+        // Given
+        schedulingService.scheduleGoal(goal("1", "DAILY"), CREATED_AT);
+        schedulingService.scheduleGoal(goal("2", "DAILY"), CREATED_AT.plusSeconds(600));
+        repository.saveTickCursor(Instant.parse("2026-01-02T11:55:00Z"));
+
+        // When
+        List<ScheduledGoal> fired = schedulingService.fireDueGoals(Instant.parse("2026-01-03T12:20:00Z"));
+
+        // Then
+        assertEquals(List.of("1", "2"), fired.stream().map(ScheduledGoal::getGoalId).toList());
+        assertEquals(Instant.parse("2026-01-04T12:02:00Z"), repository.getSchedule("1").orElseThrow().getDueAt());
+        assertEquals(Instant.parse("2026-01-04T12:12:00Z"), repository.getSchedule("2").orElseThrow().getDueAt());
+        assertEquals(Instant.parse("2026-01-03T12:15:00Z"), repository.getTickCursor().orElseThrow());
+    }
+
+    @Test
+    void fireDueGoals_PublishFails_LeavesBucketArmedForNextTick() {
+        // Given
+        schedulingService.scheduleGoal(goal("1", "DAILY"), CREATED_AT);
+        repository.saveTickCursor(Instant.parse("2026-01-02T11:55:00Z"));
+        when(eventPublisher.publish(anyList())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)))
+                .thenReturn(List.of());
+
+        // When
+        List<ScheduledGoal> failed = schedulingService.fireDueGoals(Instant.parse("2026-01-02T12:05:00Z"));
+        List<ScheduledGoal> retried = schedulingService.fireDueGoals(Instant.parse("2026-01-02T12:06:00Z"));
+
+        // Then
+        assertTrue(failed.isEmpty());
+        assertEquals(1, retried.size());
+        verify(eventPublisher, times(2)).publish(anyList());
+        assertEquals(Instant.parse("2026-01-03T12:02:00Z"), repository.getSchedule("1").orElseThrow().getDueAt());
+        assertEquals(Instant.parse("2026-01-02T12:00:00Z"), repository.getTickCursor().orElseThrow());
+    }
+
+    @Test
+    void fireDueGoals_GoalUnscheduledWhilePublishing_IsNotReArmed() {
+        // Given
+        schedulingService.scheduleGoal(goal("1", "DAILY"), CREATED_AT);
+        repository.saveTickCursor(Instant.parse("2026-01-02T11:55:00Z"));
+        when(eventPublisher.publish(anyList())).thenAnswer(invocation -> {
+            schedulingService.unscheduleGoal("1");
+            return List.of();
+        });
+
+        // When
+        List<ScheduledGoal> fired = schedulingService.fireDueGoals(Instant.parse("2026-01-02T12:05:00Z"));
+
+        // Then
+        assertEquals(1, fired.size());
+        assertTrue(repository.getSchedule("1").isEmpty());
+        assertTrue(repository.getDueGoals(Instant.parse("2026-01-03T12:00:00Z")).isEmpty());
+    }
+
+    @Test
+    void fireDueGoals_GoalCompleted_SkipsItAndRemovesItsSchedule() {
+        // Given
+        schedulingService.scheduleGoal(goal("1", "DAILY"), CREATED_AT);
+        schedulingService.scheduleGoal(goal("2", "DAILY"), CREATED_AT);
+        progressRepository.saveProgress(List.of(
+                GoalProgress.builder().goal(goal("1", "DAILY")).currentValue(99).percentComplete(100)
+                        .completed(true).build(),
+                GoalProgress.builder().goal(goal("2", "DAILY")).currentValue(80).percentComplete(50).build()));
+        repository.saveTickCursor(Instant.parse("2026-01-02T11:55:00Z"));
+
+        // When
+        List<ScheduledGoal> fired = schedulingService.fireDueGoals(Instant.parse("2026-01-02T12:05:00Z"));
+
+        // Then
+        assertEquals(List.of("2"), fired.stream().map(ScheduledGoal::getGoalId).toList());
+        verify(eventPublisher).publish(List.of(GoalNotificationDueEvent.builder()
+                .userId("user123")
+                .goalId("2")
+                .characterName("Zezima")
+                .frequency("DAILY")
+                .dueAt(Instant.parse("2026-01-02T12:02:00Z"))
+                .build()));
+        assertTrue(repository.getSchedule("1").isEmpty());
+        assertEquals(List.of("2"), repository.getDueGoals(Instant.parse("2026-01-03T12:00:00Z")).stream()
+                .map(ScheduledGoal::getGoalId).toList());
+    }
+
+    @Test
+    void fireDueGoals_NoCursor_StartsAtLastCompleteBucket() {
+        // Given
+        schedulingService.scheduleGoal(goal("1", "DAILY"), CREATED_AT);
+
+        // When
+        List<ScheduledGoal> fired = schedulingService.fireDueGoals(Instant.parse("2026-01-02T12:07:00Z"));
+
+        // Then
+        assertEquals(1, fired.size());
+        assertEquals(Instant.parse("2026-01-02T12:00:00Z"), repository.getTickCursor().orElseThrow());
+    }
+
+    @Test
+    void constructor_FractionalBucketWidth_ThrowsException() {
+        GoalConfig config = GoalConfig.builder().scheduleBucketWidth(Duration.ofMillis(1_500)).build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new GoalSchedulingServiceImpl(repository, progressRepository, eventPublisher, config));
+    }
+
+    private static Goal goal(String goalId, String frequency) {
+        return Goal.builder()
+                .userId("user123")
+                .goalId(goalId)
+                .characterName("Zezima")
+                .targetAttribute("ATTACK")
+                .targetValue(99)
+                .frequency(frequency)
+                .build();
+    }
+}
@@ -1,19 +1,49 @@
 package com.osrsGoalTracker.goal.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
+import com.osrsGoalTracker.goal.model.ExperienceTable;
 import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalCreation;
+import com.osrsGoalTracker.goal.model.GoalCreationResult;
+import com.osrsGoalTracker.goal.model.GoalListFilter;
+import com.osrsGoalTracker.goal.model.GoalPage;
+import com.osrsGoalTracker.goal.model.GoalProgress;
+import com.osrsGoalTracker.goal.model.GoalStatus;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.goal.repository.GoalIdempotencyRepository;
+import com.osrsGoalTracker.goal.repository.GoalProgressRepository;
 import com.osrsGoalTracker.goal.repository.GoalRepository;
+import com.osrsGoalTracker.goal.repository.impl.InMemoryGoalProgressRepository;
+import com.osrsGoalTracker.goal.service.GoalMetricIndex;
+import com.osrsGoalTracker.goal.service.GoalMilestoneDetector;
+import com.osrsGoalTracker.goal.service.GoalProgressEvaluator;
+import com.osrsGoalTracker.goal.service.GoalSchedulingService;
+import com.osrsGoalTracker.goal.service.GoalService;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -22,12 +52,25 @@ class GoalServiceImplTest {
     @Mock
     private GoalRepository goalRepository;
 
+    @Mock
+    private GoalProgressRepository goalProgressRepository;
+
+    @Mock
+    private GoalSchedulingService goalSchedulingService;
+
+    @Mock
+    private GoalIdempotencyRepository goalIdempotencyRepository;
+
+    private GoalMetricIndex goalMetricIndex;
+
     private GoalServiceImpl goalService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        goalService = new GoalServiceImpl(goalRepository);
+        goalMetricIndex = new GoalMetricIndex();
+        goalService = new GoalServiceImpl(goalRepository, goalProgressRepository, goalSchedulingService,
+                goalIdempotencyRepository, goalMetricIndex);
     }
 
     @Test
@@ -69,6 +112,162 @@ class GoalServiceImplTest {
         verify(goalRepository).createGoal(any(Goal.class), any(Long.class));
     }
 
+    @Test
+    void createGoal_ValidGoal_TracksInitialProgress() {
+        // Given
+        Goal goal = createGoalWithTargetValue(200);
+        when(goalRepository.createGoal(goal, 50)).thenReturn(goal);
+
+        // When
+        goalService.createGoal(goal, 50);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GoalProgress>> captor = ArgumentCaptor.forClass(List.class);
+        verify(goalProgressRepository).createProgress(captor.capture());
+        GoalProgress progress = captor.getValue().get(0);
+        assertEquals(goal, progress.getGoal());
+        assertEquals(50, progress.getCurrentValue());
+        assertEquals(25.0, progress.getPercentComplete(), 0.001);
+        assertFalse(progress.isCompleted());
+        verify(goalSchedulingService).scheduleGoal(eq(goal), any(Instant.class));
+        assertEquals(1, goalMetricIndex.size());
+    }
+
+    @Test
+    void createGoal_LevelGoal_FirstPollSeesNoProgressThatWasNotGained() {
+        // Given
+        Goal goal = Goal.builder()
+                .userId("user123")
+                .goalId("goal1")
+                .characterName("testChar")
+                .targetAttribute("ATTACK")
+                .targetType("level")
+                .targetValue(99)
+                .targetDate(Instant.now().plus(30, ChronoUnit.DAYS))
+                .build();
+        when(goalRepository.createGoal(goal, 92)).thenReturn(goal);
+        GoalProgressEvaluator evaluator = GoalProgressEvaluator.compile(List.of(goal));
+
+        // When
+        goalService.createGoal(goal, 92);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GoalProgress>> captor = ArgumentCaptor.forClass(List.class);
+        verify(goalProgressRepository).createProgress(captor.capture());
+        GoalProgress initial = captor.getValue().get(0);
+        assertEquals(92, initial.getCurrentValue());
+        assertEquals(ExperienceTable.xpForLevel(92) * 100.0 / ExperienceTable.xpForLevel(99),
+                initial.getPercentComplete(), 0.001);
+        assertNull(GoalMilestoneDetector.detect(initial, poll(evaluator, 6_600_000)));
+        assertNotNull(GoalMilestoneDetector.detect(initial, poll(evaluator, 9_800_000)));
+    }
+
+    @Test
+    void createGoal_NewRequest_CreatesGoalAndCompletesRequest() {
+        // Given
+        Goal goal = createGoalWithTargetValue(99);
+        when(goalIdempotencyRepository.claim(eq("event:1"), any(Instant.class))).thenReturn(true);
+        when(goalRepository.createGoal(goal, 50)).thenReturn(goal);
+
+        // When
+        Goal result = goalService.createGoal(goal, 50, "event:1");
+
+        // Then
+        assertEquals(goal, result);
+        verify(goalIdempotencyRepository).complete(eq("event:1"), eq(goal), any(Instant.class));
+    }
+
+    @Test
+    void createGoal_RetriedRequest_ResumesOriginalGoalWithoutWriting() {
+        // Given
+        Goal goal = createGoalWithTargetValue(99);
+        when(goalIdempotencyRepository.claim(eq("event:1"), any(Instant.class))).thenReturn(false);
+        when(goalIdempotencyRepository.getCreatedGoal("event:1")).thenReturn(Optional.of(goal));
+
+        // When
+        Goal result = goalService.createGoal(goal, 50, "event:1");
+
+        // Then
+        assertEquals(goal, result);
+        verifyNoInteractions(goalRepository);
+        verify(goalProgressRepository).createProgress(any());
+        verify(goalSchedulingService).scheduleGoal(eq(goal), any(Instant.class));
+    }
+
+    @Test
+    void createGoal_RequestInProgress_ThrowsIllegalStateException() {
+        // Given
+        when(goalIdempotencyRepository.claim(eq("event:1"), any(Instant.class))).thenReturn(false);
+        when(goalIdempotencyRepository.getCreatedGoal("event:1")).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThrows(IllegalStateException.class,
+                () -> goalService.createGoal(createGoalWithTargetValue(99), 50, "event:1"));
+        verifyNoInteractions(goalRepository);
+    }
+
+    @Test
+    void createGoal_WriteFails_ReleasesClaim() {
+        // Given
+        Goal goal = createGoalWithTargetValue(99);
+        when(goalIdempotencyRepository.claim(eq("event:1"), any(Instant.class))).thenReturn(true);
+        when(goalRepository.createGoal(goal, 50)).thenThrow(new IllegalStateException("write failed"));
+
+        // When/Then
+        assertThrows(IllegalStateException.class, () -> goalService.createGoal(goal, 50, "event:1"));
+        verify(goalIdempotencyRepository).release("event:1");
+    }
+
+    @Test
+    void createGoal_ProgressSaveFailsAfterWrite_CompletesRequestWithoutReleasing() {
+        // Given
+        Goal goal = createGoalWithTargetValue(99);
+        when(goalIdempotencyRepository.claim(eq("event:1"), any(Instant.class))).thenReturn(true);
+        when(goalRepository.createGoal(goal, 50)).thenReturn(goal);
+        doThrow(new IllegalStateException("Throughput exceeded")).when(goalProgressRepository).createProgress(any());
+
+        // When/Then
+        assertThrows(IllegalStateException.class, () -> goalService.createGoal(goal, 50, "event:1"));
+        verify(goalIdempotencyRepository).complete(eq("event:1"), eq(goal), any(Instant.class));
+        verify(goalIdempotencyRepository, never()).release("event:1");
+    }
+
+    @Test
+    void createGoal_RetriedAfterFollowUpFailed_TracksAndSchedulesGoal() {
+        // Given
+        InMemoryGoalProgressRepository progressRepository = new InMemoryGoalProgressRepository();
+        goalService = new GoalServiceImpl(goalRepository, progressRepository, goalSchedulingService,
+                goalIdempotencyRepository, goalMetricIndex);
+        Goal goal = Goal.builder()
+                .userId("user123")
+                .goalId("goal1")
+                .characterName("testChar")
+                .targetAttribute("ATTACK")
+                .targetValue(99)
+                .targetDate(Instant.now().plus(30, ChronoUnit.DAYS))
+                .build();
+        when(goalIdempotencyRepository.claim(eq("event:1"), any(Instant.class))).thenReturn(true, false);
+        when(goalRepository.createGoal(goal, 50)).thenReturn(goal);
+        when(goalIdempotencyRepository.getCreatedGoal("event:1")).thenReturn(Optional.of(goal));
+        doThrow(new IllegalStateException("Throughput exceeded")).doNothing()
+                .when(goalSchedulingService).scheduleGoal(eq(goal), any(Instant.class));
+        assertThrows(IllegalStateException.class, () -> goalService.createGoal(goal, 50, "event:1"));
+
+        // When
+        Goal result = goalService.createGoal(goal, 50, "event:1");
+
+        // Then
+        assertEquals(goal, result);
+        verify(goalRepository).createGoal(goal, 50);
+        verify(goalSchedulingService, times(2)).scheduleGoal(eq(goal), any(Instant.class));
+        GoalPage page = progressRepository.listGoals("user123", GoalListFilter.builder().build(), null, 10);
+        assertEquals(1, page.getGoals().size());
+        assertEquals(50, page.getGoals().get(0).getCurrentValue());
+        assertEquals(1, goalMetricIndex.size());
+    }
+
     @Test
     void createGoal_NullGoal_ThrowsException() {
         assertThrows(IllegalArgumentException.class, () -> goalService.createGoal(null, 0));
@@ -107,4 +306,228 @@ class GoalServiceImplTest {
 
         assertThrows(IllegalArgumentException.class, () -> goalService.createGoal(goal, 0));
     }
-}
\ No newline at end of file
+
+    @Test
+    void createGoals_MixedValidity_WritesOnlyValidGoalsAndKeepsOrder() {
+        // Given
+        Goal valid = createGoalWithTargetValue(99);
+        Goal invalid = createGoalWithTargetValue(0);
+        GoalCreation validCreation = GoalCreation.builder().goal(valid).currentProgress(50).build();
+        List<GoalCreation> creations = List.of(
+                GoalCreation.builder().goal(invalid).currentProgress(50).build(), validCreation);
+
+        when(goalRepository.createGoals(List.of(validCreation)))
+                .thenReturn(List.of(GoalCreationResult.success(valid)));
+
+        // When
+        List<GoalCreationResult> results = goalService.createGoals(creations);
+
+        // Then
+        assertEquals(2, results.size());
+        assertFalse(results.get(0).isSucceeded());
+        assertEquals("targetValue must be greater than 0", results.get(0).getError());
+        assertTrue(results.get(1).isSucceeded());
+        assertEquals(valid, results.get(1).getGoal());
+        verify(goalProgressRepository).createProgress(any());
+    }
+
+    @Test
+    void createGoals_RedeliveredRequest_ResumesCreatedGoalWithoutWriting() {
+        // Given
+        Goal goal = createGoalWithTargetValue(99);
+        GoalCreation creation = GoalCreation.builder().goal(goal).currentProgress(50).idempotencyKey("message1").build();
+        when(goalIdempotencyRepository.claim(eq("message1"), any(Instant.class))).thenReturn(false);
+        when(goalIdempotencyRepository.getCreatedGoal("message1")).thenReturn(Optional.of(goal));
+
+        // When
+        List<GoalCreationResult> results = goalService.createGoals(List.of(creation));
+
+        // Then
+        assertTrue(results.get(0).isSucceeded());
+        assertEquals(goal, results.get(0).getGoal());
+        verifyNoInteractions(goalRepository);
+        verify(goalProgressRepository).createProgress(any());
+        verify(goalSchedulingService).scheduleGoal(eq(goal), any(Instant.class));
+    }
+
+    @Test
+    void createGoals_RedeliveredAfterPolling_KeepsPolledProgress() {
+        // Given
+        InMemoryGoalProgressRepository progressRepository = new InMemoryGoalProgressRepository();
+        goalService = new GoalServiceImpl(goalRepository, progressRepository, goalSchedulingService,
+                goalIdempotencyRepository, goalMetricIndex);
+        Goal goal = Goal.builder()
+                .userId("user123")
+                .goalId("goal1")
+                .characterName("testChar")
+                .targetAttribute("ATTACK")
+                .targetValue(99)
+                .targetDate(Instant.now().plus(30, ChronoUnit.DAYS))
+                .build();
+        GoalCreation creation = GoalCreation.builder().goal(goal).currentProgress(50).idempotencyKey("message1").build();
+        when(goalIdempotencyRepository.claim(eq("message1"), any(Instant.class))).thenReturn(true, false);
+        when(goalRepository.createGoals(List.of(creation))).thenReturn(List.of(GoalCreationResult.success(goal)));
+        when(goalIdempotencyRepository.getCreatedGoal("message1")).thenReturn(Optional.of(goal));
+        goalService.createGoals(List.of(creation));
+        progressRepository.updateProgress(List.of(GoalProgress.builder()
+                .goal(goal)
+                .currentValue(99)
+                .percentComplete(100.0)
+                .completed(true)
+                .updatedAt(Instant.now())
+                .build()));
+
+        // When
+        List<GoalCreationResult> results = goalService.createGoals(List.of(creation));
+
+        // Then
+        assertTrue(results.get(0).isSucceeded());
+        GoalPage completed = progressRepository.listGoals("user123",
+                GoalListFilter.builder().status(GoalStatus.COMPLETED).build(), null, 10);
+        assertEquals(1, completed.getGoals().size());
+        assertEquals(99, completed.getGoals().get(0).getCurrentValue());
+        assertFalse(progressRepository.getActiveProgress(null).hasNext());
+    }
+
+    @Test
+    void createGoals_ProgressSaveFails_ReportsWrittenGoalsAndKeepsTheirClaims() {
+        // Given
+        Goal goal = createGoalWithTargetValue(99);
+        GoalCreation creation = GoalCreation.builder().goal(goal).currentProgress(50).idempotencyKey("message1").build();
+        when(goalIdempotencyRepository.claim(eq("message1"), any(Instant.class))).thenReturn(true);
+        when(goalRepository.createGoals(List.of(creation))).thenReturn(List.of(GoalCreationResult.success(goal)));
+        doThrow(new IllegalStateException("Throughput exceeded")).when(goalProgressRepository).createProgress(any());
+
+        // When
+        List<GoalCreationResult> results = goalService.createGoals(List.of(creation));
+
+        // Then
+        assertFalse(results.get(0).isSucceeded());
+        verify(goalIdempotencyRepository).complete(eq("message1"), eq(goal), any(Instant.class));
+        verify(goalIdempotencyRepository, never()).release("message1");
+        verifyNoInteractions(goalSchedulingService);
+    }
+
+    @Test
+    void trackGoals_ExistingGoals_TracksOnlyValidGoalsWithoutWritingThem() {
+        // Given
+        InMemoryGoalProgressRepository progressRepository = new InMemoryGoalProgressRepository();
+        goalService = new GoalServiceImpl(goalRepository, progressRepository, goalSchedulingService,
+                goalIdempotencyRepository, goalMetricIndex);
+        Goal existing = Goal.builder()
+                .userId("user123")
+                .goalId("goal1")
+                .characterName("testChar")
+                .targetAttribute("ATTACK")
+                .targetValue(99)
+                .targetDate(Instant.now().plus(30, ChronoUnit.DAYS))
+                .build();
+        Goal withoutId = createGoalWithTargetValue(99);
+
+        // When
+        List<GoalCreationResult> results = goalService.trackGoals(List.of(
+                GoalCreation.builder().goal(existing).currentProgress(50).build(),
+                GoalCreation.builder().goal(withoutId).currentProgress(50).build()));
+
+        // Then
+        assertTrue(results.get(0).isSucceeded());
+        assertEquals("goalId cannot be null or empty", results.get(1).getError());
+        verifyNoInteractions(goalRepository, goalIdempotencyRepository);
+        verify(goalSchedulingService).scheduleGoal(eq(existing), any(Instant.class));
+        GoalPage page = progressRepository.listGoals("user123", GoalListFilter.builder().build(), null, 10);
+        assertEquals(1, page.getGoals().size());
+        assertEquals(50, page.getGoals().get(0).getCurrentValue());
+    }
+
+    @Test
+    void trackGoals_EmptyList_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> goalService.trackGoals(Collections.emptyList()));
+    }
+
+    @Test
+    void createGoals_EmptyList_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> goalService.createGoals(Collections.emptyList()));
+    }
+
+    @Test
+    void deleteGoal_ValidIds_RemovesProgressAndSchedule() {
+        // When
+        goalService.deleteGoal("user123", "goal1");
+
+        // Then
+        verify(goalProgressRepository).deleteProgress("user123", "goal1");
+        verify(goalSchedulingService).unscheduleGoal("goal1");
+    }
+
+    @Test
+    void deleteGoal_IndexedGoal_RemovesFromMetricIndex() {
+        // Given
+        Goal goal = Goal.builder()
+                .userId("user123")
+                .goalId("goal1")
+                .characterName("testChar")
+                .targetAttribute("ATTACK")
+                .targetValue(99)
+                .targetDate(Instant.now().plus(30, ChronoUnit.DAYS))
+                .build();
+        when(goalRepository.createGoal(goal, 50)).thenReturn(goal);
+        goalService.createGoal(goal, 50);
+
+        // When
+        goalService.deleteGoal("user123", "goal1");
+
+        // Then
+        assertEquals(0, goalMetricIndex.size());
+    }
+
+    @Test
+    void deleteGoal_EmptyGoalId_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> goalService.deleteGoal("user123", " "));
+        verifyNoInteractions(goalProgressRepository, goalSchedulingService);
+    }
+
+    @Test
+    void listGoals_NullFilter_ListsEveryGoal() {
+        // Given
+        GoalPage expected = GoalPage.builder().goals(List.of()).build();
+        when(goalProgressRepository.listGoals("user123", GoalListFilter.builder().build(), "cursor", 25))
+                .thenReturn(expected);
+
+        // When
+        GoalPage page = goalService.listGoals("user123", null, "cursor", 25);
+
+        // Then
+        assertEquals(expected, page);
+    }
+
+    @Test
+    void listGoals_LimitAboveMaximum_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> goalService.listGoals("user123", null, null, GoalService.MAX_LIST_LIMIT + 1));
+        verifyNoInteractions(goalProgressRepository);
+    }
+
+    private static GoalProgress poll(GoalProgressEvaluator evaluator, long attackXp) {
+        GoalProgressEvaluator.Progress progress = evaluator.evaluate(CharacterHiscoresSnapshot.builder("testChar")
+                .capturedAt(Instant.now())
+                .skill(MetricName.ATTACK, 1000, ExperienceTable.levelForXp(attackXp), attackXp)
+                .build());
+        return GoalProgress.builder()
+                .goal(evaluator.goalAt(0))
+                .currentValue(progress.currentValue(0))
+                .percentComplete(progress.percentComplete(0))
+                .completed(progress.isComplete(0))
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    private static Goal createGoalWithTargetValue(long targetValue) {
+        return Goal.builder()
+                .userId("user123")
+                .characterName("testChar")
+                .targetAttribute("ATTACK")
+                .targetValue(targetValue)
+                .targetDate(Instant.now().plus(30, ChronoUnit.DAYS))
+                .build();
+    }
+}
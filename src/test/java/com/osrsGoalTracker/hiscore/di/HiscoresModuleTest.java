@@ -1,12 +1,20 @@
 package com.osrsGoalTracker.hiscore.di;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.osrsGoalTracker.hiscore.external.HiscoresClient;
+import com.osrsGoalTracker.hiscore.external.impl.CachingHiscoresClient;
+import com.osrsGoalTracker.hiscore.external.impl.CoalescingHiscoresClient;
+import com.osrsGoalTracker.hiscore.external.impl.HedgingHiscoresClient;
 import com.osrsGoalTracker.hiscore.external.impl.JagexHiscoresClientImpl;
+import com.osrsGoalTracker.hiscore.external.impl.JagexLiteHiscoresClient;
+import com.osrsGoalTracker.hiscore.external.impl.ResilientHiscoresClient;
+import com.osrsGoalTracker.hiscore.repository.LeaderboardRepository;
+import com.osrsGoalTracker.hiscore.repository.impl.InMemoryLeaderboardRepository;
 import com.osrsGoalTracker.hiscore.service.HiscoresService;
 import com.osrsGoalTracker.hiscore.service.impl.HiscoresServiceImpl;
 
@@ -31,4 +39,98 @@ class HiscoresModuleTest {
         assertTrue(hiscoresService instanceof HiscoresServiceImpl,
                 "HiscoresService should be bound to HiscoresServiceImpl");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testHiscoresModuleBindings_NoLeaderboardTable() {
+        // Given
+        Injector injector = Guice.createInjector(new HiscoresModule(HiscoresConfig.builder().build()));
+
+        // When
+        LeaderboardRepository leaderboardRepository = injector.getInstance(LeaderboardRepository.class);
+
+        // Then
+        assertTrue(leaderboardRepository instanceof InMemoryLeaderboardRepository,
+                "LeaderboardRepository should be kept in memory when no table is configured");
+        assertSame(leaderboardRepository, injector.getInstance(LeaderboardRepository.class));
+    }
+
+    @Test
+    void testHiscoresModuleBindings_CacheEnabled() {
+        // Given
+        HiscoresConfig config = HiscoresConfig.builder()
+                .cacheEnabled(true)
+                .build();
+        Injector injector = Guice.createInjector(new HiscoresModule(config));
+
+        // When
+        HiscoresClient hiscoresClient = injector.getInstance(HiscoresClient.class);
+
+        // Then
+        assertTrue(hiscoresClient instanceof CachingHiscoresClient,
+                "HiscoresClient should be wrapped in CachingHiscoresClient when caching is enabled");
+    }
+
+    @Test
+    void testHiscoresModuleBindings_CoalescingEnabled() {
+        // Given
+        HiscoresConfig config = HiscoresConfig.builder()
+                .coalescingEnabled(true)
+                .build();
+        Injector injector = Guice.createInjector(new HiscoresModule(config));
+
+        // When
+        HiscoresClient hiscoresClient = injector.getInstance(HiscoresClient.class);
+
+        // Then
+        assertTrue(hiscoresClient instanceof CoalescingHiscoresClient,
+                "HiscoresClient should be wrapped in CoalescingHiscoresClient when coalescing is enabled");
+    }
+
+    @Test
+    void testHiscoresModuleBindings_ResilienceEnabled() {
+        // Given
+        HiscoresConfig config = HiscoresConfig.builder()
+                .resilienceEnabled(true)
+                .build();
+        Injector injector = Guice.createInjector(new HiscoresModule(config));
+
+        // When
+        HiscoresClient hiscoresClient = injector.getInstance(HiscoresClient.class);
+
+        // Then
+        assertTrue(hiscoresClient instanceof ResilientHiscoresClient,
+                "HiscoresClient should be wrapped in ResilientHiscoresClient when resilience is enabled");
+    }
+
+    @Test
+    void testHiscoresModuleBindings_HedgingEnabled() {
+        // Given
+        HiscoresConfig config = HiscoresConfig.builder()
+                .hedgingEnabled(true)
+                .build();
+        Injector injector = Guice.createInjector(new HiscoresModule(config));
+
+        // When
+        HiscoresClient hiscoresClient = injector.getInstance(HiscoresClient.class);
+
+        // Then
+        assertTrue(hiscoresClient instanceof HedgingHiscoresClient,
+                "HiscoresClient should be wrapped in HedgingHiscoresClient when hedging is enabled");
+    }
+
+    @Test
+    void testHiscoresModuleBindings_LiteClientEnabled() {
+        // Given
+        HiscoresConfig config = HiscoresConfig.builder()
+                .liteClientEnabled(true)
+                .build();
+        Injector injector = Guice.createInjector(new HiscoresModule(config));
+
+        // When
+        HiscoresClient hiscoresClient = injector.getInstance(HiscoresClient.class);
+
+        // Then
+        assertTrue(hiscoresClient instanceof JagexLiteHiscoresClient,
+                "HiscoresClient should be bound to JagexLiteHiscoresClient when the lite client is enabled");
+    }
+}
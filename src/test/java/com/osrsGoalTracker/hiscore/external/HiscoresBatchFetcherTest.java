@@ -0,0 +1,91 @@
+package com.osrsGoalTracker.hiscore.external;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresBatch;
+
+import org.junit.jupiter.api.Test;
+
+class HiscoresBatchFetcherTest {
+
+    @Test
+    void fetch_MixedResults_IsolatesFailures() {
+        // When
+        CharacterHiscoresBatch batch = HiscoresBatchFetcher.fetch(Arrays.asList("Good", "Bad"), 2,
+                Duration.ofSeconds(5), name -> {
+                    if ("Bad".equals(name)) {
+                        throw new RuntimeException("Error fetching character hiscores");
+                    }
+                    return CharacterHiscores.builder().characterName(name).build();
+                });
+
+        // Then
+        assertEquals(Collections.singleton("Good"), batch.getHiscores().keySet());
+        assertEquals("Good", batch.getHiscores().get("Good").getCharacterName());
+        assertEquals("Error fetching character hiscores", batch.getErrors().get("Bad"));
+    }
+
+    @Test
+    void fetch_ConcurrencyCap_NeverExceedsMaxInFlight() {
+        // Given
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+
+        // When
+        CharacterHiscoresBatch batch = HiscoresBatchFetcher.fetch(
+                Arrays.asList("A", "B", "C", "D", "E", "F", "G", "H"), 3, Duration.ofSeconds(5), name -> {
+                    maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                    return CharacterHiscores.builder().characterName(name).build();
+                });
+
+        // Then
+        assertEquals(8, batch.getHiscores().size());
+        assertTrue(maxObserved.get() <= 3, "At most 3 lookups should run at once");
+    }
+
+    @Test
+    void fetch_DeadlinePassed_ReportsTimeouts() {
+        // Given
+        CountDownLatch neverReleased = new CountDownLatch(1);
+
+        // When
+        CharacterHiscoresBatch batch = HiscoresBatchFetcher.fetch(Arrays.asList("Fast", "Slow"), 2,
+                Duration.ofMillis(200), name -> {
+                    if ("Slow".equals(name)) {
+                        try {
+                            neverReleased.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    return CharacterHiscores.builder().characterName(name).build();
+                });
+
+        // Then
+        assertTrue(batch.getHiscores().containsKey("Fast"));
+        assertEquals(HiscoresBatchFetcher.TIMEOUT_MESSAGE, batch.getErrors().get("Slow"));
+    }
+
+    @Test
+    void fetch_InvalidConcurrency_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> HiscoresBatchFetcher.fetch(
+                Collections.singletonList("A"), 0, Duration.ofSeconds(1),
+                name -> CharacterHiscores.builder().build()));
+    }
+}
@@ -0,0 +1,211 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.external.HiscoresClient;
+import com.osrsGoalTracker.hiscore.model.Activity;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.model.Skill;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingHiscoresClientTest {
+    private static final String CHARACTER_NAME = "TestCharacter";
+
+    @Mock
+    private HiscoresClient delegate;
+
+    private AtomicLong nanos;
+    private Queue<Runnable> pendingRefreshes;
+    private CachingHiscoresClient cachingClient;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        pendingRefreshes = new ArrayDeque<>();
+        HiscoresConfig config = HiscoresConfig.builder()
+                .cacheEnabled(true)
+                .cacheTtl(Duration.ofMinutes(5))
+                .cacheRefreshAfter(Duration.ofMinutes(1))
+                .build();
+        cachingClient = new CachingHiscoresClient(delegate, config, nanos::get, pendingRefreshes::add);
+    }
+
+    @Test
+    void getCharacterHiscores_RepeatedLookup_HitsCache() {
+        // Given
+        CharacterHiscores hiscores = createHiscores(CHARACTER_NAME, 13034431);
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenReturn(hiscores);
+
+        // When
+        CharacterHiscores first = cachingClient.getCharacterHiscores(CHARACTER_NAME);
+        CharacterHiscores second = cachingClient.getCharacterHiscores("testcharacter");
+
+        // Then
+        assertSame(hiscores, first);
+        assertSame(hiscores, second);
+        verify(delegate, times(1)).getCharacterHiscores(CHARACTER_NAME);
+        assertEquals(1, cachingClient.stats().hitCount());
+        assertEquals(1, cachingClient.stats().missCount());
+        assertTrue(cachingClient.estimatedSizeBytes() > 0);
+    }
+
+    @Test
+    void getCharacterHiscores_NonBreakingSpaceInName_SharesEntryWithPlainSpace() {
+        // Given
+        CharacterHiscores hiscores = createHiscores("Lynx Titan", 13034431);
+        when(delegate.getCharacterHiscores("Lynx\u00A0Titan")).thenReturn(hiscores);
+
+        // When
+        CharacterHiscores first = cachingClient.getCharacterHiscores("Lynx\u00A0Titan");
+        CharacterHiscores second = cachingClient.getCharacterHiscores(" lynx_titan\u00A0");
+
+        // Then
+        assertSame(hiscores, first);
+        assertSame(hiscores, second);
+        verify(delegate, times(1)).getCharacterHiscores("Lynx\u00A0Titan");
+    }
+
+    @Test
+    void getCharacterHiscoresSnapshot_RepeatedLookup_UsesDelegateSnapshotPathOnce() {
+        // Given
+        CharacterHiscoresSnapshot snapshot = CharacterHiscoresSnapshot.builder(CHARACTER_NAME)
+                .skill(MetricName.ATTACK, 100000, 99, 13034431)
+                .build();
+        when(delegate.getCharacterHiscoresSnapshot(CHARACTER_NAME)).thenReturn(snapshot);
+
+        // When
+        CharacterHiscoresSnapshot first = cachingClient.getCharacterHiscoresSnapshot(CHARACTER_NAME);
+        CharacterHiscoresSnapshot second = cachingClient.getCharacterHiscoresSnapshot("testcharacter");
+
+        // Then
+        assertSame(snapshot, first);
+        assertSame(snapshot, second);
+        verify(delegate, times(1)).getCharacterHiscoresSnapshot(CHARACTER_NAME);
+        verify(delegate, never()).getCharacterHiscores(anyString());
+        assertEquals(1, cachingClient.stats().hitCount());
+        assertTrue(cachingClient.estimatedSizeBytes() > 0);
+    }
+
+    @Test
+    void getCharacterHiscores_StaleEntry_ServesStaleAndRefreshes() {
+        // Given
+        CharacterHiscores stale = createHiscores(CHARACTER_NAME, 1000);
+        CharacterHiscores fresh = createHiscores(CHARACTER_NAME, 2000);
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenReturn(stale, fresh);
+        cachingClient.getCharacterHiscores(CHARACTER_NAME);
+        advance(Duration.ofMinutes(2));
+
+        // When
+        CharacterHiscores servedWhileRefreshing = cachingClient.getCharacterHiscores(CHARACTER_NAME);
+        cachingClient.getCharacterHiscores(CHARACTER_NAME);
+        runPendingRefreshes();
+        CharacterHiscores servedAfterRefresh = cachingClient.getCharacterHiscores(CHARACTER_NAME);
+
+        // Then
+        assertSame(stale, servedWhileRefreshing);
+        assertSame(fresh, servedAfterRefresh);
+        verify(delegate, times(2)).getCharacterHiscores(CHARACTER_NAME);
+    }
+
+    @Test
+    void getCharacterHiscores_ExpiredEntry_ReloadsBeforeReturning() {
+        // Given
+        CharacterHiscores expired = createHiscores(CHARACTER_NAME, 1000);
+        CharacterHiscores reloaded = createHiscores(CHARACTER_NAME, 2000);
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenReturn(expired, reloaded);
+        cachingClient.getCharacterHiscores(CHARACTER_NAME);
+        advance(Duration.ofMinutes(6));
+
+        // When
+        CharacterHiscores result = cachingClient.getCharacterHiscores(CHARACTER_NAME);
+
+        // Then
+        assertSame(reloaded, result);
+    }
+
+    @Test
+    void getCharacterHiscores_DelegateThrows_PropagatesAndDoesNotCache() {
+        // Given
+        RuntimeException expectedException = new RuntimeException("Error fetching character hiscores");
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenThrow(expectedException);
+
+        // When/Then
+        RuntimeException actualException = assertThrows(RuntimeException.class,
+                () -> cachingClient.getCharacterHiscores(CHARACTER_NAME));
+        assertSame(expectedException, actualException);
+        assertEquals(0, cachingClient.estimatedSizeBytes());
+    }
+
+    @Test
+    void getCharacterHiscores_MaxBytesExceeded_EvictsEntries() {
+        // Given
+        HiscoresConfig tinyConfig = HiscoresConfig.builder()
+                .cacheEnabled(true)
+                .cacheMaxBytes(CachingHiscoresClient.estimateBytes("a", createHiscores("a", 1)))
+                .build();
+        CachingHiscoresClient tinyClient = new CachingHiscoresClient(delegate, tinyConfig, nanos::get, Runnable::run);
+        when(delegate.getCharacterHiscores("a")).thenReturn(createHiscores("a", 1));
+        when(delegate.getCharacterHiscores("b")).thenReturn(createHiscores("b", 1));
+
+        // When
+        tinyClient.getCharacterHiscores("a");
+        tinyClient.getCharacterHiscores("b");
+
+        // Then
+        assertEquals(1, tinyClient.stats().evictionCount());
+    }
+
+    private void runPendingRefreshes() {
+        Runnable task;
+        while ((task = pendingRefreshes.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(TimeUnit.NANOSECONDS.convert(duration));
+    }
+
+    private CharacterHiscores createHiscores(String characterName, long xp) {
+        return CharacterHiscores.builder()
+                .characterName(characterName)
+                .skills(Arrays.asList(
+                        Skill.builder()
+                                .name("Attack")
+                                .rank(100000)
+                                .level(99)
+                                .xp(xp)
+                                .build()))
+                .activities(Arrays.asList(
+                        Activity.builder()
+                                .name("Clue Scrolls (all)")
+                                .rank(50000)
+                                .score(100)
+                                .build()))
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+    private static final long OPEN_NANOS = 1_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker(3, OPEN_NANOS, 2, clock::get);
+    }
+
+    @Test
+    void testOpensAfterConsecutiveFailures() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void testSuccessResetsFailureCount() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testHalfOpenAllowsLimitedTrialsAndClosesWhenTheySucceed() {
+        // Given
+        openBreaker();
+        clock.addAndGet(OPEN_NANOS);
+
+        // When
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        boolean thirdAllowed = breaker.tryAcquire();
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        // Then
+        assertFalse(thirdAllowed);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testHalfOpenFailureReopens() {
+        // Given
+        openBreaker();
+        clock.addAndGet(OPEN_NANOS);
+
+        // When
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.osrsGoalTracker.hiscore.external.HiscoresClient;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingHiscoresClientTest {
+    private static final int FOLLOWERS = 5;
+
+    @Mock
+    private HiscoresClient delegate;
+
+    private CoalescingHiscoresClient coalescingClient;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        coalescingClient = new CoalescingHiscoresClient(delegate);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getCharacterHiscores_ConcurrentLookups_ShareOneUpstreamCall() throws Exception {
+        // Given
+        CharacterHiscores hiscores = CharacterHiscores.builder().characterName("Test Character").build();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        when(delegate.getCharacterHiscores(anyString())).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            releaseLeader.await();
+            return hiscores;
+        });
+
+        // When
+        Future<CharacterHiscores> leader = executor.submit(
+                () -> coalescingClient.getCharacterHiscores("Test Character"));
+        leaderStarted.await();
+        List<Future<CharacterHiscores>> followers = submitFollowers("test_character");
+        awaitCoalesced(FOLLOWERS);
+        releaseLeader.countDown();
+
+        // Then
+        assertSame(hiscores, leader.get());
+        for (Future<CharacterHiscores> follower : followers) {
+            assertSame(hiscores, follower.get());
+        }
+        verify(delegate, times(1)).getCharacterHiscores(anyString());
+        assertEquals(1, coalescingClient.upstreamRequestCount());
+        assertEquals(FOLLOWERS, coalescingClient.coalescedRequestCount());
+    }
+
+    @Test
+    void getCharacterHiscoresSnapshot_ConcurrentLookups_ShareOneSnapshotCall() throws Exception {
+        // Given
+        CharacterHiscoresSnapshot snapshot = CharacterHiscoresSnapshot.builder("TestCharacter").build();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        when(delegate.getCharacterHiscoresSnapshot(anyString())).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            releaseLeader.await();
+            return snapshot;
+        });
+
+        // When
+        Future<CharacterHiscoresSnapshot> leader = executor.submit(
+                () -> coalescingClient.getCharacterHiscoresSnapshot("TestCharacter"));
+        leaderStarted.await();
+        List<Future<CharacterHiscoresSnapshot>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> coalescingClient.getCharacterHiscoresSnapshot("testcharacter")));
+        }
+        awaitCoalesced(FOLLOWERS);
+        releaseLeader.countDown();
+
+        // Then
+        assertSame(snapshot, leader.get());
+        for (Future<CharacterHiscoresSnapshot> follower : followers) {
+            assertSame(snapshot, follower.get());
+        }
+        verify(delegate, times(1)).getCharacterHiscoresSnapshot(anyString());
+        verify(delegate, never()).getCharacterHiscores(anyString());
+    }
+
+    @Test
+    void getCharacterHiscores_LeaderFails_FollowersReceiveSameException() throws Exception {
+        // Given
+        RuntimeException expectedException = new RuntimeException("Error fetching character hiscores");
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        when(delegate.getCharacterHiscores(anyString())).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            releaseLeader.await();
+            throw expectedException;
+        });
+
+        // When
+        Future<CharacterHiscores> leader = executor.submit(
+                () -> coalescingClient.getCharacterHiscores("TestCharacter"));
+        leaderStarted.await();
+        List<Future<CharacterHiscores>> followers = submitFollowers("TestCharacter");
+        awaitCoalesced(FOLLOWERS);
+        releaseLeader.countDown();
+
+        // Then
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, leader::get);
+        assertSame(expectedException, leaderFailure.getCause());
+        for (Future<CharacterHiscores> follower : followers) {
+            ExecutionException followerFailure = assertThrows(ExecutionException.class, follower::get);
+            assertSame(expectedException, followerFailure.getCause());
+        }
+    }
+
+    @Test
+    void getCharacterHiscores_LeaderThrowsError_FollowersReceiveErrorAndEntryIsCleared() throws Exception {
+        // Given
+        StackOverflowError expectedError = new StackOverflowError("Error parsing character hiscores");
+        CharacterHiscores hiscores = CharacterHiscores.builder().characterName("TestCharacter").build();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        when(delegate.getCharacterHiscores(anyString())).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            releaseLeader.await();
+            throw expectedError;
+        }).thenReturn(hiscores);
+
+        // When
+        Future<CharacterHiscores> leader = executor.submit(
+                () -> coalescingClient.getCharacterHiscores("TestCharacter"));
+        leaderStarted.await();
+        List<Future<CharacterHiscores>> followers = submitFollowers("TestCharacter");
+        awaitCoalesced(FOLLOWERS);
+        releaseLeader.countDown();
+
+        // Then
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, leader::get);
+        assertSame(expectedError, leaderFailure.getCause());
+        for (Future<CharacterHiscores> follower : followers) {
+            ExecutionException followerFailure = assertThrows(ExecutionException.class,
+                    () -> follower.get(5, TimeUnit.SECONDS));
+            assertSame(expectedError, followerFailure.getCause());
+        }
+        assertSame(hiscores, coalescingClient.getCharacterHiscores("TestCharacter"));
+    }
+
+    @Test
+    void getCharacterHiscores_SequentialLookups_DoNotShareResults() {
+        // Given
+        CharacterHiscores first = CharacterHiscores.builder().characterName("TestCharacter").build();
+        CharacterHiscores second = CharacterHiscores.builder().characterName("TestCharacter").build();
+        when(delegate.getCharacterHiscores("TestCharacter")).thenReturn(first, second);
+
+        // When/Then
+        assertSame(first, coalescingClient.getCharacterHiscores("TestCharacter"));
+        assertSame(second, coalescingClient.getCharacterHiscores("TestCharacter"));
+        assertEquals(0, coalescingClient.coalescedRequestCount());
+    }
+
+    private List<Future<CharacterHiscores>> submitFollowers(String characterName) {
+        List<Future<CharacterHiscores>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> coalescingClient.getCharacterHiscores(characterName)));
+        }
+        return followers;
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescingClient.coalescedRequestCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, coalescingClient.coalescedRequestCount());
+    }
+}
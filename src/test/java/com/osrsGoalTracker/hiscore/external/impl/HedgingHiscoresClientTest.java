@@ -0,0 +1,146 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.external.HiscoresClient;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HedgingHiscoresClientTest {
+    private static final String CHARACTER_NAME = "TestCharacter";
+    private static final long WARM_UP_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CountDownLatch releaseSlowLookup = new CountDownLatch(1);
+    private final CharacterHiscores fastHiscores = hiscores("fast");
+    private final CharacterHiscores slowHiscores = hiscores("slow");
+    private HiscoresClient delegate;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(HiscoresClient.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowLookup.countDown();
+    }
+
+    @Test
+    void testSlowLookupIsHedgedAndFirstSuccessWins() {
+        // Given
+        HedgingHiscoresClient client = new HedgingHiscoresClient(delegate, config(100), clock::get);
+        warmUp(client);
+        AtomicInteger calls = new AtomicInteger();
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                releaseSlowLookup.await(5, TimeUnit.SECONDS);
+                return slowHiscores;
+            }
+            return fastHiscores;
+        });
+
+        // When
+        CharacterHiscores result = client.getCharacterHiscores(CHARACTER_NAME);
+
+        // Then
+        assertSame(fastHiscores, result);
+        assertEquals(1, client.hedgedRequestCount());
+        assertEquals(1, client.hedgeWinCount());
+    }
+
+    @Test
+    void testNoHedgeWithoutBudget() {
+        // Given
+        HedgingHiscoresClient client = new HedgingHiscoresClient(delegate, config(0), clock::get);
+        warmUp(client);
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return slowHiscores;
+        });
+
+        // When
+        CharacterHiscores result = client.getCharacterHiscores(CHARACTER_NAME);
+
+        // Then
+        assertSame(slowHiscores, result);
+        assertEquals(0, client.hedgedRequestCount());
+    }
+
+    @Test
+    void testNoHedgeBeforeEnoughSamples() {
+        // Given
+        HedgingHiscoresClient client = new HedgingHiscoresClient(delegate, config(100), clock::get);
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return slowHiscores;
+        });
+
+        // When
+        CharacterHiscores result = client.getCharacterHiscores(CHARACTER_NAME);
+
+        // Then
+        assertSame(slowHiscores, result);
+        assertEquals(0, client.hedgedRequestCount());
+    }
+
+    @Test
+    void testFailureIsRethrownWhenBothLookupsFail() {
+        // Given
+        HedgingHiscoresClient client = new HedgingHiscoresClient(delegate, config(100), clock::get);
+        warmUp(client);
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenAnswer(invocation -> {
+            Thread.sleep(20);
+            throw new RuntimeException("Error fetching character hiscores");
+        });
+
+        // When/Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> client.getCharacterHiscores(CHARACTER_NAME));
+        assertEquals("Error fetching character hiscores", exception.getMessage());
+    }
+
+    /**
+     * Records enough lookups to enable hedging. Each takes 50ms on the test
+     * clock, so a later lookup waits long enough before hedging for its own
+     * call to have reached the delegate first.
+     */
+    private void warmUp(HedgingHiscoresClient client) {
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenAnswer(invocation -> {
+            clock.addAndGet(WARM_UP_LATENCY_NANOS);
+            return fastHiscores;
+        });
+        for (int i = 0; i < HedgingHiscoresClient.MIN_SAMPLES; i++) {
+            client.getCharacterHiscores(CHARACTER_NAME);
+        }
+    }
+
+    private static HiscoresConfig config(int budgetPercent) {
+        return HiscoresConfig.builder()
+                .hedgePercentile(50)
+                .hedgeBudgetPercent(budgetPercent)
+                .build();
+    }
+
+    private static CharacterHiscores hiscores(String characterName) {
+        return CharacterHiscores.builder()
+                .characterName(characterName)
+                .skills(Collections.emptyList())
+                .activities(Collections.emptyList())
+                .build();
+    }
+}
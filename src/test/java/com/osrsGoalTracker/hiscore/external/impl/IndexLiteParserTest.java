@@ -0,0 +1,108 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+import org.junit.jupiter.api.Test;
+
+class IndexLiteParserTest {
+
+    @Test
+    void parse_CarriageReturns_ParsesSkills() {
+        // Given
+        StringBuilder body = new StringBuilder("5,1500,9000000\r\n");
+        for (int i = 1; i < IndexLiteParser.SKILL_ROWS.length; i++) {
+            body.append(i).append(",").append(i + 1).append(",").append(i * 1000L).append("\r\n");
+        }
+        appendActivityRows(body, "-1,-1\r\n", IndexLiteParser.ACTIVITY_ROWS.length);
+
+        // When
+        CharacterHiscoresSnapshot snapshot = parse(body.toString());
+
+        // Then
+        assertEquals(1, snapshot.rankOf(MetricName.ATTACK));
+        assertEquals(2, snapshot.levelOf(MetricName.ATTACK));
+        assertEquals(23_000L, snapshot.valueOf(MetricName.CONSTRUCTION));
+        assertEquals(CharacterHiscoresSnapshot.UNRANKED, snapshot.rankOf(MetricName.ZULRAH));
+    }
+
+    @Test
+    void parse_UnrankedRows_KeepsNegativeValues() {
+        // Given
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < IndexLiteParser.SKILL_ROWS.length; i++) {
+            body.append("-1,1,-1\n");
+        }
+        appendActivityRows(body, "-1,-1\n", IndexLiteParser.ACTIVITY_ROWS.length);
+
+        // When
+        CharacterHiscoresSnapshot snapshot = parse(body.toString());
+
+        // Then
+        assertEquals(CharacterHiscoresSnapshot.UNRANKED, snapshot.rankOf(MetricName.HUNTER));
+        assertEquals(-1L, snapshot.valueOf(MetricName.HUNTER));
+        assertEquals(-1L, snapshot.valueOf(MetricName.LEAGUE_POINTS));
+    }
+
+    @Test
+    void parse_ActivityRowInSkillSection_Throws() {
+        // Given
+        String body = "1,2277,4600000000\n1,99\n";
+
+        // When / Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> parse(body));
+        assertEquals("Unexpected hiscores lite format at row 1", exception.getMessage());
+    }
+
+    @Test
+    void parse_TruncatedResponse_Throws() {
+        assertThrows(IllegalStateException.class, () -> parse("1,2277,4600000000\n"));
+    }
+
+    @Test
+    void parse_ExtraActivityRow_Throws() {
+        // Given
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < IndexLiteParser.SKILL_ROWS.length; i++) {
+            body.append("-1,1,-1\n");
+        }
+        appendActivityRows(body, "-1,-1\n", IndexLiteParser.ACTIVITY_ROWS.length + 1);
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> parse(body.toString()));
+    }
+
+    @Test
+    void parse_MissingActivityRow_Throws() {
+        // Given
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < IndexLiteParser.SKILL_ROWS.length; i++) {
+            body.append("-1,1,-1\n");
+        }
+        appendActivityRows(body, "-1,-1\n", IndexLiteParser.ACTIVITY_ROWS.length - 1);
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> parse(body.toString()));
+    }
+
+    @Test
+    void parse_NonNumericField_Throws() {
+        assertThrows(IllegalStateException.class, () -> parse("<html>"));
+    }
+
+    private static void appendActivityRows(StringBuilder body, String row, int count) {
+        for (int i = 0; i < count; i++) {
+            body.append(row);
+        }
+    }
+
+    private static CharacterHiscoresSnapshot parse(String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.US_ASCII);
+        return IndexLiteParser.parse(bytes, bytes.length, CharacterHiscoresSnapshot.builder("Test")).build();
+    }
+}
@@ -11,7 +11,9 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 
+import com.osrsGoalTracker.goal.model.MetricName;
 import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
 import com.osrsGoalTracker.hiscore.model.Skill;
 import com.osrsGoalTracker.hiscore.model.Activity;
 import com.osrshiscores.apiclient.OsrsApiClient;
@@ -91,6 +93,44 @@ class JagexHiscoresClientImplTest {
         assertEquals(50, activities.get(1).getScore());
     }
 
+    @Test
+    void getCharacterHiscoresSnapshot_ValidCharacter_FillsSnapshot() throws IOException {
+        // Given
+        String characterName = "TestCharacter";
+        List<com.osrshiscores.apiclient.model.output.Skill> osrsSkills = Arrays.asList(
+                createOsrsSkill("Overall", 5000, 1000, 50000000),
+                createOsrsSkill("Attack", 100000, 99, 13034431));
+        List<com.osrshiscores.apiclient.model.output.Activity> osrsActivities = Arrays.asList(
+                createOsrsActivity("Clue Scrolls (all)", 50000, 100));
+
+        when(osrsApiClient.getPlayerByRsn(characterName)).thenReturn(mockOsrsPlayer);
+        when(mockOsrsPlayer.getSkills()).thenReturn(osrsSkills);
+        when(mockOsrsPlayer.getActivities()).thenReturn(osrsActivities);
+
+        // When
+        CharacterHiscoresSnapshot snapshot = hiscoresClient.getCharacterHiscoresSnapshot(characterName);
+
+        // Then
+        assertEquals(characterName, snapshot.getCharacterName());
+        assertNotNull(snapshot.getCapturedAt());
+        assertEquals(13034431, snapshot.valueOf(MetricName.ATTACK));
+        assertEquals(99, snapshot.levelOf(MetricName.ATTACK));
+        assertEquals(100000, snapshot.rankOf(MetricName.ATTACK));
+        assertEquals(100, snapshot.valueOf(MetricName.CLUE_SCROLLS_ALL));
+        assertEquals(CharacterHiscoresSnapshot.UNRANKED, snapshot.valueOf(MetricName.DEFENCE));
+    }
+
+    @Test
+    void getCharacterHiscoresSnapshot_ApiError_ThrowsRuntimeException() throws IOException {
+        // Given
+        when(osrsApiClient.getPlayerByRsn(anyString())).thenThrow(new IOException("API Error"));
+
+        // When/Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> hiscoresClient.getCharacterHiscoresSnapshot("TestCharacter"));
+        assertEquals("Error fetching character hiscores", exception.getMessage());
+    }
+
     @Test
     void getCharacterHiscores_ApiError_ThrowsRuntimeException() throws IOException {
         // Given
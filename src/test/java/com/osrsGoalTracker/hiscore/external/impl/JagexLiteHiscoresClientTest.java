@@ -0,0 +1,128 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JagexLiteHiscoresClientTest {
+    private static final String FIXTURE = "/hiscores/index_lite_lynx_titan.csv";
+
+    private HttpServer server;
+    private JagexLiteHiscoresClient client;
+    private volatile String lastQuery;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        byte[] recorded = readFixture();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/m=hiscore_oldschool/index_lite.ws", exchange -> {
+            lastQuery = exchange.getRequestURI().getRawQuery();
+            String player = URLDecoder.decode(lastQuery.substring("player=".length()), StandardCharsets.UTF_8);
+            switch (player) {
+                case "Lynx Titan" -> respond(exchange, 200, recorded);
+                case "Malformed" -> respond(exchange, 200, "1,2277\n".getBytes(StandardCharsets.US_ASCII));
+                case "Unavailable" -> respond(exchange, 503, new byte[0]);
+                default -> respond(exchange, 404, new byte[0]);
+            }
+        });
+        server.start();
+
+        HiscoresConfig config = HiscoresConfig.builder()
+                .liteBaseUrl("http://127.0.0.1:" + server.getAddress().getPort()
+                        + "/m=hiscore_oldschool/index_lite.ws")
+                .liteTimeout(Duration.ofSeconds(5))
+                .build();
+        client = new JagexLiteHiscoresClient(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void getCharacterHiscoresSnapshot_RecordedResponse_ParsesEveryTrackedRow() {
+        // When
+        CharacterHiscoresSnapshot snapshot = client.getCharacterHiscoresSnapshot("Lynx Titan");
+
+        // Then
+        assertEquals("player=Lynx+Titan", lastQuery);
+        assertEquals("Lynx Titan", snapshot.getCharacterName());
+        assertEquals(99, snapshot.levelOf(MetricName.ATTACK));
+        assertEquals(200_000_000L, snapshot.valueOf(MetricName.CONSTRUCTION));
+        assertEquals(23 * 99, snapshot.getTotalLevel());
+        assertEquals(867018, snapshot.rankOf(MetricName.CLUE_SCROLLS_ALL));
+        assertEquals(2321, snapshot.valueOf(MetricName.CLUE_SCROLLS_ALL));
+        assertEquals(291336, snapshot.rankOf(MetricName.ZULRAH));
+        assertEquals(3623, snapshot.valueOf(MetricName.ZULRAH));
+        assertEquals(CharacterHiscoresSnapshot.UNRANKED, snapshot.rankOf(MetricName.LEAGUE_POINTS));
+        for (MetricName metric : MetricName.values()) {
+            assertTrue(snapshot.isPresent(metric), metric + " should be parsed");
+        }
+    }
+
+    @Test
+    void getCharacterHiscores_RecordedResponse_ConvertsSnapshot() {
+        // When
+        CharacterHiscores hiscores = client.getCharacterHiscores("Lynx Titan");
+
+        // Then
+        assertEquals("Lynx Titan", hiscores.getCharacterName());
+        assertEquals(23, hiscores.getSkills().size());
+        assertFalse(hiscores.getActivities().isEmpty());
+    }
+
+    @Test
+    void getCharacterHiscores_UnknownCharacter_ThrowsIllegalArgumentException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> client.getCharacterHiscores("Nobody"));
+        assertEquals("Character not found on hiscores: Nobody", exception.getMessage());
+    }
+
+    @Test
+    void getCharacterHiscores_UpstreamError_ThrowsRuntimeException() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> client.getCharacterHiscores("Unavailable"));
+        assertEquals("Error fetching character hiscores", exception.getMessage());
+    }
+
+    @Test
+    void getCharacterHiscores_MalformedResponse_ThrowsRuntimeException() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> client.getCharacterHiscores("Malformed"));
+        assertEquals("Error fetching character hiscores", exception.getMessage());
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] readFixture() throws IOException {
+        try (InputStream in = JagexLiteHiscoresClientTest.class.getResourceAsStream(FIXTURE)) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyTrackerTest {
+
+    @Test
+    void testPercentileUsesNearestRank() {
+        // Given
+        LatencyTracker tracker = new LatencyTracker(100);
+        for (int i = 100; i >= 1; i--) {
+            tracker.record(i);
+        }
+
+        // Then
+        assertEquals(50, tracker.percentile(50));
+        assertEquals(95, tracker.percentile(95));
+        assertEquals(100, tracker.percentile(100));
+    }
+
+    @Test
+    void testWindowKeepsMostRecentSamples() {
+        // Given
+        LatencyTracker tracker = new LatencyTracker(3);
+
+        // When
+        tracker.record(1000);
+        tracker.record(1);
+        tracker.record(2);
+        tracker.record(3);
+
+        // Then
+        assertEquals(3, tracker.size());
+        assertEquals(3, tracker.percentile(100));
+    }
+
+    @Test
+    void testEmptyTrackerHasNoPercentile() {
+        assertEquals(-1, new LatencyTracker(10).percentile(99));
+    }
+}
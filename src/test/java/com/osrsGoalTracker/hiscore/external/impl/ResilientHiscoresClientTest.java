@@ -0,0 +1,195 @@
+package com.osrsGoalTracker.hiscore.external.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.external.HiscoresClient;
+import com.osrsGoalTracker.hiscore.external.HiscoresUnavailableException;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResilientHiscoresClientTest {
+    private static final String CHARACTER_NAME = "TestCharacter";
+    private static final Duration LATENCY_THRESHOLD = Duration.ofMillis(100);
+
+    private final AtomicLong clock = new AtomicLong();
+    private HiscoresClient delegate;
+    private ResilientHiscoresClient client;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(HiscoresClient.class);
+        HiscoresConfig config = HiscoresConfig.builder()
+                .concurrencyLimitInitial(4)
+                .concurrencyLimitMax(8)
+                .concurrencyLimitLatencyThreshold(LATENCY_THRESHOLD)
+                .breakerFailureThreshold(2)
+                .breakerOpenDuration(Duration.ofSeconds(30))
+                .breakerHalfOpenTrials(1)
+                .build();
+        client = new ResilientHiscoresClient(delegate, config, clock::get);
+    }
+
+    @Test
+    void testOpenBreakerFailsFastWithoutCallingUpstream() {
+        // Given
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenThrow(new RuntimeException("Timed out"));
+        assertThrows(RuntimeException.class, () -> client.getCharacterHiscores(CHARACTER_NAME));
+        assertThrows(RuntimeException.class, () -> client.getCharacterHiscores(CHARACTER_NAME));
+
+        // When
+        HiscoresUnavailableException exception = assertThrows(HiscoresUnavailableException.class,
+                () -> client.getCharacterHiscores(CHARACTER_NAME));
+
+        // Then
+        assertEquals(ResilientHiscoresClient.BREAKER_OPEN_MESSAGE, exception.getMessage());
+        verify(delegate, times(2)).getCharacterHiscores(CHARACTER_NAME);
+        assertEquals(CircuitBreaker.State.OPEN, client.stats().getBreakerState());
+        assertEquals(1, client.stats().getRejectedRequests());
+    }
+
+    @Test
+    void testHalfOpenProbeClosesBreakerOnSuccess() {
+        // Given
+        CharacterHiscores hiscores = hiscores();
+        when(delegate.getCharacterHiscores(CHARACTER_NAME))
+                .thenThrow(new RuntimeException("Timed out"))
+                .thenThrow(new RuntimeException("Timed out"))
+                .thenReturn(hiscores);
+        assertThrows(RuntimeException.class, () -> client.getCharacterHiscores(CHARACTER_NAME));
+        assertThrows(RuntimeException.class, () -> client.getCharacterHiscores(CHARACTER_NAME));
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        CharacterHiscores result = client.getCharacterHiscores(CHARACTER_NAME);
+
+        // Then
+        assertEquals(hiscores, result);
+        assertEquals(CircuitBreaker.State.CLOSED, client.stats().getBreakerState());
+    }
+
+    @Test
+    void testSlowResponsesShrinkTheLimit() {
+        // Given
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenAnswer(invocation -> {
+            clock.addAndGet(LATENCY_THRESHOLD.toNanos() * 2);
+            return hiscores();
+        });
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            client.getCharacterHiscores(CHARACTER_NAME);
+        }
+
+        // Then
+        assertEquals(1, client.stats().getConcurrencyLimit());
+        assertEquals(0, client.stats().getInFlight());
+    }
+
+    @Test
+    void testFastResponsesGrowTheLimit() {
+        // Given
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenReturn(hiscores());
+
+        // When
+        for (int i = 0; i < 40; i++) {
+            client.getCharacterHiscores(CHARACTER_NAME);
+        }
+
+        // Then
+        assertEquals(8, client.stats().getConcurrencyLimit());
+    }
+
+    @Test
+    void testRequestsOverTheLimitAreRejected() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(4);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return hiscores();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                executor.submit(() -> client.getCharacterHiscores(CHARACTER_NAME));
+            }
+            started.await(5, TimeUnit.SECONDS);
+
+            // When
+            HiscoresUnavailableException exception = assertThrows(HiscoresUnavailableException.class,
+                    () -> client.getCharacterHiscores(CHARACTER_NAME));
+
+            // Then
+            assertEquals(ResilientHiscoresClient.LIMIT_REACHED_MESSAGE, exception.getMessage());
+            assertEquals(4, client.stats().getInFlight());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testIllegalArgumentDoesNotTripBreaker() {
+        // Given
+        when(delegate.getCharacterHiscores(CHARACTER_NAME)).thenThrow(new IllegalArgumentException("Bad name"));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalArgumentException.class, () -> client.getCharacterHiscores(CHARACTER_NAME));
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, client.stats().getBreakerState());
+        assertEquals(4, client.stats().getConcurrencyLimit());
+    }
+
+    @Test
+    void testErrorDuringHalfOpenProbeReleasesPermits() {
+        // Given
+        CharacterHiscores hiscores = hiscores();
+        when(delegate.getCharacterHiscores(CHARACTER_NAME))
+                .thenThrow(new RuntimeException("Timed out"))
+                .thenThrow(new RuntimeException("Timed out"))
+                .thenThrow(new StackOverflowError())
+                .thenReturn(hiscores);
+        assertThrows(RuntimeException.class, () -> client.getCharacterHiscores(CHARACTER_NAME));
+        assertThrows(RuntimeException.class, () -> client.getCharacterHiscores(CHARACTER_NAME));
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // When
+        assertThrows(StackOverflowError.class, () -> client.getCharacterHiscores(CHARACTER_NAME));
+
+        // Then
+        assertEquals(0, client.stats().getInFlight());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, client.stats().getBreakerState());
+        assertEquals(hiscores, client.getCharacterHiscores(CHARACTER_NAME));
+        assertEquals(CircuitBreaker.State.CLOSED, client.stats().getBreakerState());
+    }
+
+    private static CharacterHiscores hiscores() {
+        return CharacterHiscores.builder()
+                .characterName(CHARACTER_NAME)
+                .skills(Collections.emptyList())
+                .activities(Collections.emptyList())
+                .build();
+    }
+}
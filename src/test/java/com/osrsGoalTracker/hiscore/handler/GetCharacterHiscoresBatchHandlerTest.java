@@ -0,0 +1,116 @@
+package com.osrsGoalTracker.hiscore.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresBatch;
+import com.osrsGoalTracker.hiscore.service.HiscoresService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetCharacterHiscoresBatchHandlerTest {
+
+    @Mock
+    private HiscoresService hiscoresService;
+
+    @Mock
+    private Context context;
+
+    private GetCharacterHiscoresBatchHandler handler;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        handler = new GetCharacterHiscoresBatchHandler(hiscoresService);
+        objectMapper = new ObjectMapper();
+    }
+
+    @Test
+    void handleRequest_ValidInput_ReturnsSuccessResponse() throws Exception {
+        // Given
+        CharacterHiscoresBatch expectedBatch = CharacterHiscoresBatch.builder()
+                .hiscores(Map.of("First", CharacterHiscores.builder().characterName("First").build()))
+                .errors(Map.of("Second", "Error fetching character hiscores"))
+                .build();
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withBody("{\"characterNames\":[\"First\",\"Second\"]}");
+
+        when(hiscoresService.getCharacterHiscoresBatch(Arrays.asList("First", "Second"))).thenReturn(expectedBatch);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertNotNull(response);
+        assertEquals(200, response.getStatusCode());
+        assertEquals(objectMapper.writeValueAsString(expectedBatch), response.getBody());
+        verify(hiscoresService).getCharacterHiscoresBatch(Arrays.asList("First", "Second"));
+    }
+
+    @Test
+    void handleRequest_NullInput_ReturnsBadRequest() {
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(null, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+        assertEquals("{\"message\":\"Request cannot be null\"}", response.getBody());
+    }
+
+    @Test
+    void handleRequest_EmptyBody_ReturnsBadRequest() {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent().withBody(" ");
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+        assertEquals("{\"message\":\"Request body cannot be null or empty\"}", response.getBody());
+    }
+
+    @Test
+    void handleRequest_MissingCharacterNames_ReturnsBadRequest() {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent().withBody("{}");
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+        assertEquals("{\"message\":\"Character names cannot be null or empty\"}", response.getBody());
+    }
+
+    @Test
+    void handleRequest_ServiceThrowsException_ReturnsServerError() {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withBody("{\"characterNames\":[\"First\"]}");
+        when(hiscoresService.getCharacterHiscoresBatch(Arrays.asList("First")))
+                .thenThrow(new RuntimeException("Service error"));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(500, response.getStatusCode());
+        assertEquals("{\"message\":\"Error processing request: Service error\"}", response.getBody());
+    }
+}
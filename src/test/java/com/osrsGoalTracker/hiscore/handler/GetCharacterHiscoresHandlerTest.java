@@ -1,10 +1,15 @@
 package com.osrsGoalTracker.hiscore.handler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -14,6 +19,8 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.external.HiscoresUnavailableException;
 import com.osrsGoalTracker.hiscore.model.Activity;
 import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
 import com.osrsGoalTracker.hiscore.model.Skill;
@@ -163,4 +170,114 @@ class GetCharacterHiscoresHandlerTest {
         assertEquals(500, response.getStatusCode());
         assertEquals("{\"message\":\"Error processing request: Service error\"}", response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleRequest_HiscoresUnavailable_ReturnsServiceUnavailable() throws Exception {
+        // Given
+        String characterName = "TestCharacter";
+        Map<String, String> pathParameters = new HashMap<>();
+        pathParameters.put("name", characterName);
+
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(pathParameters);
+
+        when(hiscoresService.getCharacterHiscores(characterName))
+                .thenThrow(new HiscoresUnavailableException("Hiscores are temporarily unavailable"));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertNotNull(response);
+        assertEquals(503, response.getStatusCode());
+        assertEquals("{\"message\":\"Hiscores are temporarily unavailable\"}", response.getBody());
+    }
+
+    @Test
+    void handleRequest_ValidInput_ReturnsEtagAndNoCacheHeaders() {
+        // Given
+        CharacterHiscores hiscores = createHiscores(13034431);
+        when(hiscoresService.getCharacterHiscores("TestCharacter")).thenReturn(hiscores);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(createRequest(null), context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        assertEquals(GetCharacterHiscoresHandler.computeEtag(hiscores), response.getHeaders().get("ETag"));
+        assertEquals("no-cache", response.getHeaders().get("Cache-Control"));
+    }
+
+    @Test
+    void handleRequest_CacheEnabled_ReturnsMaxAgeFromCacheTtl() {
+        // Given
+        HiscoresConfig config = HiscoresConfig.builder()
+                .cacheEnabled(true)
+                .cacheTtl(Duration.ofSeconds(120))
+                .build();
+        handler = new GetCharacterHiscoresHandler(hiscoresService, config);
+        when(hiscoresService.getCharacterHiscores("TestCharacter")).thenReturn(createHiscores(13034431));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(createRequest(null), context);
+
+        // Then
+        assertEquals("max-age=120", response.getHeaders().get("Cache-Control"));
+    }
+
+    @Test
+    void handleRequest_IfNoneMatchMatches_ReturnsNotModified() {
+        // Given
+        CharacterHiscores hiscores = createHiscores(13034431);
+        String etag = GetCharacterHiscoresHandler.computeEtag(hiscores);
+        when(hiscoresService.getCharacterHiscores("TestCharacter")).thenReturn(hiscores);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(
+                createRequest(Map.of("if-none-match", "\"other\", W/" + etag)), context);
+
+        // Then
+        assertEquals(304, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(etag, response.getHeaders().get("ETag"));
+    }
+
+    @Test
+    void handleRequest_IfNoneMatchStale_ReturnsSuccessResponse() {
+        // Given
+        String staleEtag = GetCharacterHiscoresHandler.computeEtag(createHiscores(13034431));
+        CharacterHiscores hiscores = createHiscores(13034500);
+        when(hiscoresService.getCharacterHiscores("TestCharacter")).thenReturn(hiscores);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(
+                createRequest(Map.of("If-None-Match", staleEtag)), context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertNotEquals(staleEtag, response.getHeaders().get("ETag"));
+    }
+
+    @Test
+    void matchesEtag_Wildcard_Matches() {
+        assertTrue(GetCharacterHiscoresHandler.matchesEtag(Map.of("If-None-Match", "*"), "\"abc\""));
+        assertFalse(GetCharacterHiscoresHandler.matchesEtag(null, "\"abc\""));
+    }
+
+    private static APIGatewayProxyRequestEvent createRequest(Map<String, String> headers) {
+        Map<String, String> pathParameters = new HashMap<>();
+        pathParameters.put("name", "TestCharacter");
+        return new APIGatewayProxyRequestEvent()
+                .withPathParameters(pathParameters)
+                .withHeaders(headers);
+    }
+
+    private static CharacterHiscores createHiscores(long attackXp) {
+        return CharacterHiscores.builder()
+                .characterName("TestCharacter")
+                .skills(List.of(Skill.builder().name("Attack").rank(100000).level(99).xp(attackXp).build()))
+                .activities(List.of(Activity.builder().name("Clue Scrolls (all)").rank(50000).score(100).build()))
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.osrsGoalTracker.hiscore.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.model.Leaderboard;
+import com.osrsGoalTracker.hiscore.model.LeaderboardEntry;
+import com.osrsGoalTracker.hiscore.service.HiscoresService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetLeaderboardHandlerTest {
+
+    @Mock
+    private HiscoresService hiscoresService;
+
+    @Mock
+    private Context context;
+
+    private GetLeaderboardHandler handler;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        handler = new GetLeaderboardHandler(hiscoresService);
+        objectMapper = new ObjectMapper();
+    }
+
+    @Test
+    void handleRequest_ValidInput_ReturnsSuccessResponse() throws Exception {
+        // Given
+        LeaderboardEntry entry = LeaderboardEntry.builder().characterName("First").rank(1).value(5000).build();
+        Leaderboard expectedLeaderboard = Leaderboard.builder()
+                .metric(MetricName.SLAYER)
+                .characterCount(1)
+                .entries(List.of(entry))
+                .characterEntry(entry)
+                .build();
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(Map.of("metric", "slayer"))
+                .withQueryStringParameters(Map.of("limit", "5", "characterName", "First"));
+
+        when(hiscoresService.getLeaderboard(MetricName.SLAYER, 5, "First")).thenReturn(expectedLeaderboard);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        assertEquals(objectMapper.writeValueAsString(expectedLeaderboard), response.getBody());
+    }
+
+    @Test
+    void handleRequest_NoQueryParameters_UsesDefaultLimit() {
+        // Given
+        Leaderboard expectedLeaderboard = Leaderboard.builder()
+                .metric(MetricName.CLUE_SCROLLS_ALL)
+                .entries(List.of())
+                .build();
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(Map.of("metric", "Clue Scrolls (all)"));
+
+        when(hiscoresService.getLeaderboard(MetricName.CLUE_SCROLLS_ALL, 10, null)).thenReturn(expectedLeaderboard);
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+    }
+
+    @Test
+    void handleRequest_UnknownMetric_ReturnsBadRequest() {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(Map.of("metric", "sailing"));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+        assertEquals("{\"message\":\"Unknown metric: sailing\"}", response.getBody());
+    }
+
+    @Test
+    void handleRequest_NonNumericLimit_ReturnsBadRequest() {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(Map.of("metric", "SLAYER"))
+                .withQueryStringParameters(Map.of("limit", "ten"));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+        assertEquals("{\"message\":\"Limit must be a whole number\"}", response.getBody());
+    }
+
+    @Test
+    void handleRequest_LimitOutOfRange_ReturnsBadRequest() {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPathParameters(Map.of("metric", "SLAYER"))
+                .withQueryStringParameters(Map.of("limit", "500"));
+
+        when(hiscoresService.getLeaderboard(MetricName.SLAYER, 500, null))
+                .thenThrow(new IllegalArgumentException("Limit must be between 1 and 100"));
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+        assertEquals("{\"message\":\"Limit must be between 1 and 100\"}", response.getBody());
+    }
+}
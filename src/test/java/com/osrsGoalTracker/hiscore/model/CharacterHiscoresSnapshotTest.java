@@ -0,0 +1,171 @@
+package com.osrsGoalTracker.hiscore.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+
+import org.junit.jupiter.api.Test;
+
+class CharacterHiscoresSnapshotTest {
+    private static final Instant CAPTURED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void testBuilderDefaultsUnreportedMetricsToUnranked() {
+        // When
+        CharacterHiscoresSnapshot snapshot = CharacterHiscoresSnapshot.builder("TestCharacter").build();
+
+        // Then
+        assertEquals(CharacterHiscoresSnapshot.UNRANKED, snapshot.valueOf(MetricName.ATTACK));
+        assertEquals(CharacterHiscoresSnapshot.UNRANKED, snapshot.rankOf(MetricName.ZULRAH));
+        assertEquals(1, snapshot.levelOf(MetricName.ATTACK));
+        assertFalse(snapshot.isPresent(MetricName.ATTACK));
+        assertEquals(23, snapshot.getTotalLevel());
+        assertEquals(0, snapshot.getTotalXp());
+        assertEquals(1, snapshot.getCombatLevel());
+    }
+
+    @Test
+    void testBuilderComputesDerivedTotals() {
+        // Given
+        CharacterHiscoresSnapshot.Builder builder = CharacterHiscoresSnapshot.builder("Maxed")
+                .capturedAt(CAPTURED_AT);
+        for (MetricName metric : MetricName.values()) {
+            if (metric.isSkill()) {
+                builder.skill(metric, 1000, 99, 13034431);
+            }
+        }
+
+        // When
+        CharacterHiscoresSnapshot snapshot = builder.build();
+
+        // Then
+        assertEquals(2277, snapshot.getTotalLevel());
+        assertEquals(23L * 13034431, snapshot.getTotalXp());
+        assertEquals(126, snapshot.getCombatLevel());
+        assertEquals(CAPTURED_AT, snapshot.getCapturedAt());
+    }
+
+    @Test
+    void testBuilderResolvesHiscoresNamesAndIgnoresUnknownNames() {
+        // When
+        CharacterHiscoresSnapshot snapshot = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .skill("Overall", 1, 2277, 300000000)
+                .skill("Runecraft", 200, 80, 2000000)
+                .activity("Kree'Arra", 300, 42)
+                .activity("Unknown Activity", 1, 1)
+                .build();
+
+        // Then
+        assertEquals(2000000, snapshot.valueOf(MetricName.RUNECRAFTING));
+        assertEquals(80, snapshot.levelOf(MetricName.RUNECRAFTING));
+        assertEquals(42, snapshot.valueOf(MetricName.KREEARRA));
+        assertEquals(300, snapshot.rankOf(MetricName.KREEARRA));
+        assertTrue(snapshot.isPresent(MetricName.KREEARRA));
+        assertEquals(2000000, snapshot.getTotalXp());
+    }
+
+    @Test
+    void testRoundTripThroughListModel() {
+        // Given
+        List<Skill> skills = Arrays.asList(
+                Skill.builder().name("Attack").rank(100000).level(99).xp(13034431).build(),
+                Skill.builder().name("Defence").rank(90000).level(70).xp(737627).build());
+        List<Activity> activities = Arrays.asList(
+                Activity.builder().name("Clue Scrolls (all)").rank(50000).score(100).build(),
+                Activity.builder().name("Zulrah").rank(40000).score(500).build());
+        CharacterHiscores hiscores = CharacterHiscores.builder()
+                .characterName("TestCharacter")
+                .skills(skills)
+                .activities(activities)
+                .build();
+
+        // When
+        CharacterHiscoresSnapshot snapshot = CharacterHiscoresSnapshot.fromCharacterHiscores(hiscores, CAPTURED_AT);
+        CharacterHiscores converted = snapshot.toCharacterHiscores();
+
+        // Then
+        assertEquals(13034431, snapshot.valueOf(MetricName.ATTACK));
+        assertEquals(70, snapshot.levelOf(MetricName.DEFENCE));
+        assertEquals(500, snapshot.valueOf(MetricName.ZULRAH));
+        assertEquals(hiscores, converted);
+    }
+
+    @Test
+    void testFingerprintIgnoresRanksAndCaptureTime() {
+        // Given
+        CharacterHiscoresSnapshot first = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .capturedAt(CAPTURED_AT)
+                .skill(MetricName.ATTACK, 1000, 99, 13034431)
+                .activity(MetricName.ZULRAH, 300, 42)
+                .build();
+        CharacterHiscoresSnapshot rankOnly = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .capturedAt(CAPTURED_AT.plusSeconds(60))
+                .skill(MetricName.ATTACK, 1005, 99, 13034431)
+                .activity(MetricName.ZULRAH, 310, 42)
+                .build();
+        CharacterHiscoresSnapshot moreKills = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .capturedAt(CAPTURED_AT.plusSeconds(120))
+                .skill(MetricName.ATTACK, 1005, 99, 13034431)
+                .activity(MetricName.ZULRAH, 310, 43)
+                .build();
+
+        // Then
+        assertFalse(rankOnly.hasChangedSince(first.getFingerprint()));
+        assertTrue(moreKills.hasChangedSince(first.getFingerprint()));
+    }
+
+    @Test
+    void testChangedMetricsContainsOnlyMovedMetrics() {
+        // Given
+        CharacterHiscoresSnapshot first = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .skill(MetricName.ATTACK, 1000, 99, 13034431)
+                .skill(MetricName.SLAYER, 1000, 80, 2000000)
+                .activity(MetricName.ZULRAH, 300, 42)
+                .build();
+        CharacterHiscoresSnapshot second = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .skill(MetricName.ATTACK, 1000, 99, 13034431)
+                .skill(MetricName.SLAYER, 990, 80, 2010000)
+                .activity(MetricName.ZULRAH, 300, 45)
+                .build();
+
+        // When
+        MetricMask changed = second.changedMetrics(first);
+
+        // Then
+        assertEquals(Arrays.asList(MetricName.SLAYER, MetricName.ZULRAH), changed.toList());
+        assertTrue(changed.contains(MetricName.ZULRAH));
+        assertFalse(changed.contains(MetricName.ATTACK));
+        assertEquals(2, changed.size());
+        assertTrue(second.changedMetrics(second).isEmpty());
+        assertEquals(3, second.changedMetrics(null).size());
+    }
+
+    @Test
+    void testSnapshotEquality() {
+        // Given
+        CharacterHiscoresSnapshot snapshot1 = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .capturedAt(CAPTURED_AT)
+                .skill(MetricName.ATTACK, 1, 99, 13034431)
+                .build();
+        CharacterHiscoresSnapshot snapshot2 = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .capturedAt(CAPTURED_AT)
+                .skill(MetricName.ATTACK, 1, 99, 13034431)
+                .build();
+        CharacterHiscoresSnapshot different = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .capturedAt(CAPTURED_AT)
+                .skill(MetricName.ATTACK, 1, 98, 12000000)
+                .build();
+
+        // Then
+        assertEquals(snapshot1, snapshot2);
+        assertEquals(snapshot1.hashCode(), snapshot2.hashCode());
+        assertNotEquals(snapshot1, different);
+    }
+}
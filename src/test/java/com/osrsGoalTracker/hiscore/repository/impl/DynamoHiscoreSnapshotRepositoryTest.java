@@ -0,0 +1,202 @@
+package com.osrsGoalTracker.hiscore.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+
+class DynamoHiscoreSnapshotRepositoryTest {
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final NavigableMap<String, Map<String, AttributeValue>> items = new TreeMap<>();
+    private String head;
+    private Runnable beforeNextWrite;
+    private DynamoHiscoreSnapshotRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DynamoDbClient dynamoDbClient = mock(DynamoDbClient.class);
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenAnswer(invocation -> transactWrite(invocation.getArgument(0)));
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenAnswer(invocation -> query(invocation.getArgument(0)));
+
+        repository = new DynamoHiscoreSnapshotRepository(dynamoDbClient, HiscoresConfig.builder()
+                .snapshotTableName("snapshots")
+                .snapshotKeyframeInterval(3)
+                .build());
+    }
+
+    @Test
+    void testSaveWritesKeyframesAtInterval() {
+        // When
+        for (int i = 0; i < 4; i++) {
+            repository.saveSnapshot(snapshot(T0.plusSeconds(i * 60L), 1000L + i));
+        }
+
+        // Then
+        List<Boolean> keyframes = new ArrayList<>();
+        for (Map<String, AttributeValue> item : items.values()) {
+            keyframes.add(item.get(DynamoHiscoreSnapshotRepository.KEYFRAME).bool());
+            assertEquals("CHARACTER#test character", item.get(DynamoHiscoreSnapshotRepository.PARTITION_KEY).s());
+        }
+        assertEquals(List.of(true, false, false, true), keyframes);
+    }
+
+    @Test
+    void testGetSnapshotsReadsBackToPrecedingKeyframe() {
+        // Given
+        List<CharacterHiscoresSnapshot> saved = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            CharacterHiscoresSnapshot snapshot = snapshot(T0.plusSeconds(i * 60L), 1000L + i);
+            repository.saveSnapshot(snapshot);
+            saved.add(snapshot);
+        }
+
+        // When
+        List<CharacterHiscoresSnapshot> range = repository.getSnapshots("Test Character",
+                T0.plusSeconds(2 * 60L), T0.plusSeconds(4 * 60L));
+
+        // Then
+        assertEquals(saved.subList(2, 5), range);
+        assertEquals(saved.get(6), repository.getLatestSnapshot("TEST_CHARACTER").get());
+    }
+
+    @Test
+    void testUnchangedSnapshotIsNotWritten() {
+        // Given
+        repository.saveSnapshot(snapshot(T0, 1000));
+
+        // When
+        boolean stored = repository.saveSnapshot(snapshot(T0.plusSeconds(60), 1000));
+
+        // Then
+        assertFalse(stored);
+        assertEquals(1, items.size());
+    }
+
+    @Test
+    void testGetLatestSnapshotWithoutHistoryIsEmpty() {
+        assertFalse(repository.getLatestSnapshot("Nobody").isPresent());
+        assertTrue(repository.getSnapshots("Nobody", T0, T0.plusSeconds(60)).isEmpty());
+    }
+
+    @Test
+    void testSaveEncodesAgainAfterAnotherWriterAppendsFirst() {
+        // Given
+        CharacterHiscoresSnapshot first = snapshot(T0, 1000);
+        CharacterHiscoresSnapshot concurrent = snapshot(T0.plusSeconds(30), 1500);
+        CharacterHiscoresSnapshot third = snapshot(T0.plusSeconds(60), 2000);
+        repository.saveSnapshot(first);
+        beforeNextWrite = () -> repository.saveSnapshot(concurrent);
+
+        // When
+        boolean stored = repository.saveSnapshot(third);
+
+        // Then
+        assertTrue(stored);
+        assertEquals(3, items.size());
+        assertEquals(List.of(first, concurrent, third), repository.getSnapshots("Test Character", T0,
+                T0.plusSeconds(60)));
+    }
+
+    @Test
+    void testSaveGivesUpAfterRepeatedConcurrentWrites() {
+        // Given
+        repository.saveSnapshot(snapshot(T0, 1000));
+        head = "SNAPSHOT#moved-by-another-writer";
+
+        // When/Then
+        assertThrows(IllegalStateException.class,
+                () -> repository.saveSnapshot(snapshot(T0.plusSeconds(60), 2000)));
+        assertEquals(1, items.size());
+    }
+
+    /**
+     * Applies a record put and head update atomically, enforcing the head
+     * condition the repository sends.
+     */
+    private TransactWriteItemsResponse transactWrite(TransactWriteItemsRequest request) {
+        if (beforeNextWrite != null) {
+            Runnable interleaved = beforeNextWrite;
+            beforeNextWrite = null;
+            interleaved.run();
+        }
+        Map<String, AttributeValue> item = request.transactItems().get(0).put().item();
+        Update update = request.transactItems().get(1).update();
+        AttributeValue expected = update.expressionAttributeValues().get(":expected");
+        boolean headMatches = head == null || expected != null && head.equals(expected.s());
+        if (!headMatches) {
+            throw TransactionCanceledException.builder().message("Transaction cancelled").build();
+        }
+        items.put(item.get(DynamoHiscoreSnapshotRepository.SORT_KEY).s(), item);
+        head = update.expressionAttributeValues().get(":latest").s();
+        return TransactWriteItemsResponse.builder().build();
+    }
+
+    /**
+     * Evaluates the key conditions the repository issues against the in-memory
+     * items. Every item in these tests belongs to the same partition.
+     */
+    private QueryResponse query(QueryRequest request) {
+        Map<String, AttributeValue> values = request.expressionAttributeValues();
+        NavigableMap<String, Map<String, AttributeValue>> matching;
+        if (values.containsKey(":from")) {
+            matching = items.subMap(values.get(":from").s(), true, values.get(":to").s(), true);
+        } else if (values.containsKey(":before")) {
+            matching = items.headMap(values.get(":before").s(), false);
+        } else {
+            matching = items;
+        }
+        if (Boolean.FALSE.equals(request.scanIndexForward())) {
+            matching = matching.descendingMap();
+        }
+        if (request.hasExclusiveStartKey()) {
+            String startKey = request.exclusiveStartKey().get(DynamoHiscoreSnapshotRepository.SORT_KEY).s();
+            matching = matching.tailMap(startKey, false);
+        }
+
+        List<Map<String, AttributeValue>> page = new ArrayList<>(matching.values());
+        QueryResponse.Builder response = QueryResponse.builder();
+        if (request.limit() != null && page.size() > request.limit()) {
+            page = page.subList(0, request.limit());
+            response.lastEvaluatedKey(Map.of(DynamoHiscoreSnapshotRepository.SORT_KEY,
+                    page.get(page.size() - 1).get(DynamoHiscoreSnapshotRepository.SORT_KEY)));
+        }
+        return response.items(page).build();
+    }
+
+    private static CharacterHiscoresSnapshot snapshot(Instant capturedAt, long attackXp) {
+        return CharacterHiscoresSnapshot.builder("Test Character")
+                .capturedAt(capturedAt)
+                .skill(MetricName.ATTACK, 1000, 50, attackXp)
+                .activity(MetricName.ZULRAH, 300, 12)
+                .build();
+    }
+}
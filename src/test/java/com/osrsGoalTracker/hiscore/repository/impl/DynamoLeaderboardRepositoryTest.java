@@ -0,0 +1,282 @@
+package com.osrsGoalTracker.hiscore.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.model.LeaderboardEntry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+class DynamoLeaderboardRepositoryTest {
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final Map<String, Map<String, AttributeValue>> items = new TreeMap<>();
+    private final AtomicInteger writtenEntries = new AtomicInteger();
+    private DynamoLeaderboardRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DynamoDbClient dynamoDbClient = mock(DynamoDbClient.class);
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenAnswer(invocation -> {
+            synchronized (items) {
+                Map<String, AttributeValue> item = items.get(id(((GetItemRequest) invocation.getArgument(0)).key()));
+                return item == null ? GetItemResponse.builder().build() : GetItemResponse.builder().item(item).build();
+            }
+        });
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenAnswer(invocation -> {
+            synchronized (items) {
+                Map<String, AttributeValue> item = ((PutItemRequest) invocation.getArgument(0)).item();
+                items.put(id(item), item);
+            }
+            return PutItemResponse.builder().build();
+        });
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class))).thenAnswer(invocation -> {
+            transact(invocation.getArgument(0));
+            return TransactWriteItemsResponse.builder().build();
+        });
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenAnswer(invocation -> query(invocation.getArgument(0)));
+
+        repository = new DynamoLeaderboardRepository(dynamoDbClient, HiscoresConfig.builder()
+                .leaderboardTableName("leaderboards")
+                .build());
+    }
+
+    @Test
+    void testTopEntriesAreOrderedByValueThenName() {
+        // Given
+        repository.updateCharacter(snapshot("Charlie", 500));
+        repository.updateCharacter(snapshot("alpha", 900));
+        repository.updateCharacter(snapshot("Bravo", 500));
+
+        // When
+        List<LeaderboardEntry> top = repository.getTopEntries(MetricName.ATTACK, 2);
+
+        // Then
+        assertEquals(List.of(entry("alpha", 1, 900), entry("Bravo", 2, 500)), top);
+        assertEquals(3, repository.getCharacterCount(MetricName.ATTACK));
+    }
+
+    @Test
+    void testGetEntryRanksCharacterAmongTies() {
+        // Given
+        repository.updateCharacter(snapshot("alpha", 900));
+        repository.updateCharacter(snapshot("Bravo", 500));
+        repository.updateCharacter(snapshot("Charlie", 500));
+
+        // When / Then
+        assertEquals(entry("Charlie", 3, 500), repository.getEntry(MetricName.ATTACK, "charlie").get());
+        assertFalse(repository.getEntry(MetricName.ATTACK, "Nobody").isPresent());
+    }
+
+    @Test
+    void testUnchangedValuesAreNotRewritten() {
+        // Given
+        repository.updateCharacter(snapshot("alpha", 900));
+        int written = writtenEntries.get();
+
+        // When
+        repository.updateCharacter(snapshot("alpha", 900));
+
+        // Then
+        assertEquals(written, writtenEntries.get());
+    }
+
+    @Test
+    void testCharacterDroppingOffTheHiscoresIsRemoved() {
+        // Given
+        repository.updateCharacter(snapshot("alpha", 900));
+
+        // When
+        repository.updateCharacter(CharacterHiscoresSnapshot.builder("alpha")
+                .capturedAt(T0.plusSeconds(60))
+                .skill(MetricName.ATTACK, CharacterHiscoresSnapshot.UNRANKED, 1, -1)
+                .build());
+
+        // Then
+        assertEquals(0, repository.getCharacterCount(MetricName.ATTACK));
+        assertFalse(repository.getEntry(MetricName.ATTACK, "alpha").isPresent());
+    }
+
+    @Test
+    void testRanksSpanSeveralBuckets() {
+        // Given
+        repository.updateCharacter(snapshot("alpha", 13_034_431));
+        repository.updateCharacter(snapshot("Bravo", 13_034_000));
+        repository.updateCharacter(snapshot("Charlie", 5_000_000));
+        repository.updateCharacter(snapshot("Delta", 100));
+        repository.updateCharacter(snapshot("Echo", 0));
+
+        // When
+        repository.updateCharacter(snapshot("Delta", 20_000_000));
+
+        // Then
+        assertEquals(entry("Delta", 1, 20_000_000), repository.getEntry(MetricName.ATTACK, "Delta").get());
+        assertEquals(entry("Bravo", 3, 13_034_000), repository.getEntry(MetricName.ATTACK, "Bravo").get());
+        assertEquals(entry("Charlie", 4, 5_000_000), repository.getEntry(MetricName.ATTACK, "Charlie").get());
+        assertEquals(entry("Echo", 5, 0), repository.getEntry(MetricName.ATTACK, "Echo").get());
+        assertEquals(5, repository.getCharacterCount(MetricName.ATTACK));
+    }
+
+    @Test
+    void testStaleSummaryIsRetriedFromTheEntry() {
+        // Given
+        repository.updateCharacter(snapshot("alpha", 900));
+        items.remove("CHARACTER#alpha|" + DynamoLeaderboardRepository.SUMMARY_SORT_KEY);
+
+        // When
+        repository.updateCharacter(snapshot("alpha", 5_000_000));
+
+        // Then
+        assertEquals(1, repository.getCharacterCount(MetricName.ATTACK));
+        assertEquals(entry("alpha", 1, 5_000_000), repository.getEntry(MetricName.ATTACK, "alpha").get());
+    }
+
+    @Test
+    void testBucketsAreContiguousAndOrdered() {
+        long[] values = {0, 1, 127, 128, 129, 255, 256, 1_000_000, 13_034_431, 200_000_000, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = DynamoLeaderboardRepository.bucketOf(value);
+            assertTrue(value <= DynamoLeaderboardRepository.highestValueOf(bucket));
+            assertTrue(bucket == 0 || value > DynamoLeaderboardRepository.highestValueOf(bucket - 1));
+            assertTrue(DynamoLeaderboardRepository.bucketKey(bucket)
+                    .compareTo(DynamoLeaderboardRepository.bucketKey(Math.max(bucket - 1, 0))) <= 0);
+        }
+        assertEquals(DynamoLeaderboardRepository.LAST_BUCKET, DynamoLeaderboardRepository.bucketOf(Long.MAX_VALUE));
+    }
+
+    /**
+     * Applies a transaction the way DynamoDB would for the writes the
+     * repository issues: conditional entry puts and deletes, and count updates.
+     */
+    private void transact(TransactWriteItemsRequest request) {
+        synchronized (items) {
+            for (TransactWriteItem write : request.transactItems()) {
+                Map<String, AttributeValue> key = write.put() != null ? write.put().item()
+                        : write.delete() != null ? write.delete().key() : write.update().key();
+                String condition = write.put() != null ? write.put().conditionExpression()
+                        : write.delete() != null ? write.delete().conditionExpression() : null;
+                Map<String, AttributeValue> values = write.put() != null ? write.put().expressionAttributeValues()
+                        : write.delete() != null ? write.delete().expressionAttributeValues() : Map.of();
+                Map<String, AttributeValue> existing = items.get(id(key));
+                boolean holds = condition == null
+                        || (condition.startsWith("attribute_not_exists") ? existing == null
+                                : existing != null && existing.get(DynamoLeaderboardRepository.VALUE)
+                                        .equals(values.get(":previous")));
+                if (!holds) {
+                    throw TransactionCanceledException.builder()
+                            .cancellationReasons(CancellationReason.builder().code("ConditionalCheckFailed").build())
+                            .build();
+                }
+            }
+            for (TransactWriteItem write : request.transactItems()) {
+                if (write.put() != null) {
+                    items.put(id(write.put().item()), write.put().item());
+                    writtenEntries.incrementAndGet();
+                } else if (write.delete() != null) {
+                    items.remove(id(write.delete().key()));
+                } else {
+                    Map<String, AttributeValue> item = new HashMap<>(write.update().key());
+                    Map<String, AttributeValue> existing = items.get(id(item));
+                    long count = existing == null
+                            ? 0
+                            : Long.parseLong(existing.get(DynamoLeaderboardRepository.COUNT).n());
+                    count += Long.parseLong(write.update().expressionAttributeValues().get(":delta").n());
+                    item.put(DynamoLeaderboardRepository.COUNT, AttributeValue.fromN(Long.toString(count)));
+                    items.put(id(item), item);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates the queries the repository issues: count partitions with an
+     * optional upper bound on the bucket key, and the rank index ordered by
+     * rank key with an optional upper bound, in either direction.
+     */
+    private QueryResponse query(QueryRequest request) {
+        String partition = request.expressionAttributeValues().get(":pk").s();
+        AttributeValue rankBound = request.expressionAttributeValues().get(":rank");
+        AttributeValue bucketBound = request.expressionAttributeValues().get(":bucket");
+        boolean rankIndex = DynamoLeaderboardRepository.RANK_INDEX.equals(request.indexName());
+
+        TreeMap<String, Map<String, AttributeValue>> matching = new TreeMap<>();
+        synchronized (items) {
+            for (Map<String, AttributeValue> item : items.values()) {
+                if (!item.get(DynamoLeaderboardRepository.PARTITION_KEY).s().equals(partition)) {
+                    continue;
+                }
+                AttributeValue rankKey = item.get(DynamoLeaderboardRepository.RANK_KEY);
+                String sortKey = item.get(DynamoLeaderboardRepository.SORT_KEY).s();
+                if (rankIndex && rankKey == null) {
+                    continue;
+                }
+                if (rankBound != null && rankKey.s().compareTo(rankBound.s()) >= 0) {
+                    continue;
+                }
+                if (bucketBound != null && sortKey.compareTo(bucketBound.s()) >= 0) {
+                    continue;
+                }
+                matching.put(rankIndex ? rankKey.s() : sortKey, item);
+            }
+        }
+
+        List<Map<String, AttributeValue>> page = new ArrayList<>(Boolean.FALSE.equals(request.scanIndexForward())
+                ? matching.descendingMap().values()
+                : matching.values());
+        if (request.limit() != null && page.size() > request.limit()) {
+            page = page.subList(0, request.limit());
+        }
+        return QueryResponse.builder().items(page).count(page.size()).build();
+    }
+
+    private static String id(Map<String, AttributeValue> item) {
+        return item.get(DynamoLeaderboardRepository.PARTITION_KEY).s() + "|"
+                + item.get(DynamoLeaderboardRepository.SORT_KEY).s();
+    }
+
+    private static CharacterHiscoresSnapshot snapshot(String characterName, long attackXp) {
+        return CharacterHiscoresSnapshot.builder(characterName)
+                .capturedAt(T0)
+                .skill(MetricName.ATTACK, 1000, 50, attackXp)
+                .build();
+    }
+
+    private static LeaderboardEntry entry(String characterName, int rank, long value) {
+        return LeaderboardEntry.builder()
+                .characterName(characterName)
+                .rank(rank)
+                .value(value)
+                .build();
+    }
+}
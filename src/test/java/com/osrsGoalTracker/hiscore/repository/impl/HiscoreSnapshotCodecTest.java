@@ -0,0 +1,173 @@
+package com.osrsGoalTracker.hiscore.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+import org.junit.jupiter.api.Test;
+
+class HiscoreSnapshotCodecTest {
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void testKeyframeRoundTrip() {
+        // Given
+        CharacterHiscoresSnapshot snapshot = snapshot(T0, 13034431, 500);
+
+        // When
+        EncodedSnapshot record = HiscoreSnapshotCodec.encode(snapshot, null, 0, 4);
+        CharacterHiscoresSnapshot decoded = HiscoreSnapshotCodec.decode(record, null);
+
+        // Then
+        assertTrue(record.isKeyframe());
+        assertEquals(snapshot, decoded);
+    }
+
+    @Test
+    void testDeltaRoundTripIsSmallerThanKeyframe() {
+        // Given
+        CharacterHiscoresSnapshot first = snapshot(T0, 13034431, 500);
+        CharacterHiscoresSnapshot second = snapshot(T0.plusSeconds(60), 13035000, 501);
+        EncodedSnapshot keyframe = HiscoreSnapshotCodec.encode(first, null, 0, 4);
+
+        // When
+        EncodedSnapshot delta = HiscoreSnapshotCodec.encode(second, first, 0, 4);
+        List<CharacterHiscoresSnapshot> decoded = HiscoreSnapshotCodec.decodeChain(Arrays.asList(keyframe, delta));
+
+        // Then
+        assertFalse(delta.isKeyframe());
+        assertTrue(delta.getPayload().length < keyframe.getPayload().length);
+        assertEquals(Arrays.asList(first, second), decoded);
+    }
+
+    @Test
+    void testDeltaRecordsMetricsThatDropOffTheHiscores() {
+        // Given
+        CharacterHiscoresSnapshot first = snapshot(T0, 13034431, 500);
+        CharacterHiscoresSnapshot second = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .capturedAt(T0.plusSeconds(60))
+                .skill(MetricName.ATTACK, 1000, 99, 13034431)
+                .build();
+
+        // When
+        EncodedSnapshot delta = HiscoreSnapshotCodec.encode(second, first, 0, 4);
+        CharacterHiscoresSnapshot decoded = HiscoreSnapshotCodec.decode(delta, first);
+
+        // Then
+        assertEquals(second, decoded);
+        assertFalse(decoded.isPresent(MetricName.ZULRAH));
+    }
+
+    @Test
+    void testEncodeWritesKeyframeAtInterval() {
+        CharacterHiscoresSnapshot first = snapshot(T0, 1, 1);
+        CharacterHiscoresSnapshot second = snapshot(T0.plusSeconds(60), 2, 1);
+
+        assertFalse(HiscoreSnapshotCodec.encode(second, first, 2, 4).isKeyframe());
+        assertTrue(HiscoreSnapshotCodec.encode(second, first, 3, 4).isKeyframe());
+    }
+
+    @Test
+    void testIsUnchangedIgnoresCaptureTime() {
+        assertTrue(HiscoreSnapshotCodec.isUnchanged(snapshot(T0, 1, 1), snapshot(T0.plusSeconds(60), 1, 1)));
+        assertFalse(HiscoreSnapshotCodec.isUnchanged(snapshot(T0, 1, 1), snapshot(T0, 2, 1)));
+    }
+
+    @Test
+    void testIsUnchangedIgnoresRankOnlyChanges() {
+        CharacterHiscoresSnapshot first = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .capturedAt(T0)
+                .skill(MetricName.ATTACK, 1000, 99, 13034431)
+                .build();
+        CharacterHiscoresSnapshot second = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .capturedAt(T0.plusSeconds(60))
+                .skill(MetricName.ATTACK, 1001, 99, 13034431)
+                .build();
+
+        assertTrue(HiscoreSnapshotCodec.isUnchanged(second, first));
+    }
+
+    @Test
+    void testDecodeDeltaWithoutKeyframeThrows() {
+        EncodedSnapshot delta = HiscoreSnapshotCodec.encode(snapshot(T0.plusSeconds(60), 2, 1),
+                snapshot(T0, 1, 1), 0, 4);
+
+        assertThrows(IllegalStateException.class, () -> HiscoreSnapshotCodec.decode(delta, null));
+    }
+
+    @Test
+    void testPayloadStartsWithFormatVersion() {
+        EncodedSnapshot record = HiscoreSnapshotCodec.encode(snapshot(T0, 1, 1), null, 0, 4);
+
+        assertEquals(HiscoreSnapshotCodec.FORMAT_VERSION, record.getPayload()[0]);
+    }
+
+    @Test
+    void testDecodeUnknownFormatVersionThrows() {
+        // Given
+        EncodedSnapshot record = HiscoreSnapshotCodec.encode(snapshot(T0, 1, 1), null, 0, 4);
+        record.getPayload()[0] = (byte) (HiscoreSnapshotCodec.FORMAT_VERSION + 1);
+
+        // When/Then
+        assertThrows(IllegalStateException.class, () -> HiscoreSnapshotCodec.decode(record, null));
+    }
+
+    @Test
+    void testMetricIdsAreStableAndDistinct() {
+        assertEquals(0, HiscoreSnapshotCodec.idOf(MetricName.ATTACK));
+        assertEquals(86, HiscoreSnapshotCodec.idOf(MetricName.ZULRAH));
+        assertEquals(MetricName.values().length,
+                Arrays.stream(MetricName.values()).mapToInt(HiscoreSnapshotCodec::idOf).distinct().count());
+    }
+
+    @Test
+    void testDecodeRecordCoveringFewerMetricIds() {
+        // Given a keyframe written when only ATTACK had an id: rank 5, level 2, xp 3
+        byte[] payload = {(byte) HiscoreSnapshotCodec.FORMAT_VERSION, 1, 1, 10, 4, 6};
+        EncodedSnapshot record = EncodedSnapshot.builder()
+                .characterName("TestCharacter")
+                .capturedAt(T0)
+                .keyframe(true)
+                .payload(payload)
+                .build();
+
+        // When
+        CharacterHiscoresSnapshot decoded = HiscoreSnapshotCodec.decode(record, null);
+
+        // Then
+        assertEquals(5, decoded.rankOf(MetricName.ATTACK));
+        assertEquals(2, decoded.levelOf(MetricName.ATTACK));
+        assertEquals(3, decoded.valueOf(MetricName.ATTACK));
+        assertFalse(decoded.isPresent(MetricName.DEFENCE));
+    }
+
+    @Test
+    void testDecodeRecordWithUnknownMetricIdsThrows() {
+        byte[] payload = {(byte) HiscoreSnapshotCodec.FORMAT_VERSION, 120};
+        EncodedSnapshot record = EncodedSnapshot.builder()
+                .characterName("TestCharacter")
+                .capturedAt(T0)
+                .keyframe(true)
+                .payload(payload)
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> HiscoreSnapshotCodec.decode(record, null));
+    }
+
+    private static CharacterHiscoresSnapshot snapshot(Instant capturedAt, long attackXp, long zulrahKills) {
+        return CharacterHiscoresSnapshot.builder("TestCharacter")
+                .capturedAt(capturedAt)
+                .skill(MetricName.ATTACK, 1000, 99, attackXp)
+                .skill(MetricName.DEFENCE, 2000, 70, 737627)
+                .activity(MetricName.ZULRAH, 300, zulrahKills)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.osrsGoalTracker.hiscore.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryHiscoreSnapshotRepositoryTest {
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    private InMemoryHiscoreSnapshotRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryHiscoreSnapshotRepository(HiscoresConfig.builder()
+                .snapshotKeyframeInterval(3)
+                .build());
+    }
+
+    @Test
+    void testGetSnapshotsDecodesAcrossKeyframes() {
+        // Given
+        List<CharacterHiscoresSnapshot> saved = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            CharacterHiscoresSnapshot snapshot = snapshot(T0.plusSeconds(i * 60L), 1000L + i);
+            assertTrue(repository.saveSnapshot(snapshot));
+            saved.add(snapshot);
+        }
+
+        // When
+        List<CharacterHiscoresSnapshot> range = repository.getSnapshots("test_character",
+                T0.plusSeconds(4 * 60L), T0.plusSeconds(6 * 60L));
+
+        // Then
+        assertEquals(saved.subList(4, 7), range);
+        assertEquals(saved, repository.getSnapshots("Test_Character", T0, T0.plusSeconds(3600)));
+    }
+
+    @Test
+    void testUnchangedSnapshotsAreNotStored() {
+        // Given
+        repository.saveSnapshot(snapshot(T0, 1000));
+
+        // When
+        boolean stored = repository.saveSnapshot(snapshot(T0.plusSeconds(60), 1000));
+
+        // Then
+        assertFalse(stored);
+        assertEquals(1, repository.getSnapshots("Test Character", T0, T0.plusSeconds(3600)).size());
+        assertEquals(T0, repository.getLatestSnapshot("Test Character").get().getCapturedAt());
+    }
+
+    @Test
+    void testGetLatestSnapshotForUnknownCharacterIsEmpty() {
+        assertFalse(repository.getLatestSnapshot("Nobody").isPresent());
+        assertTrue(repository.getSnapshots("Nobody", T0, T0.plusSeconds(60)).isEmpty());
+    }
+
+    @Test
+    void testRangeBeforeHistoryIsEmpty() {
+        repository.saveSnapshot(snapshot(T0, 1000));
+
+        assertTrue(repository.getSnapshots("Test Character", T0.minusSeconds(120), T0.minusSeconds(60)).isEmpty());
+    }
+
+    @Test
+    void testOutOfOrderSnapshotThrows() {
+        repository.saveSnapshot(snapshot(T0, 1000));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> repository.saveSnapshot(snapshot(T0, 2000)));
+        assertEquals("Snapshots must be saved in capture order", exception.getMessage());
+    }
+
+    private static CharacterHiscoresSnapshot snapshot(Instant capturedAt, long attackXp) {
+        return CharacterHiscoresSnapshot.builder("Test Character")
+                .capturedAt(capturedAt)
+                .skill(MetricName.ATTACK, 1000, 50, attackXp)
+                .activity(MetricName.ZULRAH, 300, 12)
+                .build();
+    }
+}
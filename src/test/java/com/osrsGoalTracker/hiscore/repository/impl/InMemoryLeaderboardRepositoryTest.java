@@ -0,0 +1,114 @@
+package com.osrsGoalTracker.hiscore.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
+import com.osrsGoalTracker.hiscore.model.LeaderboardEntry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryLeaderboardRepositoryTest {
+    private static final Instant CAPTURED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    private InMemoryLeaderboardRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryLeaderboardRepository();
+    }
+
+    @Test
+    void getTopEntries_OrdersByValueThenName() {
+        // Given
+        repository.updateCharacter(slayer("Bravo", 500));
+        repository.updateCharacter(slayer("Alpha", 500));
+        repository.updateCharacter(slayer("Charlie", 900));
+
+        // When
+        List<LeaderboardEntry> top = repository.getTopEntries(MetricName.SLAYER, 10);
+
+        // Then
+        assertEquals(List.of(entry("Charlie", 1, 900), entry("Alpha", 2, 500), entry("Bravo", 3, 500)), top);
+    }
+
+    @Test
+    void updateCharacter_NewValue_MovesCharacter() {
+        // Given
+        repository.updateCharacter(slayer("Alpha", 100));
+        repository.updateCharacter(slayer("Bravo", 200));
+
+        // When
+        repository.updateCharacter(slayer("alpha", 300));
+
+        // Then
+        assertEquals(entry("alpha", 1, 300), repository.getEntry(MetricName.SLAYER, "ALPHA").orElseThrow());
+        assertEquals(2, repository.getCharacterCount(MetricName.SLAYER));
+    }
+
+    @Test
+    void updateCharacter_UnrankedMetric_RemovesCharacter() {
+        // Given
+        repository.updateCharacter(slayer("Alpha", 100));
+
+        // When
+        repository.updateCharacter(CharacterHiscoresSnapshot.builder("Alpha")
+                .capturedAt(CAPTURED_AT)
+                .skill(MetricName.SLAYER, CharacterHiscoresSnapshot.UNRANKED, 1, -1)
+                .build());
+
+        // Then
+        assertTrue(repository.getEntry(MetricName.SLAYER, "Alpha").isEmpty());
+        assertEquals(0, repository.getCharacterCount(MetricName.SLAYER));
+    }
+
+    @Test
+    void getEntry_ManyCharactersWithUpdates_MatchesSortedOrder() {
+        // Given
+        Random random = new Random(42);
+        long[] values = new long[2_000];
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt(50_000);
+                repository.updateCharacter(slayer("Character" + i, values[i]));
+            }
+        }
+
+        // When
+        List<Integer> expectedOrder = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            expectedOrder.add(i);
+        }
+        expectedOrder.sort(Comparator.<Integer>comparingLong(i -> -values[i])
+                .thenComparing(i -> ("Character" + i).toLowerCase()));
+
+        // Then
+        List<LeaderboardEntry> top = repository.getTopEntries(MetricName.SLAYER, values.length);
+        assertEquals(values.length, top.size());
+        for (int position = 0; position < expectedOrder.size(); position++) {
+            int character = expectedOrder.get(position);
+            LeaderboardEntry expected = entry("Character" + character, position + 1, values[character]);
+            assertEquals(expected, top.get(position));
+            assertEquals(expected, repository.getEntry(MetricName.SLAYER, "Character" + character).orElseThrow());
+        }
+    }
+
+    private static CharacterHiscoresSnapshot slayer(String characterName, long xp) {
+        return CharacterHiscoresSnapshot.builder(characterName)
+                .capturedAt(CAPTURED_AT)
+                .skill(MetricName.SLAYER, 1, 50, xp)
+                .build();
+    }
+
+    private static LeaderboardEntry entry(String characterName, int rank, long value) {
+        return LeaderboardEntry.builder().characterName(characterName).rank(rank).value(value).build();
+    }
+}
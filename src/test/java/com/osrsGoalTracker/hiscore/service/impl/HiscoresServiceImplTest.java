@@ -1,17 +1,34 @@
 package com.osrsGoalTracker.hiscore.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
-import com.osrsGoalTracker.hiscore.external.impl.JagexHiscoresClientImpl;
+import com.osrsGoalTracker.goal.model.MetricName;
+import com.osrsGoalTracker.hiscore.di.HiscoresConfig;
+import com.osrsGoalTracker.hiscore.external.HiscoresClient;
 import com.osrsGoalTracker.hiscore.model.CharacterHiscores;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresBatch;
+import com.osrsGoalTracker.hiscore.model.CharacterHiscoresSnapshot;
 import com.osrsGoalTracker.hiscore.model.Skill;
 import com.osrsGoalTracker.hiscore.model.Activity;
+import com.osrsGoalTracker.hiscore.model.Leaderboard;
+import com.osrsGoalTracker.hiscore.repository.HiscoreSnapshotRepository;
+import com.osrsGoalTracker.hiscore.repository.LeaderboardRepository;
+import com.osrsGoalTracker.hiscore.repository.impl.InMemoryLeaderboardRepository;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,13 +40,26 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class HiscoresServiceImplTest {
 
     @Mock
-    private JagexHiscoresClientImpl jagexHiscoresClient;
+    private HiscoresClient hiscoresClient;
+
+    @Mock
+    private HiscoreSnapshotRepository snapshotRepository;
+
+    @Mock
+    private LeaderboardRepository leaderboardRepository;
 
     private HiscoresServiceImpl hiscoresService;
+    private HiscoresConfig config;
 
     @BeforeEach
     void setUp() {
-        hiscoresService = new HiscoresServiceImpl(jagexHiscoresClient);
+        config = HiscoresConfig.builder()
+                .batchMaxConcurrency(4)
+                .batchMaxSize(2)
+                .batchDeadline(Duration.ofSeconds(5))
+                .build();
+        hiscoresService = new HiscoresServiceImpl(hiscoresClient, snapshotRepository,
+                new InMemoryLeaderboardRepository(), config);
     }
 
     @Test
@@ -55,14 +85,14 @@ class HiscoresServiceImplTest {
                 .activities(activities)
                 .build();
 
-        when(jagexHiscoresClient.getCharacterHiscores(characterName)).thenReturn(expectedHiscores);
+        when(hiscoresClient.getCharacterHiscores(characterName)).thenReturn(expectedHiscores);
 
         // When
         CharacterHiscores actualHiscores = hiscoresService.getCharacterHiscores(characterName);
 
         // Then
         assertEquals(expectedHiscores, actualHiscores);
-        verify(jagexHiscoresClient).getCharacterHiscores(characterName);
+        verify(hiscoresClient).getCharacterHiscores(characterName);
     }
 
     @Test
@@ -70,11 +100,195 @@ class HiscoresServiceImplTest {
         // Given
         String characterName = "TestCharacter";
         RuntimeException expectedException = new RuntimeException("API Error");
-        when(jagexHiscoresClient.getCharacterHiscores(characterName)).thenThrow(expectedException);
+        when(hiscoresClient.getCharacterHiscores(characterName)).thenThrow(expectedException);
 
         // When/Then
         RuntimeException actualException = assertThrows(RuntimeException.class,
                 () -> hiscoresService.getCharacterHiscores(characterName));
         assertEquals(expectedException, actualException);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCharacterHiscoresBatch_ValidNames_DelegatesWithTrimmedUniqueNames() {
+        // Given
+        CharacterHiscoresBatch expectedBatch = CharacterHiscoresBatch.builder()
+                .hiscores(Collections.emptyMap())
+                .errors(Map.of("Second", "API Error"))
+                .build();
+        LinkedHashSet<String> expectedNames = new LinkedHashSet<>(Arrays.asList("First", "Second"));
+        when(hiscoresClient.getCharacterHiscoresBatch(eq(expectedNames), eq(4), eq(Duration.ofSeconds(5))))
+                .thenReturn(expectedBatch);
+
+        // When
+        CharacterHiscoresBatch actualBatch = hiscoresService.getCharacterHiscoresBatch(
+                Arrays.asList(" First ", "Second", "First"));
+
+        // Then
+        assertEquals(expectedBatch, actualBatch);
+    }
+
+    @Test
+    void getCharacterHiscoresBatch_EmptyNames_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> hiscoresService.getCharacterHiscoresBatch(Collections.emptyList()));
+    }
+
+    @Test
+    void getCharacterHiscoresBatch_BlankName_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> hiscoresService.getCharacterHiscoresBatch(Arrays.asList("First", " ")));
+    }
+
+    @Test
+    void getCharacterHiscoresBatch_TooManyNames_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> hiscoresService.getCharacterHiscoresBatch(Arrays.asList("First", "Second", "Third")));
+    }
+
+    @Test
+    void recordCharacterHiscoresSnapshot_SavesFetchedSnapshot() {
+        // Given
+        CharacterHiscoresSnapshot snapshot = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .capturedAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .build();
+        when(hiscoresClient.getCharacterHiscoresSnapshot("TestCharacter")).thenReturn(snapshot);
+
+        // When
+        CharacterHiscoresSnapshot result = hiscoresService.recordCharacterHiscoresSnapshot("TestCharacter");
+
+        // Then
+        assertEquals(snapshot, result);
+        verify(snapshotRepository).saveSnapshot(snapshot);
+    }
+
+    @Test
+    void recordCharacterHiscoresSnapshot_SaveFails_StillReturnsSnapshot() {
+        // Given
+        CharacterHiscoresSnapshot snapshot = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .capturedAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .build();
+        when(hiscoresClient.getCharacterHiscoresSnapshot("TestCharacter")).thenReturn(snapshot);
+        when(snapshotRepository.saveSnapshot(snapshot)).thenThrow(new IllegalStateException("Table unavailable"));
+
+        // When
+        CharacterHiscoresSnapshot result = hiscoresService.recordCharacterHiscoresSnapshot("TestCharacter");
+
+        // Then
+        assertEquals(snapshot, result);
+        verify(snapshotRepository).saveSnapshot(snapshot);
+    }
+
+    @Test
+    void getCharacterHiscoresBatch_LeaderboardUpdateFails_StillReturnsBatch() {
+        // Given
+        hiscoresService = new HiscoresServiceImpl(hiscoresClient, snapshotRepository, leaderboardRepository, config);
+        CharacterHiscores hiscores = CharacterHiscores.builder()
+                .characterName("First")
+                .skills(Collections.emptyList())
+                .activities(Collections.emptyList())
+                .build();
+        CharacterHiscoresBatch expectedBatch = CharacterHiscoresBatch.builder()
+                .hiscores(Map.of("First", hiscores))
+                .errors(Collections.emptyMap())
+                .build();
+        when(hiscoresClient.getCharacterHiscoresBatch(any(), eq(4), eq(Duration.ofSeconds(5))))
+                .thenReturn(expectedBatch);
+        doThrow(new IllegalStateException("Table unavailable")).when(leaderboardRepository).updateCharacter(any());
+
+        // When
+        CharacterHiscoresBatch actualBatch = hiscoresService.getCharacterHiscoresBatch(List.of("First"));
+
+        // Then
+        assertEquals(expectedBatch, actualBatch);
+        verify(leaderboardRepository).updateCharacter(any());
+    }
+
+    @Test
+    void recordCharacterHiscoresSnapshot_LeaderboardUpdateFails_StillSavesAndReturnsSnapshot() {
+        // Given
+        hiscoresService = new HiscoresServiceImpl(hiscoresClient, snapshotRepository, leaderboardRepository, config);
+        CharacterHiscoresSnapshot snapshot = CharacterHiscoresSnapshot.builder("TestCharacter")
+                .capturedAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .build();
+        when(hiscoresClient.getCharacterHiscoresSnapshot("TestCharacter")).thenReturn(snapshot);
+        doThrow(new IllegalStateException("Table unavailable")).when(leaderboardRepository).updateCharacter(snapshot);
+
+        // When
+        CharacterHiscoresSnapshot result = hiscoresService.recordCharacterHiscoresSnapshot("TestCharacter");
+
+        // Then
+        assertEquals(snapshot, result);
+        verify(snapshotRepository).saveSnapshot(snapshot);
+    }
+
+    @Test
+    void getCharacterHiscoresHistory_ReturnsSnapshotsInRange() {
+        // Given
+        Instant from = Instant.parse("2024-01-01T00:00:00Z");
+        Instant to = Instant.parse("2024-01-08T00:00:00Z");
+        List<CharacterHiscoresSnapshot> snapshots = Collections.singletonList(
+                CharacterHiscoresSnapshot.builder("TestCharacter").capturedAt(from).build());
+        when(snapshotRepository.getSnapshots("TestCharacter", from, to)).thenReturn(snapshots);
+
+        // When
+        List<CharacterHiscoresSnapshot> result = hiscoresService.getCharacterHiscoresHistory("TestCharacter", from,
+                to);
+
+        // Then
+        assertEquals(snapshots, result);
+    }
+
+    @Test
+    void getCharacterHiscoresHistory_ReversedRange_ThrowsIllegalArgumentException() {
+        Instant from = Instant.parse("2024-01-08T00:00:00Z");
+        Instant to = Instant.parse("2024-01-01T00:00:00Z");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> hiscoresService.getCharacterHiscoresHistory("TestCharacter", from, to));
+        assertEquals("History range start must not be after its end", exception.getMessage());
+    }
+
+    @Test
+    void getLeaderboard_AfterFetches_RanksFetchedCharacters() {
+        // Given
+        when(hiscoresClient.getCharacterHiscoresSnapshot("Low")).thenReturn(slayerSnapshot("Low", 1_000));
+        when(hiscoresClient.getCharacterHiscoresSnapshot("High")).thenReturn(slayerSnapshot("High", 5_000));
+        hiscoresService.getCharacterHiscoresSnapshot("Low");
+        hiscoresService.getCharacterHiscoresSnapshot("High");
+
+        // When
+        Leaderboard leaderboard = hiscoresService.getLeaderboard(MetricName.SLAYER, 1, "low");
+
+        // Then
+        assertEquals(2, leaderboard.getCharacterCount());
+        assertEquals(1, leaderboard.getEntries().size());
+        assertEquals("High", leaderboard.getEntries().get(0).getCharacterName());
+        assertEquals(2, leaderboard.getCharacterEntry().getRank());
+        assertEquals(1_000L, leaderboard.getCharacterEntry().getValue());
+    }
+
+    @Test
+    void getLeaderboard_UnrankedCharacter_HasNoCharacterEntry() {
+        // When
+        Leaderboard leaderboard = hiscoresService.getLeaderboard(MetricName.SLAYER, 10, "Nobody");
+
+        // Then
+        assertEquals(0, leaderboard.getCharacterCount());
+        assertNull(leaderboard.getCharacterEntry());
+    }
+
+    @Test
+    void getLeaderboard_LimitOutOfRange_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> hiscoresService.getLeaderboard(MetricName.SLAYER, 0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> hiscoresService.getLeaderboard(MetricName.SLAYER, 101, null));
+    }
+
+    private static CharacterHiscoresSnapshot slayerSnapshot(String characterName, long xp) {
+        return CharacterHiscoresSnapshot.builder(characterName)
+                .capturedAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .skill(MetricName.SLAYER, 100, 50, xp)
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.osrsGoalTracker.shared.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MetricsPublisherTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final List<String> lines = new ArrayList<>();
+    private MetricsPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new MetricsPublisher("TestNamespace", lines::add, () -> 1_700_000_000_000L);
+    }
+
+    @Test
+    void testPublishWritesEmfLinePerComponent() throws Exception {
+        // Given
+        publisher.register("Cache", () -> Map.of("hitCount", 3L), () -> Map.of("sizeBytes", 512));
+
+        // When
+        publisher.publish();
+
+        // Then
+        assertEquals(1, lines.size());
+        JsonNode line = OBJECT_MAPPER.readTree(lines.get(0));
+        JsonNode directive = line.get("_aws").get("CloudWatchMetrics").get(0);
+        assertEquals(1_700_000_000_000L, line.get("_aws").get("Timestamp").asLong());
+        assertEquals("TestNamespace", directive.get("Namespace").asText());
+        assertEquals(MetricsPublisher.COMPONENT_DIMENSION, directive.get("Dimensions").get(0).get(0).asText());
+        assertEquals(2, directive.get("Metrics").size());
+        assertEquals("Cache", line.get(MetricsPublisher.COMPONENT_DIMENSION).asText());
+        assertEquals(3, line.get("hitCount").asLong());
+        assertEquals(512, line.get("sizeBytes").asLong());
+    }
+
+    @Test
+    void testCountersArePublishedAsIncreaseSinceLastPublish() throws Exception {
+        // Given
+        AtomicLong hits = new AtomicLong(5);
+        publisher.register("Cache", () -> Map.of("hitCount", hits.get()), Map::of);
+        publisher.publish();
+
+        // When
+        hits.addAndGet(2);
+        publisher.publish();
+
+        // Then
+        assertEquals(5, OBJECT_MAPPER.readTree(lines.get(0)).get("hitCount").asLong());
+        assertEquals(2, OBJECT_MAPPER.readTree(lines.get(1)).get("hitCount").asLong());
+    }
+
+    @Test
+    void testFailingComponentDoesNotStopOthers() throws Exception {
+        // Given
+        publisher.register("Broken", () -> {
+            throw new IllegalStateException("Unavailable");
+        }, Map::of);
+        publisher.register("Cache", () -> Map.of("hitCount", 1L), Map::of);
+
+        // When
+        publisher.publish();
+
+        // Then
+        assertEquals(1, lines.size());
+        assertTrue(OBJECT_MAPPER.readTree(lines.get(0)).has("hitCount"));
+    }
+}
@@ -7,8 +7,10 @@ import static org.mockito.Mockito.mock;
 import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.util.Modules;
 import com.osrsGoalTracker.user.dao.UserDao;
 import com.osrsGoalTracker.user.repository.UserRepository;
+import com.osrsGoalTracker.user.repository.impl.CachingUserRepository;
 import com.osrsGoalTracker.user.repository.impl.UserRepositoryImpl;
 import com.osrsGoalTracker.user.service.UserService;
 import com.osrsGoalTracker.user.service.impl.UserServiceImpl;
@@ -57,4 +59,39 @@ class UserModuleTest {
         assertTrue(userRepository instanceof UserRepositoryImpl,
                 "UserRepository should be bound to UserRepositoryImpl");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUserModuleBindings_CacheEnabled() {
+        // Given
+        Injector moduleInjector = injectorFor(UserConfig.builder().cacheEnabled(true).build());
+
+        // When
+        UserRepository userRepository = moduleInjector.getInstance(UserRepository.class);
+
+        // Then
+        assertTrue(userRepository instanceof CachingUserRepository,
+                "UserRepository should be wrapped in CachingUserRepository when caching is enabled");
+    }
+
+    @Test
+    void testUserModuleBindings_CacheDisabled() {
+        // Given
+        Injector moduleInjector = injectorFor(UserConfig.builder().cacheEnabled(false).build());
+
+        // When
+        UserRepository userRepository = moduleInjector.getInstance(UserRepository.class);
+
+        // Then
+        assertTrue(userRepository instanceof UserRepositoryImpl,
+                "UserRepository should be bound to UserRepositoryImpl when caching is disabled");
+    }
+
+    private Injector injectorFor(UserConfig config) {
+        return Guice.createInjector(Modules.override(new UserModule(config)).with(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(UserDao.class).toInstance(mockUserDao);
+            }
+        }));
+    }
+}
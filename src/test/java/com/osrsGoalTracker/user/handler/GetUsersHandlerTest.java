@@ -0,0 +1,85 @@
+package com.osrsGoalTracker.user.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserBatch;
+import com.osrsGoalTracker.user.service.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetUsersHandlerTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private Context context;
+
+    private GetUsersHandler handler;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        handler = new GetUsersHandler(userService);
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    void handleRequest_ValidInput_ReturnsBatch() throws Exception {
+        // Given
+        UserBatch batch = UserBatch.builder()
+                .users(List.of(User.builder().userId("user1").email("test@example.com").build()))
+                .missingUserIds(List.of("user2"))
+                .build();
+        when(userService.getUsers(List.of("user1", "user2"))).thenReturn(batch);
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withBody("{\"userIds\":[\"user1\",\"user2\"]}");
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        assertEquals(objectMapper.writeValueAsString(batch), response.getBody());
+    }
+
+    @Test
+    void handleRequest_EmptyUserIds_ReturnsBadRequest() {
+        // Given
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withBody("{\"userIds\":[]}");
+
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(request, context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+        assertEquals("{\"message\":\"User IDs cannot be null or empty\"}", response.getBody());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void handleRequest_MissingBody_ReturnsBadRequest() {
+        // When
+        APIGatewayProxyResponseEvent response = handler.handleRequest(new APIGatewayProxyRequestEvent(), context);
+
+        // Then
+        assertEquals(400, response.getStatusCode());
+    }
+}
@@ -0,0 +1,147 @@
+package com.osrsGoalTracker.user.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.osrsGoalTracker.user.di.UserConfig;
+import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserBatch;
+import com.osrsGoalTracker.user.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+class CachingUserRepositoryTest {
+    private static final User USER = User.builder().userId("user123").email("test@example.com").build();
+
+    private final AtomicLong nanos = new AtomicLong();
+    private UserRepository delegate;
+    private CachingUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(UserRepository.class);
+        repository = new CachingUserRepository(delegate, UserConfig.builder()
+                .cacheTtl(Duration.ofMinutes(5))
+                .cacheNegativeTtl(Duration.ofSeconds(30))
+                .cacheMaxEntries(100)
+                .build(), nanos::get);
+    }
+
+    @Test
+    void getUser_RepeatedLookup_ReadsDelegateOnce() {
+        // Given
+        when(delegate.getUser("user123")).thenReturn(USER);
+
+        // When
+        User first = repository.getUser("user123");
+        User second = repository.getUser(" user123 ");
+
+        // Then
+        assertSame(USER, first);
+        assertSame(USER, second);
+        verify(delegate, times(1)).getUser("user123");
+        assertEquals(1, repository.stats().hitCount());
+        assertEquals(1, repository.stats().missCount());
+    }
+
+    @Test
+    void getUser_TtlPassed_ReadsDelegateAgain() {
+        // Given
+        when(delegate.getUser("user123")).thenReturn(USER);
+        repository.getUser("user123");
+
+        // When
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        repository.getUser("user123");
+
+        // Then
+        verify(delegate, times(2)).getUser("user123");
+    }
+
+    @Test
+    void getUser_UnknownUser_CachesNotFoundUntilNegativeTtlPasses() {
+        // Given
+        when(delegate.getUser("missing")).thenThrow(ResourceNotFoundException.builder().message("missing").build());
+
+        // When
+        assertThrows(ResourceNotFoundException.class, () -> repository.getUser("missing"));
+        assertThrows(ResourceNotFoundException.class, () -> repository.getUser("missing"));
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThrows(ResourceNotFoundException.class, () -> repository.getUser("missing"));
+
+        // Then
+        verify(delegate, times(2)).getUser("missing");
+        assertEquals(3, repository.notFoundCount());
+    }
+
+    @Test
+    void getUser_DelegateFails_DoesNotCacheFailure() {
+        // Given
+        when(delegate.getUser("user123")).thenThrow(new IllegalStateException("throttled")).thenReturn(USER);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> repository.getUser("user123"));
+        User user = repository.getUser("user123");
+
+        // Then
+        assertSame(USER, user);
+        assertEquals(0, repository.notFoundCount());
+    }
+
+    @Test
+    void createUser_CachedNotFound_ReplacesEntryWithCreatedUser() {
+        // Given
+        when(delegate.getUser("user123")).thenThrow(ResourceNotFoundException.builder().message("missing").build());
+        assertThrows(ResourceNotFoundException.class, () -> repository.getUser("user123"));
+        when(delegate.createUser("test@example.com")).thenReturn(USER);
+
+        // When
+        repository.createUser("test@example.com");
+        User user = repository.getUser("user123");
+
+        // Then
+        assertSame(USER, user);
+        verify(delegate, times(1)).getUser("user123");
+    }
+
+    @Test
+    void getUser_EmptyUserId_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> repository.getUser(" "));
+        verify(delegate, never()).getUser(anyString());
+    }
+
+    @Test
+    void getUsers_SomeCached_ReadsOnlyUncachedIdsAndCachesMisses() {
+        // Given
+        when(delegate.getUser("user123")).thenReturn(USER);
+        repository.getUser("user123");
+        User other = User.builder().userId("user456").build();
+        when(delegate.getUsers(List.of("user456", "missing"))).thenReturn(UserBatch.builder()
+                .users(List.of(other))
+                .missingUserIds(List.of("missing"))
+                .build());
+
+        // When
+        UserBatch batch = repository.getUsers(List.of("user456", "user123", "missing"));
+
+        // Then
+        assertEquals(List.of(other, USER), batch.getUsers());
+        assertEquals(List.of("missing"), batch.getMissingUserIds());
+        assertThrows(ResourceNotFoundException.class, () -> repository.getUser("missing"));
+        verify(delegate, never()).getUser("missing");
+    }
+}
@@ -2,14 +2,19 @@ package com.osrsGoalTracker.user.repository.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.osrsGoalTracker.user.dao.UserDao;
 import com.osrsGoalTracker.user.dao.entity.UserEntity;
 import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserBatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +22,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
 @ExtendWith(MockitoExtension.class)
 class UserRepositoryImplTest {
 
@@ -123,4 +131,67 @@ class UserRepositoryImplTest {
         assertThrows(IllegalArgumentException.class,
                 () -> userRepository.getUser("   "));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUsers_MixedIds_ReturnsFoundAndMissingInInputOrder() {
+        // Given
+        when(userDao.getUser("user1")).thenReturn(UserEntity.builder().userId("user1").build());
+        when(userDao.getUser("user3")).thenReturn(UserEntity.builder().userId("user3").build());
+        when(userDao.getUser("missing")).thenThrow(ResourceNotFoundException.builder().message("missing").build());
+
+        // When
+        UserBatch batch = userRepository.getUsers(List.of("user3", "missing", " user1", "user3"));
+
+        // Then
+        assertEquals(List.of("user3", "user1"), batch.getUsers().stream().map(User::getUserId).toList());
+        assertEquals(List.of("missing"), batch.getMissingUserIds());
+        verify(userDao, times(1)).getUser("user3");
+    }
+
+    @Test
+    void getUsers_MoreThanOneChunk_ReadsEveryUser() {
+        // Given
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < UserRepositoryImpl.READ_CHUNK_SIZE * 2 + 5; i++) {
+            userIds.add("user" + i);
+        }
+        when(userDao.getUser(anyString())).thenAnswer(invocation ->
+                UserEntity.builder().userId(invocation.getArgument(0)).build());
+
+        // When
+        UserBatch batch = userRepository.getUsers(userIds);
+
+        // Then
+        assertEquals(userIds, batch.getUsers().stream().map(User::getUserId).toList());
+        assertEquals(List.of(), batch.getMissingUserIds());
+    }
+
+    @Test
+    void getUsers_ThrottledRead_RetriesUntilItSucceeds() {
+        // Given
+        ProvisionedThroughputExceededException throttled = ProvisionedThroughputExceededException.builder()
+                .message("throttled")
+                .build();
+        when(userDao.getUser("user1")).thenThrow(throttled, throttled)
+                .thenReturn(UserEntity.builder().userId("user1").build());
+
+        // When
+        UserBatch batch = userRepository.getUsers(List.of("user1"));
+
+        // Then
+        assertEquals("user1", batch.getUsers().get(0).getUserId());
+        verify(userDao, times(3)).getUser("user1");
+    }
+
+    @Test
+    void getUsers_ThrottledOnEveryAttempt_ThrowsIllegalStateException() {
+        // Given
+        when(userDao.getUser("user1")).thenThrow(ProvisionedThroughputExceededException.builder()
+                .message("throttled")
+                .build());
+
+        // When/Then
+        assertThrows(IllegalStateException.class, () -> userRepository.getUsers(List.of("user1")));
+        verify(userDao, times(UserRepositoryImpl.MAX_READ_ATTEMPTS)).getUser("user1");
+    }
+}
@@ -3,11 +3,17 @@ package com.osrsGoalTracker.user.service.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import com.osrsGoalTracker.user.model.User;
+import com.osrsGoalTracker.user.model.UserBatch;
+import com.osrsGoalTracker.user.service.UserService;
 import com.osrsGoalTracker.user.repository.UserRepository;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -108,4 +114,36 @@ class UserServiceImplTest {
         assertThrows(IllegalArgumentException.class,
                 () -> userService.getUser("   "));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUsers_ValidIds_TrimsAndDelegatesToRepository() {
+        // Given
+        UserBatch expected = UserBatch.builder().users(List.of()).missingUserIds(List.of("user1")).build();
+        when(userRepository.getUsers(List.of("user1", "user2"))).thenReturn(expected);
+
+        // When
+        UserBatch result = userService.getUsers(List.of(" user1 ", "user2"));
+
+        // Then
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void getUsers_BlankId_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> userService.getUsers(Arrays.asList("user1", null)));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getUsers_TooManyIds_ThrowsIllegalArgumentException() {
+        // Given
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i <= UserService.MAX_BATCH_SIZE; i++) {
+            userIds.add("user" + i);
+        }
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> userService.getUsers(userIds));
+        verifyNoInteractions(userRepository);
+    }
+}